@@ -0,0 +1,24 @@
+package com.teambind.coupon.adapter.in.message;
+
+import com.teambind.coupon.application.port.out.CouponCounterPort;
+import com.teambind.coupon.domain.event.CouponStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 쿠폰 상태 전이 이벤트 Listener
+ * 커밋된 전이만 카운터에 반영하여 롤백된 발급/사용이 집계되지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponStatusChangedEventListener {
+
+    private final CouponCounterPort couponCounterPort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStatusChanged(CouponStatusChangedEvent event) {
+        couponCounterPort.applyTransitions(event.getTransitions());
+    }
+}
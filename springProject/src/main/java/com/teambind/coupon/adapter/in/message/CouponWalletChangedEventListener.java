@@ -0,0 +1,24 @@
+package com.teambind.coupon.adapter.in.message;
+
+import com.teambind.coupon.application.port.out.CouponWalletCachePort;
+import com.teambind.coupon.domain.event.CouponWalletChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 유저 쿠폰 지갑 변경 이벤트 Listener
+ * 커밋 이후에 무효화하여 커밋 전 데이터로 캐시가 다시 채워지는 것을 방지
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponWalletChangedEventListener {
+
+    private final CouponWalletCachePort couponWalletCachePort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleWalletChanged(CouponWalletChangedEvent event) {
+        couponWalletCachePort.evict(event.getUserIds());
+    }
+}
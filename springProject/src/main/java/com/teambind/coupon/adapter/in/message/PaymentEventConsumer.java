@@ -46,6 +46,7 @@ public class PaymentEventConsumer {
                         .orderId(event.getOrderId())
                         .reservationId(event.getReservationId())
                         .userId(event.getUserId())
+                        .paymentAmount(event.getPaymentAmount())
                         .discountAmount(event.getDiscountAmount())
                         .build();
 
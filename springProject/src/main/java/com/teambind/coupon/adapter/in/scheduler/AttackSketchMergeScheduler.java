@@ -0,0 +1,38 @@
+package com.teambind.coupon.adapter.in.scheduler;
+
+import com.teambind.coupon.application.service.AttackDetectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공격 탐지 Sketch 클러스터 병합 스케줄러
+ * 인스턴스마다 자신이 버퍼링한 시도 코드를 병합하므로 ShedLock 없이 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.security.detector.merge.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class AttackSketchMergeScheduler {
+
+    private final AttackDetectionService attackDetectionService;
+
+    /**
+     * 시도 코드 병합 및 클러스터 단위 무작위 대입 판정
+     * 1초마다 실행
+     */
+    @Scheduled(fixedDelayString = "${coupon.security.detector.merge-interval-millis:1000}")
+    public void mergeClusterSketches() {
+        try {
+            attackDetectionService.mergeClusterSketches();
+        } catch (Exception e) {
+            log.error("공격 탐지 Sketch 병합 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.teambind.coupon.adapter.in.scheduler;
+
+import com.teambind.coupon.application.port.in.ArchiveTerminalCouponsUseCase;
+import com.teambind.coupon.application.port.in.ArchiveTerminalCouponsUseCase.ArchiveResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 상태 쿠폰 보관 스케줄러
+ * 오래된 USED/EXPIRED/CANCELLED 쿠폰을 이력 테이블로 이동하여 핫 테이블 인덱스 크기 유지
+ * ShedLock을 사용하여 멀티 인스턴스 환경에서 중복 실행 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.scheduler.archive.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class CouponArchiveScheduler {
+
+    private final ArchiveTerminalCouponsUseCase archiveTerminalCouponsUseCase;
+
+    /**
+     * 쿠폰 보관 스케줄러
+     * 매일 새벽 4시에 실행 (한 번에 처리하지 못한 분량은 워터마크부터 다음 실행에서 이어서 처리)
+     */
+    @Scheduled(cron = "${coupon.scheduler.archive.cron:0 0 4 * * *}")
+    @SchedulerLock(
+            name = "archiveTerminalCoupons",
+            lockAtMostFor = "2h",
+            lockAtLeastFor = "1m"
+    )
+    public void archiveTerminalCoupons() {
+        try {
+            ArchiveResult result = archiveTerminalCouponsUseCase.archiveTerminalCoupons();
+
+            if (!result.isCompleted()) {
+                log.info("쿠폰 보관 미완료 - 다음 실행에서 이어서 처리 - watermark: {}", result.getWatermark());
+            }
+
+        } catch (Exception e) {
+            log.error("쿠폰 보관 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+}
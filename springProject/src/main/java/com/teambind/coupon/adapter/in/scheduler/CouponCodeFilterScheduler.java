@@ -0,0 +1,45 @@
+package com.teambind.coupon.adapter.in.scheduler;
+
+import com.teambind.coupon.application.port.in.ManageCouponCodeInventoryUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 1회용 쿠폰 코드 필터 복구 스케줄러
+ * Redis 데이터가 유실되면 준비 표시도 함께 사라져 필터가 통과 처리되므로, 이를 감지하여 DB에서 재구성
+ * ShedLock을 사용하여 멀티 인스턴스 환경에서 중복 실행 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.scheduler.code-filter.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class CouponCodeFilterScheduler {
+
+    private final ManageCouponCodeInventoryUseCase manageCouponCodeInventoryUseCase;
+
+    /**
+     * 필터 준비 여부 확인 및 재구성
+     * 1분마다 실행
+     */
+    @Scheduled(cron = "${coupon.scheduler.code-filter.cron:30 * * * * *}")
+    @SchedulerLock(
+            name = "rebuildCouponCodeFilter",
+            lockAtMostFor = "30m",
+            lockAtLeastFor = "30s"
+    )
+    public void rebuildIfMissing() {
+        try {
+            manageCouponCodeInventoryUseCase.rebuildLookupFilterIfMissing();
+        } catch (Exception e) {
+            log.error("1회용 쿠폰 코드 필터 재구성 중 오류 발생", e);
+        }
+    }
+}
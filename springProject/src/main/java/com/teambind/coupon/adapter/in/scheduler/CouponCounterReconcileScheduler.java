@@ -0,0 +1,45 @@
+package com.teambind.coupon.adapter.in.scheduler;
+
+import com.teambind.coupon.application.port.in.ReconcileCouponCountersUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 상태 카운터 보정 스케줄러
+ * Redis 카운터를 DB 집계 값으로 주기적으로 보정
+ * ShedLock을 사용하여 멀티 인스턴스 환경에서 중복 실행 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.scheduler.counter-reconcile.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class CouponCounterReconcileScheduler {
+
+    private final ReconcileCouponCountersUseCase reconcileCouponCountersUseCase;
+
+    /**
+     * 카운터 보정 스케줄러
+     * 10분마다 실행
+     */
+    @Scheduled(cron = "${coupon.scheduler.counter-reconcile.cron:0 */10 * * * *}")
+    @SchedulerLock(
+            name = "reconcileCouponCounters",
+            lockAtMostFor = "9m",
+            lockAtLeastFor = "30s"
+    )
+    public void reconcileCounters() {
+        try {
+            reconcileCouponCountersUseCase.reconcileCounters();
+        } catch (Exception e) {
+            log.error("쿠폰 카운터 보정 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+}
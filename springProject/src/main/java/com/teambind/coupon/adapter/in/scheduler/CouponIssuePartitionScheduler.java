@@ -0,0 +1,64 @@
+package com.teambind.coupon.adapter.in.scheduler;
+
+import com.teambind.coupon.application.port.in.ManageCouponIssuePartitionsUseCase;
+import com.teambind.coupon.application.port.in.ManageCouponIssuePartitionsUseCase.PartitionMaintenanceResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 발급 파티션 관리 스케줄러
+ * 매일 미래 월 파티션을 생성하고 오래된 종료 상태 파티션을 콜드 스토리지로 분리
+ * ShedLock을 사용하여 멀티 인스턴스 환경에서 중복 실행 방지
+ * 활성 쿠폰 조회 하한은 인스턴스별 값이므로 락 없이 모든 인스턴스에서 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.scheduler.partition.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class CouponIssuePartitionScheduler {
+
+    private final ManageCouponIssuePartitionsUseCase manageCouponIssuePartitionsUseCase;
+
+    /**
+     * 파티션 유지보수 스케줄러
+     * 매일 새벽 3시에 실행
+     */
+    @Scheduled(cron = "${coupon.scheduler.partition.cron:0 0 3 * * *}")
+    @SchedulerLock(
+            name = "maintainCouponIssuePartitions",
+            lockAtMostFor = "30m",  // 대용량 파티션 분리 대기 시간 고려
+            lockAtLeastFor = "1m"
+    )
+    public void maintainPartitions() {
+        try {
+            PartitionMaintenanceResult result = manageCouponIssuePartitionsUseCase.maintainPartitions();
+
+            if (!result.getDetachedPartitions().isEmpty()) {
+                log.info("쿠폰 발급 파티션 분리 - partitions: {}", result.getDetachedPartitions());
+            }
+
+        } catch (Exception e) {
+            log.error("쿠폰 발급 파티션 관리 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 활성 쿠폰 조회 하한 갱신 (기동 직후 1회 + 주기 실행, 락 없음)
+     */
+    @Scheduled(fixedDelayString = "${coupon.scheduler.partition.active-window-refresh-ms:600000}")
+    public void refreshActiveWindow() {
+        try {
+            manageCouponIssuePartitionsUseCase.refreshActiveWindow();
+        } catch (Exception e) {
+            log.error("활성 쿠폰 조회 하한 갱신 중 오류 발생", e);
+        }
+    }
+}
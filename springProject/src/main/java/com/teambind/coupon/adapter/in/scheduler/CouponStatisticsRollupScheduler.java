@@ -0,0 +1,45 @@
+package com.teambind.coupon.adapter.in.scheduler;
+
+import com.teambind.coupon.application.port.in.RollupCouponStatisticsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 일별 통계 롤업 스케줄러
+ * 대시보드가 coupon_issues를 스캔하지 않도록 coupon_statistics를 주기적으로 갱신
+ * ShedLock을 사용하여 멀티 인스턴스 환경에서 중복 실행 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.scheduler.statistics-rollup.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class CouponStatisticsRollupScheduler {
+
+    private final RollupCouponStatisticsUseCase rollupCouponStatisticsUseCase;
+
+    /**
+     * 통계 롤업 스케줄러
+     * 15분마다 실행 (오늘 일자는 매번 다시 집계)
+     */
+    @Scheduled(cron = "${coupon.scheduler.statistics-rollup.cron:0 */15 * * * *}")
+    @SchedulerLock(
+            name = "rollupCouponStatistics",
+            lockAtMostFor = "14m",
+            lockAtLeastFor = "1m"
+    )
+    public void rollupStatistics() {
+        try {
+            rollupCouponStatisticsUseCase.rollupIncremental();
+        } catch (Exception e) {
+            log.error("쿠폰 통계 롤업 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+}
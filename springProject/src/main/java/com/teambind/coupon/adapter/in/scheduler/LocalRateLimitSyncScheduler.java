@@ -0,0 +1,38 @@
+package com.teambind.coupon.adapter.in.scheduler;
+
+import com.teambind.coupon.adapter.out.redis.LocalFirstRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 Rate limit lease 정리 스케줄러
+ * lease는 인스턴스 메모리 상태이므로 ShedLock 없이 인스턴스마다 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        value = "coupon.rate-limit.local.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class LocalRateLimitSyncScheduler {
+
+    private final LocalFirstRateLimiter localFirstRateLimiter;
+
+    /**
+     * 지난 윈도우 lease 폐기 및 유휴 lease 반납
+     * 1초마다 실행
+     */
+    @Scheduled(fixedDelayString = "${coupon.rate-limit.local.sync-interval-millis:1000}")
+    public void sync() {
+        try {
+            localFirstRateLimiter.sync();
+        } catch (Exception e) {
+            log.error("로컬 Rate limit lease 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.teambind.coupon.adapter.in.web;
+
+import com.teambind.coupon.application.port.in.GenerateCouponCodesUseCase;
+import com.teambind.coupon.domain.service.CouponCodeGenerator.GeneratorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캠페인 쿠폰 코드 대량 생성 컨트롤러 (관리자용)
+ * 병렬 생성한 코드를 바로 응답에 기록하므로 생성 개수와 무관하게 힙 사용량이 일정
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/coupon-codes")
+@RequiredArgsConstructor
+public class CouponCodeGenerationController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final GenerateCouponCodesUseCase generateCouponCodesUseCase;
+
+    /**
+     * 코드 대량 생성 API
+     *
+     * @param type   생성기 타입 (기본: PERMUTATION)
+     * @param count  생성 개수
+     * @param prefix 프리픽스 (선택)
+     * @param gzip   gzip 압축 여부
+     * @return 한 줄에 코드 하나인 텍스트 스트림
+     */
+    @PostMapping("/generate")
+    public ResponseEntity<StreamingResponseBody> generateCodes(
+            @RequestParam(defaultValue = "PERMUTATION") GeneratorType type,
+            @RequestParam int count,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        log.info("쿠폰 코드 대량 생성 요청 - type: {}, count: {}, gzip: {}", type, count, gzip);
+
+        // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 개수 범위(하한/상한) 검증은 응답 전에 수행
+        generateCouponCodesUseCase.validateStreamRequest(count);
+
+        StreamingResponseBody body = out -> writeCodes(type, count, prefix, gzip, out);
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("coupon-codes-" + type.name().toLowerCase() + ".txt" + (gzip ? ".gz" : ""))
+                        .build().toString())
+                .body(body);
+    }
+
+    private void writeCodes(GeneratorType type, int count, String prefix, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        try {
+            generateCouponCodesUseCase.streamCodes(type, count, prefix, code -> {
+                try {
+                    writer.write(code);
+                    writer.write("\r\n");
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 → 생성 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+    }
+}
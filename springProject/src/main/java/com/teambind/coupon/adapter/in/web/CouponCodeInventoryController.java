@@ -0,0 +1,158 @@
+package com.teambind.coupon.adapter.in.web;
+
+import com.teambind.coupon.application.port.in.ManageCouponCodeInventoryUseCase;
+import com.teambind.coupon.application.port.in.ManageCouponCodeInventoryUseCase.ImportResult;
+import com.teambind.coupon.application.port.in.ManageCouponCodeInventoryUseCase.InventoryStatistics;
+import com.teambind.coupon.application.port.out.CouponCodeInventoryPort.CodeRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 1회용 쿠폰 코드 재고 관리 컨트롤러 (관리자용)
+ * 생성/가져오기/내보내기는 요청·응답 본문을 스트리밍하여 수백만 건도 힙에 적재하지 않음
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/coupon-policies/{policyId}/codes")
+@RequiredArgsConstructor
+public class CouponCodeInventoryController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ManageCouponCodeInventoryUseCase manageCouponCodeInventoryUseCase;
+
+    /**
+     * 1회용 코드 대량 생성 API
+     * 코드 원문은 저장하지 않으므로 이 응답이 원문을 받을 수 있는 유일한 기회
+     *
+     * @param policyId 쿠폰 정책 ID
+     * @param count    생성 개수
+     * @param prefix   프리픽스 (선택)
+     * @return 한 줄에 코드 하나인 텍스트 스트림
+     */
+    @PostMapping("/generate")
+    public ResponseEntity<StreamingResponseBody> generateCodes(
+            @PathVariable Long policyId,
+            @RequestParam int count,
+            @RequestParam(required = false) String prefix) {
+
+        log.info("1회용 쿠폰 코드 생성 요청 - policyId: {}, count: {}", policyId, count);
+
+        StreamingResponseBody body = out -> {
+            Writer writer = newWriter(out);
+            try {
+                manageCouponCodeInventoryUseCase.generateCodes(policyId, count, prefix, code -> writeLine(writer, code));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("coupon-codes-" + policyId + ".txt").build().toString())
+                .body(body);
+    }
+
+    /**
+     * 외부 코드 가져오기 API
+     *
+     * @param policyId 쿠폰 정책 ID
+     * @param body     한 줄에 코드 하나인 텍스트 본문
+     * @return 가져오기 결과
+     */
+    @PostMapping(value = "/import", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<ImportResult> importCodes(
+            @PathVariable Long policyId,
+            InputStream body) throws IOException {
+
+        log.info("1회용 쿠폰 코드 가져오기 요청 - policyId: {}", policyId);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            ImportResult result = manageCouponCodeInventoryUseCase.importCodes(policyId, reader.lines().iterator());
+            return ResponseEntity.ok(result);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 코드 상태 내보내기 API
+     * 코드 원문 대신 다이제스트(16진수)와 사용 정보를 CSV로 스트리밍
+     *
+     * @param policyId 쿠폰 정책 ID
+     * @return CSV 스트림
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCodes(@PathVariable Long policyId) {
+        log.info("1회용 쿠폰 코드 내보내기 요청 - policyId: {}", policyId);
+
+        StreamingResponseBody body = out -> {
+            Writer writer = newWriter(out);
+            writer.write("code_hash,status,redeemed_by,issue_id,redeemed_at\r\n");
+            try {
+                manageCouponCodeInventoryUseCase.exportCodes(policyId, row -> writeLine(writer, toCsv(row)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("coupon-codes-" + policyId + ".csv").build().toString())
+                .body(body);
+    }
+
+    /**
+     * 코드 재고 및 사용 처리량 통계 API
+     *
+     * @param policyId 쿠폰 정책 ID
+     * @return 상태별 개수와 최근 1분/1시간 사용 건수
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<InventoryStatistics> getStatistics(@PathVariable Long policyId) {
+        return ResponseEntity.ok(manageCouponCodeInventoryUseCase.getStatistics(policyId));
+    }
+
+    private Writer newWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write("\r\n");
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등 → 생성/조회 중단
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toCsv(CodeRow row) {
+        return String.format("%016x", row.getCodeHash()) + ','
+                + row.getStatus() + ','
+                + (row.getRedeemedBy() != null ? row.getRedeemedBy() : "") + ','
+                + (row.getIssueId() != null ? row.getIssueId() : "") + ','
+                + (row.getRedeemedAt() != null ? row.getRedeemedAt() : "");
+    }
+}
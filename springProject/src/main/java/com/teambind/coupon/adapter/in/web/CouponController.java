@@ -4,14 +4,20 @@ import com.teambind.coupon.adapter.in.web.dto.CouponIssueResponse;
 import com.teambind.coupon.adapter.in.web.dto.DirectIssueRequest;
 import com.teambind.coupon.adapter.in.web.dto.DirectIssueResponse;
 import com.teambind.coupon.adapter.in.web.dto.DownloadCouponRequest;
+import com.teambind.coupon.adapter.in.web.dto.RedeemCouponCodeRequest;
+import com.teambind.coupon.adapter.in.web.dto.ReserveCartCouponsRequest;
+import com.teambind.coupon.adapter.in.web.dto.ReserveCartCouponsResponse;
 import com.teambind.coupon.adapter.in.web.dto.ReserveCouponRequest;
 import com.teambind.coupon.adapter.in.web.dto.ReserveCouponResponse;
 import com.teambind.coupon.application.port.in.DirectIssueCouponUseCase;
 import com.teambind.coupon.application.port.in.DownloadCouponUseCase;
+import com.teambind.coupon.application.port.in.RedeemCouponCodeUseCase;
 import com.teambind.coupon.application.port.in.ReserveCouponUseCase;
 import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.exception.CouponDomainException;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.service.CouponCodeAuthenticator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +39,8 @@ public class CouponController {
     private final ReserveCouponUseCase reserveCouponUseCase;
     private final DirectIssueCouponUseCase directIssueCouponUseCase;
     private final LoadCouponPolicyPort loadCouponPolicyPort;
+    private final CouponCodeAuthenticator couponCodeAuthenticator;
+    private final RedeemCouponCodeUseCase redeemCouponCodeUseCase;
 
     /**
      * 쿠폰 다운로드 API
@@ -48,6 +56,12 @@ public class CouponController {
         log.info("쿠폰 다운로드 요청 - userId: {}, couponCode: {}",
                 request.getUserId(), request.getCouponCode());
 
+        // 위조/오타 코드는 분산 락과 DB 조회 전에 거절 (존재하지 않는 코드와 같은 응답)
+        if (couponCodeAuthenticator.isForged(request.getCouponCode())) {
+            log.warn("위조 의심 쿠폰 코드 거절 - userId: {}", request.getUserId());
+            throw new CouponDomainException.CouponNotFound(0L);
+        }
+
         CouponIssue issued = downloadCouponUseCase.downloadCoupon(request.toCommand());
 
         // 쿠폰 정책에서 유효기간 조회
@@ -67,6 +81,28 @@ public class CouponController {
                 .body(response);
     }
 
+    /**
+     * 1회용 쿠폰 코드 사용 API
+     * 수신자별로 발급된 1회용 코드로 쿠폰을 발급
+     *
+     * @param request 1회용 코드 사용 요청
+     * @return 발급된 쿠폰 정보
+     */
+    @PostMapping("/redeem")
+    public ResponseEntity<CouponIssueResponse> redeemCouponCode(
+            @Valid @RequestBody RedeemCouponCodeRequest request) {
+
+        log.info("1회용 쿠폰 코드 사용 요청 - userId: {}", request.getUserId());
+
+        // 1회용 코드(PREFIX-XXXX-XXXX-XXXX)는 서명 코드 형식과 겹치므로 서명 검증을 하지 않음
+        // (Bloom filter와 조건부 UPDATE 선점으로 보호)
+        CouponIssue issued = redeemCouponCodeUseCase.redeem(request.getUserId(), request.getCode());
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(CouponIssueResponse.from(issued, issued.getExpiredAt()));
+    }
+
     /**
      * 쿠폰 예약 API
      * 게이트웨이로부터 전달받은 예약 정보로 쿠폰을 예약 상태로 변경
@@ -97,6 +133,31 @@ public class CouponController {
         }
     }
 
+    /**
+     * 장바구니 쿠폰 일괄 예약 API
+     * 한 예약 ID로 여러 쿠폰을 전부 예약하거나 하나도 예약하지 않음
+     *
+     * @param request 장바구니 쿠폰 예약 요청
+     * @return 쿠폰별/합산 할인 금액을 포함한 예약 결과
+     */
+    @PostMapping("/reserve/cart")
+    public ResponseEntity<ReserveCartCouponsResponse> reserveCartCoupons(
+            @Valid @RequestBody ReserveCartCouponsRequest request) {
+
+        log.info("장바구니 쿠폰 예약 요청 - reservationId: {}, userId: {}, couponIds: {}",
+                request.getReservationId(), request.getUserId(), request.getCouponIds());
+
+        ReserveCouponUseCase.CartReservationResult result =
+                reserveCouponUseCase.reserveCoupons(request.toCommand());
+
+        ReserveCartCouponsResponse response = ReserveCartCouponsResponse.from(result);
+
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * 쿠폰 직접 발급 API (관리자용)
      * DIRECT 타입 쿠폰을 특정 사용자들에게 직접 발급
@@ -142,6 +203,10 @@ public class CouponController {
 
         log.info("쿠폰 코드 유효성 확인 - couponCode: {}", couponCode);
 
+        if (couponCodeAuthenticator.isForged(couponCode)) {
+            return ResponseEntity.ok(CouponValidationResponse.of(couponCode, false));
+        }
+
         boolean isValid = loadCouponPolicyPort.loadByCodeAndActive(couponCode)
                 .map(policy -> policy.isIssuable())
                 .orElse(false);
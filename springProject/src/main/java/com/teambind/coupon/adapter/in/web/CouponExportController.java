@@ -0,0 +1,115 @@
+package com.teambind.coupon.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.coupon.adapter.in.web.export.CouponExportWriter;
+import com.teambind.coupon.adapter.in.web.export.ExportFormat;
+import com.teambind.coupon.application.port.in.ExportCouponIssuesUseCase;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportFilter;
+import com.teambind.coupon.domain.model.CouponStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 쿠폰 내보내기 API 컨트롤러
+ * 캠페인 단위 발급/사용 쿠폰을 CSV 또는 NDJSON으로 스트리밍 (페이지 조회 불필요)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/coupons/export")
+@RequiredArgsConstructor
+public class CouponExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportCouponIssuesUseCase exportCouponIssuesUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 발급 쿠폰 내보내기
+     * 커서로 읽은 행을 바로 응답에 기록하므로 내보내기 크기와 무관하게 힙 사용량이 일정
+     *
+     * @param policyId   쿠폰 정책 ID
+     * @param status     쿠폰 상태 필터
+     * @param issuedFrom 발급 시작 일시 (포함)
+     * @param issuedTo   발급 종료 일시 (미포함)
+     * @param format     CSV 또는 NDJSON (기본: CSV)
+     * @param gzip       gzip 압축 여부
+     * @param includeHistory 보관 이력 포함 여부 (기본: 포함)
+     * @return 스트리밍 응답
+     */
+    @GetMapping("/issues")
+    public ResponseEntity<StreamingResponseBody> exportIssues(
+            @RequestParam(required = false) Long policyId,
+            @RequestParam(required = false) CouponStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime issuedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime issuedTo,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "true") boolean includeHistory) {
+
+        log.info("쿠폰 내보내기 요청 - policyId: {}, status: {}, format: {}, gzip: {}", policyId, status, format, gzip);
+
+        ExportFilter filter = ExportFilter.builder()
+                .policyId(policyId)
+                .status(status)
+                .issuedFrom(issuedFrom)
+                .issuedTo(issuedTo)
+                .includeHistory(includeHistory)
+                .build();
+
+        // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 조건 검증은 응답 전에 수행
+        if (!filter.isBounded()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> writeExport(filter, format, gzip, out);
+
+        String filename = "coupon-issues" + (policyId != null ? "-" + policyId : "")
+                + "." + format.getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private void writeExport(ExportFilter filter, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+        CouponExportWriter writer = format.createWriter(target, objectMapper.getFactory());
+
+        writer.writeHeader();
+        try {
+            exportCouponIssuesUseCase.exportIssues(filter, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 → 커서 조회 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+    }
+}
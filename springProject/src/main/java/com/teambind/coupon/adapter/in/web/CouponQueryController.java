@@ -52,7 +52,8 @@ public class CouponQueryController {
                 .limit(Math.min(limit, 100))  // 최대 100개 제한
                 .build();
 
-        CouponQueryResponse response = queryUserCouponsUseCase.queryUserCoupons(userId, request);
+        CouponQueryResponse response = CouponQueryResponse.from(
+                queryUserCouponsUseCase.queryUserCoupons(userId, request));
 
         return ResponseEntity.ok(response);
     }
@@ -74,9 +75,9 @@ public class CouponQueryController {
         log.info("만료 임박 쿠폰 조회 요청 - userId: {}, days: {}, limit: {}",
                 userId, days, limit);
 
-        CouponQueryResponse response = queryUserCouponsUseCase.queryExpiringCoupons(
+        CouponQueryResponse response = CouponQueryResponse.from(queryUserCouponsUseCase.queryExpiringCoupons(
                 userId, days, Math.min(limit, 100)
-        );
+        ));
 
         return ResponseEntity.ok(response);
     }
@@ -110,7 +111,8 @@ public class CouponQueryController {
 
         log.info("쿠폰 조회 요청 (POST) - userId: {}, request: {}", userId, request);
 
-        CouponQueryResponse response = queryUserCouponsUseCase.queryUserCoupons(userId, request);
+        CouponQueryResponse response = CouponQueryResponse.from(
+                queryUserCouponsUseCase.queryUserCoupons(userId, request));
 
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,43 @@
+package com.teambind.coupon.adapter.in.web;
+
+import com.teambind.coupon.adapter.in.web.dto.CouponRecommendationRequest;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase.CouponRecommendationResult;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 장바구니 쿠폰 추천 API 컨트롤러
+ * 체크아웃 화면에서 유저의 쿠폰 중 할인 금액이 큰 쿠폰을 조회
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/coupons")
+@RequiredArgsConstructor
+public class CouponRecommendationController {
+
+    private final RecommendCouponsUseCase recommendCouponsUseCase;
+
+    /**
+     * 장바구니에 적용할 쿠폰 추천
+     *
+     * @param userId 유저 ID
+     * @param request 장바구니 상품과 추천 개수
+     * @return 할인 금액 내림차순 추천 쿠폰
+     */
+    @PostMapping("/users/{userId}/recommendations")
+    public ResponseEntity<CouponRecommendationResult> recommendCoupons(
+            @PathVariable Long userId,
+            @Valid @RequestBody CouponRecommendationRequest request) {
+
+        log.info("쿠폰 추천 요청 - userId: {}, items: {}, limit: {}",
+                userId, request.getItems().size(), request.getLimit());
+
+        CouponRecommendationResult result = recommendCouponsUseCase.recommend(request.toCommand(userId));
+
+        return ResponseEntity.ok(result);
+    }
+}
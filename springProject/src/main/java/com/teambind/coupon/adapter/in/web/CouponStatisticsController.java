@@ -2,11 +2,17 @@ package com.teambind.coupon.adapter.in.web;
 
 import com.teambind.coupon.application.port.in.GetCouponStatisticsUseCase;
 import com.teambind.coupon.application.port.in.GetCouponStatisticsUseCase.*;
+import com.teambind.coupon.application.port.in.ManageStatisticsCacheUseCase;
+import com.teambind.coupon.application.port.in.RollupCouponStatisticsUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * 쿠폰 통계 API 컨트롤러
  * 실시간 쿠폰 통계 정보 제공
@@ -18,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 public class CouponStatisticsController {
 
     private final GetCouponStatisticsUseCase getCouponStatisticsUseCase;
+    private final RollupCouponStatisticsUseCase rollupCouponStatisticsUseCase;
+    private final ManageStatisticsCacheUseCase manageStatisticsCacheUseCase;
 
     /**
      * 쿠폰 정책별 실시간 통계 조회
@@ -68,6 +76,73 @@ public class CouponStatisticsController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * 상태 카운터 스냅샷 조회
+     * Redis 카운터만 조회하므로 대시보드에서 짧은 주기로 폴링 가능
+     *
+     * @param policyIds 조회할 정책 ID 목록 (미지정 시 전체 카운터만 반환)
+     * @return 카운터 스냅샷
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<CounterSnapshot> getCounterSnapshot(
+            @RequestParam(required = false) List<Long> policyIds) {
+
+        CounterSnapshot snapshot = getCouponStatisticsUseCase.getCounterSnapshot(policyIds);
+
+        return ResponseEntity.ok(snapshot);
+    }
+
+    /**
+     * 일별 통계 백필
+     * 과거 기간의 coupon_statistics를 청크 단위 병렬로 다시 집계 (비동기 실행, 결과는 로그/메트릭으로 확인)
+     * 이미 진행 중인 백필이 있으면 409 응답
+     *
+     * @param from 시작 일자 (포함)
+     * @param to   종료 일자 (포함)
+     * @return 202 Accepted
+     */
+    @PostMapping("/rollup/backfill")
+    public ResponseEntity<Void> backfillDailyStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("일별 통계 백필 요청 - from: {}, to: {}", from, to);
+
+        rollupCouponStatisticsUseCase.backfill(from, to);
+
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 정책별 통계 캐시 무효화
+     *
+     * @param policyId 쿠폰 정책 ID
+     */
+    @DeleteMapping("/cache/{policyId}")
+    public ResponseEntity<Void> invalidatePolicyCache(@PathVariable Long policyId) {
+
+        log.info("정책 통계 캐시 무효화 요청 - policyId: {}", policyId);
+
+        manageStatisticsCacheUseCase.invalidateCache(policyId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 전체 통계 캐시 삭제 (관리용, SCAN 기반)
+     *
+     * @return 삭제된 키 수
+     */
+    @DeleteMapping("/cache")
+    public ResponseEntity<Long> purgeAllCache() {
+
+        log.info("전체 통계 캐시 삭제 요청");
+
+        long deleted = manageStatisticsCacheUseCase.purgeAllCache();
+
+        return ResponseEntity.ok(deleted);
+    }
+
     /**
      * 실시간 대시보드용 요약 통계
      * 
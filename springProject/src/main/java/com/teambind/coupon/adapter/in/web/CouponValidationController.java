@@ -0,0 +1,40 @@
+package com.teambind.coupon.adapter.in.web;
+
+import com.teambind.coupon.adapter.in.web.dto.ValidateCouponsRequest;
+import com.teambind.coupon.application.port.in.ValidateCouponsUseCase;
+import com.teambind.coupon.application.port.in.ValidateCouponsUseCase.BatchValidationResult;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 쿠폰 일괄 검증 API 컨트롤러
+ * 주문 서비스의 체크아웃 사전 검증을 쿠폰별 호출 대신 한 요청으로 처리
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/coupons")
+@RequiredArgsConstructor
+public class CouponValidationController {
+
+    private final ValidateCouponsUseCase validateCouponsUseCase;
+
+    /**
+     * 쿠폰 일괄 검증
+     *
+     * @param request 검증 대상 목록 (userId, couponId, orderAmount, itemIds)
+     * @return 대상별 검증 결과 (요청 순서)
+     */
+    @PostMapping("/validate/batch")
+    public ResponseEntity<BatchValidationResult> validateCoupons(
+            @Valid @RequestBody ValidateCouponsRequest request) {
+
+        log.info("쿠폰 일괄 검증 요청 - items: {}", request.getItems().size());
+
+        BatchValidationResult result = validateCouponsUseCase.validateAll(request.toCommand());
+
+        return ResponseEntity.ok(result);
+    }
+}
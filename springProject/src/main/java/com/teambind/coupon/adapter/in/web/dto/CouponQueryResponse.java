@@ -1,6 +1,7 @@
 package com.teambind.coupon.adapter.in.web.dto;
 
-import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueProjection;
+import com.teambind.coupon.application.dto.response.UserCouponPage;
+import com.teambind.coupon.application.dto.response.UserCouponView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,7 +9,6 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -78,73 +78,51 @@ public class CouponQueryResponse {
         private Long remainingDays;  // 만료까지 남은 일수
 
         /**
-         * Projection에서 CouponItem으로 변환
+         * 쿠폰 읽기 모델에서 CouponItem으로 변환
          */
-        public static CouponItem from(CouponIssueProjection projection) {
+        public static CouponItem from(UserCouponView view) {
             return CouponItem.builder()
-                    .couponIssueId(projection.getCouponIssueId())
-                    .userId(projection.getUserId())
-                    .policyId(projection.getPolicyId())
-                    .status(projection.getStatus())
-                    .issuedAt(projection.getIssuedAt())
-                    .expiresAt(projection.getExpiresAt())
-                    .usedAt(projection.getUsedAt())
-                    .reservedAt(projection.getReservedAt())
-                    .reservationId(projection.getReservationId())
-                    .actualDiscountAmount(projection.getActualDiscountAmount())
-                    .couponName(projection.getCouponName())
-                    .couponCode(projection.getCouponCode())
-                    .description(projection.getDescription())
-                    .discountType(projection.getDiscountType())
-                    .discountValue(projection.getDiscountValue())
-                    .minimumOrderAmount(projection.getMinimumOrderAmount())
-                    .maxDiscountAmount(projection.getMaxDiscountAmount())
-                    .applicableProductIds(null) // TODO: JSONB 파싱 필요
-                    .distributionType(projection.getDistributionType())
-                    .isAvailable(projection.getIsAvailable() != null && projection.getIsAvailable())
-                    .remainingDays(calculateRemainingDays(projection.getExpiresAt()))
+                    .couponIssueId(view.getCouponIssueId())
+                    .userId(view.getUserId())
+                    .policyId(view.getPolicyId())
+                    .status(view.getStatus())
+                    .issuedAt(view.getIssuedAt())
+                    .expiresAt(view.getExpiresAt())
+                    .usedAt(view.getUsedAt())
+                    .reservedAt(view.getReservedAt())
+                    .reservationId(view.getReservationId())
+                    .actualDiscountAmount(view.getActualDiscountAmount())
+                    .couponName(view.getCouponName())
+                    .couponCode(view.getCouponCode())
+                    .description(view.getDescription())
+                    .discountType(view.getDiscountType())
+                    .discountValue(view.getDiscountValue())
+                    .minimumOrderAmount(view.getMinimumOrderAmount())
+                    .maxDiscountAmount(view.getMaxDiscountAmount())
+                    .applicableProductIds(view.getApplicableProductIds())
+                    .distributionType(view.getDistributionType())
+                    .isAvailable(view.isAvailable())
+                    .remainingDays(view.getRemainingDays())
                     .build();
         }
-
-        /**
-         * 만료까지 남은 일수 계산
-         */
-        private static Long calculateRemainingDays(LocalDateTime expiresAt) {
-            if (expiresAt == null) {
-                return null;
-            }
-            long days = java.time.Duration.between(LocalDateTime.now(), expiresAt).toDays();
-            return days >= 0 ? days : null;
-        }
     }
 
     /**
-     * 커서 기반 페이지네이션 응답 생성
+     * 커서 기반 페이지 조회 결과로 응답 생성
      *
-     * @param items 쿠폰 목록 (limit + 1개 조회)
-     * @param limit 요청한 limit
+     * @param page 쿠폰 페이지
      * @return 응답 DTO
      */
-    public static CouponQueryResponse of(List<CouponIssueProjection> items, int limit) {
-        boolean hasNext = items.size() > limit;
-        List<CouponIssueProjection> data = hasNext
-                ? items.subList(0, limit)
-                : items;
-
-        Long nextCursor = null;
-        if (hasNext && !data.isEmpty()) {
-            nextCursor = data.get(data.size() - 1).getCouponIssueId();
-        }
-
-        List<CouponItem> couponItems = data.stream()
+    public static CouponQueryResponse from(UserCouponPage page) {
+        List<CouponItem> couponItems = page.getItems().stream()
                 .map(CouponItem::from)
                 .toList();
 
         return CouponQueryResponse.builder()
                 .data(couponItems)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
                 .count(couponItems.size())
                 .build();
     }
-}
\ No newline at end of file
+}
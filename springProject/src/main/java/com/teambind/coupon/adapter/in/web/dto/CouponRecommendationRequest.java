@@ -0,0 +1,56 @@
+package com.teambind.coupon.adapter.in.web.dto;
+
+import com.teambind.coupon.application.port.in.RecommendCouponsCommand;
+import com.teambind.coupon.domain.model.OrderCart;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 쿠폰 추천 요청 DTO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class CouponRecommendationRequest {
+
+    @NotEmpty(message = "장바구니 상품은 필수입니다")
+    @Valid
+    private List<CartItem> items;
+
+    private Integer limit; // 추천 개수 (기본: 5)
+
+    /**
+     * Command 객체로 변환
+     */
+    public RecommendCouponsCommand toCommand(Long userId) {
+        List<OrderCart.Line> lines = items.stream()
+                .map(item -> new OrderCart.Line(item.getItemId(), item.getAmount()))
+                .toList();
+        return RecommendCouponsCommand.of(userId, lines, limit != null ? limit : 5);
+    }
+
+    /**
+     * 장바구니 상품
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    public static class CartItem {
+
+        @NotNull(message = "상품 ID는 필수입니다")
+        private Long itemId;
+
+        @NotNull(message = "상품 금액은 필수입니다")
+        @PositiveOrZero(message = "상품 금액은 0 이상이어야 합니다")
+        private BigDecimal amount;
+    }
+}
@@ -0,0 +1,23 @@
+package com.teambind.coupon.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1회용 쿠폰 코드 사용 요청 DTO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class RedeemCouponCodeRequest {
+
+    @NotBlank(message = "쿠폰 코드는 필수입니다")
+    private String code;
+
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private Long userId;
+}
@@ -0,0 +1,43 @@
+package com.teambind.coupon.adapter.in.web.dto;
+
+import com.teambind.coupon.application.port.in.ReserveCartCouponsCommand;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 쿠폰 일괄 예약 요청 DTO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ReserveCartCouponsRequest {
+
+    @NotBlank(message = "예약 ID는 필수입니다")
+    private String reservationId;
+
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private Long userId;
+
+    @NotEmpty(message = "쿠폰 ID는 필수입니다")
+    private List<Long> couponIds;
+
+    @NotNull(message = "주문 금액은 필수입니다")
+    @Positive(message = "주문 금액은 0보다 커야 합니다")
+    private BigDecimal orderAmount;
+
+    /**
+     * Command 객체로 변환
+     */
+    public ReserveCartCouponsCommand toCommand() {
+        return ReserveCartCouponsCommand.of(reservationId, userId, couponIds, orderAmount);
+    }
+}
@@ -0,0 +1,43 @@
+package com.teambind.coupon.adapter.in.web.dto;
+
+import com.teambind.coupon.application.port.in.ReserveCouponUseCase;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장바구니 쿠폰 일괄 예약 응답 DTO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Builder
+public class ReserveCartCouponsResponse {
+
+    private boolean success;
+    private String reservationId;
+    private List<ReserveCouponUseCase.ReservedCoupon> coupons;
+    private BigDecimal totalDiscountAmount;
+    private String message;
+    private LocalDateTime reservedUntil;
+
+    /**
+     * CartReservationResult로부터 Response DTO 생성
+     */
+    public static ReserveCartCouponsResponse from(ReserveCouponUseCase.CartReservationResult result) {
+        return ReserveCartCouponsResponse.builder()
+                .success(result.isSuccess())
+                .reservationId(result.getReservationId())
+                .coupons(result.getCoupons())
+                .totalDiscountAmount(result.getTotalDiscountAmount())
+                .message(result.getMessage())
+                .reservedUntil(result.getReservedUntil())
+                .build();
+    }
+}
@@ -3,11 +3,14 @@ package com.teambind.coupon.adapter.in.web.dto;
 import com.teambind.coupon.application.port.in.ReserveCouponCommand;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 /**
  * 쿠폰 예약 요청 DTO
  */
@@ -25,10 +28,13 @@ public class ReserveCouponRequest {
     @NotNull(message = "쿠폰 ID는 필수입니다")
     private Long couponId;
 
+    @Positive(message = "주문 금액은 0보다 커야 합니다")
+    private BigDecimal orderAmount; // 주문 금액 (선택, 정률 할인 예상 금액 계산용)
+
     /**
      * Command 객체로 변환
      */
     public ReserveCouponCommand toCommand() {
-        return ReserveCouponCommand.of(reservationId, userId, couponId);
+        return ReserveCouponCommand.of(reservationId, userId, couponId, orderAmount);
     }
 }
\ No newline at end of file
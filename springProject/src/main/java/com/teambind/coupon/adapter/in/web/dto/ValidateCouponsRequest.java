@@ -0,0 +1,60 @@
+package com.teambind.coupon.adapter.in.web.dto;
+
+import com.teambind.coupon.application.port.in.ValidateCouponsCommand;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 쿠폰 일괄 검증 요청 DTO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ValidateCouponsRequest {
+
+    @NotEmpty(message = "검증 대상은 필수입니다")
+    @Valid
+    private List<Item> items;
+
+    /**
+     * Command 객체로 변환
+     */
+    public ValidateCouponsCommand toCommand() {
+        List<ValidateCouponsCommand.Target> targets = items.stream()
+                .map(item -> new ValidateCouponsCommand.Target(
+                        item.getUserId(), item.getCouponId(), item.getOrderAmount(),
+                        item.getItemIds() != null ? item.getItemIds() : List.of()))
+                .toList();
+        return ValidateCouponsCommand.of(targets);
+    }
+
+    /**
+     * 검증 대상
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "사용자 ID는 필수입니다")
+        private Long userId;
+
+        @NotNull(message = "쿠폰 ID는 필수입니다")
+        private Long couponId;
+
+        @NotNull(message = "주문 금액은 필수입니다")
+        @PositiveOrZero(message = "주문 금액은 0 이상이어야 합니다")
+        private BigDecimal orderAmount;
+
+        private List<Long> itemIds; // 주문 상품 ID 목록
+    }
+}
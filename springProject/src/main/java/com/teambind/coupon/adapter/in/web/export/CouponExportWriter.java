@@ -0,0 +1,21 @@
+package com.teambind.coupon.adapter.in.web.export;
+
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportRow;
+
+import java.io.IOException;
+
+/**
+ * 발급 쿠폰 내보내기 Writer
+ * 행을 받는 즉시 출력 스트림에 기록하며 행을 모아두지 않음
+ */
+public interface CouponExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(ExportRow row) throws IOException;
+
+    /**
+     * 버퍼를 비우고 마무리 (출력 스트림은 닫지 않음)
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,107 @@
+package com.teambind.coupon.adapter.in.web.export;
+
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 내보내기 Writer (RFC 4180)
+ * 엑셀에서 한글 쿠폰명이 깨지지 않도록 UTF-8 BOM으로 시작
+ */
+public class CsvCouponExportWriter implements CouponExportWriter {
+
+    private static final char BOM = '\uFEFF';
+    private static final String HEADER = "issue_id,policy_id,coupon_name,coupon_code,discount_type,discount_value,"
+            + "user_id,status,order_id,issued_at,used_at,expired_at,actual_discount_amount";
+
+    private final Writer writer;
+
+    public CsvCouponExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(BOM);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ExportRow row) throws IOException {
+        writeField(row.getIssueId());
+        writer.write(',');
+        writeField(row.getPolicyId());
+        writer.write(',');
+        writeText(row.getCouponName());
+        writer.write(',');
+        writeText(row.getCouponCode());
+        writer.write(',');
+        writeField(row.getDiscountType());
+        writer.write(',');
+        writeField(row.getDiscountValue());
+        writer.write(',');
+        writeField(row.getUserId());
+        writer.write(',');
+        writeField(row.getStatus());
+        writer.write(',');
+        writeText(row.getOrderId());
+        writer.write(',');
+        writeField(row.getIssuedAt());
+        writer.write(',');
+        writeField(row.getUsedAt());
+        writer.write(',');
+        writeField(row.getExpiredAt());
+        writer.write(',');
+        writeField(row.getActualDiscountAmount());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    /**
+     * 사용자 입력 문자열은 구분자/따옴표/개행이 포함된 경우에만 따옴표로 감쌈
+     */
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.teambind.coupon.adapter.in.web.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public CouponExportWriter createWriter(OutputStream out, JsonFactory jsonFactory) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvCouponExportWriter(out);
+            case NDJSON -> new NdjsonCouponExportWriter(out, jsonFactory);
+        };
+    }
+}
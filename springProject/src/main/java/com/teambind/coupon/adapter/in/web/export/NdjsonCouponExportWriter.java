@@ -0,0 +1,75 @@
+package com.teambind.coupon.adapter.in.web.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * NDJSON 내보내기 Writer
+ * 한 줄에 한 건씩 JSON 객체를 기록하며, 리플렉션 없이 JsonGenerator로 필드를 직접 기록
+ */
+public class NdjsonCouponExportWriter implements CouponExportWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonCouponExportWriter(OutputStream out, JsonFactory jsonFactory) throws IOException {
+        this.generator = jsonFactory.createGenerator(out);
+        // 응답 스트림은 컨트롤러가 닫음
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON은 헤더 없음
+    }
+
+    @Override
+    public void write(ExportRow row) throws IOException {
+        generator.writeStartObject();
+        writeNumber("issueId", row.getIssueId());
+        writeNumber("policyId", row.getPolicyId());
+        generator.writeStringField("couponName", row.getCouponName());
+        generator.writeStringField("couponCode", row.getCouponCode());
+        generator.writeStringField("discountType", row.getDiscountType());
+        writeDecimal("discountValue", row.getDiscountValue());
+        writeNumber("userId", row.getUserId());
+        generator.writeStringField("status", row.getStatus());
+        generator.writeStringField("orderId", row.getOrderId());
+        writeDateTime("issuedAt", row.getIssuedAt());
+        writeDateTime("usedAt", row.getUsedAt());
+        writeDateTime("expiredAt", row.getExpiredAt());
+        writeDecimal("actualDiscountAmount", row.getActualDiscountAmount());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+
+    private void writeNumber(String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    private void writeDecimal(String name, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    private void writeDateTime(String name, LocalDateTime value) throws IOException {
+        generator.writeStringField(name, value != null ? value.toString() : null);
+    }
+}
@@ -1,9 +1,9 @@
 package com.teambind.coupon.adapter.in.web.interceptor;
 
-import com.teambind.coupon.adapter.out.redis.RateLimiterService;
+import com.teambind.coupon.adapter.out.redis.RequestGuardService;
+import com.teambind.coupon.adapter.out.redis.RequestGuardService.Decision;
+import com.teambind.coupon.adapter.out.redis.RequestGuardService.GuardResult;
 import com.teambind.coupon.application.service.AttackDetectionService;
-import com.teambind.coupon.common.exceptions.CustomException;
-import com.teambind.coupon.common.exceptions.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -18,13 +18,16 @@ import java.io.IOException;
 /**
  * Rate Limiting 인터셉터
  * API 요청에 대한 속도 제한 및 공격 탐지
+ *
+ * 제한 확인과 위험 점수 평가를 RequestGuardService 스크립트 한 번으로 처리하므로
+ * 로컬 lease(coupon.rate-limit.local)는 적용하지 않음 (위험 점수 때문에 Redis 왕복이 남아 이득이 없음)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final RateLimiterService rateLimiterService;
+    private final RequestGuardService requestGuardService;
     private final AttackDetectionService attackDetectionService;
 
     @Value("${coupon.rate-limit.per-minute:60}")
@@ -45,32 +48,35 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         String identifier = getIdentifier(request);
         String endpoint = request.getRequestURI();
 
-        // 차단된 사용자 확인
+        // 차단된 사용자 확인 (로컬 캐시 우선, 차단/해제는 Pub/Sub으로 전파되므로 대부분 Redis 조회 없음)
         if (attackDetectionService.isBlocked(identifier)) {
             log.warn("차단된 사용자 접근 시도 - IP: {}, endpoint: {}", identifier, endpoint);
             sendErrorResponse(response, HttpStatus.FORBIDDEN, "ACCESS_BLOCKED", "접근이 차단되었습니다");
             return false;
         }
 
-        // Rate limiting 확인
-        boolean allowed = checkRateLimit(identifier, endpoint);
+        // Rate limit, 위험 점수를 Redis 왕복 1회로 평가
+        GuardResult result = guard(identifier, endpoint);
 
-        if (!allowed) {
+        if (result.decision() == Decision.RATE_LIMITED) {
             log.warn("Rate limit 초과 - IP: {}, endpoint: {}", identifier, endpoint);
 
             // Rate limit 초과 기록
             attackDetectionService.recordFailure(identifier, "rate_limit");
 
             // Rate limit 정보 헤더에 추가
-            addRateLimitHeaders(response, identifier);
+            addRateLimitHeaders(response, result);
+            response.addHeader("Retry-After", String.valueOf(Math.max(1, (result.resetAfterMillis() + 999) / 1000)));
 
             sendErrorResponse(response, HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMIT_EXCEEDED",
                     "요청 속도 제한을 초과했습니다. 잠시 후 다시 시도해주세요.");
             return false;
         }
 
+        addRateLimitHeaders(response, result);
+
         // 의심스러운 활동 점수 확인
-        int riskScore = attackDetectionService.calculateRiskScore(identifier);
+        int riskScore = result.riskScore();
         if (riskScore > 70) {
             log.warn("높은 위험 점수 탐지 - IP: {}, score: {}", identifier, riskScore);
 
@@ -82,13 +88,13 @@ public class RateLimitInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * Rate limit 확인
+     * 요청 평가 (엔드포인트별 제한 적용)
      */
-    private boolean checkRateLimit(String identifier, String endpoint) {
-        // 엔드포인트별 다른 제한 적용 가능
+    private GuardResult guard(String identifier, String endpoint) {
         if (endpoint.contains("/coupon/download")) {
             // 쿠폰 다운로드는 더 엄격한 제한
-            return rateLimiterService.allowRequestMultiLevel(
+            return requestGuardService.evaluate(
+                    identifier,
                     identifier + ":download",
                     10,  // 분당 10회
                     50,  // 시간당 50회
@@ -96,7 +102,8 @@ public class RateLimitInterceptor implements HandlerInterceptor {
             );
         } else if (endpoint.contains("/coupon/reserve")) {
             // 쿠폰 예약
-            return rateLimiterService.allowRequestMultiLevel(
+            return requestGuardService.evaluate(
+                    identifier,
                     identifier + ":reserve",
                     20,  // 분당 20회
                     100, // 시간당 100회
@@ -104,7 +111,8 @@ public class RateLimitInterceptor implements HandlerInterceptor {
             );
         } else {
             // 기본 제한
-            return rateLimiterService.allowRequestMultiLevel(
+            return requestGuardService.evaluate(
+                    identifier,
                     identifier,
                     limitPerMinute,
                     limitPerHour,
@@ -158,19 +166,17 @@ public class RateLimitInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * Rate limit 헤더 추가
+     * Rate limit 헤더 추가 (평가 결과 값을 사용하므로 추가 Redis 조회 없음)
      */
-    private void addRateLimitHeaders(HttpServletResponse response, String identifier) {
-        try {
-            var info = rateLimiterService.getRateLimitInfo(identifier, limitPerMinute, 60);
-
-            response.addHeader("X-RateLimit-Limit", String.valueOf(info.limit()));
-            response.addHeader("X-RateLimit-Remaining", String.valueOf(info.remaining()));
-            response.addHeader("X-RateLimit-Reset", String.valueOf(info.resetTime() / 1000));
-            response.addHeader("Retry-After", String.valueOf(info.getTimeUntilReset().getSeconds()));
-        } catch (Exception e) {
-            log.error("Rate limit 헤더 추가 오류", e);
+    private void addRateLimitHeaders(HttpServletResponse response, GuardResult result) {
+        if (result.limit() <= 0) {
+            return;
         }
+
+        long resetTime = System.currentTimeMillis() + result.resetAfterMillis();
+        response.addHeader("X-RateLimit-Limit", String.valueOf(result.limit()));
+        response.addHeader("X-RateLimit-Remaining", String.valueOf(result.remaining()));
+        response.addHeader("X-RateLimit-Reset", String.valueOf(resetTime / 1000));
     }
 
     /**
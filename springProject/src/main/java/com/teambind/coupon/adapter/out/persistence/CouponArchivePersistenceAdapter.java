@@ -0,0 +1,60 @@
+package com.teambind.coupon.adapter.out.persistence;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponArchiveWatermarkEntity;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponArchiveWatermarkRepository;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueHistoryRepository;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueRepository;
+import com.teambind.coupon.application.port.out.ArchiveCouponIssuePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 종료 상태 쿠폰 보관 Persistence Adapter
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponArchivePersistenceAdapter implements ArchiveCouponIssuePort {
+
+    private final CouponIssueRepository couponIssueRepository;
+    private final CouponIssueHistoryRepository couponIssueHistoryRepository;
+    private final CouponArchiveWatermarkRepository watermarkRepository;
+
+    @Override
+    public long loadWatermark(String jobName) {
+        return watermarkRepository.findById(jobName)
+                .map(CouponArchiveWatermarkEntity::getLastProcessedId)
+                .orElse(0L);
+    }
+
+    @Override
+    public List<Long> loadArchivableIds(long afterId, LocalDateTime cutoff, int limit) {
+        return couponIssueRepository.findArchivableIds(afterId, cutoff, limit);
+    }
+
+    @Override
+    @Transactional
+    public int archiveBatch(List<Long> ids, String jobName, long watermark) {
+        int deleted = 0;
+
+        if (!ids.isEmpty()) {
+            int copied = couponIssueHistoryRepository.copyFromCouponIssues(ids);
+            deleted = couponIssueRepository.deleteArchivedByIds(ids);
+            log.debug("쿠폰 보관 배치 - 대상: {}, 복사: {}, 삭제: {}", ids.size(), copied, deleted);
+        }
+
+        CouponArchiveWatermarkEntity entity = watermarkRepository.findById(jobName)
+                .orElseGet(() -> CouponArchiveWatermarkEntity.builder().jobName(jobName).build());
+        entity.setLastProcessedId(watermark);
+        entity.setUpdatedAt(LocalDateTime.now());
+        watermarkRepository.save(entity);
+
+        return deleted;
+    }
+}
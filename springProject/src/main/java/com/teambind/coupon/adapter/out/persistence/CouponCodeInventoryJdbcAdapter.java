@@ -0,0 +1,174 @@
+package com.teambind.coupon.adapter.out.persistence;
+
+import com.teambind.coupon.application.port.out.CouponCodeInventoryPort;
+import com.teambind.coupon.domain.model.CouponCodeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 1회용 쿠폰 코드 재고 JDBC Adapter
+ * 청크 저장은 배열 파라미터 한 번으로, 사용 처리는 조건부 UPDATE 한 번으로 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCodeInventoryJdbcAdapter implements CouponCodeInventoryPort {
+
+    private static final String INSERT_CODES = """
+            INSERT INTO coupon_codes (code_hash, policy_id, status)
+            SELECT h, ?, 0 FROM unnest(?::bigint[]) AS h
+            ON CONFLICT (code_hash) DO NOTHING
+            RETURNING code_hash
+            """;
+
+    private static final String CLAIM_CODE = """
+            UPDATE coupon_codes
+            SET status = 1, redeemed_by = ?, issue_id = ?, redeemed_at = ?
+            WHERE code_hash = ? AND status = 0
+            RETURNING policy_id
+            """;
+
+    private static final String COUNT_BY_POLICY = """
+            SELECT status, count(*),
+                   count(*) FILTER (WHERE redeemed_at >= ?),
+                   count(*) FILTER (WHERE redeemed_at >= ?),
+                   max(redeemed_at)
+            FROM coupon_codes
+            WHERE policy_id = ?
+            GROUP BY status
+            """;
+
+    private static final String SELECT_CODES = """
+            SELECT code_hash, status, redeemed_by, issue_id, redeemed_at
+            FROM coupon_codes
+            WHERE policy_id = ?
+            """;
+
+    private static final String SELECT_ALL_HASHES = "SELECT code_hash FROM coupon_codes";
+
+    private static final CouponCodeStatus[] STATUSES = CouponCodeStatus.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${coupon.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    @Transactional
+    public boolean[] saveAll(Long policyId, long[] codeHashes) {
+        Long[] boxed = new Long[codeHashes.length];
+        for (int i = 0; i < codeHashes.length; i++) {
+            boxed[i] = codeHashes[i];
+        }
+
+        Set<Long> inserted = new HashSet<>(codeHashes.length * 2);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_CODES);
+            Array array = connection.createArrayOf("bigint", boxed);
+            ps.setLong(1, policyId);
+            ps.setArray(2, array);
+            return ps;
+        }, (ResultSet rs) -> {
+            inserted.add(rs.getLong(1));
+        });
+
+        boolean[] result = new boolean[codeHashes.length];
+        for (int i = 0; i < codeHashes.length; i++) {
+            // 같은 청크 안의 중복은 첫 번째만 저장된 것으로 처리
+            result[i] = inserted.remove(codeHashes[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Long> claim(long codeHash, Long userId, Long issueId) {
+        List<Long> policyIds = jdbcTemplate.query(CLAIM_CODE,
+                (rs, rowNum) -> rs.getLong(1),
+                userId, issueId, Timestamp.valueOf(LocalDateTime.now()), codeHash);
+        return policyIds.stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryCounts countByPolicy(Long policyId, LocalDateTime now) {
+        Map<CouponCodeStatus, Long> counts = new EnumMap<>(CouponCodeStatus.class);
+        long[] recent = {0, 0};
+        LocalDateTime[] lastRedeemedAt = {null};
+
+        jdbcTemplate.query(COUNT_BY_POLICY, (ResultSet rs) -> {
+            counts.put(STATUSES[rs.getInt(1)], rs.getLong(2));
+            recent[0] += rs.getLong(3);
+            recent[1] += rs.getLong(4);
+            Timestamp last = rs.getTimestamp(5);
+            if (last != null && (lastRedeemedAt[0] == null || last.toLocalDateTime().isAfter(lastRedeemedAt[0]))) {
+                lastRedeemedAt[0] = last.toLocalDateTime();
+            }
+        }, Timestamp.valueOf(now.minusMinutes(1)), Timestamp.valueOf(now.minusHours(1)), policyId);
+
+        return InventoryCounts.builder()
+                .counts(counts)
+                .redeemedLastMinute(recent[0])
+                .redeemedLastHour(recent[1])
+                .lastRedeemedAt(lastRedeemedAt[0])
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamCodes(Long policyId, Consumer<CodeRow> sink) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECT_CODES, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, policyId);
+            return ps;
+        }, (ResultSet rs) -> {
+            Timestamp redeemedAt = rs.getTimestamp(5);
+            sink.accept(CodeRow.builder()
+                    .codeHash(rs.getLong(1))
+                    .status(STATUSES[rs.getInt(2)])
+                    .redeemedBy((Long) rs.getObject(3))
+                    .issueId((Long) rs.getObject(4))
+                    .redeemedAt(redeemedAt != null ? redeemedAt.toLocalDateTime() : null)
+                    .build());
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAllHashes(LongConsumer sink) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECT_ALL_HASHES, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (ResultSet rs) -> {
+            sink.accept(rs.getLong(1));
+            rows[0]++;
+        });
+        log.debug("쿠폰 코드 다이제스트 전체 조회 - rows: {}", rows[0]);
+        return rows[0];
+    }
+}
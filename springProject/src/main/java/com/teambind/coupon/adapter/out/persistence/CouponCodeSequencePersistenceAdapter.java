@@ -0,0 +1,31 @@
+package com.teambind.coupon.adapter.out.persistence;
+
+import com.teambind.coupon.adapter.out.persistence.repository.CouponCodeSequenceRepository;
+import com.teambind.coupon.application.port.out.CouponCodeSequencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 쿠폰 코드 일련번호 Persistence Adapter
+ * 일련번호는 코드 중복 방지의 근거이므로 유실될 수 있는 Redis 대신 DB에 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponCodeSequencePersistenceAdapter implements CouponCodeSequencePort {
+
+    // 모든 순열 코드가 하나의 일련번호 공간을 공유해야 정책 간에도 코드가 겹치지 않음
+    private static final String SEQUENCE_NAME = "coupon-code";
+
+    private final CouponCodeSequenceRepository couponCodeSequenceRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("예약 개수는 1 이상이어야 합니다");
+        }
+        return couponCodeSequenceRepository.reserve(SEQUENCE_NAME, count);
+    }
+}
@@ -0,0 +1,114 @@
+package com.teambind.coupon.adapter.out.persistence;
+
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 발급 쿠폰 스트리밍 조회 Adapter
+ * PostgreSQL은 트랜잭션 안에서 fetch size가 지정된 forward-only 쿼리만 서버 커서로 나누어 가져오므로
+ * 읽기 전용 트랜잭션에서 JdbcTemplate으로 직접 조회 (영속성 컨텍스트에 엔티티를 적재하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueExportJdbcAdapter implements StreamCouponIssuesPort {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT t.id, t.policy_id, cp.coupon_name, cp.coupon_code, cp.discount_type, cp.discount_value,
+                   t.user_id, t.status, t.order_id, t.issued_at, t.used_at, t.expired_at, t.actual_discount_amount
+            FROM %s t
+            JOIN coupon_policies cp ON cp.id = t.policy_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${coupon.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamIssues(ExportFilter filter, Consumer<ExportRow> sink) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(selectFrom("coupon_issues", filter, params));
+        if (filter.isIncludeHistory()) {
+            sql.append(" UNION ALL ").append(selectFrom("coupon_issue_history", filter, params));
+        }
+
+        long[] rows = {0};
+        RowCallbackHandler handler = rs -> {
+            sink.accept(mapRow(rs));
+            rows[0]++;
+        };
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            new ArgumentPreparedStatementSetter(params.toArray()).setValues(ps);
+            return ps;
+        }, handler);
+
+        return rows[0];
+    }
+
+    private String selectFrom(String table, ExportFilter filter, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getPolicyId() != null) {
+            conditions.add("t.policy_id = ?");
+            params.add(filter.getPolicyId());
+        }
+        if (filter.getStatus() != null) {
+            conditions.add("t.status = ?");
+            params.add(filter.getStatus().name());
+        }
+        if (filter.getIssuedFrom() != null) {
+            conditions.add("t.issued_at >= ?");
+            params.add(filter.getIssuedFrom());
+        }
+        if (filter.getIssuedTo() != null) {
+            conditions.add("t.issued_at < ?");
+            params.add(filter.getIssuedTo());
+        }
+
+        String select = String.format(SELECT_COLUMNS, table);
+        return conditions.isEmpty() ? select : select + "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private ExportRow mapRow(ResultSet rs) throws SQLException {
+        return ExportRow.builder()
+                .issueId(rs.getLong(1))
+                .policyId(rs.getLong(2))
+                .couponName(rs.getString(3))
+                .couponCode(rs.getString(4))
+                .discountType(rs.getString(5))
+                .discountValue(rs.getBigDecimal(6))
+                .userId(rs.getLong(7))
+                .status(rs.getString(8))
+                .orderId(rs.getString(9))
+                .issuedAt(toDateTime(rs.getTimestamp(10)))
+                .usedAt(toDateTime(rs.getTimestamp(11)))
+                .expiredAt(toDateTime(rs.getTimestamp(12)))
+                .actualDiscountAmount(rs.getBigDecimal(13))
+                .build();
+    }
+
+    private LocalDateTime toDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
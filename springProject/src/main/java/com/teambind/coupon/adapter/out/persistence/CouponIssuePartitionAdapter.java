@@ -0,0 +1,185 @@
+package com.teambind.coupon.adapter.out.persistence;
+
+import com.teambind.coupon.application.port.out.CouponIssuePartitionPort;
+import com.teambind.coupon.domain.model.CouponStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * coupon_issues 파티션 관리 Adapter
+ * PostgreSQL 네이티브 Range 파티셔닝 DDL을 JdbcTemplate으로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssuePartitionAdapter implements CouponIssuePartitionPort {
+
+    private static final String PARENT_TABLE = "coupon_issues";
+    private static final String PARTITION_PREFIX = "coupon_issues_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^coupon_issues_p(\\d{6})$");
+    private static final Pattern IDENTIFIER = Pattern.compile("^[a-z_][a-z0-9_]{0,62}$");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 분리된 파티션별 집계 (분리 후에는 쓰기가 없으므로 테이블 단위로 한 번만 집계)
+    private final Map<String, Map<Long, Map<CouponStatus, Long>>> detachedCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT c.relkind = 'p' FROM pg_class c WHERE c.oid = to_regclass(?)), false)",
+                Boolean.class,
+                PARENT_TABLE
+        );
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    @Override
+    public String createMonthlyPartition(YearMonth month) {
+        String partitionName = partitionName(month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName, PARENT_TABLE, from, to
+        ));
+
+        log.debug("쿠폰 발급 파티션 확인 - partition: {}, range: [{}, {})", partitionName, from, to);
+        return partitionName;
+    }
+
+    @Override
+    public List<YearMonth> loadAttachedPartitions() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass(?)",
+                String.class,
+                PARENT_TABLE
+        );
+
+        return names.stream()
+                .map(this::parseMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public boolean hasActiveCoupons(YearMonth month) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                String.format("SELECT EXISTS (SELECT 1 FROM %s WHERE status IN ('ISSUED', 'RESERVED'))",
+                        partitionName(month)),
+                Boolean.class
+        );
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public Optional<YearMonth> findOldestActiveMonth() {
+        for (YearMonth month : loadAttachedPartitions()) {
+            if (hasActiveCoupons(month)) {
+                return Optional.of(month);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String detachPartition(YearMonth month, String archiveSchema, String archiveTablespace) {
+        String partitionName = partitionName(month);
+        validateIdentifier(archiveSchema);
+
+        // CONCURRENTLY: 부모 테이블에 SHARE UPDATE EXCLUSIVE 락만 사용하여 핫 파티션 쓰기를 막지 않음
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY", PARENT_TABLE, partitionName));
+
+        jdbcTemplate.execute(String.format("CREATE SCHEMA IF NOT EXISTS %s", archiveSchema));
+        jdbcTemplate.execute(String.format("ALTER TABLE %s SET SCHEMA %s", partitionName, archiveSchema));
+
+        if (archiveTablespace != null && !archiveTablespace.isBlank()) {
+            validateIdentifier(archiveTablespace);
+            // 분리된 테이블에만 락이 걸리므로 운영 트래픽에 영향 없음
+            jdbcTemplate.execute(String.format(
+                    "ALTER TABLE %s.%s SET TABLESPACE %s", archiveSchema, partitionName, archiveTablespace));
+        }
+
+        log.info("쿠폰 발급 파티션 분리 완료 - partition: {}, archive: {}.{}",
+                partitionName, archiveSchema, partitionName);
+        return archiveSchema + "." + partitionName;
+    }
+
+    @Override
+    public Map<Long, Map<CouponStatus, Long>> countDetachedByPolicyAndStatus(String archiveSchema) {
+        validateIdentifier(archiveSchema);
+
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT tablename FROM pg_tables WHERE schemaname = ?",
+                String.class,
+                archiveSchema
+        );
+
+        Map<Long, Map<CouponStatus, Long>> counts = new HashMap<>();
+        tables.stream()
+                .filter(table -> PARTITION_NAME.matcher(table).matches())
+                .map(table -> detachedCounts.computeIfAbsent(
+                        archiveSchema + "." + table, this::countDetachedPartition))
+                .forEach(partitionCounts -> partitionCounts.forEach((policyId, byStatus) ->
+                        byStatus.forEach((status, count) -> counts
+                                .computeIfAbsent(policyId, id -> new EnumMap<>(CouponStatus.class))
+                                .merge(status, count, Long::sum))));
+        return counts;
+    }
+
+    private Map<Long, Map<CouponStatus, Long>> countDetachedPartition(String qualifiedTable) {
+        Map<Long, Map<CouponStatus, Long>> counts = new HashMap<>();
+        // 분리 직전 보관 작업으로 이력 테이블에 복사된 행은 이력 쪽 집계에 포함되므로 제외
+        jdbcTemplate.query(String.format(
+                "SELECT p.policy_id, p.status, COUNT(*) FROM %s p " +
+                "WHERE NOT EXISTS (SELECT 1 FROM coupon_issue_history h WHERE h.id = p.id) " +
+                "GROUP BY p.policy_id, p.status", qualifiedTable),
+                (RowCallbackHandler) rs -> counts
+                        .computeIfAbsent(rs.getLong(1), id -> new EnumMap<>(CouponStatus.class))
+                        .merge(CouponStatus.valueOf(rs.getString(2)), rs.getLong(3), Long::sum));
+
+        log.info("분리된 쿠폰 발급 파티션 집계 완료 - partition: {}, policies: {}", qualifiedTable, counts.size());
+        return counts;
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    private YearMonth parseMonth(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            log.warn("규칙에 맞지 않는 파티션 이름 무시 - partition: {}", partitionName);
+            return null;
+        }
+        return YearMonth.parse(matcher.group(1), SUFFIX_FORMAT);
+    }
+
+    private void validateIdentifier(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 식별자입니다: " + identifier);
+        }
+    }
+}
@@ -1,25 +1,43 @@
 package com.teambind.coupon.adapter.out.persistence;
 
 import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueId;
 import com.teambind.coupon.adapter.out.persistence.mapper.CouponIssueMapper;
+import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueStatusProjection;
+import com.teambind.coupon.adapter.out.persistence.projection.UserCouponStatisticsProjection;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueHistoryRepository;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueQueryRepository;
 import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueRepository;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
 import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.common.config.CouponPartitionWindow;
+import com.teambind.coupon.common.config.CouponPartitionWindow.IssuedRange;
 import com.teambind.coupon.common.util.SnowflakeIdGenerator;
+import com.teambind.coupon.domain.event.CouponStatusChangedEvent;
+import com.teambind.coupon.domain.event.CouponWalletChangedEvent;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * 쿠폰 발급 Persistence Adapter 구현
+ * 쿠폰 상태 변경 시 CouponWalletChangedEvent를 발행하여 유저 지갑 캐시를 무효화
  */
 @Slf4j
 @Component
@@ -28,31 +46,73 @@ import java.util.stream.Collectors;
 public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveCouponIssuePort {
 
     private final CouponIssueRepository repository;
+    private final CouponIssueQueryRepository queryRepository;
+    private final CouponIssueHistoryRepository historyRepository;
     private final CouponIssueMapper mapper;
     private final SnowflakeIdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CouponPartitionWindow partitionWindow;
 
     @Override
     public Optional<CouponIssue> loadById(Long issueId) {
-        return repository.findById(issueId)
+        return findEntity(issueId)
                 .map(mapper::toDomain);
     }
 
     @Override
     public Optional<CouponIssue> loadByIdAndUserId(Long issueId, Long userId) {
-        return repository.findByIdAndUserId(issueId, userId)
+        IssuedRange range = partitionWindow.rangeOf(issueId);
+        IssuedRange full = partitionWindow.fullRange();
+        return repository.findByIdAndUserId(issueId, userId, range.from(), range.to())
+                .or(() -> repository.findByIdAndUserId(issueId, userId, full.from(), full.to()))
                 .map(mapper::toDomain);
     }
 
     @Override
     public Optional<CouponIssue> loadByIdAndUserIdWithLock(Long issueId, Long userId) {
-        return repository.findByIdAndUserIdWithLock(issueId, userId)
+        IssuedRange range = partitionWindow.rangeOf(issueId);
+        IssuedRange full = partitionWindow.fullRange();
+        return repository.findByIdAndUserIdWithLock(issueId, userId, range.from(), range.to())
+                .or(() -> repository.findByIdAndUserIdWithLock(issueId, userId, full.from(), full.to()))
                 .map(mapper::toDomain);
     }
 
     @Override
-    public Optional<CouponIssue> loadByReservationIdWithLock(String reservationId) {
-        return repository.findByReservationIdWithLock(reservationId)
-                .map(mapper::toDomain);
+    public List<CouponIssue> loadAllByReservationIdWithLock(String reservationId) {
+        return repository.findAllByReservationIdWithLock(reservationId)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CouponIssue> loadAllByReservationId(String reservationId) {
+        return repository.findAllByReservationId(reservationId)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CouponIssue> loadByIdsAndUserId(List<Long> issueIds, Long userId) {
+        if (issueIds.isEmpty()) {
+            return List.of();
+        }
+        return findEntities(issueIds, userId)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CouponIssue> loadByIds(Collection<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return List.of();
+        }
+        return findEntities(issueIds)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -62,7 +122,8 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
 
     @Override
     public List<CouponIssue> loadUsableCoupons(Long userId) {
-        return repository.findUsableCoupons(userId, LocalDateTime.now())
+        LocalDateTime now = LocalDateTime.now();
+        return repository.findUsableCoupons(userId, now, partitionWindow.activeFrom())
                 .stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
@@ -78,7 +139,8 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
 
     @Override
     public List<CouponIssue> loadExpiredCoupons() {
-        return repository.findExpiredCoupons(LocalDateTime.now())
+        LocalDateTime now = LocalDateTime.now();
+        return repository.findExpiredCoupons(now, partitionWindow.activeFrom())
                 .stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
@@ -89,6 +151,51 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
         return repository.countByUserIdAndStatus(userId, status);
     }
 
+    @Override
+    public UserCouponCounts countUserCoupons(Long userId, int daysUntilExpiry) {
+        UserCouponStatisticsProjection row = queryRepository.aggregateUserStatistics(userId, daysUntilExpiry);
+        if (row == null) {
+            return UserCouponCounts.empty();
+        }
+
+        Map<CouponStatus, Long> counts = new EnumMap<>(CouponStatus.class);
+        counts.put(CouponStatus.ISSUED, nullToZero(row.getIssuedCount()));
+        counts.put(CouponStatus.RESERVED, nullToZero(row.getReservedCount()));
+        counts.put(CouponStatus.USED, nullToZero(row.getUsedCount()));
+        counts.put(CouponStatus.EXPIRED, nullToZero(row.getExpiredCount()));
+        counts.put(CouponStatus.CANCELLED, nullToZero(row.getCancelledCount()));
+
+        return UserCouponCounts.builder()
+                .countsByStatus(counts)
+                .availableCount(nullToZero(row.getAvailableCount()))
+                .expiringCount(nullToZero(row.getExpiringCount()))
+                .firstIssuedAt(row.getFirstIssuedAt())
+                .lastUsedAt(row.getLastUsedAt())
+                .build();
+    }
+
+    @Override
+    public Map<Long, Map<CouponStatus, Long>> countByPolicyAndStatus() {
+        Map<Long, Map<CouponStatus, Long>> counts = new HashMap<>();
+        mergeGroupCounts(counts, repository.countGroupByPolicyAndStatus());
+        mergeGroupCounts(counts, historyRepository.countGroupByPolicyAndStatus());
+        return counts;
+    }
+
+    private void mergeGroupCounts(Map<Long, Map<CouponStatus, Long>> counts, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            Long policyId = (Long) row[0];
+            CouponStatus status = (CouponStatus) row[1];
+            Long count = (Long) row[2];
+            counts.computeIfAbsent(policyId, id -> new EnumMap<>(CouponStatus.class))
+                    .merge(status, count, Long::sum);
+        }
+    }
+
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     @Override
     @Transactional
     public CouponIssue save(CouponIssue issue) {
@@ -117,13 +224,15 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
         log.info("쿠폰 발급 저장 완료 - issueId: {}, userId: {}, status: {}",
                 entity.getId(), entity.getUserId(), entity.getStatus());
 
+        eventPublisher.publishEvent(CouponWalletChangedEvent.of(entity.getUserId()));
+
         return mapper.toDomain(entity);
     }
 
     @Override
     @Transactional
     public void update(CouponIssue issue) {
-        CouponIssueEntity entity = repository.findById(issue.getId())
+        CouponIssueEntity entity = findEntity(issue)
                 .orElseThrow(() -> new IllegalArgumentException("발급된 쿠폰을 찾을 수 없습니다: " + issue.getId()));
 
         mapper.updateEntity(entity, issue);
@@ -131,13 +240,75 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
 
         log.info("쿠폰 발급 업데이트 완료 - issueId: {}, status: {}",
                 issue.getId(), issue.getStatus());
+
+        eventPublisher.publishEvent(CouponWalletChangedEvent.of(entity.getUserId()));
     }
 
     @Override
     @Transactional
     public int updateStatusBatch(List<Long> issueIds, CouponStatus newStatus, LocalDateTime expiredAt) {
-        int updated = repository.updateStatusBatch(issueIds, newStatus, expiredAt);
+        // 일괄 UPDATE는 엔티티 콜백이 호출되지 않으므로 변경 전 상태를 잠근 뒤 같은 상태 조건으로 UPDATE하여
+        // 실제로 바뀐 행만 전이 이벤트로 발행 (잠금 조회는 네이티브 쿼리라 영속성 컨텍스트가 아닌 DB의 현재 상태를 읽음)
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        List<CouponIssueEntity> found = findEntities(issueIds);
+        if (found.isEmpty()) {
+            return 0;
+        }
+        IssuedRange range = issuedRangeOf(found);
+        Set<CouponStatus> fromStatuses = EnumSet.complementOf(EnumSet.of(newStatus));
+
+        List<CouponIssueStatusProjection> targets = repository.lockForStatusChange(
+                idsOf(found), namesOf(fromStatuses), range.from(), range.to());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        int updated = repository.updateStatusBatch(
+                targets.stream().map(CouponIssueStatusProjection::getId).toList(),
+                newStatus, fromStatuses, expiredAt, range.from(), range.to());
         log.info("쿠폰 상태 일괄 업데이트 완료 - count: {}, newStatus: {}", updated, newStatus);
+
+        LocalDateTime now = LocalDateTime.now();
+        eventPublisher.publishEvent(new CouponStatusChangedEvent(targets.stream()
+                .map(target -> new CouponStatusChangedEvent.Transition(
+                        target.getPolicyId(), CouponStatus.valueOf(target.getStatus()), newStatus, now))
+                .toList()));
+        eventPublisher.publishEvent(CouponWalletChangedEvent.of(
+                targets.stream().map(CouponIssueStatusProjection::getUserId).toList()));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int reserveAll(List<Long> issueIds, Long userId, String reservationId, LocalDateTime reservedAt) {
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        // 일괄 UPDATE는 엔티티 콜백이 호출되지 않으므로 ISSUED 상태인 유저 쿠폰을 잠근 뒤 잠근 행만 예약하여 전이 이벤트 발행
+        List<CouponIssueEntity> found = findEntities(issueIds, userId);
+        if (found.isEmpty()) {
+            return 0;
+        }
+        IssuedRange range = issuedRangeOf(found);
+
+        List<CouponIssueStatusProjection> targets = repository.lockForStatusChange(
+                idsOf(found), List.of(CouponStatus.ISSUED.name()), range.from(), range.to());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        int updated = repository.reserveBatch(
+                targets.stream().map(CouponIssueStatusProjection::getId).toList(),
+                userId, reservationId, reservedAt, range.from(), range.to());
+        log.info("쿠폰 일괄 예약 완료 - reservationId: {}, userId: {}, count: {}", reservationId, userId, updated);
+
+        eventPublisher.publishEvent(new CouponStatusChangedEvent(targets.stream()
+                .map(target -> new CouponStatusChangedEvent.Transition(
+                        target.getPolicyId(), CouponStatus.ISSUED, CouponStatus.RESERVED, reservedAt))
+                .toList()));
+        eventPublisher.publishEvent(CouponWalletChangedEvent.of(userId));
         return updated;
     }
 
@@ -153,6 +324,7 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
                                 .userId(issue.getUserId())
                                 .status(issue.getStatus())
                                 .issuedAt(issue.getIssuedAt())
+                                .expiredAt(issue.getExpiredAt())
                                 .couponName(issue.getCouponName())
                                 .discountPolicy(issue.getDiscountPolicy())
                                 .build();
@@ -166,6 +338,9 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
 
         log.info("쿠폰 일괄 발급 저장 완료 - count: {}", saved.size());
 
+        eventPublisher.publishEvent(CouponWalletChangedEvent.of(
+                saved.stream().map(CouponIssueEntity::getUserId).toList()));
+
         return saved.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
@@ -182,7 +357,7 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
 
     @Override
     public Optional<CouponIssue> findById(Long couponId) {
-        return repository.findById(couponId)
+        return findEntity(couponId)
                 .map(mapper::toDomain);
     }
 
@@ -195,7 +370,7 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
 
         List<CouponIssueEntity> entities = issues.stream()
                 .map(issue -> {
-                    CouponIssueEntity entity = repository.findById(issue.getId())
+                    CouponIssueEntity entity = findEntity(issue)
                             .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + issue.getId()));
                     mapper.updateEntity(entity, issue);
                     return entity;
@@ -205,5 +380,106 @@ public class CouponIssuePersistenceAdapter implements LoadCouponIssuePort, SaveC
         repository.saveAll(entities);
 
         log.info("쿠폰 일괄 업데이트 완료 - count: {}", entities.size());
+
+        eventPublisher.publishEvent(CouponWalletChangedEvent.of(
+                entities.stream().map(CouponIssueEntity::getUserId).toList()));
+    }
+
+    /**
+     * ID로 엔티티 조회 (Snowflake ID 생성 시각 기준 파티션을 먼저 조회하고, 없으면 전체 파티션에서 다시 조회)
+     */
+    private Optional<CouponIssueEntity> findEntity(Long issueId) {
+        IssuedRange range = partitionWindow.rangeOf(issueId);
+        IssuedRange full = partitionWindow.fullRange();
+        return repository.findByIdAndIssuedAtBetween(issueId, range.from(), range.to())
+                .or(() -> repository.findByIdAndIssuedAtBetween(issueId, full.from(), full.to()));
+    }
+
+    /**
+     * 여러 ID의 엔티티 조회 (ID 생성 시각 범위에서 못 찾은 ID만 전체 파티션에서 다시 조회)
+     */
+    private List<CouponIssueEntity> findEntities(Collection<Long> issueIds) {
+        IssuedRange range = partitionWindow.rangeOf(issueIds);
+        List<CouponIssueEntity> found = repository.findByIdInAndIssuedAtBetween(issueIds, range.from(), range.to());
+        List<Long> missing = missingIds(issueIds, found);
+        if (missing.isEmpty()) {
+            return found;
+        }
+        IssuedRange full = partitionWindow.fullRange();
+        return concat(found, repository.findByIdInAndIssuedAtBetween(missing, full.from(), full.to()));
+    }
+
+    /**
+     * 유저 소유 조건을 포함한 여러 ID의 엔티티 조회
+     */
+    private List<CouponIssueEntity> findEntities(Collection<Long> issueIds, Long userId) {
+        IssuedRange range = partitionWindow.rangeOf(issueIds);
+        List<CouponIssueEntity> found = repository.findByIdInAndUserIdAndIssuedAtBetween(
+                issueIds, userId, range.from(), range.to());
+        List<Long> missing = missingIds(issueIds, found);
+        if (missing.isEmpty()) {
+            return found;
+        }
+        IssuedRange full = partitionWindow.fullRange();
+        return concat(found, repository.findByIdInAndUserIdAndIssuedAtBetween(
+                missing, userId, full.from(), full.to()));
+    }
+
+    private List<Long> missingIds(Collection<Long> issueIds, List<CouponIssueEntity> found) {
+        Set<Long> foundIds = found.stream()
+                .map(CouponIssueEntity::getId)
+                .collect(Collectors.toSet());
+        return issueIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .distinct()
+                .toList();
+    }
+
+    private List<CouponIssueEntity> concat(List<CouponIssueEntity> found, List<CouponIssueEntity> refetched) {
+        if (refetched.isEmpty()) {
+            return found;
+        }
+        List<CouponIssueEntity> merged = new ArrayList<>(found);
+        merged.addAll(refetched);
+        return merged;
+    }
+
+    private List<Long> idsOf(List<CouponIssueEntity> entities) {
+        return entities.stream()
+                .map(CouponIssueEntity::getId)
+                .toList();
+    }
+
+    private List<String> namesOf(Set<CouponStatus> statuses) {
+        return statuses.stream()
+                .map(CouponStatus::name)
+                .toList();
+    }
+
+    /**
+     * 조회한 엔티티의 실제 발급일시 범위 (일괄 UPDATE가 해당 행이 있는 파티션만 수정하도록)
+     */
+    private IssuedRange issuedRangeOf(List<CouponIssueEntity> entities) {
+        LocalDateTime from = entities.get(0).getIssuedAt();
+        LocalDateTime to = from;
+        for (CouponIssueEntity entity : entities) {
+            if (entity.getIssuedAt().isBefore(from)) {
+                from = entity.getIssuedAt();
+            }
+            if (entity.getIssuedAt().isAfter(to)) {
+                to = entity.getIssuedAt();
+            }
+        }
+        return new IssuedRange(from, to);
+    }
+
+    /**
+     * 도메인 객체의 엔티티 조회 (발급일시를 알면 복합 키로 단일 파티션 조회)
+     */
+    private Optional<CouponIssueEntity> findEntity(CouponIssue issue) {
+        if (issue.getIssuedAt() == null) {
+            return findEntity(issue.getId());
+        }
+        return repository.findById(new CouponIssueId(issue.getId(), issue.getIssuedAt()));
     }
-}
\ No newline at end of file
+}
@@ -7,11 +7,13 @@ import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.application.port.out.SaveCouponPolicyPort;
 import com.teambind.coupon.common.util.SnowflakeIdGenerator;
 import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.DistributionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,9 +55,36 @@ public class CouponPolicyPersistenceAdapter implements LoadCouponPolicyPort, Sav
         return repository.existsByCouponCode(couponCode);
     }
 
+    @Override
+    public int countAll() {
+        return (int) repository.count();
+    }
+
+    @Override
+    public Map<String, Long> countByDistributionType() {
+        Map<String, Long> distribution = new HashMap<>();
+        for (DistributionType type : DistributionType.values()) {
+            distribution.put(type.name(), 0L);
+        }
+        for (Object[] row : repository.countGroupByDistributionType()) {
+            distribution.put(((DistributionType) row[0]).name(), (Long) row[1]);
+        }
+        return distribution;
+    }
+
     @Override
     @Transactional
     public CouponPolicy save(CouponPolicy policy) {
+        // 이미 저장된 정책은 새 엔티티로 merge하지 않고 영속 엔티티를 수정 (coupon_policy_items 전체 재작성 방지)
+        if (policy.getId() != null) {
+            Optional<CouponPolicyEntity> existing = repository.findById(policy.getId());
+            if (existing.isPresent()) {
+                mapper.updateEntity(existing.get(), policy);
+                log.info("쿠폰 정책 업데이트 완료 - policyId: {}", policy.getId());
+                return mapper.toDomain(existing.get());
+            }
+        }
+
         // ID가 없으면 생성
         if (policy.getId() == null) {
             policy = CouponPolicy.builder()
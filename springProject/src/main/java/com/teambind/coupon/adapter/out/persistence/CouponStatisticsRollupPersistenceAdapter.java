@@ -0,0 +1,52 @@
+package com.teambind.coupon.adapter.out.persistence;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponStatisticsWatermarkEntity;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponStatisticsRepository;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponStatisticsWatermarkRepository;
+import com.teambind.coupon.application.port.out.CouponStatisticsRollupPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 쿠폰 일별 통계 롤업 Persistence Adapter
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponStatisticsRollupPersistenceAdapter implements CouponStatisticsRollupPort {
+
+    private final CouponStatisticsRepository statisticsRepository;
+    private final CouponStatisticsWatermarkRepository watermarkRepository;
+
+    @Override
+    public Optional<LocalDate> loadWatermark(String jobName) {
+        return watermarkRepository.findById(jobName)
+                .map(CouponStatisticsWatermarkEntity::getLastRolledUpDate);
+    }
+
+    @Override
+    @Transactional
+    public int rollupDays(LocalDate fromDate, LocalDate toDate) {
+        int upserted = statisticsRepository.upsertDailyRollup(
+                fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay());
+        log.debug("쿠폰 통계 롤업 구간 - from: {}, to: {}, upserted: {}", fromDate, toDate, upserted);
+        return upserted;
+    }
+
+    @Override
+    @Transactional
+    public void saveWatermark(String jobName, LocalDate watermark) {
+        CouponStatisticsWatermarkEntity entity = watermarkRepository.findById(jobName)
+                .orElseGet(() -> CouponStatisticsWatermarkEntity.builder().jobName(jobName).build());
+        entity.setLastRolledUpDate(watermark);
+        entity.setUpdatedAt(LocalDateTime.now());
+        watermarkRepository.save(entity);
+    }
+}
@@ -0,0 +1,29 @@
+package com.teambind.coupon.adapter.out.persistence;
+
+import com.teambind.coupon.application.port.out.JobLockPort;
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.core.ClockProvider;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * shedlock 테이블 기반 작업 락 Adapter
+ * @SchedulerLock과 같은 테이블을 사용하므로 스케줄러 작업과 이름이 겹치지 않도록 주의
+ */
+@Component
+@RequiredArgsConstructor
+public class ShedLockJobLockAdapter implements JobLockPort {
+
+    private final LockProvider lockProvider;
+
+    @Override
+    public Optional<JobLock> tryLock(String name, Duration lockAtMostFor) {
+        LockConfiguration configuration = new LockConfiguration(ClockProvider.now(), name, lockAtMostFor, Duration.ZERO);
+        return lockProvider.lock(configuration)
+                .map(lock -> lock::unlock);
+    }
+}
@@ -0,0 +1,30 @@
+package com.teambind.coupon.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 보관 작업 워터마크 JPA 엔티티
+ * 마지막으로 처리한 coupon_issues ID를 저장하여 중단된 작업을 이어서 처리
+ */
+@Entity
+@Table(name = "coupon_archive_watermarks")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CouponArchiveWatermarkEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.teambind.coupon.adapter.out.persistence.entity;
+
+import com.teambind.coupon.domain.model.CouponCodeStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 1회용 쿠폰 코드 JPA 엔티티
+ * 정책당 수백만 행을 가정하여 코드 원문 대신 64비트 다이제스트와 최소 컬럼만 저장
+ * 대량 저장/사용 처리는 CouponCodeInventoryJdbcAdapter가 SQL로 직접 수행 (스키마 정의용)
+ */
+@Entity
+@Table(name = "coupon_codes", indexes = {
+        @Index(name = "idx_coupon_codes_policy_status", columnList = "policy_id, status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CouponCodeEntity {
+
+    @Id
+    @Column(name = "code_hash")
+    private Long codeHash;
+
+    @Column(name = "policy_id", nullable = false)
+    private Long policyId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "status", nullable = false, columnDefinition = "SMALLINT")
+    private CouponCodeStatus status;
+
+    @Column(name = "redeemed_by")
+    private Long redeemedBy;
+
+    @Column(name = "issue_id")
+    private Long issueId;
+
+    @Column(name = "redeemed_at")
+    private LocalDateTime redeemedAt;
+}
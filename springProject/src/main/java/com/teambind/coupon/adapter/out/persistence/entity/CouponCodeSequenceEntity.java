@@ -0,0 +1,30 @@
+package com.teambind.coupon.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 코드 일련번호 JPA 엔티티
+ * 다음에 예약할 일련번호를 저장 (구간 예약은 Repository의 upsert로만 갱신)
+ */
+@Entity
+@Table(name = "coupon_code_sequences")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CouponCodeSequenceEntity {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
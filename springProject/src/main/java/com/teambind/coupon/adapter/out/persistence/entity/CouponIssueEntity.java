@@ -19,6 +19,8 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_timeout_check", columnList = "status, reserved_at"),
                 @Index(name = "idx_policy_id", columnList = "policy_id")
         })
+@IdClass(CouponIssueId.class)
+@EntityListeners(CouponIssueStatusListener.class)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -39,14 +41,16 @@ public class CouponIssueEntity extends BaseEntity {
     @Column(nullable = false, length = 20)
     private CouponStatus status;
 
-    @Column(name = "reservation_id", unique = true)
+    // 파티션 테이블은 파티션 키 없는 UNIQUE 제약 불가 → 예약 ID의 쿠폰/유저 귀속은 예약 서비스에서 검증
+    @Column(name = "reservation_id")
     private String reservationId;
 
     @Column(name = "order_id")
     private String orderId;
 
+    @Id
     @Column(name = "issued_at", nullable = false)
-    private LocalDateTime issuedAt;
+    private LocalDateTime issuedAt; // 파티션 키
 
     @Column(name = "reserved_at")
     private LocalDateTime reservedAt;
@@ -82,10 +86,23 @@ public class CouponIssueEntity extends BaseEntity {
     @Version
     private Long version; // Optimistic Locking
 
+    // 로드 시점 상태 (상태 전이 카운터 반영용, 저장되지 않음)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PACKAGE)
+    private CouponStatus loadedStatus;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "policy_id", insertable = false, updatable = false)
     private CouponPolicyEntity policy;
 
+    /**
+     * 현재 상태를 로드 시점 상태로 기록
+     */
+    void markStatusLoaded() {
+        this.loadedStatus = this.status;
+    }
+
     /**
      * 쿠폰 예약 취소 (롤백)
      * RESERVED 상태를 다시 ISSUED 상태로 변경
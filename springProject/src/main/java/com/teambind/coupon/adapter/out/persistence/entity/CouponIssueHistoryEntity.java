@@ -0,0 +1,59 @@
+package com.teambind.coupon.adapter.out.persistence.entity;
+
+import com.teambind.coupon.domain.model.CouponStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 쿠폰 이력 JPA 엔티티
+ * 종료 상태(USED/EXPIRED/CANCELLED) 쿠폰을 핫 테이블에서 옮겨 보관하는 컴팩트 테이블
+ * 정책 정보는 coupon_policies 조인으로 조회하므로 denormalized 필드를 두지 않는다
+ */
+@Entity
+@Table(name = "coupon_issue_history",
+        indexes = {
+                @Index(name = "idx_history_user_id", columnList = "user_id, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CouponIssueHistoryEntity {
+
+    @Id
+    private Long id; // 원본 coupon_issues ID (Snowflake)
+
+    @Column(name = "policy_id", nullable = false)
+    private Long policyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponStatus status;
+
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "expired_at")
+    private LocalDateTime expiredAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "actual_discount_amount", precision = 10, scale = 2)
+    private BigDecimal actualDiscountAmount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
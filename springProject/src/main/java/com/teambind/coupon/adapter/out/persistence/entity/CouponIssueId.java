@@ -0,0 +1,24 @@
+package com.teambind.coupon.adapter.out.persistence.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 발급 쿠폰 복합 키 (coupon_issues PK: id, issued_at)
+ * 파티션 키를 식별자에 포함하여 엔티티 수정/삭제 시 해당 파티션만 접근
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CouponIssueId implements Serializable {
+
+    private Long id;
+    private LocalDateTime issuedAt;
+}
@@ -0,0 +1,41 @@
+package com.teambind.coupon.adapter.out.persistence.entity;
+
+import com.teambind.coupon.domain.event.CouponStatusChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 발급 엔티티 상태 전이 감지 Listener
+ * 로드 시점의 상태와 저장 시점의 상태를 비교하여 CouponStatusChangedEvent 발행
+ * (JPQL 일괄 UPDATE는 콜백이 호출되지 않으므로 호출 측에서 직접 발행)
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueStatusListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(CouponIssueEntity entity) {
+        entity.markStatusLoaded();
+    }
+
+    @PostPersist
+    public void onPersist(CouponIssueEntity entity) {
+        eventPublisher.publishEvent(CouponStatusChangedEvent.of(entity.getPolicyId(), null, entity.getStatus()));
+        entity.markStatusLoaded();
+    }
+
+    @PostUpdate
+    public void onUpdate(CouponIssueEntity entity) {
+        if (entity.getLoadedStatus() != entity.getStatus()) {
+            eventPublisher.publishEvent(CouponStatusChangedEvent.of(
+                    entity.getPolicyId(), entity.getLoadedStatus(), entity.getStatus()));
+        }
+        entity.markStatusLoaded();
+    }
+}
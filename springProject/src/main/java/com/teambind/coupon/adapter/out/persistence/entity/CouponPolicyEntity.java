@@ -9,7 +9,9 @@ import org.hibernate.annotations.Type;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 쿠폰 정책 JPA 엔티티
@@ -57,6 +59,20 @@ public class CouponPolicyEntity extends BaseEntity {
     @Column(columnDefinition = "jsonb")
     private ItemApplicableRuleJson applicableRule;
 
+    /**
+     * 적용 가능 상품 정규화 테이블 (coupon_policy_items)
+     * applicableRule.applicableItemIds를 저장 시점에 동기화하여 상품 필터 조회에서 JSON 전개 없이 인덱스 조회
+     */
+    @ElementCollection
+    @CollectionTable(
+            name = "coupon_policy_items",
+            joinColumns = @JoinColumn(name = "policy_id"),
+            indexes = @Index(name = "idx_policy_items_item", columnList = "item_id, policy_id")
+    )
+    @Column(name = "item_id", nullable = false)
+    @Builder.Default
+    private Set<Long> applicableItems = new HashSet<>();
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private DistributionType distributionType;
@@ -83,6 +99,26 @@ public class CouponPolicyEntity extends BaseEntity {
     @Version
     private Long version; // Optimistic Locking
 
+    /**
+     * applicableRule → coupon_policy_items 동기화 (유일한 동기화 지점)
+     * 컬렉션 인스턴스를 교체하지 않고 빠진 상품만 제거, 새 상품만 추가하여 바뀐 행만 DELETE/INSERT 되게 한다
+     * 상품 목록이 없으면 정규화 테이블도 비운다
+     */
+    @PrePersist
+    @PreUpdate
+    void syncApplicableItems() {
+        Set<Long> target = new HashSet<>();
+        if (applicableRule != null && applicableRule.getApplicableItemIds() != null) {
+            target.addAll(applicableRule.getApplicableItemIds());
+        }
+
+        if (applicableItems == null) {
+            applicableItems = new HashSet<>();
+        }
+        applicableItems.retainAll(target);
+        applicableItems.addAll(target);
+    }
+
     /**
      * 적용 가능 상품 규칙 JSON
      */
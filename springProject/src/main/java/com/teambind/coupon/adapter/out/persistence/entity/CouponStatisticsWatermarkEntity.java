@@ -0,0 +1,31 @@
+package com.teambind.coupon.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 통계 롤업 워터마크 JPA 엔티티
+ * 마지막으로 확정 집계한 일자를 저장하여 다음 실행은 그 이후 일자부터 집계
+ */
+@Entity
+@Table(name = "coupon_statistics_watermarks")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CouponStatisticsWatermarkEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "last_rolled_up_date", nullable = false)
+    private LocalDate lastRolledUpDate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -41,7 +41,7 @@ public class CouponIssueMapper {
                 .issuedAt(entity.getIssuedAt())
                 .reservedAt(entity.getReservedAt())
                 .usedAt(entity.getUsedAt())
-                .expiredAt(entity.getExpiredAt())
+                .expiredAt(entity.getExpiredAt() != null ? entity.getExpiredAt() : entity.getExpiresAt())
                 .actualDiscountAmount(entity.getActualDiscountAmount())
                 .couponName(entity.getCouponName())
                 .discountPolicy(discountPolicy)
@@ -67,6 +67,7 @@ public class CouponIssueMapper {
                 .reservedAt(domain.getReservedAt())
                 .usedAt(domain.getUsedAt())
                 .expiredAt(domain.getExpiredAt())
+                .expiresAt(domain.getExpiredAt()) // 발급 시점의 만료 예정 시각 (사용 가능 쿠폰 조회 기준, 이후 변경되지 않음)
                 .actualDiscountAmount(domain.getActualDiscountAmount())
                 .couponName(domain.getCouponName());
 
@@ -27,12 +27,13 @@ public class CouponPolicyMapper {
                 .maxDiscountAmount(entity.getMaxDiscountAmount())
                 .build();
 
+        // 전체 상품 규칙은 공용 인스턴스를 재사용하고, 특정 상품 규칙의 정렬 배열은 처음 조회할 때만 만들어짐
+        // (상품 규칙을 반복 평가하는 경로는 CompiledCouponRuleCache의 컴파일된 규칙을 사용)
         ItemApplicableRule applicableRule = null;
         if (entity.getApplicableRule() != null) {
-            applicableRule = new ItemApplicableRule(
-                    entity.getApplicableRule().isAllItemsApplicable(),
-                    entity.getApplicableRule().getApplicableItemIds()
-            );
+            applicableRule = entity.getApplicableRule().isAllItemsApplicable()
+                    ? ItemApplicableRule.ALL
+                    : ItemApplicableRule.forSpecificItems(entity.getApplicableRule().getApplicableItemIds());
         }
 
         return CouponPolicy.builder()
@@ -92,6 +93,7 @@ public class CouponPolicyMapper {
 
     /**
      * 엔티티 업데이트
+     * 영속 상태 엔티티를 그대로 수정하므로 coupon_policy_items는 @PreUpdate에서 바뀐 상품만 반영
      */
     public void updateEntity(CouponPolicyEntity entity, CouponPolicy domain) {
         entity.setCouponName(domain.getCouponName());
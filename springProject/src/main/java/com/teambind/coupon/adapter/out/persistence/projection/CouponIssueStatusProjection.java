@@ -0,0 +1,13 @@
+package com.teambind.coupon.adapter.out.persistence.projection;
+
+/**
+ * 쿠폰 상태 전이 대상 Projection
+ * 일괄 UPDATE 직전에 잠근 행의 변경 전 상태 (상태 전이 카운터 이벤트 발행용)
+ */
+public interface CouponIssueStatusProjection {
+
+    Long getId();
+    Long getPolicyId();
+    Long getUserId();
+    String getStatus();
+}
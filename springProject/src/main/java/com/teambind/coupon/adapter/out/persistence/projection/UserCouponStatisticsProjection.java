@@ -0,0 +1,23 @@
+package com.teambind.coupon.adapter.out.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저 쿠폰 통계 집계 Projection
+ * 상태별 개수와 만료 임박 개수를 한 번의 집계 쿼리로 매핑
+ */
+public interface UserCouponStatisticsProjection {
+
+    // 상태별 개수
+    Long getIssuedCount();
+    Long getReservedCount();
+    Long getUsedCount();
+    Long getExpiredCount();
+    Long getCancelledCount();
+
+    // 계산 필드
+    Long getAvailableCount();   // ISSUED이면서 만료되지 않은 쿠폰
+    Long getExpiringCount();    // N일 내 만료 예정 쿠폰
+    LocalDateTime getFirstIssuedAt();
+    LocalDateTime getLastUsedAt();
+}
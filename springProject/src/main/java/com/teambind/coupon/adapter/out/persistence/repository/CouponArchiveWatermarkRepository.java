@@ -0,0 +1,12 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponArchiveWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 쿠폰 보관 작업 워터마크 Repository
+ */
+@Repository
+public interface CouponArchiveWatermarkRepository extends JpaRepository<CouponArchiveWatermarkEntity, String> {
+}
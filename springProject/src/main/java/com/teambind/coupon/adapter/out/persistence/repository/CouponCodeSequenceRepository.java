@@ -0,0 +1,30 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponCodeSequenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 쿠폰 코드 일련번호 Repository
+ */
+@Repository
+public interface CouponCodeSequenceRepository extends JpaRepository<CouponCodeSequenceEntity, String> {
+
+    /**
+     * 일련번호 구간 예약
+     * 단일 upsert 문으로 증가시키므로 동시 호출도 행 잠금으로 직렬화되어 구간이 겹치지 않음
+     *
+     * @return 예약한 구간의 시작 번호
+     */
+    @Query(value = """
+            INSERT INTO coupon_code_sequences (name, next_value, updated_at)
+            VALUES (:name, :count, now())
+            ON CONFLICT (name) DO UPDATE
+                SET next_value = coupon_code_sequences.next_value + :count,
+                    updated_at = now()
+            RETURNING next_value - :count
+            """, nativeQuery = true)
+    Long reserve(@Param("name") String name, @Param("count") long count);
+}
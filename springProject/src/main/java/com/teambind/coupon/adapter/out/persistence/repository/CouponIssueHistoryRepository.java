@@ -0,0 +1,110 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueHistoryEntity;
+import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 보관된 쿠폰 이력 Repository
+ */
+@Repository
+public interface CouponIssueHistoryRepository extends JpaRepository<CouponIssueHistoryEntity, Long> {
+
+    /**
+     * coupon_issues의 종료 상태 쿠폰을 이력 테이블로 복사
+     * 재실행 시 중복 삽입되지 않도록 ON CONFLICT DO NOTHING 사용
+     *
+     * @param ids 보관 대상 쿠폰 ID 목록
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO coupon_issue_history (
+            id, policy_id, user_id, status, order_id,
+            issued_at, used_at, expired_at, expires_at,
+            actual_discount_amount, archived_at
+        )
+        SELECT
+            ci.id, ci.policy_id, ci.user_id, ci.status, ci.order_id,
+            ci.issued_at, ci.used_at, ci.expired_at, ci.expires_at,
+            ci.actual_discount_amount, CURRENT_TIMESTAMP
+        FROM coupon_issues ci
+        WHERE ci.id IN (:ids)
+            AND ci.status IN ('USED', 'EXPIRED', 'CANCELLED')
+        ON CONFLICT (id) DO NOTHING
+        """, nativeQuery = true)
+    int copyFromCouponIssues(@Param("ids") List<Long> ids);
+
+    /**
+     * 유저의 보관된 쿠폰 이력을 커서 기반 페이지네이션으로 조회
+     * CouponIssueQueryRepository.findUserCouponsWithCursor와 동일한 Projection 반환
+     *
+     * @param userId 유저 ID
+     * @param status 쿠폰 상태 필터 (USED, EXPIRED, CANCELLED)
+     * @param productIds 상품 ID 배열 (PostgreSQL 배열 형식: {1,2,3})
+     * @param cursor 커서 (마지막으로 조회한 쿠폰 ID)
+     * @param limit 조회 개수
+     * @return 쿠폰 이력 목록
+     */
+    @Query(value = """
+        SELECT
+            h.id AS coupon_issue_id,
+            h.user_id,
+            h.policy_id,
+            h.status,
+            h.issued_at,
+            h.expires_at,
+            h.used_at,
+            CAST(NULL AS TIMESTAMP) AS reserved_at,
+            CAST(NULL AS VARCHAR) AS reservation_id,
+            h.actual_discount_amount,
+            cp.coupon_name,
+            cp.coupon_code,
+            cp.description,
+            cp.discount_type,
+            cp.discount_value,
+            cp.minimum_order_amount,
+            cp.max_discount_amount,
+            cp.applicable_rule::text AS applicable_rule,
+            cp.distribution_type,
+            false AS is_available
+        FROM coupon_issue_history h
+        INNER JOIN coupon_policies cp ON h.policy_id = cp.id
+        WHERE h.user_id = :userId
+            AND (:cursor IS NULL OR h.id < :cursor)
+            AND (:status IS NULL OR h.status = :status)
+            AND (
+                :productIds IS NULL
+                OR cp.applicable_rule IS NULL
+                OR cp.applicable_rule->'applicableItemIds' IS NULL
+                OR EXISTS (
+                    SELECT 1 FROM coupon_policy_items cpi
+                    WHERE cpi.policy_id = cp.id
+                        AND cpi.item_id = ANY(CAST(:productIds AS bigint[]))
+                )
+            )
+        ORDER BY h.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<CouponIssueProjection> findUserHistoryWithCursor(
+        @Param("userId") Long userId,
+        @Param("status") String status,
+        @Param("productIds") String productIds,
+        @Param("cursor") Long cursor,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 정책별 상태별 보관 쿠폰 수 집계 (카운터 보정용)
+     */
+    @Query("SELECT h.policyId, h.status, COUNT(h) " +
+           "FROM CouponIssueHistoryEntity h " +
+           "GROUP BY h.policyId, h.status")
+    List<Object[]> countGroupByPolicyAndStatus();
+}
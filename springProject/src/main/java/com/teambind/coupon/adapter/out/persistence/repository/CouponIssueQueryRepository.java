@@ -1,19 +1,26 @@
 package com.teambind.coupon.adapter.out.persistence.repository;
 
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueId;
 import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueProjection;
+import com.teambind.coupon.adapter.out.persistence.projection.UserCouponStatisticsProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 쿠폰 조회 전용 Repository
  * PostgreSQL Native Query를 사용한 커서 기반 페이지네이션 및 필터링
+ *
+ * coupon_issues는 issued_at 월 단위 Range 파티션이므로 모든 조회에 issued_at 하한(issuedFrom)을
+ * 바인딩하여 실행 시점 파티션 프루닝이 동작하도록 한다. (전체 파티션 하한은 CouponPartitionWindow.allFrom)
  */
 @Repository
-public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity, Long> {
+public interface CouponIssueQueryRepository extends JpaRepository<CouponIssueEntity, CouponIssueId> {
 
     /**
      * 유저의 쿠폰 목록을 커서 기반 페이지네이션으로 조회
@@ -22,6 +29,7 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
      * @param status 쿠폰 상태 필터 (ISSUED, USED, EXPIRED, RESERVED)
      * @param productIds 상품 ID 배열 (PostgreSQL 배열 형식: {1,2,3})
      * @param cursor 커서 (마지막으로 조회한 쿠폰 ID)
+     * @param issuedFrom 발급일시 하한 (파티션 프루닝 기준)
      * @param limit 조회 개수
      * @return 쿠폰 목록
      */
@@ -54,6 +62,7 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
             FROM coupon_issues ci
             INNER JOIN coupon_policies cp ON ci.policy_id = cp.id
             WHERE ci.user_id = :userId
+                AND ci.issued_at >= :issuedFrom
                 AND (:cursor IS NULL OR ci.id < :cursor)
                 AND (
                     :status IS NULL
@@ -65,8 +74,9 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
                     OR cp.applicable_rule IS NULL
                     OR cp.applicable_rule->'applicableItemIds' IS NULL
                     OR EXISTS (
-                        SELECT 1 FROM jsonb_array_elements_text(cp.applicable_rule->'applicableItemIds') AS item
-                        WHERE item::bigint = ANY(CAST(:productIds AS bigint[]))
+                        SELECT 1 FROM coupon_policy_items cpi
+                        WHERE cpi.policy_id = cp.id
+                            AND cpi.item_id = ANY(CAST(:productIds AS bigint[]))
                     )
                 )
             ORDER BY
@@ -81,15 +91,18 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
         @Param("status") String status,
         @Param("productIds") String productIds,
         @Param("cursor") Long cursor,
+        @Param("issuedFrom") LocalDateTime issuedFrom,
         @Param("limit") int limit
     );
 
+
     /**
      * 유저의 특정 상태 쿠폰 총 개수 조회
      *
      * @param userId 유저 ID
      * @param status 쿠폰 상태
      * @param productIds 상품 ID 배열
+     * @param issuedFrom 발급일시 하한 (파티션 프루닝 기준)
      * @return 쿠폰 개수
      */
     @Query(value = """
@@ -97,6 +110,7 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
         FROM coupon_issues ci
         INNER JOIN coupon_policies cp ON ci.policy_id = cp.id
         WHERE ci.user_id = :userId
+            AND ci.issued_at >= :issuedFrom
             AND (
                 :status IS NULL
                 OR ci.status = :status
@@ -107,22 +121,26 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
                 OR cp.applicable_rule IS NULL
                 OR cp.applicable_rule->'applicableItemIds' IS NULL
                 OR EXISTS (
-                    SELECT 1 FROM jsonb_array_elements_text(cp.applicable_rule->'applicableItemIds') AS item
-                    WHERE item::bigint = ANY(CAST(:productIds AS bigint[]))
+                    SELECT 1 FROM coupon_policy_items cpi
+                    WHERE cpi.policy_id = cp.id
+                        AND cpi.item_id = ANY(CAST(:productIds AS bigint[]))
                 )
             )
         """, nativeQuery = true)
     Long countUserCoupons(
         @Param("userId") Long userId,
         @Param("status") String status,
-        @Param("productIds") String productIds
+        @Param("productIds") String productIds,
+        @Param("issuedFrom") LocalDateTime issuedFrom
     );
 
+
     /**
      * 곧 만료될 쿠폰 조회 (N일 이내)
      *
      * @param userId 유저 ID
      * @param daysUntilExpiry 만료까지 남은 일수
+     * @param issuedFrom 발급일시 하한 (파티션 프루닝 기준)
      * @param limit 조회 개수
      * @return 쿠폰 목록
      */
@@ -151,6 +169,7 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
         FROM coupon_issues ci
         INNER JOIN coupon_policies cp ON ci.policy_id = cp.id
         WHERE ci.user_id = :userId
+            AND ci.issued_at >= :issuedFrom
             AND ci.status = 'ISSUED'
             AND ci.expires_at > CURRENT_TIMESTAMP
             AND ci.expires_at <= CURRENT_TIMESTAMP + CAST(:daysUntilExpiry || ' days' AS INTERVAL)
@@ -160,6 +179,49 @@ public interface CouponIssueQueryRepository extends JpaRepository<com.teambind.c
     List<CouponIssueProjection> findExpiringCoupons(
         @Param("userId") Long userId,
         @Param("daysUntilExpiry") int daysUntilExpiry,
+        @Param("issuedFrom") LocalDateTime issuedFrom,
         @Param("limit") int limit
     );
-}
\ No newline at end of file
+
+
+    /**
+     * 유저 쿠폰 상태별 통계를 단일 쿼리로 집계
+     * 핫 테이블과 보관 테이블(coupon_issue_history)을 합쳐 한 번만 스캔하며,
+     * 상태별 개수와 만료 임박 개수를 COUNT(*) FILTER로 동시에 계산한다
+     *
+     * @param userId 유저 ID
+     * @param daysUntilExpiry 만료 임박 기준 일수
+     * @return 통계 집계 결과 (쿠폰이 없어도 0으로 채워진 한 행)
+     */
+    @Query(value = """
+        SELECT
+            COUNT(*) FILTER (WHERE src.status = 'ISSUED') AS "issuedCount",
+            COUNT(*) FILTER (WHERE src.status = 'RESERVED') AS "reservedCount",
+            COUNT(*) FILTER (WHERE src.status = 'USED') AS "usedCount",
+            COUNT(*) FILTER (WHERE src.status = 'EXPIRED') AS "expiredCount",
+            COUNT(*) FILTER (WHERE src.status = 'CANCELLED') AS "cancelledCount",
+            COUNT(*) FILTER (
+                WHERE src.status = 'ISSUED' AND src.expires_at > CURRENT_TIMESTAMP
+            ) AS "availableCount",
+            COUNT(*) FILTER (
+                WHERE src.status = 'ISSUED'
+                    AND src.expires_at > CURRENT_TIMESTAMP
+                    AND src.expires_at <= CURRENT_TIMESTAMP + CAST(:daysUntilExpiry || ' days' AS INTERVAL)
+            ) AS "expiringCount",
+            MIN(src.issued_at) AS "firstIssuedAt",
+            MAX(src.used_at) AS "lastUsedAt"
+        FROM (
+            SELECT ci.status, ci.issued_at, ci.expires_at, ci.used_at
+            FROM coupon_issues ci
+            WHERE ci.user_id = :userId
+            UNION ALL
+            SELECT h.status, h.issued_at, h.expires_at, h.used_at
+            FROM coupon_issue_history h
+            WHERE h.user_id = :userId
+        ) src
+        """, nativeQuery = true)
+    UserCouponStatisticsProjection aggregateUserStatistics(
+        @Param("userId") Long userId,
+        @Param("daysUntilExpiry") int daysUntilExpiry
+    );
+}
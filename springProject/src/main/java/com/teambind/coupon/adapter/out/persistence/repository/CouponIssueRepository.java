@@ -1,6 +1,8 @@
 package com.teambind.coupon.adapter.out.persistence.repository;
 
 import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueStatusProjection;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueId;
 import com.teambind.coupon.domain.model.CouponStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
@@ -13,14 +15,23 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 발급된 쿠폰 Repository
+ * 상태 기반 대량 조회는 issued_at 하한(issuedFrom)을 함께 받아 파티션 프루닝이 동작하도록 한다.
+ * ID 기반 조회는 Snowflake ID에서 계산한 issued_at 범위(issuedFrom ~ issuedTo)를 함께 받고,
+ * 일괄 수정은 먼저 조회한 행의 실제 issued_at 범위를 받는다.
  */
 @Repository
-public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity, Long> {
+public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity, CouponIssueId> {
+
+    /**
+     * 쿠폰 ID로 조회 (issued_at 범위로 파티션 한정)
+     */
+    Optional<CouponIssueEntity> findByIdAndIssuedAtBetween(Long id, LocalDateTime issuedFrom, LocalDateTime issuedTo);
 
     /**
      * 사용자의 특정 정책 쿠폰 발급 횟수 조회
@@ -32,12 +43,14 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity,
      */
     @Query("SELECT ci FROM CouponIssueEntity ci " +
            "WHERE ci.userId = :userId " +
+           "AND ci.issuedAt >= :issuedFrom " +
            "AND ci.status = 'ISSUED' " +
            "AND ci.expiresAt > :now " +
            "ORDER BY ci.expiresAt ASC")
     List<CouponIssueEntity> findUsableCoupons(
             @Param("userId") Long userId,
-            @Param("now") LocalDateTime now
+            @Param("now") LocalDateTime now,
+            @Param("issuedFrom") LocalDateTime issuedFrom
     );
 
     /**
@@ -46,11 +59,28 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity,
     Page<CouponIssueEntity> findByUserIdOrderByIssuedAtDesc(Long userId, Pageable pageable);
 
     /**
-     * 예약 ID로 쿠폰 조회 (비관적 락)
+     * 예약 ID로 쿠폰 조회 (비관적 락, 교착 방지를 위해 ID 순서로 잠금)
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT ci FROM CouponIssueEntity ci WHERE ci.reservationId = :reservationId")
-    Optional<CouponIssueEntity> findByReservationIdWithLock(@Param("reservationId") String reservationId);
+    @Query("SELECT ci FROM CouponIssueEntity ci WHERE ci.reservationId = :reservationId ORDER BY ci.id")
+    List<CouponIssueEntity> findAllByReservationIdWithLock(@Param("reservationId") String reservationId);
+
+    /**
+     * 예약 ID로 쿠폰 목록 조회
+     */
+    List<CouponIssueEntity> findAllByReservationId(String reservationId);
+
+    /**
+     * 여러 쿠폰 ID와 사용자 ID로 조회 (issued_at 범위로 파티션 한정)
+     */
+    List<CouponIssueEntity> findByIdInAndUserIdAndIssuedAtBetween(
+            Collection<Long> ids, Long userId, LocalDateTime issuedFrom, LocalDateTime issuedTo);
+
+    /**
+     * 여러 쿠폰 ID로 조회 (issued_at 범위로 파티션 한정)
+     */
+    List<CouponIssueEntity> findByIdInAndIssuedAtBetween(
+            Collection<Long> ids, LocalDateTime issuedFrom, LocalDateTime issuedTo);
 
     /**
      * 타임아웃된 예약 쿠폰 조회
@@ -64,21 +94,48 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity,
      * 만료 대상 쿠폰 조회
      */
     @Query("SELECT ci FROM CouponIssueEntity ci " +
-           "WHERE ci.status = 'ISSUED' " +
+           "WHERE ci.issuedAt >= :issuedFrom " +
+           "AND ci.status = 'ISSUED' " +
            "AND ci.expiresAt < :now")
-    List<CouponIssueEntity> findExpiredCoupons(@Param("now") LocalDateTime now);
+    List<CouponIssueEntity> findExpiredCoupons(
+            @Param("now") LocalDateTime now,
+            @Param("issuedFrom") LocalDateTime issuedFrom
+    );
 
     /**
      * 만료 대상 쿠폰 페이징 조회 (배치 처리용)
      */
     @Query("SELECT ci FROM CouponIssueEntity ci " +
-           "WHERE ci.status IN ('ISSUED', 'RESERVED') " +
+           "WHERE ci.issuedAt >= :issuedFrom " +
+           "AND ci.status IN ('ISSUED', 'RESERVED') " +
            "AND ci.expiresAt < :now")
     Page<CouponIssueEntity> findExpiredCouponsWithPaging(
             @Param("now") LocalDateTime now,
+            @Param("issuedFrom") LocalDateTime issuedFrom,
             Pageable pageable
     );
 
+    /**
+     * 상태 전이 대상 행 잠금 조회
+     * 일괄 UPDATE 직전에 변경 전 상태를 확정하기 위해 FOR UPDATE로 잠근다
+     * 네이티브 조회라 영속성 컨텍스트의 예전 상태가 아니라 DB의 현재 상태를 읽으며,
+     * 같은 트랜잭션에서 같은 상태 조건으로 UPDATE하면 잠근 행만 정확히 변경된다
+     */
+    @Query(value = """
+        SELECT ci.id, ci.policy_id, ci.user_id, ci.status
+        FROM coupon_issues ci
+        WHERE ci.id IN (:ids)
+            AND ci.issued_at BETWEEN :issuedFrom AND :issuedTo
+            AND ci.status IN (:statuses)
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<CouponIssueStatusProjection> lockForStatusChange(
+            @Param("ids") Collection<Long> ids,
+            @Param("statuses") Collection<String> statuses,
+            @Param("issuedFrom") LocalDateTime issuedFrom,
+            @Param("issuedTo") LocalDateTime issuedTo
+    );
+
     /**
      * 쿠폰 상태를 만료로 일괄 업데이트
      */
@@ -86,10 +143,12 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity,
     @Query("UPDATE CouponIssueEntity ci " +
            "SET ci.status = 'EXPIRED', ci.expiredAt = :now " +
            "WHERE ci.id IN :ids " +
+           "AND ci.issuedAt >= :issuedFrom " +
            "AND ci.status IN ('ISSUED', 'RESERVED')")
     int updateToExpiredBatch(
             @Param("ids") List<Long> ids,
-            @Param("now") LocalDateTime now
+            @Param("now") LocalDateTime now,
+            @Param("issuedFrom") LocalDateTime issuedFrom
     );
 
     /**
@@ -97,10 +156,13 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity,
      */
     @Query("SELECT ci FROM CouponIssueEntity ci " +
            "WHERE ci.id = :couponId " +
+           "AND ci.issuedAt BETWEEN :issuedFrom AND :issuedTo " +
            "AND ci.userId = :userId")
     Optional<CouponIssueEntity> findByIdAndUserId(
             @Param("couponId") Long couponId,
-            @Param("userId") Long userId
+            @Param("userId") Long userId,
+            @Param("issuedFrom") LocalDateTime issuedFrom,
+            @Param("issuedTo") LocalDateTime issuedTo
     );
 
     /**
@@ -109,25 +171,65 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity,
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ci FROM CouponIssueEntity ci " +
            "WHERE ci.id = :couponId " +
+           "AND ci.issuedAt BETWEEN :issuedFrom AND :issuedTo " +
            "AND ci.userId = :userId")
     Optional<CouponIssueEntity> findByIdAndUserIdWithLock(
             @Param("couponId") Long couponId,
-            @Param("userId") Long userId
+            @Param("userId") Long userId,
+            @Param("issuedFrom") LocalDateTime issuedFrom,
+            @Param("issuedTo") LocalDateTime issuedTo
     );
 
     /**
-     * 쿠폰 상태 일괄 업데이트
+     * 사용자의 ISSUED 쿠폰들을 예약 상태로 일괄 업데이트
+     * 조건에 맞지 않는 쿠폰은 건너뛰므로 호출자가 변경 건수로 전체 성공 여부를 판단
+     * 일괄 UPDATE는 @Version을 올리지 않으므로 직접 증가시켜 동시에 엔티티로 수정 중인 트랜잭션이 충돌을 감지하도록 함
+     * 호출자가 미리 조회한 엔티티가 영속성 컨텍스트에 예전 상태로 남지 않도록 실행 전 flush, 실행 후 clear
      */
-    @Modifying
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE CouponIssueEntity ci " +
+           "SET ci.status = 'RESERVED', ci.reservationId = :reservationId, ci.reservedAt = :reservedAt, " +
+           "ci.version = ci.version + 1 " +
+           "WHERE ci.id IN :ids " +
+           "AND ci.issuedAt BETWEEN :issuedFrom AND :issuedTo " +
+           "AND ci.userId = :userId " +
+           "AND ci.status = 'ISSUED'")
+    int reserveBatch(
+            @Param("ids") List<Long> ids,
+            @Param("userId") Long userId,
+            @Param("reservationId") String reservationId,
+            @Param("reservedAt") LocalDateTime reservedAt,
+            @Param("issuedFrom") LocalDateTime issuedFrom,
+            @Param("issuedTo") LocalDateTime issuedTo
+    );
+
+    /**
+     * 쿠폰 상태 일괄 업데이트 (fromStatuses 상태인 쿠폰만 변경)
+     * 호출자가 미리 조회한 엔티티가 영속성 컨텍스트에 예전 상태로 남지 않도록 실행 전 flush, 실행 후 clear
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE CouponIssueEntity ci " +
            "SET ci.status = :newStatus, ci.expiredAt = :expiredAt " +
-           "WHERE ci.id IN :ids")
+           "WHERE ci.id IN :ids " +
+           "AND ci.issuedAt BETWEEN :issuedFrom AND :issuedTo " +
+           "AND ci.status IN :fromStatuses")
     int updateStatusBatch(
             @Param("ids") List<Long> ids,
             @Param("newStatus") CouponStatus newStatus,
-            @Param("expiredAt") LocalDateTime expiredAt
+            @Param("fromStatuses") Collection<CouponStatus> fromStatuses,
+            @Param("expiredAt") LocalDateTime expiredAt,
+            @Param("issuedFrom") LocalDateTime issuedFrom,
+            @Param("issuedTo") LocalDateTime issuedTo
     );
 
+    /**
+     * 정책별 상태별 쿠폰 수 집계 (카운터 보정용)
+     */
+    @Query("SELECT ci.policyId, ci.status, COUNT(ci) " +
+           "FROM CouponIssueEntity ci " +
+           "GROUP BY ci.policyId, ci.status")
+    List<Object[]> countGroupByPolicyAndStatus();
+
     /**
      * 정책별 발급 통계
      */
@@ -175,4 +277,36 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssueEntity,
      * 예약 ID로 쿠폰 조회
      */
     Optional<CouponIssueEntity> findByReservationId(String reservationId);
-}
\ No newline at end of file
+
+    /**
+     * 보관 대상 종료 상태 쿠폰 ID 조회 (워터마크 이후, ID 오름차순)
+     * 종료 시점(used_at/expired_at/updated_at)이 cutoff 이전인 쿠폰만 대상
+     */
+    @Query(value = """
+        SELECT ci.id
+        FROM coupon_issues ci
+        WHERE ci.id > :afterId
+            AND ci.status IN ('USED', 'EXPIRED', 'CANCELLED')
+            AND COALESCE(ci.used_at, ci.expired_at, ci.updated_at, ci.issued_at) < :cutoff
+        ORDER BY ci.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findArchivableIds(
+            @Param("afterId") Long afterId,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 이력 테이블로 복사된 쿠폰 삭제
+     * 이력에 존재하는 행만 삭제하여 복사 실패 시 데이터 유실 방지
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM coupon_issues ci
+        WHERE ci.id IN (:ids)
+            AND ci.status IN ('USED', 'EXPIRED', 'CANCELLED')
+            AND EXISTS (SELECT 1 FROM coupon_issue_history h WHERE h.id = ci.id)
+        """, nativeQuery = true)
+    int deleteArchivedByIds(@Param("ids") List<Long> ids);
+}
@@ -104,4 +104,10 @@ public interface CouponPolicyRepository extends JpaRepository<CouponPolicyEntity
      * 정책 존재 여부 확인
      */
     boolean existsByCouponCode(String couponCode);
-}
\ No newline at end of file
+
+    /**
+     * 배포 방식별 정책 수 집계
+     */
+    @Query("SELECT cp.distributionType, COUNT(cp) FROM CouponPolicyEntity cp GROUP BY cp.distributionType")
+    List<Object[]> countGroupByDistributionType();
+}
@@ -2,11 +2,13 @@ package com.teambind.coupon.adapter.out.persistence.repository;
 
 import com.teambind.coupon.adapter.out.persistence.entity.CouponStatisticsEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,4 +73,88 @@ public interface CouponStatisticsRepository extends JpaRepository<CouponStatisti
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 발급/사용/만료 이벤트를 정책별 일자별로 집계하여 통계 테이블에 반영
+     * 각 이벤트는 자신의 발생 시각(issued_at/used_at/expired_at) 기준 일자로 집계되며,
+     * 보관 이력 테이블까지 포함하여 해당 일자를 전부 다시 계산하므로 재실행해도 결과가 같음
+     * 시간대별 사용 건수는 (정책, 일자, 시간) 단위로 한 번만 집계한 뒤 array_agg로 24칸 배열을 만듦
+     *
+     * @param fromTime 집계 시작 일시 (포함, 자정)
+     * @param toTime   집계 종료 일시 (미포함, 자정)
+     * @return 삽입 또는 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        WITH events AS (
+            SELECT policy_id, CAST(issued_at AS DATE) AS day,
+                   1 AS issued, 0 AS used, 0 AS expired,
+                   CAST(0 AS NUMERIC) AS discount, CAST(NULL AS INTEGER) AS hour
+            FROM coupon_issues
+            WHERE issued_at >= :fromTime AND issued_at < :toTime
+            UNION ALL
+            SELECT policy_id, CAST(used_at AS DATE), 0, 1, 0,
+                   COALESCE(actual_discount_amount, 0), CAST(EXTRACT(HOUR FROM used_at) AS INTEGER)
+            FROM coupon_issues
+            WHERE status = 'USED' AND used_at >= :fromTime AND used_at < :toTime
+            UNION ALL
+            SELECT policy_id, CAST(expired_at AS DATE), 0, 0, 1, 0, NULL
+            FROM coupon_issues
+            WHERE status = 'EXPIRED' AND expired_at >= :fromTime AND expired_at < :toTime
+            UNION ALL
+            SELECT policy_id, CAST(issued_at AS DATE), 1, 0, 0, 0, NULL
+            FROM coupon_issue_history
+            WHERE issued_at >= :fromTime AND issued_at < :toTime
+            UNION ALL
+            SELECT policy_id, CAST(used_at AS DATE), 0, 1, 0,
+                   COALESCE(actual_discount_amount, 0), CAST(EXTRACT(HOUR FROM used_at) AS INTEGER)
+            FROM coupon_issue_history
+            WHERE status = 'USED' AND used_at >= :fromTime AND used_at < :toTime
+            UNION ALL
+            SELECT policy_id, CAST(expired_at AS DATE), 0, 0, 1, 0, NULL
+            FROM coupon_issue_history
+            WHERE status = 'EXPIRED' AND expired_at >= :fromTime AND expired_at < :toTime
+        ),
+        hourly AS (
+            SELECT policy_id, day, hour, CAST(COUNT(*) AS INTEGER) AS used_count
+            FROM events
+            WHERE hour IS NOT NULL
+            GROUP BY policy_id, day, hour
+        ),
+        hourly_arrays AS (
+            SELECT k.policy_id, k.day,
+                   array_agg(COALESCE(u.used_count, 0) ORDER BY h.hour) AS usage
+            FROM (SELECT DISTINCT policy_id, day FROM hourly) k
+            CROSS JOIN generate_series(0, 23) AS h(hour)
+            LEFT JOIN hourly u
+                ON u.policy_id = k.policy_id AND u.day = k.day AND u.hour = h.hour
+            GROUP BY k.policy_id, k.day
+        ),
+        daily AS (
+            SELECT policy_id, day,
+                   CAST(SUM(issued) AS INTEGER) AS issued,
+                   CAST(SUM(used) AS INTEGER) AS used,
+                   CAST(SUM(expired) AS INTEGER) AS expired,
+                   SUM(discount) AS discount
+            FROM events
+            GROUP BY policy_id, day
+        )
+        INSERT INTO coupon_statistics (
+            policy_id, date, total_issued, total_used, total_expired,
+            total_discount_amount, hourly_usage, created_at, updated_at
+        )
+        SELECT d.policy_id, d.day, d.issued, d.used, d.expired, d.discount,
+               COALESCE(h.usage, array_fill(0, ARRAY[24])),
+               CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM daily d
+        LEFT JOIN hourly_arrays h ON h.policy_id = d.policy_id AND h.day = d.day
+        ON CONFLICT (policy_id, date) DO UPDATE SET
+            total_issued = EXCLUDED.total_issued,
+            total_used = EXCLUDED.total_used,
+            total_expired = EXCLUDED.total_expired,
+            total_discount_amount = EXCLUDED.total_discount_amount,
+            hourly_usage = EXCLUDED.hourly_usage,
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int upsertDailyRollup(@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+}
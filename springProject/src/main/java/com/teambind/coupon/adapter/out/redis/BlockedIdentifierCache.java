@@ -0,0 +1,172 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차단 식별자 로컬 캐시
+ * 차단은 드물고 오래 유지되므로 차단/해제를 Pub/Sub으로 전파하고
+ * 차단되지 않은 식별자는 짧은 negative 캐시로 기억하여 대부분의 확인을 Redis 왕복 없이 처리
+ *
+ * Pub/Sub 메시지는 연결이 끊긴 동안 유실될 수 있으므로 negative 캐시 TTL이 최대 지연 시간이 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockedIdentifierCache implements MessageListener {
+
+    private static final String BLOCK = "BLOCK";
+    private static final String UNBLOCK = "UNBLOCK";
+    private static final long PERMANENT = Long.MAX_VALUE;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 식별자 → 차단 만료 시각(ms)
+    private final Map<String, Long> blocked = new ConcurrentHashMap<>();
+    // 식별자 → negative 캐시 만료 시각(ms)
+    private final Map<String, Long> notBlocked = new ConcurrentHashMap<>();
+    // 차단/해제 이벤트마다 증가 (Redis 조회 중 이벤트가 오면 조회 결과를 캐시하지 않음)
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    @Value("${coupon.security.block-cache.negative-ttl-millis:30000}")
+    private long negativeTtlMillis;
+
+    @Value("${coupon.security.block-cache.negative-max-size:100000}")
+    private int negativeMaxSize;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(SecurityRedisKeys.BLOCK_EVENTS_CHANNEL));
+    }
+
+    /**
+     * 차단 여부 확인 (로컬 캐시 우선)
+     *
+     * @param identifier 식별자
+     * @return 차단 여부
+     */
+    public boolean isBlocked(String identifier) {
+        long now = System.currentTimeMillis();
+
+        Long blockedUntil = blocked.get(identifier);
+        if (blockedUntil != null) {
+            if (blockedUntil > now) {
+                return true;
+            }
+            blocked.remove(identifier, blockedUntil);
+        }
+
+        Long notBlockedUntil = notBlocked.get(identifier);
+        if (notBlockedUntil != null && notBlockedUntil > now) {
+            return false;
+        }
+
+        return loadFromRedis(identifier, now);
+    }
+
+    /**
+     * 차단 전파 (로컬 반영 후 다른 인스턴스에 발행)
+     *
+     * @param identifier 식별자
+     * @param duration   차단 기간
+     */
+    public void publishBlocked(String identifier, Duration duration) {
+        long until = System.currentTimeMillis() + duration.toMillis();
+        applyBlocked(identifier, until);
+        publish(BLOCK + "|" + until + "|" + identifier);
+    }
+
+    /**
+     * 차단 해제 전파
+     *
+     * @param identifier 식별자
+     */
+    public void publishUnblocked(String identifier) {
+        applyUnblocked(identifier);
+        publish(UNBLOCK + "|0|" + identifier);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3) {
+            log.warn("알 수 없는 차단 이벤트 - message: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        if (BLOCK.equals(parts[0])) {
+            applyBlocked(parts[2], Long.parseLong(parts[1]));
+        } else if (UNBLOCK.equals(parts[0])) {
+            applyUnblocked(parts[2]);
+        }
+    }
+
+    /**
+     * Redis 조회 후 결과 캐시
+     */
+    private boolean loadFromRedis(String identifier, long now) {
+        long sequence = eventSequence.get();
+
+        try {
+            Long ttlMillis = redisTemplate.getExpire(SecurityRedisKeys.blocked(identifier), TimeUnit.MILLISECONDS);
+            boolean isBlocked = ttlMillis != null && ttlMillis != -2;
+
+            if (eventSequence.get() == sequence) {
+                if (isBlocked) {
+                    blocked.put(identifier, ttlMillis > 0 ? now + ttlMillis : PERMANENT);
+                } else {
+                    putNotBlocked(identifier, now);
+                }
+            }
+            return isBlocked;
+        } catch (Exception e) {
+            log.error("차단 확인 오류 - identifier: {}", identifier, e);
+            return false;
+        }
+    }
+
+    private void putNotBlocked(String identifier, long now) {
+        if (notBlocked.size() >= negativeMaxSize) {
+            // 상한 초과 시 전체 비움 (다시 채워지는 동안만 Redis 조회)
+            notBlocked.clear();
+        }
+        notBlocked.put(identifier, now + negativeTtlMillis);
+    }
+
+    private void applyBlocked(String identifier, long until) {
+        eventSequence.incrementAndGet();
+        notBlocked.remove(identifier);
+        blocked.put(identifier, until);
+    }
+
+    private void applyUnblocked(String identifier) {
+        eventSequence.incrementAndGet();
+        blocked.remove(identifier);
+        notBlocked.remove(identifier);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(SecurityRedisKeys.BLOCK_EVENTS_CHANNEL, message);
+        } catch (Exception e) {
+            // 다른 인스턴스는 negative 캐시 만료 후 Redis에서 확인
+            log.error("차단 이벤트 발행 실패 - message: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import com.teambind.coupon.application.port.out.CouponCodeFilterPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 1회용 쿠폰 코드 Bloom filter Redis Adapter
+ * 모듈 없이 단일 비트맵 문자열에 구현하며, 조회는 BITFIELD GET 한 번으로 k개 비트를 확인
+ * 기본 2^27비트(16MB), k=7이면 코드 1,400만 개까지 거짓 양성률 약 1%
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCodeFilterRedisAdapter implements CouponCodeFilterPort {
+
+    static final String FILTER_KEY = "coupon:code:filter";
+    static final String READY_KEY = "coupon:code:filter:ready";
+
+    private static final byte[] FILTER_KEY_BYTES = FILTER_KEY.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] READY_KEY_BYTES = READY_KEY.getBytes(StandardCharsets.UTF_8);
+    private static final long MAX_BITS = 1L << 32; // Redis 문자열 최대 512MB
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${coupon.code-inventory.filter.bits:134217728}")
+    private long bits;
+
+    @Value("${coupon.code-inventory.filter.hash-functions:7}")
+    private int hashFunctions;
+
+    @Override
+    public void addAll(long[] codeHashes) {
+        if (codeHashes.length == 0) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long codeHash : codeHashes) {
+                BitFieldSubCommands commands = BitFieldSubCommands.create();
+                for (long offset : offsets(codeHash)) {
+                    commands = commands.set(BitFieldType.unsigned(1)).valueAt(offset).to(1);
+                }
+                connection.stringCommands().bitField(FILTER_KEY_BYTES, commands);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean mightContain(long codeHash) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (long offset : offsets(codeHash)) {
+            commands = commands.get(BitFieldType.unsigned(1)).valueAt(offset);
+        }
+        BitFieldSubCommands getCommands = commands;
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().exists(READY_KEY_BYTES);
+                connection.stringCommands().bitField(FILTER_KEY_BYTES, getCommands);
+                return null;
+            });
+
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return true;
+            }
+            @SuppressWarnings("unchecked")
+            List<Long> values = (List<Long>) results.get(1);
+            for (Long value : values) {
+                if (value == null || value == 0L) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            // 필터 장애 시 DB claim으로 판단
+            log.warn("쿠폰 코드 필터 조회 실패 - error: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+    }
+
+    @Override
+    public void markReady() {
+        redisTemplate.opsForValue().set(READY_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 비트 위치 계산 (Kirsch-Mitzenmacher 이중 해싱)
+     * 다이제스트가 이미 키 기반 해시이므로 두 번째 해시는 비트 혼합으로 유도
+     */
+    long[] offsets(long codeHash) {
+        long size = Math.min(bits, MAX_BITS);
+        long h1 = codeHash;
+        long h2 = mix(codeHash) | 1;
+        long[] offsets = new long[hashFunctions];
+        for (int i = 0; i < hashFunctions; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, size);
+        }
+        return offsets;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,245 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import com.teambind.coupon.application.port.out.CouponCounterPort;
+import com.teambind.coupon.domain.event.CouponStatusChangedEvent.Transition;
+import com.teambind.coupon.domain.model.CouponStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 쿠폰 상태 카운터 Redis Adapter
+ * 정책별(coupon:counter:policy:{id})/전체(coupon:counter:global) Hash에 상태별 개수를 HINCRBY로 누적
+ * 한 번의 반영에 필요한 명령은 파이프라인으로 묶어 왕복 1회로 처리
+ * 카운터가 있는 정책 ID는 인덱스 Set(coupon:counter:policies)에 기록하여 보정 시 KEYS/SCAN 없이 순회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCounterRedisAdapter implements CouponCounterPort {
+
+    private static final String POLICY_KEY_PREFIX = "coupon:counter:policy:";
+    private static final String GLOBAL_KEY = "coupon:counter:global";
+    private static final String POLICY_INDEX_KEY = "coupon:counter:policies";
+    private static final String LAST_ISSUED_AT = "lastIssuedAt";
+    private static final String LAST_USED_AT = "lastUsedAt";
+
+    /**
+     * 카운터 compare-and-set 보정
+     * KEYS[1]: 카운터 Hash, KEYS[2]: 정책 인덱스 Set
+     * ARGV[1]: 인덱스 멤버 (전체 카운터는 빈 값), ARGV[2..]: (필드, 관측값, 기대값) 반복
+     * 현재 값이 관측값과 같은 필드만 차이만큼 HINCRBY하고, 다른 필드는 건너뛴 수로 반환
+     */
+    private static final String RECONCILE_SCRIPT = """
+            local skipped = 0
+            local empty = true
+            for i = 2, #ARGV, 3 do
+                local field = ARGV[i]
+                local observed = tonumber(ARGV[i + 1])
+                local expected = tonumber(ARGV[i + 2])
+                local current = tonumber(redis.call('HGET', KEYS[1], field) or '0')
+                if current ~= observed then
+                    skipped = skipped + 1
+                    empty = false
+                else
+                    if expected ~= observed then
+                        redis.call('HINCRBY', KEYS[1], field, expected - observed)
+                    end
+                    if expected ~= 0 then
+                        empty = false
+                    end
+                end
+            end
+
+            if ARGV[1] ~= '' then
+                if empty then
+                    redis.call('DEL', KEYS[1])
+                    redis.call('SREM', KEYS[2], ARGV[1])
+                else
+                    redis.call('SADD', KEYS[2], ARGV[1])
+                end
+            end
+            return skipped
+            """;
+
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>(RECONCILE_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void applyTransitions(List<Transition> transitions) {
+        if (transitions == null || transitions.isEmpty()) {
+            return;
+        }
+
+        // 같은 키/필드의 증감을 미리 합산하여 명령 수 최소화
+        Map<String, Map<String, Long>> deltas = new LinkedHashMap<>();
+        Map<String, Long> lastIssuedAt = new HashMap<>();
+        Map<String, Long> lastUsedAt = new HashMap<>();
+        Set<String> policyIds = new HashSet<>();
+
+        for (Transition transition : transitions) {
+            String policyKey = policyKey(transition.getPolicyId());
+            if (transition.getFrom() != null) {
+                addDelta(deltas, policyKey, transition.getFrom().name(), -1);
+                addDelta(deltas, GLOBAL_KEY, transition.getFrom().name(), -1);
+            }
+            addDelta(deltas, policyKey, transition.getTo().name(), 1);
+            addDelta(deltas, GLOBAL_KEY, transition.getTo().name(), 1);
+            policyIds.add(String.valueOf(transition.getPolicyId()));
+
+            long epochMillis = toEpochMillis(transition.getOccurredAt());
+            if (transition.getFrom() == null) {
+                lastIssuedAt.merge(policyKey, epochMillis, Math::max);
+            }
+            if (transition.getTo() == CouponStatus.USED) {
+                lastUsedAt.merge(policyKey, epochMillis, Math::max);
+            }
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltas.forEach((key, fields) -> fields.forEach((field, delta) -> {
+                    if (delta != 0) {
+                        connection.hashCommands().hIncrBy(bytes(key), bytes(field), delta);
+                    }
+                }));
+                lastIssuedAt.forEach((key, millis) -> hSet(connection, key, LAST_ISSUED_AT, millis));
+                lastUsedAt.forEach((key, millis) -> hSet(connection, key, LAST_USED_AT, millis));
+                connection.setCommands().sAdd(bytes(POLICY_INDEX_KEY),
+                        policyIds.stream().map(this::bytes).toArray(byte[][]::new));
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영 실패분은 주기적 보정(reconcile)에서 DB 기준으로 복구됨
+            log.error("쿠폰 카운터 반영 실패 - transitions: {}", transitions.size(), e);
+        }
+    }
+
+    @Override
+    public CounterValues loadPolicyCounters(Long policyId) {
+        return toCounterValues(redisTemplate.<String, String>opsForHash().entries(policyKey(policyId)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, CounterValues> loadPolicyCounters(Collection<Long> policyIds) {
+        if (policyIds == null || policyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = new ArrayList<>(policyIds);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(id -> connection.hashCommands().hGetAll(bytes(policyKey(id))));
+            return null;
+        });
+
+        Map<Long, CounterValues> countersByPolicy = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            countersByPolicy.put(ids.get(i), toCounterValues((Map<String, String>) results.get(i)));
+        }
+        return countersByPolicy;
+    }
+
+    @Override
+    public CounterValues loadGlobalCounters() {
+        return toCounterValues(redisTemplate.<String, String>opsForHash().entries(GLOBAL_KEY));
+    }
+
+    @Override
+    public Set<Long> loadCounterPolicyIds() {
+        Set<String> members = redisTemplate.opsForSet().members(POLICY_INDEX_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> policyIds = new HashSet<>();
+        members.forEach(member -> policyIds.add(Long.parseLong(member)));
+        return policyIds;
+    }
+
+    @Override
+    public long compareAndSetCounters(Map<Long, Map<CouponStatus, Long>> expectedByPolicy,
+                                      Map<Long, CounterValues> observedByPolicy,
+                                      Map<CouponStatus, Long> expectedGlobal,
+                                      CounterValues observedGlobal) {
+        long skipped = 0;
+        for (Map.Entry<Long, Map<CouponStatus, Long>> entry : expectedByPolicy.entrySet()) {
+            skipped += compareAndSet(policyKey(entry.getKey()), String.valueOf(entry.getKey()),
+                    entry.getValue(), observedByPolicy.get(entry.getKey()));
+        }
+        // 전체 카운터는 인덱스에 속하지 않으며 삭제하지 않음
+        skipped += compareAndSet(GLOBAL_KEY, "", expectedGlobal, observedGlobal);
+        return skipped;
+    }
+
+    private long compareAndSet(String key, String indexMember, Map<CouponStatus, Long> expected,
+                               CounterValues observed) {
+        List<String> args = new ArrayList<>();
+        args.add(indexMember);
+        for (CouponStatus status : CouponStatus.values()) {
+            args.add(status.name());
+            args.add(String.valueOf(observed != null ? observed.count(status) : 0L));
+            args.add(String.valueOf(expected.getOrDefault(status, 0L)));
+        }
+
+        Long skipped = redisTemplate.execute(SCRIPT, List.of(key, POLICY_INDEX_KEY), args.toArray());
+        return skipped != null ? skipped : 0L;
+    }
+
+    private CounterValues toCounterValues(Map<String, String> entries) {
+        Map<CouponStatus, Long> counts = new EnumMap<>(CouponStatus.class);
+        for (CouponStatus status : CouponStatus.values()) {
+            counts.put(status, parseLong(entries == null ? null : entries.get(status.name())));
+        }
+
+        return CounterValues.builder()
+                .countsByStatus(counts)
+                .lastIssuedAt(toDateTime(entries == null ? null : entries.get(LAST_ISSUED_AT)))
+                .lastUsedAt(toDateTime(entries == null ? null : entries.get(LAST_USED_AT)))
+                .build();
+    }
+
+    private void addDelta(Map<String, Map<String, Long>> deltas, String key, String field, long delta) {
+        deltas.computeIfAbsent(key, k -> new HashMap<>()).merge(field, delta, Long::sum);
+    }
+
+    private void hSet(RedisConnection connection, String key, String field, long value) {
+        connection.hashCommands().hSet(bytes(key), bytes(field), bytes(String.valueOf(value)));
+    }
+
+    private long parseLong(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private LocalDateTime toDateTime(String epochMillis) {
+        if (epochMillis == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        LocalDateTime value = dateTime != null ? dateTime : LocalDateTime.now();
+        return value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String policyKey(Long policyId) {
+        return POLICY_KEY_PREFIX + policyId;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.coupon.application.port.out.CouponWalletCachePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 유저 쿠폰 지갑 Redis 캐시 Adapter
+ * 지갑 읽기 모델을 JSON 문자열 하나로 저장하여 단일 GET으로 조회
+ * Redis 장애 시 캐시 미스로 처리하여 DB 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponWalletRedisAdapter implements CouponWalletCachePort {
+
+    private static final String KEY_PREFIX = "coupon:wallet:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${coupon.wallet.cache-ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    @Override
+    public Optional<CouponWallet> load(Long userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(generateKey(userId));
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, CouponWallet.class));
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 캐시 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(Long userId, CouponWallet wallet) {
+        try {
+            String json = objectMapper.writeValueAsString(wallet);
+            redisTemplate.opsForValue().set(generateKey(userId), json, Duration.ofSeconds(cacheTtlSeconds));
+        } catch (JsonProcessingException e) {
+            log.error("쿠폰 지갑 직렬화 실패 - userId: {}", userId, e);
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 캐시 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = userIds.stream()
+                .map(this::generateKey)
+                .toList();
+
+        try {
+            redisTemplate.delete(keys);
+            log.debug("쿠폰 지갑 캐시 무효화 - userIds: {}", userIds);
+        } catch (Exception e) {
+            // 무효화 실패 시 TTL 만료까지 이전 데이터가 노출될 수 있음
+            log.error("쿠폰 지갑 캐시 무효화 실패 - userIds: {}", userIds, e);
+        }
+    }
+
+    private String generateKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,287 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 우선 계층형 Rate Limiter
+ * Sliding window counter의 현재 윈도우에서 예산 일부(lease)를 미리 INCRBY로 확보하고
+ * 인스턴스 메모리에서 lock-free로 소비하여 제한에 여유가 있는 요청은 Redis 왕복 없이 허용
+ *
+ * lease는 Redis 카운터에 먼저 반영되므로 공유 카운터보다 많이 허용하지 않음 (과다 허용 없음)
+ * 대신 소비되지 않은 lease만큼 적게 허용될 수 있으며 그 상한은 인스턴스 수 × lease-fraction × limit
+ * 남은 예산이 lease 크기 이하이면 요청마다 RateLimiterService로 정확히 확인
+ *
+ * 적용 범위는 @RateLimit(algorithm = LOCAL_FIRST) 메서드뿐이며 RateLimitInterceptor에는 적용하지 않음
+ * (인터셉터는 위험 점수를 같은 Redis 왕복에서 함께 평가하므로 lease로 제한을 확인해도 왕복이 줄지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalFirstRateLimiter {
+
+    // 이전 윈도우 가중치를 반영한 남은 예산이 lease보다 클 때만 lease 발급
+    private static final String LEASE_SCRIPT = """
+            local limit = tonumber(ARGV[1])
+            local window_millis = tonumber(ARGV[2]) * 1000
+            local elapsed = tonumber(ARGV[3]) % window_millis
+            local batch = tonumber(ARGV[4])
+
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local estimated = math.floor(previous * (window_millis - elapsed) / window_millis) + current
+
+            if limit - estimated <= batch then
+                return 0
+            end
+
+            redis.call('INCRBY', KEYS[1], batch)
+            redis.call('PEXPIRE', KEYS[1], window_millis * 2)
+            return batch
+            """;
+
+    private static final RedisScript<Long> LEASE = new DefaultRedisScript<>(LEASE_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiterService rateLimiterService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LocalBucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisChecks = new LongAdder();
+
+    @Value("${coupon.rate-limit.local.enabled:true}")
+    private boolean enabled;
+
+    // 한 번에 가져가는 lease 크기 (제한 횟수 대비 비율, 과소 허용 오차의 상한)
+    @Value("${coupon.rate-limit.local.lease-fraction:0.05}")
+    private double leaseFraction;
+
+    // 이 시간 동안 사용되지 않은 lease는 Redis에 반납
+    @Value("${coupon.rate-limit.local.idle-release-millis:2000}")
+    private long idleReleaseMillis;
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("coupon.ratelimit.local.hits", localHits, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("coupon.ratelimit.redis.calls", redisChecks, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("coupon.ratelimit.local.hit.ratio", this, LocalFirstRateLimiter::getLocalHitRatio)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다단계 Rate Limiting (로컬 우선)
+     *
+     * @param key       제한 키
+     * @param perMinute 분당 제한
+     * @param perHour   시간당 제한
+     * @param perDay    일당 제한
+     * @return 허용 여부
+     */
+    public boolean allowRequestMultiLevel(String key, int perMinute, int perHour, int perDay) {
+        if (perMinute > 0 && !allowRequest(key + ":minute", perMinute, 60)) {
+            return false;
+        }
+        if (perHour > 0 && !allowRequest(key + ":hour", perHour, 3600)) {
+            return false;
+        }
+        return perDay <= 0 || allowRequest(key + ":day", perDay, 86400);
+    }
+
+    /**
+     * 요청 허용 여부 확인 (로컬 lease 우선, 부족하면 Redis 정확 확인)
+     *
+     * @param key    제한 키
+     * @param limit  제한 횟수
+     * @param window 시간 윈도우 (초)
+     * @return 허용 여부
+     */
+    public boolean allowRequest(String key, int limit, int window) {
+        if (enabled && tryAcquireLocal(key, limit, window)) {
+            return true;
+        }
+
+        redisChecks.increment();
+        return rateLimiterService.allowRequest(key, limit, window, RateLimitAlgorithm.SLIDING_WINDOW);
+    }
+
+    /**
+     * 로컬 lease에서 토큰 1개 소비
+     * 다른 스레드가 lease를 갱신 중이면 기다리지 않고 Redis 확인으로 넘김
+     */
+    private boolean tryAcquireLocal(String key, int limit, int window) {
+        int batch = (int) (limit * leaseFraction);
+        if (batch < 2) {
+            // lease가 너무 작으면 로컬 계층의 이득이 없음
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        long windowIndex = now / (window * 1000L);
+        LocalBucket bucket = buckets.computeIfAbsent(key, k -> new LocalBucket(window));
+
+        Lease lease = bucket.lease.get();
+        if (lease != null && lease.windowIndex == windowIndex && lease.tryTake(now)) {
+            localHits.increment();
+            return true;
+        }
+
+        if (!bucket.refilling.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            Long granted = redisTemplate.execute(
+                    LEASE,
+                    List.of(RateLimiterService.windowKey(key, windowIndex),
+                            RateLimiterService.windowKey(key, windowIndex - 1)),
+                    String.valueOf(limit),
+                    String.valueOf(window),
+                    String.valueOf(now),
+                    String.valueOf(batch)
+            );
+            redisChecks.increment();
+            if (granted == null || granted <= 0) {
+                // 제한에 가까우면 호출자가 정확 확인으로 넘어감
+                return false;
+            }
+
+            // 토큰 1개는 현재 요청이 사용
+            Lease fresh = new Lease(windowIndex, granted.intValue() - 1, now);
+            Lease previous = bucket.lease.getAndSet(fresh);
+            if (previous != null && previous.windowIndex == windowIndex) {
+                // 갱신 중 다른 스레드가 남긴 토큰은 새 lease로 이전
+                fresh.tokens.addAndGet(previous.drain());
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Rate limit lease 발급 실패 - key: {}, error: {}", key, e.getMessage());
+            return false;
+        } finally {
+            bucket.refilling.set(false);
+        }
+    }
+
+    /**
+     * 로컬 lease 정리
+     * 지난 윈도우의 lease는 폐기하고, 유휴 lease의 남은 토큰은 Redis 카운터에 반납
+     *
+     * @return 반납한 토큰 수
+     */
+    public long sync() {
+        long now = System.currentTimeMillis();
+        Map<String, Integer> releases = new HashMap<>();
+
+        Iterator<Map.Entry<String, LocalBucket>> iterator = buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, LocalBucket> entry = iterator.next();
+            LocalBucket bucket = entry.getValue();
+            Lease lease = bucket.lease.get();
+            long windowIndex = now / (bucket.window * 1000L);
+
+            if (lease == null || lease.windowIndex != windowIndex) {
+                iterator.remove();
+                continue;
+            }
+
+            if (now - lease.lastAccess >= idleReleaseMillis && bucket.lease.compareAndSet(lease, null)) {
+                int unused = lease.drain();
+                if (unused > 0) {
+                    releases.put(RateLimiterService.windowKey(entry.getKey(), windowIndex), unused);
+                }
+                iterator.remove();
+            }
+        }
+
+        if (releases.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                releases.forEach((redisKey, unused) -> connection.stringCommands()
+                        .decrBy(redisKey.getBytes(StandardCharsets.UTF_8), unused));
+                return null;
+            });
+        } catch (Exception e) {
+            // 반납 실패 시 윈도우가 끝날 때까지 해당 예산만큼 적게 허용됨
+            log.warn("Rate limit lease 반납 실패 - keys: {}, error: {}", releases.size(), e.getMessage());
+            return 0;
+        }
+
+        long released = releases.values().stream().mapToLong(Integer::longValue).sum();
+        log.debug("Rate limit lease 반납 - keys: {}, tokens: {}", releases.size(), released);
+        return released;
+    }
+
+    /**
+     * 로컬 처리 비율 (로컬 허용 / (로컬 허용 + Redis 왕복), 0.0 ~ 1.0)
+     */
+    public double getLocalHitRatio() {
+        long local = localHits.sum();
+        long total = local + redisChecks.sum();
+        return total > 0 ? (double) local / total : 0.0;
+    }
+
+    /**
+     * 제한 키별 로컬 버킷
+     */
+    private static final class LocalBucket {
+        private final int window;
+        private final AtomicReference<Lease> lease = new AtomicReference<>();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        private LocalBucket(int window) {
+            this.window = window;
+        }
+    }
+
+    /**
+     * 특정 윈도우에서 확보한 토큰
+     */
+    private static final class Lease {
+        private final long windowIndex;
+        private final AtomicInteger tokens;
+        private volatile long lastAccess;
+
+        private Lease(long windowIndex, int tokens, long now) {
+            this.windowIndex = windowIndex;
+            this.tokens = new AtomicInteger(tokens);
+            this.lastAccess = now;
+        }
+
+        private boolean tryTake(long now) {
+            if (tokens.getAndUpdate(current -> current > 0 ? current - 1 : current) <= 0) {
+                return false;
+            }
+            lastAccess = now;
+            return true;
+        }
+
+        private int drain() {
+            return tokens.getAndSet(0);
+        }
+    }
+}
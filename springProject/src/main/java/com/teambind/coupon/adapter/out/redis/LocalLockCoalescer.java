@@ -0,0 +1,169 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import com.teambind.coupon.common.exceptions.CustomException;
+import com.teambind.coupon.common.exceptions.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 분산 락 앞단의 로컬 single-flight 계층
+ * 같은 락 키를 요청한 인스턴스 내 스레드는 로컬 공정 락에서 먼저 줄을 서고,
+ * 선두 스레드 하나만 Redisson 락을 획득하러 가므로 Redis 락 요청/pub-sub 대기가 인스턴스 동시성만큼 줄어듦
+ *
+ * 로컬 대기와 Redis 대기는 어노테이션의 waitTime 하나를 나눠 씀 (전체 대기 시간은 기존과 동일)
+ * 키별 락은 사용 중인 스레드 수를 세어 마지막 스레드가 반납할 때 제거 (고정 스트라이프의 키 간 거짓 경합 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalLockCoalescer {
+
+    private final DistributedLockService distributedLockService;
+    private final MeterRegistry meterRegistry;
+
+    // 락 키 → 로컬 락 (사용 중인 키만 유지)
+    private final Map<String, KeyLock> locks = new ConcurrentHashMap<>();
+
+    @Value("${coupon.lock.local.enabled:true}")
+    private boolean enabled;
+
+    private Counter localTimeouts;
+
+    @PostConstruct
+    void registerMetrics() {
+        localTimeouts = meterRegistry.counter("coupon.lock.local.timeout");
+        Gauge.builder("coupon.lock.local.keys", locks, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("coupon.lock.local.waiting", this, LocalLockCoalescer::getWaitingThreads)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로컬 락으로 줄을 세운 뒤 분산 락을 획득하고 작업 실행
+     *
+     * @param name      락 이름 (메트릭 태그, 어노테이션 prefix)
+     * @param lockKey   락 키
+     * @param waitTime  락 획득 대기 시간 (로컬 + Redis 합계)
+     * @param leaseTime 락 유지 시간
+     * @param unit      시간 단위
+     * @param task      실행할 작업
+     * @param <T>       반환 타입
+     * @return 작업 결과
+     */
+    public <T> T executeWithLock(String name, String lockKey, long waitTime, long leaseTime, TimeUnit unit,
+                                 Supplier<T> task) {
+        if (!enabled) {
+            return executeRemote(name, lockKey, unit.toNanos(waitTime), unit.toNanos(leaseTime), task);
+        }
+
+        long waitNanos = unit.toNanos(waitTime);
+        long startedAt = System.nanoTime();
+        KeyLock lock = retain(lockKey);
+        try {
+            boolean acquired;
+            try {
+                acquired = lock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorCode.LOCK_INTERRUPTED,
+                        String.format("락 획득 중 인터럽트가 발생했습니다. lockKey: %s", lockKey));
+            }
+
+            long localWaitNanos = System.nanoTime() - startedAt;
+            waitTimer(name, "local").record(localWaitNanos, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                localTimeouts.increment();
+                log.warn("로컬 락 대기 시간 초과 - lockKey: {}, waitTime: {}{}", lockKey, waitTime, unit);
+                throw new CustomException(ErrorCode.LOCK_ACQUISITION_FAILED,
+                        String.format("락 획득에 실패했습니다. lockKey: %s", lockKey));
+            }
+
+            try {
+                // 로컬에서 기다린 만큼 Redis 대기 시간에서 차감
+                long remainingNanos = Math.max(0, waitNanos - localWaitNanos);
+                return executeRemote(name, lockKey, remainingNanos, unit.toNanos(leaseTime), task);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            release(lockKey);
+        }
+    }
+
+    private <T> T executeRemote(String name, String lockKey, long waitNanos, long leaseNanos, Supplier<T> task) {
+        long startedAt = System.nanoTime();
+        boolean[] recorded = new boolean[1];
+        try {
+            return distributedLockService.executeWithLock(lockKey, waitNanos, leaseNanos, TimeUnit.NANOSECONDS,
+                    () -> {
+                        waitTimer(name, "remote").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        recorded[0] = true;
+                        return task.get();
+                    });
+        } finally {
+            // 획득 실패로 작업이 실행되지 않은 경우에도 Redis 대기 시간 기록
+            if (!recorded[0]) {
+                waitTimer(name, "remote").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer waitTimer(String name, String stage) {
+        return meterRegistry.timer("coupon.lock.wait", "name", name, "stage", stage);
+    }
+
+    private KeyLock retain(String lockKey) {
+        return locks.compute(lockKey, (key, existing) -> {
+            KeyLock lock = existing != null ? existing : new KeyLock();
+            lock.users++;
+            return lock;
+        });
+    }
+
+    private void release(String lockKey) {
+        locks.computeIfPresent(lockKey, (key, lock) -> --lock.users == 0 ? null : lock);
+    }
+
+    /**
+     * 로컬 락을 기다리는 스레드 수
+     */
+    public int getWaitingThreads() {
+        int waiting = 0;
+        for (KeyLock lock : locks.values()) {
+            waiting += lock.getQueueLength();
+        }
+        return waiting;
+    }
+
+    /**
+     * 사용 중인 로컬 락 키 수
+     */
+    public int getActiveKeys() {
+        return locks.size();
+    }
+
+    /**
+     * 키별 공정 락 (users는 ConcurrentHashMap.compute 안에서만 변경)
+     */
+    private static final class KeyLock extends ReentrantLock {
+
+        private int users;
+
+        private KeyLock() {
+            super(true);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.teambind.coupon.adapter.out.redis;
+
+/**
+ * Rate limit 알고리즘
+ * 정확도와 키당 메모리 사용량이 서로 다르므로 제한 대상별로 선택
+ */
+public enum RateLimitAlgorithm {
+
+    /**
+     * Sliding log
+     * 요청마다 ZSET 멤버 1개를 저장하여 정확하지만 메모리가 제한 횟수에 비례
+     */
+    SLIDING_LOG,
+
+    /**
+     * Sliding window counter
+     * 이전/현재 고정 윈도우 카운터 2개를 가중 합산하여 근사 (키당 정수 2개)
+     */
+    SLIDING_WINDOW,
+
+    /**
+     * GCRA (Generic Cell Rate Algorithm)
+     * 다음 허용 시각(TAT) 하나만 저장하는 토큰 버킷 방식 (키당 정수 1개)
+     */
+    GCRA,
+
+    /**
+     * 인스턴스 로컬 우선
+     * SLIDING_WINDOW 카운터에서 예산 일부를 lease로 미리 가져와 로컬에서 소비하고
+     * 남은 예산이 lease 크기 이하가 되면 요청마다 Redis로 정확히 확인 (LocalFirstRateLimiter)
+     * @RateLimit 메서드 전용이며 요청 단위 RateLimitInterceptor는 RequestGuardService를 그대로 사용
+     */
+    LOCAL_FIRST
+}
@@ -9,13 +9,12 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Redis 기반 Rate Limiter 서비스
- * Sliding Window Counter 방식으로 요청 제한
+ * 알고리즘별 Lua 스크립트로 요청 제한 (기본: Sliding log)
  */
 @Slf4j
 @Service
@@ -24,8 +23,8 @@ public class RateLimiterService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
-    // Lua script for atomic rate limiting
-    private static final String RATE_LIMIT_SCRIPT = """
+    // Sliding log: 요청마다 ZSET 멤버 추가 (같은 ms의 요청이 겹치지 않도록 멤버에 난수 부여)
+    private static final String SLIDING_LOG_SCRIPT = """
             local key = KEYS[1]
             local limit = tonumber(ARGV[1])
             local window = tonumber(ARGV[2])
@@ -39,7 +38,7 @@ public class RateLimiterService {
 
             if current < limit then
                 -- Add new request
-                redis.call('ZADD', key, current_time, current_time)
+                redis.call('ZADD', key, current_time, ARGV[4])
                 redis.call('EXPIRE', key, window)
                 return {1, current + 1, limit}
             else
@@ -47,8 +46,53 @@ public class RateLimiterService {
             end
             """;
 
+    // Sliding window counter: 이전 윈도우 카운트를 남은 비율만큼 가중하여 현재 카운트와 합산
+    private static final String SLIDING_WINDOW_SCRIPT = """
+            local limit = tonumber(ARGV[1])
+            local window_millis = tonumber(ARGV[2]) * 1000
+            local elapsed = tonumber(ARGV[3]) % window_millis
+
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local estimated = math.floor(previous * (window_millis - elapsed) / window_millis) + current
+
+            if estimated < limit then
+                redis.call('INCR', KEYS[1])
+                redis.call('PEXPIRE', KEYS[1], window_millis * 2)
+                return {1, estimated + 1, limit}
+            else
+                return {0, estimated, limit}
+            end
+            """;
+
+    // GCRA: 요청 간격(T = window / limit)마다 TAT를 전진시키고 window 이상 앞서면 거부
+    private static final String GCRA_SCRIPT = """
+            local limit = tonumber(ARGV[1])
+            local window_millis = tonumber(ARGV[2]) * 1000
+            local now = tonumber(ARGV[3])
+            local interval = window_millis / limit
+
+            local tat = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if tat < now then
+                tat = now
+            end
+
+            local new_tat = tat + interval
+            if new_tat - window_millis > now then
+                return {0, limit, limit}
+            end
+
+            redis.call('SET', KEYS[1], tostring(math.ceil(new_tat)), 'PX', math.ceil(new_tat - now))
+            return {1, math.ceil((new_tat - now) / interval), limit}
+            """;
+
+    // SHA1을 한 번만 계산하고 EVALSHA로 실행
+    private static final RedisScript<List> SLIDING_LOG = new DefaultRedisScript<>(SLIDING_LOG_SCRIPT, List.class);
+    private static final RedisScript<List> SLIDING_WINDOW = new DefaultRedisScript<>(SLIDING_WINDOW_SCRIPT, List.class);
+    private static final RedisScript<List> GCRA = new DefaultRedisScript<>(GCRA_SCRIPT, List.class);
+
     /**
-     * 요청 허용 여부 확인
+     * 요청 허용 여부 확인 (Sliding log)
      *
      * @param key    제한 키 (예: "user:123", "ip:192.168.1.1")
      * @param limit  제한 횟수
@@ -56,17 +100,51 @@ public class RateLimiterService {
      * @return 허용 여부
      */
     public boolean allowRequest(String key, int limit, int window) {
+        return allowRequest(key, limit, window, RateLimitAlgorithm.SLIDING_LOG);
+    }
+
+    /**
+     * 요청 허용 여부 확인
+     *
+     * @param key       제한 키 (예: "user:123", "ip:192.168.1.1")
+     * @param limit     제한 횟수
+     * @param window    시간 윈도우 (초)
+     * @param algorithm 제한 알고리즘
+     * @return 허용 여부
+     */
+    @SuppressWarnings("unchecked")
+    public boolean allowRequest(String key, int limit, int window, RateLimitAlgorithm algorithm) {
         String rateLimitKey = generateKey(key);
+        long now = System.currentTimeMillis();
 
         try {
-            RedisScript<List> script = new DefaultRedisScript<>(RATE_LIMIT_SCRIPT, List.class);
-            List<Long> result = redisTemplate.execute(
-                    script,
-                    Arrays.asList(rateLimitKey),
-                    String.valueOf(limit),
-                    String.valueOf(window),
-                    String.valueOf(System.currentTimeMillis())
-            );
+            List<Long> result = switch (algorithm) {
+                case SLIDING_LOG -> redisTemplate.execute(
+                        SLIDING_LOG,
+                        List.of(rateLimitKey),
+                        String.valueOf(limit),
+                        String.valueOf(window),
+                        String.valueOf(now),
+                        now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong())
+                );
+                case SLIDING_WINDOW, LOCAL_FIRST -> {
+                    long bucket = now / (window * 1000L);
+                    yield redisTemplate.execute(
+                            SLIDING_WINDOW,
+                            List.of(windowKey(key, bucket), windowKey(key, bucket - 1)),
+                            String.valueOf(limit),
+                            String.valueOf(window),
+                            String.valueOf(now)
+                    );
+                }
+                case GCRA -> redisTemplate.execute(
+                        GCRA,
+                        List.of(rateLimitKey),
+                        String.valueOf(limit),
+                        String.valueOf(window),
+                        String.valueOf(now)
+                );
+            };
 
             if (result != null && !result.isEmpty()) {
                 boolean allowed = result.get(0) == 1L;
@@ -74,9 +152,9 @@ public class RateLimiterService {
                 long maxLimit = result.get(2);
 
                 if (allowed) {
-                    log.debug("Rate limit 허용 - key: {}, current: {}/{}", key, current, maxLimit);
+                    log.debug("Rate limit 허용 - key: {}, algorithm: {}, current: {}/{}", key, algorithm, current, maxLimit);
                 } else {
-                    log.warn("Rate limit 초과 - key: {}, current: {}/{}", key, current, maxLimit);
+                    log.warn("Rate limit 초과 - key: {}, algorithm: {}, current: {}/{}", key, algorithm, current, maxLimit);
                 }
 
                 return allowed;
@@ -101,18 +179,33 @@ public class RateLimiterService {
      * @return 허용 여부
      */
     public boolean allowRequestMultiLevel(String key, int perMinute, int perHour, int perDay) {
+        return allowRequestMultiLevel(key, perMinute, perHour, perDay, RateLimitAlgorithm.SLIDING_LOG);
+    }
+
+    /**
+     * 다단계 Rate Limiting (알고리즘 지정)
+     *
+     * @param key         제한 키
+     * @param perMinute   분당 제한
+     * @param perHour     시간당 제한
+     * @param perDay      일당 제한
+     * @param algorithm   제한 알고리즘
+     * @return 허용 여부
+     */
+    public boolean allowRequestMultiLevel(String key, int perMinute, int perHour, int perDay,
+                                          RateLimitAlgorithm algorithm) {
         // 분당 제한 확인
-        if (perMinute > 0 && !allowRequest(key + ":minute", perMinute, 60)) {
+        if (perMinute > 0 && !allowRequest(key + ":minute", perMinute, 60, algorithm)) {
             return false;
         }
 
         // 시간당 제한 확인
-        if (perHour > 0 && !allowRequest(key + ":hour", perHour, 3600)) {
+        if (perHour > 0 && !allowRequest(key + ":hour", perHour, 3600, algorithm)) {
             return false;
         }
 
         // 일당 제한 확인
-        if (perDay > 0 && !allowRequest(key + ":day", perDay, 86400)) {
+        if (perDay > 0 && !allowRequest(key + ":day", perDay, 86400, algorithm)) {
             return false;
         }
 
@@ -120,7 +213,7 @@ public class RateLimiterService {
     }
 
     /**
-     * 현재 요청 수 조회
+     * 현재 요청 수 조회 (Sliding log 키 기준)
      *
      * @param key    제한 키
      * @param window 시간 윈도우 (초)
@@ -202,8 +295,20 @@ public class RateLimiterService {
      * @param key 원본 키
      * @return Redis 키
      */
-    private String generateKey(String key) {
-        return "rate_limit:" + key;
+    private static String generateKey(String key) {
+        return SecurityRedisKeys.rateLimit(key);
+    }
+
+    /**
+     * Sliding window counter의 고정 윈도우 키
+     * LocalFirstRateLimiter가 같은 카운터에서 lease를 가져가므로 키 형식을 공유
+     *
+     * @param key    제한 키
+     * @param bucket 윈도우 번호 (현재 시각 / 윈도우 길이)
+     * @return Redis 키
+     */
+    static String windowKey(String key, long bucket) {
+        return generateKey(key) + ":" + bucket;
     }
 
     /**
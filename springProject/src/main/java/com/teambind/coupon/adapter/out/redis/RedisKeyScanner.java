@@ -0,0 +1,61 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import com.teambind.coupon.application.port.out.CacheKeyCleanupPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SCAN 기반 Redis 키 정리 도구 (관리용)
+ * KEYS는 전체 키 공간을 한 번에 순회하며 Redis를 블로킹하므로 사용하지 않고,
+ * SCAN으로 나누어 순회하면서 배치 단위로 UNLINK
+ * 인덱스가 없는 키를 일괄 정리할 때만 사용 (요청 경로에서 호출 금지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisKeyScanner implements CacheKeyCleanupPort {
+
+    private static final int SCAN_COUNT = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public long deleteByPattern(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(SCAN_COUNT)
+                .build();
+
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(SCAN_COUNT);
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_COUNT) {
+                    deleted += unlink(batch);
+                    batch.clear();
+                }
+            }
+        }
+        deleted += unlink(batch);
+
+        log.info("SCAN 기반 키 정리 완료 - pattern: {}, deleted: {}", pattern, deleted);
+        return deleted;
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = redisTemplate.unlink(keys);
+        return unlinked != null ? unlinked : 0;
+    }
+}
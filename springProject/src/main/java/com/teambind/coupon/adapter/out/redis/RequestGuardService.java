@@ -0,0 +1,183 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 보호 서비스
+ * 분/시간/일 Sliding window 제한과 위험 점수를 하나의 Lua 스크립트로 평가하여
+ * 요청당 Redis 왕복을 1회(EVALSHA)로 줄임
+ *
+ * 차단 여부는 스크립트에서 확인하지 않음 (호출 전에 BlockedIdentifierCache 로컬 캐시로 확인)
+ *
+ * 키 이름은 AttackDetectionService와 공유하므로 SecurityRedisKeys를 사용
+ * (Redis Cluster 전환 시 식별자 해시 태그로 키를 한 슬롯에 모아야 함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestGuardService {
+
+    // 위험 점수용 요청 빈도 기준 (AttackDetectionService.calculateRiskScore와 동일)
+    private static final int RISK_CHECK_LIMIT = 1000;
+    private static final int RISK_CHECK_WINDOW_SECONDS = 3600;
+
+    /**
+     * KEYS: 1 minute, 2 hour, 3 day, 4 failures, 5 block_history, 6 brute_force, 7 risk_check
+     * ARGV: 1 now(ms), 2 member, 3 perMinute, 4 perHour, 5 perDay, 6 riskLimit, 7 riskWindow(s)
+     * 반환: {decision(0 허용, 1 제한 초과), limit, remaining, resetAfterMillis, riskScore}
+     */
+    private static final String GUARD_SCRIPT = """
+            local now = tonumber(ARGV[1])
+            local member = ARGV[2]
+            local windows = {60, 3600, 86400}
+
+            -- 1. 모든 윈도우를 먼저 확인하고, 전부 통과한 경우에만 기록
+            local counts = {}
+            local headerLimit, headerRemaining, headerReset = 0, 0, 0
+            for i = 1, 3 do
+                local limit = tonumber(ARGV[2 + i])
+                if limit > 0 then
+                    local key = KEYS[i]
+                    local windowMillis = windows[i] * 1000
+                    redis.call('ZREMRANGEBYSCORE', key, 0, now - windowMillis)
+                    local count = redis.call('ZCARD', key)
+
+                    local resetAfter = windowMillis
+                    local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                    if oldest[2] then
+                        resetAfter = tonumber(oldest[2]) + windowMillis - now
+                    end
+
+                    if count >= limit then
+                        return {1, limit, 0, resetAfter, 0}
+                    end
+
+                    counts[i] = count
+                    if headerLimit == 0 then
+                        headerLimit, headerRemaining, headerReset = limit, limit - count - 1, resetAfter
+                    end
+                end
+            end
+
+            for i = 1, 3 do
+                if counts[i] then
+                    redis.call('ZADD', KEYS[i], now, member)
+                    redis.call('PEXPIRE', KEYS[i], windows[i] * 1000)
+                end
+            end
+
+            -- 2. 위험 점수
+            local score = math.min(redis.call('HLEN', KEYS[4]) * 10, 30)
+
+            local riskWindowMillis = tonumber(ARGV[7]) * 1000
+            redis.call('ZREMRANGEBYSCORE', KEYS[7], 0, now - riskWindowMillis)
+            if redis.call('ZCARD', KEYS[7]) >= tonumber(ARGV[6]) then
+                score = score + 20
+            else
+                redis.call('ZADD', KEYS[7], now, member)
+                redis.call('PEXPIRE', KEYS[7], riskWindowMillis)
+            end
+
+            if redis.call('LLEN', KEYS[5]) > 0 then
+                score = score + 30
+            end
+            score = score + math.min(redis.call('PFCOUNT', KEYS[6]) * 5, 20)
+
+            return {0, headerLimit, headerRemaining, headerReset, math.min(score, 100)}
+            """;
+
+    // SHA1을 한 번만 계산하고 EVALSHA로 실행 (스크립트 캐시에 없으면 EVAL로 재시도)
+    private static final RedisScript<List> SCRIPT = new DefaultRedisScript<>(GUARD_SCRIPT, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 요청 평가
+     *
+     * @param identifier 식별자 (위험 점수 기준)
+     * @param limitKey   Rate limit 키 (엔드포인트별 접미사 포함)
+     * @param perMinute  분당 제한 (0이면 미적용)
+     * @param perHour    시간당 제한 (0이면 미적용)
+     * @param perDay     일당 제한 (0이면 미적용)
+     * @return 평가 결과 (Redis 오류 시 허용)
+     */
+    @SuppressWarnings("unchecked")
+    public GuardResult evaluate(String identifier, String limitKey, int perMinute, int perHour, int perDay) {
+        long now = System.currentTimeMillis();
+        String member = now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+        try {
+            List<Long> result = redisTemplate.execute(
+                    SCRIPT,
+                    List.of(
+                            SecurityRedisKeys.rateLimit(limitKey + ":minute"),
+                            SecurityRedisKeys.rateLimit(limitKey + ":hour"),
+                            SecurityRedisKeys.rateLimit(limitKey + ":day"),
+                            SecurityRedisKeys.failures(identifier),
+                            SecurityRedisKeys.blockHistory(identifier),
+                            SecurityRedisKeys.bruteForce(identifier),
+                            SecurityRedisKeys.rateLimit("risk_check:" + identifier)
+                    ),
+                    String.valueOf(now),
+                    member,
+                    String.valueOf(perMinute),
+                    String.valueOf(perHour),
+                    String.valueOf(perDay),
+                    String.valueOf(RISK_CHECK_LIMIT),
+                    String.valueOf(RISK_CHECK_WINDOW_SECONDS)
+            );
+
+            if (result == null || result.size() < 5) {
+                return GuardResult.failOpen();
+            }
+
+            return new GuardResult(
+                    Decision.values()[result.get(0).intValue()],
+                    result.get(1).intValue(),
+                    Math.max(0, result.get(2)),
+                    result.get(3),
+                    result.get(4).intValue()
+            );
+        } catch (Exception e) {
+            log.error("요청 보호 스크립트 오류 - identifier: {}", identifier, e);
+            // 에러 발생 시 요청 허용 (fail open)
+            return GuardResult.failOpen();
+        }
+    }
+
+    /**
+     * 평가 결정
+     */
+    public enum Decision {
+        ALLOWED,
+        RATE_LIMITED
+    }
+
+    /**
+     * 요청 평가 결과 (응답 헤더 작성에 필요한 값 포함)
+     *
+     * @param limit            적용된 제한 횟수 (허용 시 가장 짧은 윈도우, 초과 시 초과한 윈도우)
+     * @param remaining        남은 요청 수
+     * @param resetAfterMillis 윈도우가 비워질 때까지 남은 시간
+     * @param riskScore        위험 점수 (0-100, 허용된 요청만 계산)
+     */
+    public record GuardResult(
+            Decision decision,
+            int limit,
+            long remaining,
+            long resetAfterMillis,
+            int riskScore
+    ) {
+        public static GuardResult failOpen() {
+            return new GuardResult(Decision.ALLOWED, 0, 0, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.teambind.coupon.adapter.out.redis;
+
+/**
+ * 요청 보호(차단/Rate limit/공격 탐지)용 Redis 키
+ * AttackDetectionService와 RequestGuardService 스크립트가 같은 키를 읽고 쓰므로 한 곳에서 정의
+ */
+public final class SecurityRedisKeys {
+
+    /**
+     * 차단/해제 이벤트 Pub/Sub 채널 (인스턴스별 로컬 차단 캐시 동기화)
+     */
+    public static final String BLOCK_EVENTS_CHANNEL = "security:block-events";
+
+    private SecurityRedisKeys() {
+    }
+
+    /**
+     * 차단 여부 (String, TTL = 차단 기간)
+     */
+    public static String blocked(String identifier) {
+        return "blocked:" + identifier;
+    }
+
+    /**
+     * 액션별 실패 횟수 (Hash, 필드: 액션)
+     */
+    public static String failures(String identifier) {
+        return "failures:" + identifier;
+    }
+
+    /**
+     * 차단 이력 (List)
+     */
+    public static String blockHistory(String identifier) {
+        return "block_history:" + identifier;
+    }
+
+    /**
+     * 시도한 쿠폰 코드의 클러스터 병합 고유 개수 (HyperLogLog)
+     * 이전 Set 형식 키와 타입이 충돌하지 않도록 별도 이름 사용
+     */
+    public static String bruteForce(String identifier) {
+        return "brute_force_hll:" + identifier;
+    }
+
+    /**
+     * Rate limit 요청 기록 (알고리즘에 따라 Sorted Set 또는 String 카운터)
+     */
+    public static String rateLimit(String key) {
+        return "rate_limit:" + key;
+    }
+}
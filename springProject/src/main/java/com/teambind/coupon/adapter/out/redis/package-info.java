@@ -3,7 +3,7 @@
  * Redis 캐시 및 분산 락 관리
  *
  * 주요 기능:
- * - 분산 락 관리 (Redisson)
+ * - 분산 락 관리 (Redisson, 인스턴스 내 동일 키 요청은 로컬 락으로 합류)
  * - 쿠폰 재고 캐시
  * - Rate Limiting
  * - 실시간 통계 저장
@@ -0,0 +1,50 @@
+package com.teambind.coupon.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 유저 쿠폰 커서 기반 페이지 조회 결과
+ */
+@Getter
+@Builder
+public class UserCouponPage {
+
+    private final List<UserCouponView> items;
+    private final Long nextCursor;   // null이면 마지막 페이지
+    private final boolean hasNext;
+
+    /**
+     * 조회된 쿠폰 개수
+     */
+    public int getCount() {
+        return items.size();
+    }
+
+    /**
+     * 커서 기반 페이지 생성
+     *
+     * @param items 쿠폰 목록 (limit + 1개 이상이면 다음 페이지 존재)
+     * @param limit 요청한 limit
+     * @return 페이지
+     */
+    public static UserCouponPage of(List<UserCouponView> items, int limit) {
+        boolean hasNext = items.size() > limit;
+        List<UserCouponView> data = hasNext
+                ? items.subList(0, limit)
+                : items;
+
+        Long nextCursor = null;
+        if (hasNext && !data.isEmpty()) {
+            nextCursor = data.get(data.size() - 1).getCouponIssueId();
+        }
+
+        return UserCouponPage.builder()
+                .items(data)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
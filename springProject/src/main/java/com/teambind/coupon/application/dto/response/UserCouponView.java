@@ -0,0 +1,90 @@
+package com.teambind.coupon.application.dto.response;
+
+import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueProjection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 유저 쿠폰 읽기 모델
+ * 쿠폰 목록 조회 결과와 지갑 캐시(CouponWalletCachePort)가 공유하며, 웹 응답으로의 변환은 컨트롤러에서 수행
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCouponView {
+
+    // 쿠폰 발급 정보
+    private Long couponIssueId;
+    private Long userId;
+    private Long policyId;
+    private String status;
+    private LocalDateTime issuedAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime usedAt;
+    private LocalDateTime reservedAt;
+    private String reservationId;
+    private BigDecimal actualDiscountAmount;
+
+    // 쿠폰 정책 정보
+    private String couponName;
+    private String couponCode;
+    private String description;
+    private String discountType;
+    private BigDecimal discountValue;
+    private BigDecimal minimumOrderAmount;
+    private BigDecimal maxDiscountAmount;
+    private List<Long> applicableProductIds;
+    private String distributionType;
+
+    // 계산 필드
+    private boolean available;
+    private Long remainingDays;  // 만료까지 남은 일수
+
+    /**
+     * 조회 Projection에서 읽기 모델로 변환
+     */
+    public static UserCouponView from(CouponIssueProjection projection) {
+        return UserCouponView.builder()
+                .couponIssueId(projection.getCouponIssueId())
+                .userId(projection.getUserId())
+                .policyId(projection.getPolicyId())
+                .status(projection.getStatus())
+                .issuedAt(projection.getIssuedAt())
+                .expiresAt(projection.getExpiresAt())
+                .usedAt(projection.getUsedAt())
+                .reservedAt(projection.getReservedAt())
+                .reservationId(projection.getReservationId())
+                .actualDiscountAmount(projection.getActualDiscountAmount())
+                .couponName(projection.getCouponName())
+                .couponCode(projection.getCouponCode())
+                .description(projection.getDescription())
+                .discountType(projection.getDiscountType())
+                .discountValue(projection.getDiscountValue())
+                .minimumOrderAmount(projection.getMinimumOrderAmount())
+                .maxDiscountAmount(projection.getMaxDiscountAmount())
+                .applicableProductIds(null) // TODO: JSONB 파싱 필요
+                .distributionType(projection.getDistributionType())
+                .available(projection.getIsAvailable() != null && projection.getIsAvailable())
+                .remainingDays(calculateRemainingDays(projection.getExpiresAt()))
+                .build();
+    }
+
+    /**
+     * 만료까지 남은 일수 계산
+     */
+    private static Long calculateRemainingDays(LocalDateTime expiresAt) {
+        if (expiresAt == null) {
+            return null;
+        }
+        long days = Duration.between(LocalDateTime.now(), expiresAt).toDays();
+        return days >= 0 ? days : null;
+    }
+}
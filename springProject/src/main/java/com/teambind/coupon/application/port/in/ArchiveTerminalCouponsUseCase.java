@@ -0,0 +1,30 @@
+package com.teambind.coupon.application.port.in;
+
+/**
+ * 종료 상태 쿠폰 보관 UseCase
+ * USED/EXPIRED/CANCELLED 상태로 일정 기간이 지난 쿠폰을 이력 테이블로 이동
+ */
+public interface ArchiveTerminalCouponsUseCase {
+
+    /**
+     * 종료 상태 쿠폰 보관 실행
+     * 중단되더라도 워터마크 이후부터 이어서 처리
+     *
+     * @return 처리 결과
+     */
+    ArchiveResult archiveTerminalCoupons();
+
+    /**
+     * 보관 처리 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class ArchiveResult {
+        long archivedCount;
+        int batchCount;
+        long watermark;
+        boolean completed;     // 한 바퀴 순회 완료 여부 (완료 시 워터마크 초기화)
+        long elapsedMillis;
+        double rowsPerSecond;
+    }
+}
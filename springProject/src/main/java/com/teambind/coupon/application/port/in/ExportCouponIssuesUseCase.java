@@ -0,0 +1,22 @@
+package com.teambind.coupon.application.port.in;
+
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportFilter;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportRow;
+
+import java.util.function.Consumer;
+
+/**
+ * 발급 쿠폰 내보내기 UseCase
+ * 캠페인 단위로 발급/사용 쿠폰을 페이지 조회 없이 한 번에 내보내기
+ */
+public interface ExportCouponIssuesUseCase {
+
+    /**
+     * 조건에 맞는 발급 쿠폰을 스트리밍으로 전달
+     *
+     * @param filter 조회 조건 (정책 또는 발급 기간 필수)
+     * @param sink   행 소비자
+     * @return 내보낸 행 수
+     */
+    long exportIssues(ExportFilter filter, Consumer<ExportRow> sink);
+}
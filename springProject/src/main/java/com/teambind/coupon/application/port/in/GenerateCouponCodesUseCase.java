@@ -0,0 +1,33 @@
+package com.teambind.coupon.application.port.in;
+
+import com.teambind.coupon.domain.service.CouponCodeGenerator.GeneratorType;
+
+import java.util.function.Consumer;
+
+/**
+ * 캠페인 쿠폰 코드 대량 생성 UseCase
+ * 수천만 건 캠페인 코드를 메모리에 모으지 않고 파일/응답으로 스트리밍
+ */
+public interface GenerateCouponCodesUseCase {
+
+    /**
+     * 코드 대량 생성 (병렬)
+     * 배치 내 중복은 제거되며, PERMUTATION은 일련번호 구간 예약으로 이전 배치와도 겹치지 않음
+     *
+     * @param type   생성기 타입
+     * @param count  생성 개수
+     * @param prefix 프리픽스 (선택)
+     * @param sink   생성된 코드 소비자 (단일 스레드에서 순서대로 호출)
+     * @return 생성 개수
+     */
+    long streamCodes(GeneratorType type, int count, String prefix, Consumer<String> sink);
+
+    /**
+     * 대량 생성 요청 검증
+     * 스트리밍 응답은 시작 후 상태 코드를 바꿀 수 없으므로 응답 전에 호출
+     *
+     * @param count 생성 개수
+     * @throws com.teambind.coupon.domain.exception.CouponDomainException.InvalidRequest 허용 범위를 벗어난 경우
+     */
+    void validateStreamRequest(int count);
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -28,6 +29,11 @@ public interface GetCouponStatisticsUseCase {
      */
     UserStatistics getUserStatistics(Long userId);
 
+    /**
+     * 전체/정책별 상태 카운터 스냅샷 조회 (대시보드 폴링용)
+     */
+    CounterSnapshot getCounterSnapshot(List<Long> policyIds);
+
     /**
      * 실시간 통계 DTO
      */
@@ -95,4 +101,16 @@ public interface GetCouponStatisticsUseCase {
         private final LocalDateTime lastUsedAt;
         private final Map<String, Integer> couponsByStatus;
     }
+
+    /**
+     * 상태 카운터 스냅샷 DTO
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    class CounterSnapshot {
+        private final Map<String, Long> global;
+        private final Map<Long, Map<String, Long>> policies;
+        private final LocalDateTime capturedAt;
+    }
 }
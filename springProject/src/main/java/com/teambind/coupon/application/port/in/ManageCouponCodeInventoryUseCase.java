@@ -0,0 +1,85 @@
+package com.teambind.coupon.application.port.in;
+
+import com.teambind.coupon.application.port.out.CouponCodeInventoryPort.CodeRow;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 1회용 쿠폰 코드 재고 관리 UseCase
+ * 수신자별 코드를 대량 생성/가져오기/내보내기
+ */
+public interface ManageCouponCodeInventoryUseCase {
+
+    /**
+     * 코드 대량 생성
+     * 생성한 코드 원문은 저장하지 않으므로 sink로 한 번만 전달
+     *
+     * @param policyId 쿠폰 정책 ID (CODE 타입)
+     * @param count    생성 개수
+     * @param prefix   프리픽스 (선택)
+     * @param sink     생성된 코드 소비자
+     * @return 생성 개수
+     */
+    long generateCodes(Long policyId, int count, String prefix, Consumer<String> sink);
+
+    /**
+     * 외부 코드 가져오기
+     *
+     * @param policyId 쿠폰 정책 ID (CODE 타입)
+     * @param codes    코드 원문 (한 줄에 하나)
+     * @return 가져오기 결과
+     */
+    ImportResult importCodes(Long policyId, Iterator<String> codes);
+
+    /**
+     * 코드 상태 내보내기
+     *
+     * @return 내보낸 행 수
+     */
+    long exportCodes(Long policyId, Consumer<CodeRow> sink);
+
+    /**
+     * 코드 재고/사용 처리량 통계
+     */
+    InventoryStatistics getStatistics(Long policyId);
+
+    /**
+     * 조회 필터 재구성
+     *
+     * @return 반영한 코드 수
+     */
+    long rebuildLookupFilter();
+
+    /**
+     * 조회 필터가 준비되지 않았을 때만 재구성
+     *
+     * @return 반영한 코드 수 (이미 준비된 경우 0)
+     */
+    long rebuildLookupFilterIfMissing();
+
+    @lombok.Value
+    @Builder
+    class ImportResult {
+        long imported;
+        long duplicates;
+        long invalid;
+    }
+
+    @lombok.Value
+    @Builder
+    class InventoryStatistics {
+        Long policyId;
+        long totalCodes;
+        long availableCodes;
+        long redeemedCodes;
+        long redeemedLastMinute;
+        long redeemedLastHour;
+        double redemptionsPerSecondLastMinute;
+        LocalDateTime lastRedeemedAt;
+        Map<String, Long> statusDistribution;
+    }
+}
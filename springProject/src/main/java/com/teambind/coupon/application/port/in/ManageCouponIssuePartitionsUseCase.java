@@ -0,0 +1,35 @@
+package com.teambind.coupon.application.port.in;
+
+import java.util.List;
+
+/**
+ * 쿠폰 발급 파티션 관리 UseCase
+ * 미래 월 파티션을 미리 생성하고, 보관 기간이 지난 종료 상태 파티션을 분리
+ */
+public interface ManageCouponIssuePartitionsUseCase {
+
+    /**
+     * 파티션 유지보수 실행
+     *
+     * @return 처리 결과
+     */
+    PartitionMaintenanceResult maintainPartitions();
+
+    /**
+     * 활성 쿠폰 조회 하한 갱신 (인스턴스 로컬 값이므로 모든 인스턴스에서 주기적으로 실행)
+     * 활성 쿠폰이 남아있는 가장 오래된 파티션의 시작일을 활성 쿠폰 조회의 issued_at 하한으로 사용
+     */
+    void refreshActiveWindow();
+
+    /**
+     * 파티션 유지보수 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class PartitionMaintenanceResult {
+        boolean partitioned;
+        List<String> ensuredPartitions;
+        List<String> detachedPartitions;
+        List<String> skippedPartitions;
+    }
+}
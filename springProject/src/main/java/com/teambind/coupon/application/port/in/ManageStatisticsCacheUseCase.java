@@ -0,0 +1,21 @@
+package com.teambind.coupon.application.port.in;
+
+/**
+ * 통계 캐시 관리 UseCase
+ */
+public interface ManageStatisticsCacheUseCase {
+
+    /**
+     * 정책별 통계 캐시 무효화 (정책 인덱스 Set에 등록된 키만 삭제, O(k))
+     *
+     * @param policyId 정책 ID
+     */
+    void invalidateCache(Long policyId);
+
+    /**
+     * 전체 통계 캐시 삭제 (SCAN 기반, 관리용)
+     *
+     * @return 삭제된 키 수
+     */
+    long purgeAllCache();
+}
@@ -24,7 +24,8 @@ public interface ProcessPaymentUseCase {
         private final String orderId;
         private final String reservationId;
         private final Long userId;
-        private final BigDecimal discountAmount;
+        private final BigDecimal paymentAmount;  // 할인 적용 후 결제 금액
+        private final BigDecimal discountAmount; // 주문 전체 할인 금액
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.teambind.coupon.application.port.in;
 
 import com.teambind.coupon.adapter.in.web.dto.CouponQueryRequest;
-import com.teambind.coupon.adapter.in.web.dto.CouponQueryResponse;
+import com.teambind.coupon.application.dto.response.UserCouponPage;
 
 /**
  * 유저 쿠폰 조회 UseCase
@@ -15,7 +15,7 @@ public interface QueryUserCouponsUseCase {
      * @param request 조회 조건 (필터, 커서, 페이지 크기 등)
      * @return 쿠폰 목록 및 페이지네이션 정보
      */
-    CouponQueryResponse queryUserCoupons(Long userId, CouponQueryRequest request);
+    UserCouponPage queryUserCoupons(Long userId, CouponQueryRequest request);
 
     /**
      * 유저의 곧 만료될 쿠폰 조회
@@ -25,7 +25,7 @@ public interface QueryUserCouponsUseCase {
      * @param limit 조회 개수 (기본: 10개)
      * @return 만료 임박 쿠폰 목록
      */
-    CouponQueryResponse queryExpiringCoupons(Long userId, int daysUntilExpiry, int limit);
+    UserCouponPage queryExpiringCoupons(Long userId, int daysUntilExpiry, int limit);
 
     /**
      * 유저의 쿠폰 통계 조회
@@ -0,0 +1,32 @@
+package com.teambind.coupon.application.port.in;
+
+import com.teambind.coupon.domain.model.OrderCart;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 장바구니 쿠폰 추천 커맨드
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class RecommendCouponsCommand {
+
+    private Long userId;
+    private List<OrderCart.Line> items; // 장바구니 상품별 금액
+    private int limit;                  // 추천 개수
+
+    /**
+     * 정적 팩토리 메서드
+     */
+    public static RecommendCouponsCommand of(Long userId, List<OrderCart.Line> items, int limit) {
+        return RecommendCouponsCommand.builder()
+                .userId(userId)
+                .items(items)
+                .limit(limit)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.teambind.coupon.application.port.in;
+
+import com.teambind.coupon.domain.model.DiscountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장바구니 쿠폰 추천 UseCase
+ * 유저의 사용 가능한 쿠폰을 장바구니에 모두 적용해 보고 할인 금액이 큰 순서로 반환
+ */
+public interface RecommendCouponsUseCase {
+
+    /**
+     * 쿠폰 추천
+     *
+     * @param command 유저와 장바구니 정보
+     * @return 할인 금액 내림차순 추천 결과 (할인 금액이 0인 쿠폰 제외)
+     */
+    CouponRecommendationResult recommend(RecommendCouponsCommand command);
+
+    /**
+     * 추천 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class CouponRecommendationResult {
+        Long userId;
+        BigDecimal orderAmount;                    // 장바구니 전체 금액
+        int evaluatedCoupons;                      // 평가한 쿠폰 수
+        List<CouponRecommendation> recommendations;
+    }
+
+    /**
+     * 추천 쿠폰
+     */
+    @lombok.Value
+    @lombok.Builder
+    class CouponRecommendation {
+        Long couponIssueId;
+        Long policyId;
+        String couponName;
+        DiscountType discountType;
+        BigDecimal discountAmount;   // 예상 할인 금액
+        BigDecimal applicableAmount; // 할인 기준 금액 (적용 가능 상품 합계)
+        LocalDateTime expiredAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.teambind.coupon.application.port.in;
+
+/**
+ * 쿠폰 상태 카운터 보정 UseCase
+ * Redis 카운터를 DB 집계 값과 비교하여 드리프트를 보정
+ */
+public interface ReconcileCouponCountersUseCase {
+
+    /**
+     * 카운터 보정 실행
+     *
+     * @return 보정 결과
+     */
+    ReconcileResult reconcileCounters();
+
+    /**
+     * 카운터 보정 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class ReconcileResult {
+        int policyCount;        // 보정 대상 정책 수
+        int driftedPolicyCount; // 드리프트가 발견된 정책 수
+        long totalDrift;        // 상태별 차이 절대값 합계
+        long skippedFields;     // 보정 중 이벤트로 바뀌어 다음 보정으로 미룬 필드 수
+        long elapsedMillis;
+    }
+}
@@ -0,0 +1,18 @@
+package com.teambind.coupon.application.port.in;
+
+import com.teambind.coupon.domain.model.CouponIssue;
+
+/**
+ * 1회용 쿠폰 코드 사용 UseCase
+ */
+public interface RedeemCouponCodeUseCase {
+
+    /**
+     * 1회용 코드로 쿠폰 발급
+     *
+     * @param userId 사용자 ID
+     * @param code   1회용 코드
+     * @return 발급된 쿠폰
+     */
+    CouponIssue redeem(Long userId, String code);
+}
@@ -0,0 +1,47 @@
+package com.teambind.coupon.application.port.in;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 쿠폰 일괄 예약 커맨드
+ * 한 주문(예약 ID)에 여러 쿠폰을 함께 예약
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class ReserveCartCouponsCommand {
+
+    @NotBlank(message = "예약 ID는 필수입니다")
+    private String reservationId;
+
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private Long userId;
+
+    @NotEmpty(message = "쿠폰 ID는 필수입니다")
+    private List<Long> couponIds;
+
+    @Positive(message = "주문 금액은 0보다 커야 합니다")
+    private BigDecimal orderAmount; // 주문 금액 (할인 계산용)
+
+    /**
+     * 정적 팩토리 메서드
+     */
+    public static ReserveCartCouponsCommand of(String reservationId, Long userId, List<Long> couponIds,
+                                               BigDecimal orderAmount) {
+        return ReserveCartCouponsCommand.builder()
+                .reservationId(reservationId)
+                .userId(userId)
+                .couponIds(couponIds)
+                .orderAmount(orderAmount)
+                .build();
+    }
+}
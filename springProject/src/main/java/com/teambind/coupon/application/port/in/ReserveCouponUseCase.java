@@ -17,6 +17,15 @@ public interface ReserveCouponUseCase {
      */
     CouponReservationResult reserveCoupon(ReserveCouponCommand command);
 
+    /**
+     * 장바구니 쿠폰 일괄 예약 (전부 성공 또는 전부 실패)
+     * 중복 적용 규칙을 검증하고 합산 할인 금액을 계산
+     *
+     * @param command 예약 ID, 쿠폰 ID 목록, 주문 금액
+     * @return 예약 결과 (실패 시 어떤 쿠폰도 예약되지 않음)
+     */
+    CartReservationResult reserveCoupons(ReserveCartCouponsCommand command);
+
     /**
      * 쿠폰 예약 결과
      */
@@ -30,4 +39,27 @@ public interface ReserveCouponUseCase {
         String message;
         java.time.LocalDateTime reservedUntil;
     }
+
+    /**
+     * 장바구니 쿠폰 예약 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class CartReservationResult {
+        boolean success;
+        String reservationId;
+        java.util.List<ReservedCoupon> coupons;      // 쿠폰별 할인 금액 (요청 순서)
+        java.math.BigDecimal totalDiscountAmount;    // 합산 할인 금액
+        String message;
+        java.time.LocalDateTime reservedUntil;
+    }
+
+    /**
+     * 장바구니 예약에 포함된 쿠폰
+     */
+    @lombok.Value
+    class ReservedCoupon {
+        Long couponId;
+        java.math.BigDecimal discountAmount;
+    }
 }
\ No newline at end of file
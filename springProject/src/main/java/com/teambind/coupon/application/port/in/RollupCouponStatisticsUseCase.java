@@ -0,0 +1,43 @@
+package com.teambind.coupon.application.port.in;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 쿠폰 일별 통계 롤업 UseCase
+ * 정책별 일자별 발급/사용/만료 건수와 할인 금액을 coupon_statistics에 집계
+ */
+public interface RollupCouponStatisticsUseCase {
+
+    /**
+     * 워터마크 이후 일자부터 오늘까지 증분 집계
+     * 오늘(진행 중인 일자)은 매 실행마다 다시 집계되며, 어제까지만 워터마크로 확정
+     *
+     * @return 처리 결과
+     */
+    RollupResult rollupIncremental();
+
+    /**
+     * 과거 기간 재집계 (일자 구간을 청크로 나누어 병렬 처리, 워터마크는 변경하지 않음)
+     * 인스턴스 간 락을 획득한 뒤 비동기로 실행하며, 이미 실행 중이면 락 획득 실패 예외 발생
+     *
+     * @param fromDate 시작 일자 (포함)
+     * @param toDate   종료 일자 (포함)
+     * @return 모든 청크 완료 시 처리 결과로 완료되는 future
+     */
+    CompletableFuture<RollupResult> backfill(LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * 롤업 처리 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class RollupResult {
+        LocalDate fromDate;
+        LocalDate toDate;
+        int chunkCount;
+        long upsertedRows;
+        LocalDate watermark;   // 처리 후 워터마크 (백필은 변경하지 않으므로 null)
+        long elapsedMillis;
+    }
+}
@@ -0,0 +1,40 @@
+package com.teambind.coupon.application.port.in;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 쿠폰 일괄 검증 커맨드
+ * 체크아웃 사전 검증에서 여러 (유저, 쿠폰, 주문 금액, 주문 상품) 조합을 한 번에 검증
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class ValidateCouponsCommand {
+
+    private List<Target> targets; // 검증 대상 (결과는 같은 순서로 반환)
+
+    /**
+     * 정적 팩토리 메서드
+     */
+    public static ValidateCouponsCommand of(List<Target> targets) {
+        return ValidateCouponsCommand.builder()
+                .targets(targets)
+                .build();
+    }
+
+    /**
+     * 검증 대상
+     *
+     * @param userId      유저 ID
+     * @param couponId    발급 쿠폰 ID
+     * @param orderAmount 주문 금액 (할인 기준 금액)
+     * @param itemIds     주문 상품 ID 목록
+     */
+    public record Target(Long userId, Long couponId, BigDecimal orderAmount, List<Long> itemIds) {
+    }
+}
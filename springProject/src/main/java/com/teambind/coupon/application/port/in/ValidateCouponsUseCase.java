@@ -0,0 +1,62 @@
+package com.teambind.coupon.application.port.in;
+
+import com.teambind.coupon.domain.model.DiscountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 일괄 검증 UseCase
+ * 주문 서비스가 쿠폰마다 호출하던 검증을 한 요청으로 처리 (예약/락 없이 조회만)
+ */
+public interface ValidateCouponsUseCase {
+
+    /**
+     * 쿠폰 일괄 검증
+     *
+     * @param command 검증 대상 목록
+     * @return 대상별 검증 결과 (요청 순서)
+     */
+    BatchValidationResult validateAll(ValidateCouponsCommand command);
+
+    /**
+     * 일괄 검증 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class BatchValidationResult {
+        int requested;
+        int validCount;
+        List<CouponValidation> results;
+    }
+
+    /**
+     * 대상별 검증 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class CouponValidation {
+        int index;                  // 요청 내 순서
+        Long userId;
+        Long couponId;
+        boolean valid;
+        FailureReason reason;       // 검증 실패 사유 (성공이면 null)
+        String message;
+        DiscountType discountType;
+        BigDecimal discountAmount;  // 예상 할인 금액 (실패면 0)
+        LocalDateTime expiredAt;
+    }
+
+    /**
+     * 검증 실패 사유
+     */
+    enum FailureReason {
+        COUPON_NOT_FOUND,      // 쿠폰이 없거나 다른 유저의 쿠폰
+        NOT_USABLE,            // 사용 가능한 상태가 아님 (사용/예약/취소 등)
+        EXPIRED,               // 유효기간 만료
+        POLICY_NOT_FOUND,      // 쿠폰 정책 없음
+        NOT_APPLICABLE_ITEM,   // 주문 상품 중 적용 가능 상품 없음
+        MINIMUM_ORDER_NOT_MET  // 최소 주문 금액 미충족
+    }
+}
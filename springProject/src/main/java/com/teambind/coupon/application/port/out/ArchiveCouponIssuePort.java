@@ -0,0 +1,36 @@
+package com.teambind.coupon.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 종료 상태 쿠폰 보관 Output Port
+ * coupon_issues → coupon_issue_history 이동과 재시작 가능한 워터마크 관리
+ */
+public interface ArchiveCouponIssuePort {
+
+    /**
+     * 작업의 마지막 처리 ID 조회 (없으면 0)
+     */
+    long loadWatermark(String jobName);
+
+    /**
+     * 워터마크 이후의 보관 대상 쿠폰 ID 조회
+     *
+     * @param afterId 워터마크 (이 ID 이후부터 조회)
+     * @param cutoff  종료 시점 기준일시 (이전에 종료된 쿠폰만 대상)
+     * @param limit   배치 크기
+     * @return ID 오름차순 목록
+     */
+    List<Long> loadArchivableIds(long afterId, LocalDateTime cutoff, int limit);
+
+    /**
+     * 한 배치를 이력 테이블로 이동하고 워터마크 저장 (단일 트랜잭션)
+     *
+     * @param ids       보관 대상 쿠폰 ID 목록
+     * @param jobName   작업 이름
+     * @param watermark 배치 처리 후 저장할 워터마크
+     * @return 핫 테이블에서 삭제된 행 수
+     */
+    int archiveBatch(List<Long> ids, String jobName, long watermark);
+}
@@ -0,0 +1,16 @@
+package com.teambind.coupon.application.port.out;
+
+/**
+ * 캐시 키 일괄 정리 Output Port
+ * 인덱스가 없는 캐시 키를 패턴으로 정리할 때 사용 (관리용, 요청 경로에서 호출 금지)
+ */
+public interface CacheKeyCleanupPort {
+
+    /**
+     * 패턴에 맞는 키 삭제
+     *
+     * @param pattern glob 패턴 (예: stats:coupon:*)
+     * @return 삭제된 키 수
+     */
+    long deleteByPattern(String pattern);
+}
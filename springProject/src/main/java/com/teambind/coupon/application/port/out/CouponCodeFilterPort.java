@@ -0,0 +1,31 @@
+package com.teambind.coupon.application.port.out;
+
+/**
+ * 1회용 쿠폰 코드 조회 필터 Port (Bloom filter)
+ * 존재하지 않는 코드를 DB 조회 없이 거절하기 위한 전단 필터
+ * 거짓 양성은 DB claim에서 걸러지고, 거짓 음성은 없어야 하므로 필터가 준비되지 않았거나 장애 시 통과 처리
+ */
+public interface CouponCodeFilterPort {
+
+    /**
+     * 코드 다이제스트 추가
+     */
+    void addAll(long[] codeHashes);
+
+    /**
+     * 존재 가능성 확인
+     *
+     * @return 존재할 수 있으면 true (필터 미준비/장애 시 true)
+     */
+    boolean mightContain(long codeHash);
+
+    /**
+     * 필터가 전체 코드를 반영한 상태인지 확인
+     */
+    boolean isReady();
+
+    /**
+     * 전체 코드 반영 완료 표시
+     */
+    void markReady();
+}
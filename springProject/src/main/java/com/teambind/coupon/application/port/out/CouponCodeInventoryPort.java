@@ -0,0 +1,94 @@
+package com.teambind.coupon.application.port.out;
+
+import com.teambind.coupon.domain.model.CouponCodeStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 1회용 쿠폰 코드 재고 Output Port
+ * 코드는 CouponCodeDigest의 64비트 다이제스트로만 저장
+ */
+public interface CouponCodeInventoryPort {
+
+    /**
+     * 코드 일괄 저장
+     * 이미 존재하는 다이제스트는 건너뜀 (다른 정책의 코드 포함)
+     *
+     * @param policyId    쿠폰 정책 ID
+     * @param codeHashes  코드 다이제스트 배열
+     * @return 다이제스트별 저장 여부 (입력 순서와 동일)
+     */
+    boolean[] saveAll(Long policyId, long[] codeHashes);
+
+    /**
+     * 코드 사용 처리
+     * 미사용 상태인 경우에만 단일 UPDATE로 사용 처리하므로 같은 코드는 한 번만 성공
+     * 호출자의 트랜잭션에 참여하므로 이후 발급이 실패하면 함께 롤백
+     *
+     * @param codeHash 코드 다이제스트
+     * @param userId   사용자 ID
+     * @param issueId  발급할 쿠폰 ID
+     * @return 코드가 속한 정책 ID (존재하지 않거나 이미 사용된 코드면 empty)
+     */
+    Optional<Long> claim(long codeHash, Long userId, Long issueId);
+
+    /**
+     * 정책의 코드 상태별 집계 (최근 1분/1시간 사용 건수 포함)
+     *
+     * @param policyId 쿠폰 정책 ID
+     * @param now      최근 사용 건수 집계 기준 시각
+     */
+    InventoryCounts countByPolicy(Long policyId, LocalDateTime now);
+
+    /**
+     * 정책의 코드를 커서로 한 행씩 전달
+     *
+     * @return 전달한 행 수
+     */
+    long streamCodes(Long policyId, Consumer<CodeRow> sink);
+
+    /**
+     * 전체 코드 다이제스트를 커서로 전달 (조회 필터 재구성용)
+     *
+     * @return 전달한 다이제스트 수
+     */
+    long streamAllHashes(LongConsumer sink);
+
+    /**
+     * 코드 상태별 집계 결과
+     */
+    @lombok.Value
+    @Builder
+    class InventoryCounts {
+        Map<CouponCodeStatus, Long> counts;
+        long redeemedLastMinute;
+        long redeemedLastHour;
+        LocalDateTime lastRedeemedAt;
+
+        public long count(CouponCodeStatus status) {
+            return counts.getOrDefault(status, 0L);
+        }
+
+        public long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /**
+     * 내보내기 행
+     */
+    @lombok.Value
+    @Builder
+    class CodeRow {
+        long codeHash;
+        CouponCodeStatus status;
+        Long redeemedBy;
+        Long issueId;
+        LocalDateTime redeemedAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.teambind.coupon.application.port.out;
+
+/**
+ * 쿠폰 코드 일련번호 Port
+ * 순열 코드 생성에 사용할 일련번호 구간을 원자적으로 예약
+ */
+public interface CouponCodeSequencePort {
+
+    /**
+     * 일련번호 구간 예약
+     * 동시에 호출해도 서로 겹치지 않는 구간을 반환
+     *
+     * @param count 예약할 개수
+     * @return 예약한 구간의 시작 번호 (start 이상 start + count 미만)
+     */
+    long reserve(int count);
+}
@@ -0,0 +1,89 @@
+package com.teambind.coupon.application.port.out;
+
+import com.teambind.coupon.domain.event.CouponStatusChangedEvent.Transition;
+import com.teambind.coupon.domain.model.CouponStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쿠폰 상태 카운터 Output Port
+ * 정책별/전체 상태별 쿠폰 수를 O(1)로 조회하기 위한 카운터 저장소
+ */
+public interface CouponCounterPort {
+
+    /**
+     * 상태 전이를 정책별/전체 카운터에 반영 (이전 상태 -1, 새 상태 +1)
+     *
+     * @param transitions 상태 전이 목록
+     */
+    void applyTransitions(List<Transition> transitions);
+
+    /**
+     * 정책별 카운터 조회
+     *
+     * @param policyId 정책 ID
+     * @return 카운터 (없으면 0으로 채워진 카운터)
+     */
+    CounterValues loadPolicyCounters(Long policyId);
+
+    /**
+     * 여러 정책의 카운터 일괄 조회
+     *
+     * @param policyIds 정책 ID 목록
+     * @return 정책 ID별 카운터
+     */
+    Map<Long, CounterValues> loadPolicyCounters(Collection<Long> policyIds);
+
+    /**
+     * 전체 카운터 조회
+     */
+    CounterValues loadGlobalCounters();
+
+    /**
+     * 카운터 키가 존재하는 정책 ID 목록 (보정 대상 인덱스)
+     */
+    Set<Long> loadCounterPolicyIds();
+
+    /**
+     * 정책별/전체 카운터를 DB 집계 값으로 보정 (compare-and-set)
+     * 필드 값이 관측값과 같을 때만 차이만큼 증감하고, 관측 이후 이벤트로 바뀐 필드는 건너뜀 (다음 보정에서 처리)
+     * 기대값이 모두 0인 정책 카운터는 삭제
+     *
+     * @param expectedByPolicy 정책 ID별 기대값 (DB 집계, 사라진 정책은 빈 Map)
+     * @param observedByPolicy 정책 ID별 관측값 (DB 집계 전에 읽은 카운터, 없으면 0으로 간주)
+     * @param expectedGlobal   전체 기대값
+     * @param observedGlobal   전체 관측값
+     * @return 동시 변경으로 건너뛴 필드 수
+     */
+    long compareAndSetCounters(Map<Long, Map<CouponStatus, Long>> expectedByPolicy,
+                               Map<Long, CounterValues> observedByPolicy,
+                               Map<CouponStatus, Long> expectedGlobal,
+                               CounterValues observedGlobal);
+
+    /**
+     * 카운터 값
+     */
+    @lombok.Value
+    @Builder
+    class CounterValues {
+        Map<CouponStatus, Long> countsByStatus;
+        LocalDateTime lastIssuedAt;
+        LocalDateTime lastUsedAt;
+
+        public long count(CouponStatus status) {
+            return countsByStatus.getOrDefault(status, 0L);
+        }
+
+        /**
+         * 누적 발급 수 (모든 쿠폰은 정확히 하나의 상태에 속하므로 상태별 합계)
+         */
+        public long totalIssued() {
+            return countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.teambind.coupon.application.port.out;
+
+import com.teambind.coupon.domain.model.CouponStatus;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * coupon_issues 파티션 관리 Output Port
+ * issued_at 월 단위 Range 파티션의 생성/조회/분리를 담당
+ */
+public interface CouponIssuePartitionPort {
+
+    /**
+     * coupon_issues가 파티션 테이블인지 확인
+     * ddl-auto로 생성된 일반 테이블 환경(로컬/테스트)에서는 파티션 관리를 건너뛴다
+     */
+    boolean isPartitioned();
+
+    /**
+     * 월별 파티션 생성 (이미 존재하면 무시)
+     *
+     * @param month 대상 월
+     * @return 파티션 테이블 이름
+     */
+    String createMonthlyPartition(YearMonth month);
+
+    /**
+     * 현재 연결된 월별 파티션 목록 조회 (오래된 순)
+     */
+    List<YearMonth> loadAttachedPartitions();
+
+    /**
+     * 파티션에 ISSUED/RESERVED 상태 쿠폰이 남아있는지 확인
+     */
+    boolean hasActiveCoupons(YearMonth month);
+
+    /**
+     * ISSUED/RESERVED 상태 쿠폰이 남아있는 가장 오래된 파티션 월 조회
+     * 오래된 파티션부터 확인하여 처음 발견한 월에서 멈춤
+     *
+     * @return 활성 쿠폰이 있는 가장 오래된 월 (활성 쿠폰이 없으면 empty)
+     */
+    Optional<YearMonth> findOldestActiveMonth();
+
+    /**
+     * 파티션을 핫 테이블에서 분리하여 보관 스키마로 이동
+     * DETACH PARTITION CONCURRENTLY를 사용하므로 트랜잭션 밖에서 호출해야 한다
+     *
+     * @param month            대상 월
+     * @param archiveSchema    보관 스키마
+     * @param archiveTablespace 보관 테이블스페이스 (없으면 null)
+     * @return 분리된 파티션 테이블 이름
+     */
+    String detachPartition(YearMonth month, String archiveSchema, String archiveTablespace);
+
+    /**
+     * 보관 스키마로 분리된 파티션의 정책별 상태별 쿠폰 수 집계 (카운터 보정용)
+     * 분리된 파티션은 더 이상 쓰이지 않으므로 구현체는 파티션별 집계를 재사용할 수 있다
+     * coupon_issue_history로 이미 보관된 쿠폰은 중복 집계하지 않는다
+     *
+     * @param archiveSchema 보관 스키마
+     * @return 정책 ID → 상태별 쿠폰 수
+     */
+    Map<Long, Map<CouponStatus, Long>> countDetachedByPolicyAndStatus(String archiveSchema);
+}
@@ -0,0 +1,30 @@
+package com.teambind.coupon.application.port.out;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 쿠폰 일별 통계 롤업 Output Port
+ * coupon_issues/coupon_issue_history → coupon_statistics 집계와 워터마크 관리
+ */
+public interface CouponStatisticsRollupPort {
+
+    /**
+     * 작업의 마지막 확정 집계 일자 조회
+     */
+    Optional<LocalDate> loadWatermark(String jobName);
+
+    /**
+     * 기간 내 일자들을 다시 집계하여 통계 테이블에 upsert (단일 트랜잭션)
+     *
+     * @param fromDate 시작 일자 (포함)
+     * @param toDate   종료 일자 (포함)
+     * @return 삽입 또는 갱신된 통계 행 수
+     */
+    int rollupDays(LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * 마지막 확정 집계 일자 저장
+     */
+    void saveWatermark(String jobName, LocalDate watermark);
+}
@@ -0,0 +1,59 @@
+package com.teambind.coupon.application.port.out;
+
+import com.teambind.coupon.application.dto.response.UserCouponView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 유저 쿠폰 지갑 읽기 모델 캐시 Output Port
+ */
+public interface CouponWalletCachePort {
+
+    /**
+     * 캐시된 지갑 조회
+     *
+     * @param userId 유저 ID
+     * @return 지갑 (캐시 미스 또는 조회 실패 시 empty)
+     */
+    Optional<CouponWallet> load(Long userId);
+
+    /**
+     * 지갑 저장
+     *
+     * @param userId 유저 ID
+     * @param wallet 지갑
+     */
+    void save(Long userId, CouponWallet wallet);
+
+    /**
+     * 지갑 무효화
+     *
+     * @param userIds 유저 ID 목록
+     */
+    void evict(Collection<Long> userIds);
+
+    /**
+     * 유저 쿠폰 지갑 읽기 모델
+     * 기본 지갑 화면(필터 없는 첫 페이지)과 통계 카운터
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class CouponWallet {
+        private List<UserCouponView> items;   // 첫 페이지 (pageSize + 1개까지, 다음 페이지 존재 여부 판단용)
+        private long totalCoupons;        // 전체 쿠폰 수
+        private long availableCoupons;    // 사용 가능 쿠폰 수
+        private long usedCoupons;         // 사용 완료 쿠폰 수
+        private long expiredCoupons;      // 만료된 쿠폰 수
+        private long expiringCoupons;     // 7일 내 만료 예정 쿠폰 수
+        private LocalDateTime builtAt;    // 생성 시각
+    }
+}
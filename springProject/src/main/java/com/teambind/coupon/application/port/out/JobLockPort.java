@@ -0,0 +1,31 @@
+package com.teambind.coupon.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 작업 단위 분산 락 Output Port
+ * 스케줄러 밖에서 시작되는 장시간 작업(백필 등)이 인스턴스 간에 한 번만 실행되도록 보장
+ */
+public interface JobLockPort {
+
+    /**
+     * 락 획득 시도 (대기하지 않음)
+     *
+     * @param name          락 이름
+     * @param lockAtMostFor 해제되지 않아도 자동으로 풀리는 최대 유지 시간
+     * @return 획득한 락 (다른 곳에서 보유 중이면 empty)
+     */
+    Optional<JobLock> tryLock(String name, Duration lockAtMostFor);
+
+    /**
+     * 획득한 작업 락
+     */
+    interface JobLock {
+
+        /**
+         * 락 해제 (획득한 스레드가 아니어도 해제 가능)
+         */
+        void unlock();
+    }
+}
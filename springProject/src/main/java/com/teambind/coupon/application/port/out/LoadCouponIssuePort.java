@@ -4,7 +4,10 @@ import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -29,8 +32,31 @@ public interface LoadCouponIssuePort {
 
     /**
      * 예약 ID로 쿠폰 조회 (비관적 락)
+     * 장바구니 예약은 한 예약 ID에 여러 쿠폰이 묶이므로 목록으로 반환 (ID 순서로 잠금)
      */
-    Optional<CouponIssue> loadByReservationIdWithLock(String reservationId);
+    List<CouponIssue> loadAllByReservationIdWithLock(String reservationId);
+
+    /**
+     * 예약 ID로 쿠폰 조회 (잠금 없음, 예약 ID 중복 검증용)
+     */
+    List<CouponIssue> loadAllByReservationId(String reservationId);
+
+    /**
+     * 여러 쿠폰 ID와 사용자 ID로 조회
+     *
+     * @param issueIds 쿠폰 ID 목록
+     * @param userId 사용자 ID
+     * @return 사용자 소유 쿠폰 (없는 ID는 제외)
+     */
+    List<CouponIssue> loadByIdsAndUserId(List<Long> issueIds, Long userId);
+
+    /**
+     * 여러 쿠폰 ID로 조회 (소유자 무관, 단일 IN 쿼리)
+     *
+     * @param issueIds 쿠폰 ID 목록
+     * @return 조회된 쿠폰 (없는 ID는 제외)
+     */
+    List<CouponIssue> loadByIds(Collection<Long> issueIds);
 
     /**
      * 사용자의 특정 정책 발급 횟수 조회
@@ -57,6 +83,22 @@ public interface LoadCouponIssuePort {
      */
     int countByUserIdAndStatus(Long userId, CouponStatus status);
 
+    /**
+     * 사용자의 상태별 쿠폰 개수와 만료 임박 개수를 단일 쿼리로 집계 (보관된 이력 포함)
+     *
+     * @param userId 사용자 ID
+     * @param daysUntilExpiry 만료 임박 기준 일수
+     * @return 집계 결과
+     */
+    UserCouponCounts countUserCoupons(Long userId, int daysUntilExpiry);
+
+    /**
+     * 정책별 상태별 쿠폰 수 집계 (보관된 이력 포함)
+     *
+     * @return 정책 ID별 상태별 개수
+     */
+    Map<Long, Map<CouponStatus, Long>> countByPolicyAndStatus();
+
     /**
      * 사용자의 사용 가능한 쿠폰 목록 조회
      */
@@ -66,4 +108,33 @@ public interface LoadCouponIssuePort {
      * ID로 쿠폰 조회
      */
     Optional<CouponIssue> findById(Long couponId);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 쿠폰 집계 결과
+     */
+    @lombok.Value
+    @lombok.Builder
+    class UserCouponCounts {
+        Map<CouponStatus, Long> countsByStatus; // 상태별 개수 (모든 상태 포함)
+        long availableCount;                    // 사용 가능 (ISSUED이면서 만료되지 않음)
+        long expiringCount;                     // N일 내 만료 예정
+        LocalDateTime firstIssuedAt;
+        LocalDateTime lastUsedAt;
+
+        public long count(CouponStatus status) {
+            return countsByStatus.getOrDefault(status, 0L);
+        }
+
+        public long totalCount() {
+            return countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public static UserCouponCounts empty() {
+            Map<CouponStatus, Long> counts = new EnumMap<>(CouponStatus.class);
+            for (CouponStatus status : CouponStatus.values()) {
+                counts.put(status, 0L);
+            }
+            return UserCouponCounts.builder().countsByStatus(counts).build();
+        }
+    }
+}
@@ -38,6 +38,13 @@ public interface LoadCouponPolicyPort {
         return 0; // TODO: Repository 구현 필요
     }
 
+    /**
+     * 배포 방식별 쿠폰 정책 수 조회
+     *
+     * @return 배포 방식 이름별 정책 수
+     */
+    Map<String, Long> countByDistributionType();
+
     /**
      * 여러 ID로 쿠폰 정책들을 배치 조회
      * N+1 쿼리 문제 해결을 위한 메서드
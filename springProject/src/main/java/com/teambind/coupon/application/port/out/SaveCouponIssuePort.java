@@ -26,6 +26,17 @@ public interface SaveCouponIssuePort {
      */
     int updateStatusBatch(List<Long> issueIds, CouponStatus newStatus, LocalDateTime expiredAt);
 
+    /**
+     * 사용자의 ISSUED 쿠폰들을 한 번의 UPDATE로 예약 상태로 변경
+     *
+     * @param issueIds 쿠폰 ID 목록
+     * @param userId 사용자 ID
+     * @param reservationId 예약 ID
+     * @param reservedAt 예약 시각
+     * @return 변경된 쿠폰 수 (ISSUED가 아니거나 다른 사용자 쿠폰은 제외)
+     */
+    int reserveAll(List<Long> issueIds, Long userId, String reservationId, LocalDateTime reservedAt);
+
     /**
      * 여러 쿠폰 발급 저장
      */
@@ -0,0 +1,65 @@
+package com.teambind.coupon.application.port.out;
+
+import com.teambind.coupon.domain.model.CouponStatus;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 발급 쿠폰 스트리밍 조회 Output Port
+ * 엔티티로 적재하지 않고 커서로 한 행씩 전달하여 내보내기 크기와 무관하게 메모리 사용량 유지
+ */
+public interface StreamCouponIssuesPort {
+
+    /**
+     * 조건에 맞는 발급 쿠폰을 순서대로 전달 (정렬 보장 없음)
+     *
+     * @param filter 조회 조건
+     * @param sink   행 소비자 (예외 발생 시 조회 중단)
+     * @return 전달한 행 수
+     */
+    long streamIssues(ExportFilter filter, Consumer<ExportRow> sink);
+
+    /**
+     * 내보내기 조회 조건
+     */
+    @lombok.Value
+    @Builder
+    class ExportFilter {
+        Long policyId;
+        CouponStatus status;
+        LocalDateTime issuedFrom;   // 포함
+        LocalDateTime issuedTo;     // 미포함
+        boolean includeHistory;     // 보관 이력 테이블 포함 여부
+
+        /**
+         * 정책 또는 발급 기간 중 하나는 지정되어야 전체 테이블 스캔을 피할 수 있음
+         */
+        public boolean isBounded() {
+            return policyId != null || (issuedFrom != null && issuedTo != null);
+        }
+    }
+
+    /**
+     * 내보내기 행
+     */
+    @lombok.Value
+    @Builder
+    class ExportRow {
+        Long issueId;
+        Long policyId;
+        String couponName;
+        String couponCode;
+        String discountType;
+        BigDecimal discountValue;
+        Long userId;
+        String status;
+        String orderId;
+        LocalDateTime issuedAt;
+        LocalDateTime usedAt;
+        LocalDateTime expiredAt;
+        BigDecimal actualDiscountAmount;
+    }
+}
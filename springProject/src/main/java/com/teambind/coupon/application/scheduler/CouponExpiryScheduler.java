@@ -1,10 +1,16 @@
 package com.teambind.coupon.application.scheduler;
 
 import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueStatusProjection;
 import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueRepository;
+import com.teambind.coupon.common.config.CouponPartitionWindow;
+import com.teambind.coupon.domain.event.CouponStatusChangedEvent;
+import com.teambind.coupon.domain.event.CouponWalletChangedEvent;
+import com.teambind.coupon.domain.model.CouponStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,7 +32,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CouponExpiryScheduler {
 
+    // 만료 대상 상태 (updateToExpiredBatch의 상태 조건과 동일)
+    private static final List<String> EXPIRABLE_STATUSES =
+            List.of(CouponStatus.ISSUED.name(), CouponStatus.RESERVED.name());
+
     private final CouponIssueRepository couponIssueRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CouponPartitionWindow partitionWindow;
 
     @Value("${coupon.scheduler.expiry.batch-size:100}")
     private int batchSize;
@@ -66,15 +78,17 @@ public class CouponExpiryScheduler {
         int totalProcessed = 0;
         int pageNumber = 0;
         Page<CouponIssueEntity> page;
+        // 활성 쿠폰이 남아있는 파티션만 조회하도록 발급일시 하한 적용 (파티션 메타데이터 기준)
+        LocalDateTime issuedFrom = partitionWindow.activeFrom();
 
         do {
             // 배치 크기만큼 조회
             Pageable pageable = PageRequest.of(pageNumber, batchSize);
-            page = couponIssueRepository.findExpiredCouponsWithPaging(now, pageable);
+            page = couponIssueRepository.findExpiredCouponsWithPaging(now, issuedFrom, pageable);
 
             if (page.hasContent()) {
                 // 배치 업데이트
-                int processed = updateExpiredCoupons(page.getContent(), now);
+                int processed = updateExpiredCoupons(page.getContent(), now, issuedFrom);
                 totalProcessed += processed;
 
                 log.debug("배치 {} 처리 완료: {}개 쿠폰 만료 처리", pageNumber + 1, processed);
@@ -89,7 +103,8 @@ public class CouponExpiryScheduler {
     /**
      * 쿠폰 상태를 EXPIRED로 일괄 업데이트
      */
-    private int updateExpiredCoupons(List<CouponIssueEntity> expiredCoupons, LocalDateTime now) {
+    private int updateExpiredCoupons(List<CouponIssueEntity> expiredCoupons, LocalDateTime now,
+                                     LocalDateTime issuedFrom) {
         if (expiredCoupons.isEmpty()) {
             return 0;
         }
@@ -99,8 +114,27 @@ public class CouponExpiryScheduler {
                 .map(CouponIssueEntity::getId)
                 .collect(Collectors.toList());
 
+        // 조회 이후 사용/만료된 쿠폰을 제외하기 위해 아직 ISSUED/RESERVED인 행을 잠그고 잠근 행만 만료 처리
+        // (잠금 조회는 네이티브 쿼리라 페이지 조회로 읽어 둔 엔티티가 아닌 DB의 현재 상태를 읽음)
+        List<CouponIssueStatusProjection> targets = couponIssueRepository.lockForStatusChange(
+                couponIds, EXPIRABLE_STATUSES, issuedFrom, partitionWindow.fullRange().to());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
         // 배치 업데이트 실행
-        int updatedCount = couponIssueRepository.updateToExpiredBatch(couponIds, now);
+        int updatedCount = couponIssueRepository.updateToExpiredBatch(
+                targets.stream().map(CouponIssueStatusProjection::getId).toList(), now, issuedFrom);
+
+        // 일괄 UPDATE는 엔티티 콜백이 호출되지 않으므로 실제로 변경된 행의 상태 전이를 직접 발행
+        eventPublisher.publishEvent(new CouponStatusChangedEvent(targets.stream()
+                .map(target -> new CouponStatusChangedEvent.Transition(
+                        target.getPolicyId(), CouponStatus.valueOf(target.getStatus()), CouponStatus.EXPIRED, now))
+                .toList()));
+
+        // 만료된 쿠폰 소유 유저의 지갑 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(CouponWalletChangedEvent.of(
+                targets.stream().map(CouponIssueStatusProjection::getUserId).toList()));
 
         // 업데이트된 쿠폰 정보 로깅
         if (log.isDebugEnabled()) {
@@ -155,6 +189,9 @@ public class CouponExpiryScheduler {
                 couponIssueRepository.save(reservation);
             }
 
+            eventPublisher.publishEvent(CouponWalletChangedEvent.of(
+                    timeoutReservations.stream().map(CouponIssueEntity::getUserId).toList()));
+
             log.info("예약 타임아웃 처리 완료 - {}개 쿠폰 복구", timeoutReservations.size());
         }
     }
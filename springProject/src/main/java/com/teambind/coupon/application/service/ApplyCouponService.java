@@ -5,15 +5,15 @@ import com.teambind.coupon.application.dto.request.CouponApplyRequest;
 import com.teambind.coupon.application.dto.response.CouponApplyResponse;
 import com.teambind.coupon.application.port.in.ApplyCouponUseCase;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
-import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.application.port.out.LoadReservationPort;
 import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
 import com.teambind.coupon.application.port.out.SaveReservationPort;
 import com.teambind.coupon.domain.exception.*;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
 import com.teambind.coupon.domain.model.CouponIssue;
-import com.teambind.coupon.domain.model.CouponPolicy;
 import com.teambind.coupon.domain.model.CouponReservation;
 import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,7 +29,7 @@ public class ApplyCouponService implements ApplyCouponUseCase {
 
     private final LoadCouponIssuePort loadCouponIssuePort;
     private final SaveCouponIssuePort saveCouponIssuePort;
-    private final LoadCouponPolicyPort loadCouponPolicyPort;
+    private final CompiledCouponRuleCache ruleCache;
     private final LoadReservationPort loadReservationPort;
     private final SaveReservationPort saveReservationPort;
     private final RedisDistributedLock distributedLock;
@@ -55,13 +55,12 @@ public class ApplyCouponService implements ApplyCouponUseCase {
             throw new CouponAlreadyUsedException("사용 가능한 상태가 아닙니다: " + coupon.getStatus());
         }
 
-        // 쿠폰 정책 조회
-        CouponPolicy policy = loadCouponPolicyPort.loadById(coupon.getPolicyId())
+        // 컴파일된 정책 규칙 조회 (공용 규칙 캐시 사용)
+        CompiledCouponRule rule = ruleCache.get(coupon.getPolicyId())
                 .orElseThrow(() -> new PolicyNotFoundException("정책을 찾을 수 없습니다"));
 
         // 최소 주문 금액 확인
-        if (policy.getMinimumOrderAmount() != null &&
-            request.getOrderAmount().compareTo(policy.getMinimumOrderAmount()) < 0) {
+        if (!rule.meetsMinimumOrder(DiscountCalculator.toMinorUnits(request.getOrderAmount()))) {
             throw new MinimumOrderNotMetException("최소 주문 금액을 충족하지 않습니다");
         }
 
@@ -1,14 +1,22 @@
 package com.teambind.coupon.application.service;
 
+import com.teambind.coupon.adapter.out.redis.BlockedIdentifierCache;
 import com.teambind.coupon.adapter.out.redis.RateLimiterService;
+import com.teambind.coupon.adapter.out.redis.SecurityRedisKeys;
+import com.teambind.coupon.application.service.StreamingAttackDetector.ScanSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -23,6 +31,8 @@ public class AttackDetectionService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RateLimiterService rateLimiterService;
+    private final BlockedIdentifierCache blockedIdentifierCache;
+    private final StreamingAttackDetector streamingAttackDetector;
 
     @Value("${coupon.security.max-failures:10}")
     private int maxFailures;
@@ -33,6 +43,7 @@ public class AttackDetectionService {
     // 공격 패턴 임계값
     private static final int SCAN_THRESHOLD = 5;  // 연속 실패 임계값
     private static final int BRUTE_FORCE_THRESHOLD = 10;  // 무작위 대입 임계값
+    private static final long BRUTE_FORCE_WINDOW_SECONDS = 3600;  // 클러스터 병합 HyperLogLog 유지 시간
     private static final int SUSPICIOUS_RATE = 100;  // 의심스러운 요청 비율
 
     /**
@@ -42,10 +53,10 @@ public class AttackDetectionService {
      * @param action     액션 (login, coupon_download 등)
      */
     public void recordFailure(String identifier, String action) {
-        String failureKey = generateFailureKey(identifier, action);
+        String failureKey = generateFailureKey(identifier);
 
         try {
-            Long failures = redisTemplate.opsForValue().increment(failureKey);
+            Long failures = redisTemplate.opsForHash().increment(failureKey, action, 1);
             redisTemplate.expire(failureKey, Duration.parse("PT" + blockDuration));
 
             if (failures != null) {
@@ -66,10 +77,10 @@ public class AttackDetectionService {
      * @param action     액션
      */
     public void recordSuccess(String identifier, String action) {
-        String failureKey = generateFailureKey(identifier, action);
+        String failureKey = generateFailureKey(identifier);
 
         try {
-            redisTemplate.delete(failureKey);
+            redisTemplate.opsForHash().delete(failureKey, action);
             log.debug("성공 기록 - 실패 카운터 리셋 - identifier: {}, action: {}", identifier, action);
         } catch (Exception e) {
             log.error("성공 기록 오류 - identifier: {}, action: {}", identifier, action, e);
@@ -78,20 +89,13 @@ public class AttackDetectionService {
 
     /**
      * 차단 여부 확인
+     * 로컬 차단 캐시를 먼저 확인하므로 대부분의 요청은 Redis 왕복 없이 처리
      *
      * @param identifier 식별자
      * @return 차단 여부
      */
     public boolean isBlocked(String identifier) {
-        String blockKey = generateBlockKey(identifier);
-
-        try {
-            Boolean blocked = redisTemplate.hasKey(blockKey);
-            return blocked != null && blocked;
-        } catch (Exception e) {
-            log.error("차단 확인 오류 - identifier: {}", identifier, e);
-            return false;
-        }
+        return blockedIdentifierCache.isBlocked(identifier);
     }
 
     /**
@@ -111,6 +115,9 @@ public class AttackDetectionService {
                     duration
             );
 
+            // 다른 인스턴스의 로컬 차단 캐시에 전파
+            blockedIdentifierCache.publishBlocked(identifier, duration);
+
             // 차단 이력 기록
             recordBlockHistory(identifier, reason);
 
@@ -131,6 +138,7 @@ public class AttackDetectionService {
 
         try {
             redisTemplate.delete(blockKey);
+            blockedIdentifierCache.publishUnblocked(identifier);
             log.info("차단 해제 - identifier: {}", identifier);
         } catch (Exception e) {
             log.error("차단 해제 오류 - identifier: {}", identifier, e);
@@ -139,24 +147,20 @@ public class AttackDetectionService {
 
     /**
      * 무작위 대입 공격 탐지
+     * 시도한 코드는 로컬 Sketch에만 기록하고 클러스터 병합은 mergeClusterSketches에서 주기적으로 수행
      *
      * @param identifier  식별자
      * @param couponCode  시도한 쿠폰 코드
      * @return 공격 탐지 여부
      */
     public boolean detectBruteForce(String identifier, String couponCode) {
-        String bruteForceKey = "brute_force:" + identifier;
-
         try {
-            // 최근 시도한 코드 기록
-            redisTemplate.opsForSet().add(bruteForceKey, couponCode);
-            redisTemplate.expire(bruteForceKey, 1, TimeUnit.HOURS);
-
-            // 시도 횟수 확인
-            Long attempts = redisTemplate.opsForSet().size(bruteForceKey);
-            if (attempts != null && attempts > BRUTE_FORCE_THRESHOLD) {
+            long attempts = streamingAttackDetector.recordCodeAttempt(identifier, couponCode);
+            if (attempts > BRUTE_FORCE_THRESHOLD) {
                 log.warn("무작위 대입 공격 탐지 - identifier: {}, attempts: {}", identifier, attempts);
-                blockUser(identifier, "BRUTE_FORCE", Duration.parse("PT" + blockDuration));
+                if (!isBlocked(identifier)) {
+                    blockUser(identifier, "BRUTE_FORCE", Duration.parse("PT" + blockDuration));
+                }
                 return true;
             }
 
@@ -175,22 +179,17 @@ public class AttackDetectionService {
      * @return 공격 탐지 여부
      */
     public boolean detectScanning(String identifier, String pattern) {
-        String scanKey = "scan_pattern:" + identifier;
-
         try {
-            // 패턴 기록
-            redisTemplate.opsForList().rightPush(scanKey, pattern);
-            redisTemplate.expire(scanKey, 10, TimeUnit.MINUTES);
-
-            // 최근 패턴 확인
-            Long patternCount = redisTemplate.opsForList().size(scanKey);
-            if (patternCount != null && patternCount > SCAN_THRESHOLD) {
-                // 패턴 분석
-                if (analyzePatterns(identifier)) {
-                    log.warn("스캔 공격 탐지 - identifier: {}", identifier);
+            ScanSummary summary = streamingAttackDetector.recordPattern(identifier, pattern);
+
+            // 순차적 ID 시도 또는 매번 다른 패턴 시도
+            if (summary.attempts() > SCAN_THRESHOLD
+                    && (summary.isMostlySequential() || summary.isMostlyDistinct())) {
+                log.warn("스캔 공격 탐지 - identifier: {}", identifier);
+                if (!isBlocked(identifier)) {
                     blockUser(identifier, "SCANNING", Duration.ofHours(6));
-                    return true;
                 }
+                return true;
             }
 
             return false;
@@ -200,6 +199,45 @@ public class AttackDetectionService {
         }
     }
 
+    /**
+     * 인스턴스별 시도 코드를 클러스터 단위로 병합
+     * Redis HyperLogLog에 파이프라인으로 PFADD/PFCOUNT하여 여러 인스턴스에 나뉜 시도도 합산
+     *
+     * @return 차단한 식별자 수
+     */
+    public int mergeClusterSketches() {
+        Map<String, Set<String>> pending = streamingAttackDetector.drainPendingCodes();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<String> identifiers = new ArrayList<>(pending.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String identifier : identifiers) {
+                byte[] key = bytes(SecurityRedisKeys.bruteForce(identifier));
+                byte[][] codes = pending.get(identifier).stream().map(this::bytes).toArray(byte[][]::new);
+                connection.hyperLogLogCommands().pfAdd(key, codes);
+                connection.keyCommands().expire(key, BRUTE_FORCE_WINDOW_SECONDS);
+                connection.hyperLogLogCommands().pfCount(key);
+            }
+            return null;
+        });
+
+        int blocked = 0;
+        for (int i = 0; i < identifiers.size(); i++) {
+            Object count = results.get(i * 3 + 2);
+            String identifier = identifiers.get(i);
+            if (count instanceof Long attempts && attempts > BRUTE_FORCE_THRESHOLD && !isBlocked(identifier)) {
+                log.warn("무작위 대입 공격 탐지 (클러스터 병합) - identifier: {}, attempts: {}", identifier, attempts);
+                blockUser(identifier, "BRUTE_FORCE", Duration.parse("PT" + blockDuration));
+                blocked++;
+            }
+        }
+
+        log.debug("공격 탐지 Sketch 병합 - identifiers: {}, blocked: {}", identifiers.size(), blocked);
+        return blocked;
+    }
+
     /**
      * 의심스러운 활동 점수 계산
      *
@@ -210,11 +248,10 @@ public class AttackDetectionService {
         int score = 0;
 
         try {
-            // 실패 횟수
-            String failureKey = "failure:*:" + identifier;
-            Set<String> failureKeys = redisTemplate.keys(failureKey);
-            if (failureKeys != null) {
-                score += Math.min(failureKeys.size() * 10, 30);
+            // 실패한 액션 수 (식별자별 Hash의 필드 수, O(1))
+            Long failedActions = redisTemplate.opsForHash().size(generateFailureKey(identifier));
+            if (failedActions != null) {
+                score += (int) Math.min(failedActions * 10, 30);
             }
 
             // Rate limit 초과 횟수
@@ -227,9 +264,9 @@ public class AttackDetectionService {
                 score += 30;
             }
 
-            // 무작위 대입 시도
-            String bruteForceKey = "brute_force:" + identifier;
-            Long bruteForceAttempts = redisTemplate.opsForSet().size(bruteForceKey);
+            // 무작위 대입 시도 (클러스터 병합된 고유 코드 수)
+            String bruteForceKey = SecurityRedisKeys.bruteForce(identifier);
+            Long bruteForceAttempts = redisTemplate.opsForHyperLogLog().size(bruteForceKey);
             if (bruteForceAttempts != null && bruteForceAttempts > 0) {
                 score += Math.min(bruteForceAttempts * 5, 20);
             }
@@ -254,72 +291,11 @@ public class AttackDetectionService {
         }
     }
 
-    /**
-     * 패턴 분석
-     */
-    private boolean analyzePatterns(String identifier) {
-        String scanKey = "scan_pattern:" + identifier;
-
-        try {
-            // 최근 패턴 조회
-            var patterns = redisTemplate.opsForList().range(scanKey, -10, -1);
-            if (patterns == null || patterns.isEmpty()) {
-                return false;
-            }
-
-            // 연속적인 패턴 확인 (예: 순차적 ID 시도)
-            return isSequentialPattern(patterns) || isRandomPattern(patterns);
-
-        } catch (Exception e) {
-            log.error("패턴 분석 오류 - identifier: {}", identifier, e);
-            return false;
-        }
-    }
-
-    /**
-     * 순차적 패턴 확인
-     */
-    private boolean isSequentialPattern(java.util.List<String> patterns) {
-        // 간단한 순차 패턴 확인 로직
-        int sequential = 0;
-        for (int i = 1; i < patterns.size(); i++) {
-            if (isSequential(patterns.get(i - 1), patterns.get(i))) {
-                sequential++;
-            }
-        }
-        return sequential > patterns.size() / 2;
-    }
-
-    /**
-     * 랜덤 패턴 확인
-     */
-    private boolean isRandomPattern(java.util.List<String> patterns) {
-        // 모든 패턴이 다른 경우
-        return patterns.stream().distinct().count() == patterns.size();
-    }
-
-    /**
-     * 두 문자열이 순차적인지 확인
-     */
-    private boolean isSequential(String s1, String s2) {
-        try {
-            // 숫자로 끝나는 경우 순차 확인
-            String num1 = s1.replaceAll("[^0-9]+$", "");
-            String num2 = s2.replaceAll("[^0-9]+$", "");
-
-            if (!num1.isEmpty() && !num2.isEmpty()) {
-                return Integer.parseInt(num2) - Integer.parseInt(num1) == 1;
-            }
-        } catch (Exception ignored) {
-        }
-        return false;
-    }
-
     /**
      * 차단 이력 기록
      */
     private void recordBlockHistory(String identifier, String reason) {
-        String historyKey = "block_history:" + identifier;
+        String historyKey = SecurityRedisKeys.blockHistory(identifier);
 
         try {
             String record = String.format("%s|%s", reason, LocalDateTime.now());
@@ -334,7 +310,7 @@ public class AttackDetectionService {
      * 차단 이력 확인
      */
     private boolean hasBlockHistory(String identifier) {
-        String historyKey = "block_history:" + identifier;
+        String historyKey = SecurityRedisKeys.blockHistory(identifier);
 
         try {
             Long size = redisTemplate.opsForList().size(historyKey);
@@ -345,11 +321,19 @@ public class AttackDetectionService {
         }
     }
 
-    private String generateFailureKey(String identifier, String action) {
-        return String.format("failure:%s:%s", action, identifier);
+    /**
+     * 식별자별 실패 카운터 Hash 키 (필드: 액션, 값: 실패 횟수)
+     * 액션별 키를 따로 두면 위험 점수 계산 시 패턴 조회(KEYS)가 필요하므로 식별자 단위로 묶음
+     */
+    private String generateFailureKey(String identifier) {
+        return SecurityRedisKeys.failures(identifier);
     }
 
     private String generateBlockKey(String identifier) {
-        return "blocked:" + identifier;
+        return SecurityRedisKeys.blocked(identifier);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
\ No newline at end of file
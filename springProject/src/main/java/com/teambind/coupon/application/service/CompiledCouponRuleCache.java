@@ -0,0 +1,104 @@
+package com.teambind.coupon.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 컴파일된 쿠폰 정책 규칙 로컬 캐시 (쿠폰 추천/일괄 검증/예약/적용 공용, 프로세스 내 유일한 정책 규칙 캐시)
+ * 정책의 할인 조건/적용 상품은 생성 후 바뀌지 않으므로 TTL 동안 프로세스 내에서 재사용하고
+ * 캐시에 없는 정책만 한 번의 배치 조회로 읽어 컴파일
+ * 한도를 넘으면 사용 빈도가 낮은 정책부터 제거하므로 자주 쓰는 정책은 계속 캐시에 남음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompiledCouponRuleCache {
+
+    private final LoadCouponPolicyPort loadCouponPolicyPort;
+
+    @Value("${coupon.recommend.rule-cache-ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${coupon.recommend.rule-cache-max-size:10000}")
+    private int maxSize;
+
+    // 정책 ID → 컴파일된 규칙
+    private Cache<Long, CompiledCouponRule> rules;
+
+    @PostConstruct
+    public void init() {
+        rules = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 정책 ID별 컴파일된 규칙 조회
+     * 존재하지 않는 정책은 결과에서 제외
+     *
+     * @param policyIds 정책 ID 목록
+     * @return 정책 ID → 컴파일된 규칙
+     */
+    public Map<Long, CompiledCouponRule> getAll(Collection<Long> policyIds) {
+        List<Long> ids = policyIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return rules.getAll(ids, this::compileAll);
+    }
+
+    /**
+     * 정책 ID의 컴파일된 규칙 조회 (단건 경로용, 캐시 미스면 해당 정책만 조회)
+     *
+     * @param policyId 정책 ID
+     * @return 컴파일된 규칙 (정책이 없으면 empty)
+     */
+    public Optional<CompiledCouponRule> get(Long policyId) {
+        if (policyId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(rules.get(policyId, this::compile));
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public void clear() {
+        rules.invalidateAll();
+    }
+
+    private CompiledCouponRule compile(Long policyId) {
+        return loadCouponPolicyPort.loadById(policyId)
+                .map(CompiledCouponRule::compile)
+                .orElse(null);
+    }
+
+    private Map<Long, CompiledCouponRule> compileAll(Set<? extends Long> missing) {
+        Map<Long, CouponPolicy> loaded = loadCouponPolicyPort.loadByIds(new ArrayList<>(missing));
+        Map<Long, CompiledCouponRule> compiled = new HashMap<>(loaded.size() * 2);
+        for (CouponPolicy policy : loaded.values()) {
+            compiled.put(policy.getId(), CompiledCouponRule.compile(policy));
+        }
+        log.debug("쿠폰 정책 규칙 컴파일 - requested: {}, loaded: {}", missing.size(), loaded.size());
+        return compiled;
+    }
+}
@@ -8,7 +8,6 @@ import com.teambind.coupon.common.util.SnowflakeIdGenerator;
 import com.teambind.coupon.domain.exception.CouponDomainException;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponPolicy;
-import com.teambind.coupon.domain.model.CouponStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -19,7 +18,6 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -58,7 +56,7 @@ public class ConcurrentCouponIssueService {
         CouponPolicy policy = loadCouponPolicyPort.loadById(policyId)
                 .orElseThrow(() -> new CouponDomainException.CouponNotFound(policyId));
 
-        validatePolicy(policy);
+        policy.validateIssuable();
 
         // 2. Redis에서 재고 체크 및 차감 (원자적 연산)
         boolean stockDecremented = false;
@@ -84,7 +82,7 @@ public class ConcurrentCouponIssueService {
             }
 
             // 4. 쿠폰 발급 (DB 저장)
-            CouponIssue couponIssue = createCouponIssue(userId, policy, issuedBy);
+            CouponIssue couponIssue = policy.issueTo(idGenerator.nextId(), userId);
             CouponIssue savedCoupon = saveCouponIssuePort.save(couponIssue);
 
             log.info("쿠폰 발급 성공 - couponId: {}, userId: {}, policyId: {}",
@@ -132,7 +130,7 @@ public class ConcurrentCouponIssueService {
         CouponPolicy policy = loadCouponPolicyPort.loadById(policyId)
                 .orElseThrow(() -> new CouponDomainException.CouponNotFound(policyId));
 
-        validatePolicy(policy);
+        policy.validateIssuable();
         initializeStockIfNeeded(policy);
 
         // 전체 재고 확인 및 차감
@@ -161,7 +159,7 @@ public class ConcurrentCouponIssueService {
                     }
                 }
 
-                CouponIssue coupon = createCouponIssue(userId, policy, issuedBy);
+                CouponIssue coupon = policy.issueTo(idGenerator.nextId(), userId);
                 CouponIssue saved = saveCouponIssuePort.save(coupon);
                 issuedCoupons.add(saved);
 
@@ -205,25 +203,6 @@ public class ConcurrentCouponIssueService {
         }
     }
 
-    /**
-     * 정책 검증
-     */
-    private void validatePolicy(CouponPolicy policy) {
-        if (!policy.isActive()) {
-            throw new CouponDomainException("비활성화된 쿠폰 정책입니다");
-        }
-
-        if (!policy.isIssuable()) {
-            if (policy.isExpired()) {
-                throw new CouponDomainException.CouponExpired(policy.getId());
-            }
-            if (policy.isNotStarted()) {
-                throw new CouponDomainException("아직 발급 기간이 아닙니다");
-            }
-            throw new CouponDomainException("발급 불가능한 상태입니다");
-        }
-    }
-
     /**
      * Redis 재고 초기화
      */
@@ -238,21 +217,6 @@ public class ConcurrentCouponIssueService {
         }
     }
 
-    /**
-     * 쿠폰 발급 엔티티 생성
-     */
-    private CouponIssue createCouponIssue(Long userId, CouponPolicy policy, String issuedBy) {
-        return CouponIssue.builder()
-                .id(idGenerator.nextId())
-                .policyId(policy.getId())
-                .userId(userId)
-                .status(CouponStatus.ISSUED)
-                .issuedAt(LocalDateTime.now())
-                .couponName(policy.getCouponName())
-                .discountPolicy(policy.getDiscountPolicy())
-                .build();
-    }
-
     /**
      * 배치 발급 결과
      */
@@ -0,0 +1,88 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ArchiveTerminalCouponsUseCase;
+import com.teambind.coupon.application.port.out.ArchiveCouponIssuePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 종료 상태 쿠폰 보관 서비스
+ * 배치 단위로 트랜잭션을 나누어 이동하며, 배치마다 워터마크를 저장하여 재시작 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponArchiveService implements ArchiveTerminalCouponsUseCase {
+
+    static final String JOB_NAME = "coupon-issue-archive";
+
+    private final ArchiveCouponIssuePort archiveCouponIssuePort;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.archive.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${coupon.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${coupon.archive.max-batches-per-run:500}")
+    private int maxBatchesPerRun;
+
+    @Override
+    public ArchiveResult archiveTerminalCoupons() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long watermark = archiveCouponIssuePort.loadWatermark(JOB_NAME);
+        Timer batchTimer = meterRegistry.timer("coupon.archive.batch.duration");
+
+        log.info("쿠폰 보관 시작 - cutoff: {}, watermark: {}, batchSize: {}", cutoff, watermark, batchSize);
+
+        long startNanos = System.nanoTime();
+        long archivedCount = 0;
+        int batchCount = 0;
+        boolean completed = false;
+
+        while (batchCount < maxBatchesPerRun) {
+            List<Long> ids = archiveCouponIssuePort.loadArchivableIds(watermark, cutoff, batchSize);
+
+            if (ids.isEmpty()) {
+                // 한 바퀴 순회 완료 → 다음 실행은 처음부터 (새로 종료된 쿠폰 포함)
+                archiveCouponIssuePort.archiveBatch(List.of(), JOB_NAME, 0L);
+                completed = true;
+                break;
+            }
+
+            long nextWatermark = ids.get(ids.size() - 1);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            int archived = archiveCouponIssuePort.archiveBatch(ids, JOB_NAME, nextWatermark);
+            sample.stop(batchTimer);
+
+            meterRegistry.counter("coupon.archive.rows").increment(archived);
+
+            archivedCount += archived;
+            watermark = nextWatermark;
+            batchCount++;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        double rowsPerSecond = elapsedMillis > 0 ? archivedCount * 1000.0 / elapsedMillis : archivedCount;
+
+        log.info("쿠폰 보관 완료 - archived: {}, batches: {}, watermark: {}, completed: {}, elapsed: {}ms, throughput: {} rows/s",
+                archivedCount, batchCount, watermark, completed, elapsedMillis, String.format("%.1f", rowsPerSecond));
+
+        return ArchiveResult.builder()
+                .archivedCount(archivedCount)
+                .batchCount(batchCount)
+                .watermark(completed ? 0L : watermark)
+                .completed(completed)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+}
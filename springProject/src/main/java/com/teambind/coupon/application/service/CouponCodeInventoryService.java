@@ -0,0 +1,293 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ManageCouponCodeInventoryUseCase;
+import com.teambind.coupon.application.port.in.RedeemCouponCodeUseCase;
+import com.teambind.coupon.application.port.out.CouponCodeFilterPort;
+import com.teambind.coupon.application.port.out.CouponCodeInventoryPort;
+import com.teambind.coupon.application.port.out.CouponCodeInventoryPort.CodeRow;
+import com.teambind.coupon.application.port.out.CouponCodeInventoryPort.InventoryCounts;
+import com.teambind.coupon.application.port.out.CouponCodeSequencePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.application.port.out.SaveCouponPolicyPort;
+import com.teambind.coupon.common.util.SnowflakeIdGenerator;
+import com.teambind.coupon.domain.exception.CouponDomainException;
+import com.teambind.coupon.domain.model.CouponCodeStatus;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.DistributionType;
+import com.teambind.coupon.domain.service.CouponCodeDigest;
+import com.teambind.coupon.domain.service.PermutationCodeGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 1회용 쿠폰 코드 재고 서비스
+ * 코드는 Bloom filter → 조건부 UPDATE 순으로 확인하여 존재하지 않는 코드는 DB에 닿지 않고,
+ * 존재하는 코드는 단일 UPDATE로 사용 처리되어 별도 락 없이 한 번만 사용됨
+ *
+ * 필터에는 DB 저장 전에 먼저 추가하므로 필터는 항상 저장된 코드의 상위 집합 (거짓 음성 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponCodeInventoryService implements ManageCouponCodeInventoryUseCase, RedeemCouponCodeUseCase {
+
+    private static final int MAX_IMPORT_CODE_LENGTH = 64;
+
+    private final CouponCodeInventoryPort couponCodeInventoryPort;
+    private final CouponCodeFilterPort couponCodeFilterPort;
+    private final CouponCodeSequencePort couponCodeSequencePort;
+    private final LoadCouponPolicyPort loadCouponPolicyPort;
+    private final SaveCouponPolicyPort saveCouponPolicyPort;
+    private final LoadCouponIssuePort loadCouponIssuePort;
+    private final SaveCouponIssuePort saveCouponIssuePort;
+    private final PermutationCodeGenerator permutationCodeGenerator;
+    private final CouponCodeDigest couponCodeDigest;
+    private final SnowflakeIdGenerator idGenerator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.code-inventory.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${coupon.code-inventory.max-generate-count:10000000}")
+    private int maxGenerateCount;
+
+    @Override
+    public long generateCodes(Long policyId, int count, String prefix, Consumer<String> sink) {
+        if (count <= 0 || count > maxGenerateCount) {
+            throw new IllegalArgumentException("생성 개수는 1~" + maxGenerateCount + " 사이여야 합니다");
+        }
+        loadCodePolicy(policyId);
+
+        log.info("1회용 쿠폰 코드 생성 시작 - policyId: {}, count: {}", policyId, count);
+        long startedAt = System.nanoTime();
+
+        long generated = 0;
+        while (generated < count) {
+            int chunk = (int) Math.min(batchSize, count - generated);
+            long startIndex = couponCodeSequencePort.reserve(chunk);
+            String[] codes = permutationCodeGenerator.generateRange(startIndex, chunk, prefix);
+
+            long[] hashes = new long[chunk];
+            for (int i = 0; i < chunk; i++) {
+                hashes[i] = couponCodeDigest.digest(codes[i]);
+            }
+            boolean[] saved = store(policyId, hashes);
+
+            // 64비트 다이제스트 충돌로 저장되지 않은 코드는 전달하지 않고 다음 청크에서 보충
+            for (int i = 0; i < chunk; i++) {
+                if (saved[i]) {
+                    sink.accept(codes[i]);
+                    generated++;
+                }
+            }
+        }
+
+        meterRegistry.counter("coupon.code.generated").increment(generated);
+        log.info("1회용 쿠폰 코드 생성 완료 - policyId: {}, count: {}, elapsed: {}ms",
+                policyId, generated, (System.nanoTime() - startedAt) / 1_000_000);
+        return generated;
+    }
+
+    @Override
+    public ImportResult importCodes(Long policyId, Iterator<String> codes) {
+        loadCodePolicy(policyId);
+
+        long imported = 0;
+        long duplicates = 0;
+        long invalid = 0;
+        long[] buffer = new long[batchSize];
+        int buffered = 0;
+
+        while (codes.hasNext()) {
+            String code = CouponCodeDigest.normalize(codes.next());
+            if (code.isEmpty()) {
+                continue;
+            }
+            if (!isImportable(code)) {
+                invalid++;
+                continue;
+            }
+
+            buffer[buffered++] = couponCodeDigest.digest(code);
+            if (buffered == buffer.length) {
+                long saved = countSaved(store(policyId, buffer));
+                imported += saved;
+                duplicates += buffered - saved;
+                buffered = 0;
+            }
+        }
+        if (buffered > 0) {
+            long saved = countSaved(store(policyId, Arrays.copyOf(buffer, buffered)));
+            imported += saved;
+            duplicates += buffered - saved;
+        }
+
+        meterRegistry.counter("coupon.code.imported").increment(imported);
+        log.info("1회용 쿠폰 코드 가져오기 완료 - policyId: {}, imported: {}, duplicates: {}, invalid: {}",
+                policyId, imported, duplicates, invalid);
+
+        return ImportResult.builder()
+                .imported(imported)
+                .duplicates(duplicates)
+                .invalid(invalid)
+                .build();
+    }
+
+    @Override
+    public long exportCodes(Long policyId, Consumer<CodeRow> sink) {
+        long rows = couponCodeInventoryPort.streamCodes(policyId, sink);
+        log.info("1회용 쿠폰 코드 내보내기 완료 - policyId: {}, rows: {}", policyId, rows);
+        return rows;
+    }
+
+    @Override
+    public InventoryStatistics getStatistics(Long policyId) {
+        InventoryCounts counts = couponCodeInventoryPort.countByPolicy(policyId, LocalDateTime.now());
+
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (CouponCodeStatus status : CouponCodeStatus.values()) {
+            distribution.put(status.name(), counts.count(status));
+        }
+
+        return InventoryStatistics.builder()
+                .policyId(policyId)
+                .totalCodes(counts.total())
+                .availableCodes(counts.count(CouponCodeStatus.AVAILABLE))
+                .redeemedCodes(counts.count(CouponCodeStatus.REDEEMED))
+                .redeemedLastMinute(counts.getRedeemedLastMinute())
+                .redeemedLastHour(counts.getRedeemedLastHour())
+                .redemptionsPerSecondLastMinute(counts.getRedeemedLastMinute() / 60.0)
+                .lastRedeemedAt(counts.getLastRedeemedAt())
+                .statusDistribution(distribution)
+                .build();
+    }
+
+    @Override
+    public long rebuildLookupFilter() {
+        log.info("1회용 쿠폰 코드 필터 재구성 시작");
+
+        long[] buffer = new long[batchSize];
+        int[] buffered = {0};
+        long total = couponCodeInventoryPort.streamAllHashes(hash -> {
+            buffer[buffered[0]++] = hash;
+            if (buffered[0] == buffer.length) {
+                couponCodeFilterPort.addAll(buffer);
+                buffered[0] = 0;
+            }
+        });
+        if (buffered[0] > 0) {
+            couponCodeFilterPort.addAll(Arrays.copyOf(buffer, buffered[0]));
+        }
+        couponCodeFilterPort.markReady();
+
+        log.info("1회용 쿠폰 코드 필터 재구성 완료 - codes: {}", total);
+        return total;
+    }
+
+    @Override
+    public long rebuildLookupFilterIfMissing() {
+        if (couponCodeFilterPort.isReady()) {
+            return 0;
+        }
+        return rebuildLookupFilter();
+    }
+
+    @Override
+    @Transactional
+    public CouponIssue redeem(Long userId, String code) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            long codeHash = couponCodeDigest.digest(code);
+
+            // 1. 필터에 없으면 DB 조회 없이 거절
+            if (!couponCodeFilterPort.mightContain(codeHash)) {
+                outcome = "filtered";
+                throw new CouponDomainException.CouponNotFound(0L);
+            }
+
+            // 2. 단일 UPDATE로 사용 처리 (미존재/이미 사용은 구분하지 않음 → 코드 존재 여부 노출 방지)
+            Long issueId = idGenerator.nextId();
+            Long policyId = couponCodeInventoryPort.claim(codeHash, userId, issueId)
+                    .orElseThrow(() -> new CouponDomainException.CouponNotFound(0L));
+
+            // 3. 정책 검증 및 발급 (실패 시 사용 처리도 롤백)
+            CouponPolicy policy = loadCouponPolicyPort.loadById(policyId)
+                    .orElseThrow(() -> new CouponDomainException.CouponNotFound(policyId));
+            policy.validateCodeIssuable();
+            policy.validateUserLimit(userId, () -> loadCouponIssuePort.countUserIssuance(userId, policy.getId()));
+
+            if (!saveCouponPolicyPort.decrementStock(policyId)) {
+                throw new CouponDomainException.StockExhausted("쿠폰 재고가 소진되었습니다: " + policy.getCouponCode());
+            }
+
+            CouponIssue saved = saveCouponIssuePort.save(policy.issueTo(issueId, userId));
+            outcome = "success";
+
+            log.info("1회용 쿠폰 코드 사용 완료 - issueId: {}, userId: {}, policyId: {}", saved.getId(), userId, policyId);
+            return saved;
+        } catch (CouponDomainException e) {
+            if ("error".equals(outcome)) {
+                outcome = "rejected";
+            }
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("coupon.code.redeem", "outcome", outcome));
+        }
+    }
+
+    /**
+     * 필터에 먼저 추가한 뒤 DB에 저장 (필터 추가 실패 시 저장하지 않음)
+     */
+    private boolean[] store(Long policyId, long[] hashes) {
+        couponCodeFilterPort.addAll(hashes);
+        return couponCodeInventoryPort.saveAll(policyId, hashes);
+    }
+
+    private long countSaved(boolean[] saved) {
+        long count = 0;
+        for (boolean s : saved) {
+            if (s) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isImportable(String code) {
+        if (code.length() > MAX_IMPORT_CODE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CouponPolicy loadCodePolicy(Long policyId) {
+        CouponPolicy policy = loadCouponPolicyPort.loadById(policyId)
+                .orElseThrow(() -> new CouponDomainException.CouponNotFound(policyId));
+        if (policy.getDistributionType() != DistributionType.CODE) {
+            throw new CouponDomainException("CODE 타입 정책에만 1회용 코드를 등록할 수 있습니다");
+        }
+        return policy;
+    }
+}
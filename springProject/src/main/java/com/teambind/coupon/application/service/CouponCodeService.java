@@ -1,15 +1,21 @@
 package com.teambind.coupon.application.service;
 
+import com.teambind.coupon.application.port.in.GenerateCouponCodesUseCase;
+import com.teambind.coupon.application.port.out.CouponCodeSequencePort;
 import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.exception.CouponDomainException;
 import com.teambind.coupon.domain.service.CouponCodeGenerator;
 import com.teambind.coupon.domain.service.CouponCodeGeneratorFactory;
+import com.teambind.coupon.domain.service.PermutationCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -20,10 +26,19 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class CouponCodeService {
+public class CouponCodeService implements GenerateCouponCodesUseCase {
 
     private final CouponCodeGeneratorFactory generatorFactory;
     private final LoadCouponPolicyPort loadCouponPolicyPort;
+    private final PermutationCodeGenerator permutationCodeGenerator;
+    private final CouponCodeSequencePort couponCodeSequencePort;
+    private final ParallelCouponCodeGenerator parallelCouponCodeGenerator;
+
+    @Value("${coupon.code.max-permutation-batch:1000000}")
+    private int maxPermutationBatch;
+
+    @Value("${coupon.code.max-stream-count:10000000}")
+    private int maxStreamCount;
 
     /**
      * 단일 쿠폰 코드 생성
@@ -33,6 +48,10 @@ public class CouponCodeService {
      * @return 생성된 쿠폰 코드
      */
     public String generateCode(CouponCodeGenerator.GeneratorType type, String prefix) {
+        if (type == CouponCodeGenerator.GeneratorType.PERMUTATION) {
+            return generatePermutationCodes(1, prefix).get(0);
+        }
+
         CouponCodeGenerator generator = generatorFactory.getGenerator(type);
 
         String code;
@@ -76,6 +95,13 @@ public class CouponCodeService {
      * @return 생성된 쿠폰 코드 리스트
      */
     public List<String> generateCodes(CouponCodeGenerator.GeneratorType type, int count, String prefix) {
+        if (type == CouponCodeGenerator.GeneratorType.PERMUTATION) {
+            if (count <= 0 || count > maxPermutationBatch) {
+                throw new IllegalArgumentException("생성 개수는 1~" + maxPermutationBatch + " 사이여야 합니다");
+            }
+            return generatePermutationCodes(count, prefix);
+        }
+
         if (count <= 0 || count > 10000) {
             throw new IllegalArgumentException("생성 개수는 1~10000 사이여야 합니다");
         }
@@ -110,6 +136,48 @@ public class CouponCodeService {
         return result;
     }
 
+    /**
+     * 대량 쿠폰 코드 스트리밍 생성
+     * 코드별 DB 존재 확인 대신 배치 내 지문 집합으로 중복을 제거하므로,
+     * 기존 코드와의 충돌까지 배제해야 하면 PERMUTATION 타입을 사용
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long streamCodes(CouponCodeGenerator.GeneratorType type, int count, String prefix, Consumer<String> sink) {
+        validateStreamRequest(count);
+
+        long generated;
+        if (type == CouponCodeGenerator.GeneratorType.PERMUTATION) {
+            long startIndex = couponCodeSequencePort.reserve(count);
+            generated = parallelCouponCodeGenerator.generateRange(startIndex, count, prefix, sink);
+        } else {
+            generated = parallelCouponCodeGenerator.generate(generatorFactory.getGenerator(type), count, prefix, sink);
+        }
+
+        log.info("쿠폰 코드 스트리밍 생성 완료 - type: {}, count: {}", type, generated);
+        return generated;
+    }
+
+    @Override
+    public void validateStreamRequest(int count) {
+        if (count <= 0 || count > maxStreamCount) {
+            throw new CouponDomainException.InvalidRequest("생성 개수는 1~" + maxStreamCount + " 사이여야 합니다");
+        }
+    }
+
+    /**
+     * 순열 쿠폰 코드 생성
+     * 일련번호 구간을 한 번에 예약한 뒤 순열로 변환하므로 코드별 중복 확인 쿼리가 없음
+     */
+    private List<String> generatePermutationCodes(int count, String prefix) {
+        long startIndex = couponCodeSequencePort.reserve(count);
+        List<String> codes = Arrays.asList(permutationCodeGenerator.generateRange(startIndex, count, prefix));
+
+        log.info("쿠폰 코드 일괄 생성 완료 - type: {}, count: {}, start: {}",
+                CouponCodeGenerator.GeneratorType.PERMUTATION, codes.size(), startIndex);
+        return codes;
+    }
+
     /**
      * 쿠폰 코드 유효성 검증
      *
@@ -182,7 +250,6 @@ public class CouponCodeService {
      * @param code 확인할 코드
      * @return 존재 여부
      */
-    @Cacheable(value = "couponCodeExists", key = "#code")
     private boolean isCodeExists(String code) {
         // 실제로는 데이터베이스에서 확인
         return loadCouponPolicyPort.existsByCode(code);
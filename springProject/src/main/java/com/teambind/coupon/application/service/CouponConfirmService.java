@@ -8,12 +8,14 @@ import com.teambind.coupon.common.annotation.DistributedLock;
 import com.teambind.coupon.domain.exception.CouponDomainException;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.StackedDiscount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * 쿠폰 사용 확정 서비스
@@ -36,48 +38,19 @@ public class CouponConfirmService implements ConfirmCouponUseUseCase {
                 command.getReservationId(), command.getOrderId());
 
         try {
-            // 1. 예약 ID로 쿠폰 조회 (비관적 락)
-            CouponIssue couponIssue = loadCouponIssuePort
-                    .loadByReservationIdWithLock(command.getReservationId())
-                    .orElseThrow(() -> new CouponDomainException(
-                            "예약된 쿠폰을 찾을 수 없습니다: " + command.getReservationId()));
-
-            // 2. 쿠폰 상태 확인 및 처리
-            // RESERVED 상태 또는 타임아웃 후 ISSUED 상태 모두 처리 가능
-            if (couponIssue.getStatus() == CouponStatus.RESERVED) {
-                // 정상적인 예약 상태에서 사용 확정
-                log.info("예약된 쿠폰 사용 확정 - couponId: {}, reservationId: {}",
-                        couponIssue.getId(), command.getReservationId());
-            } else if (couponIssue.getStatus() == CouponStatus.ISSUED &&
-                       couponIssue.matchesReservation(command.getReservationId())) {
-                // 타임아웃으로 롤백되었지만 같은 reservationId로 결제 완료된 경우
-                log.info("타임아웃 후 결제 완료 - 쿠폰 복구 후 사용 처리 - couponId: {}, reservationId: {}",
-                        couponIssue.getId(), command.getReservationId());
-            } else if (couponIssue.getStatus() == CouponStatus.USED) {
-                // 이미 사용된 경우 (중복 이벤트)
-                log.warn("이미 사용된 쿠폰입니다 - couponId: {}, reservationId: {}",
-                        couponIssue.getId(), command.getReservationId());
-                return;
-            } else {
-                throw new CouponDomainException(
-                        String.format("쿠폰을 사용할 수 없는 상태입니다. status: %s, reservationId match: %s",
-                                couponIssue.getStatus(),
-                                couponIssue.matchesReservation(command.getReservationId())));
+            // 1. 예약 ID로 쿠폰 조회 (비관적 락, 장바구니 예약이면 여러 개)
+            List<CouponIssue> couponIssues = loadCouponIssuePort
+                    .loadAllByReservationIdWithLock(command.getReservationId());
+            if (couponIssues.isEmpty()) {
+                throw new CouponDomainException("예약된 쿠폰을 찾을 수 없습니다: " + command.getReservationId());
             }
 
-            // 3. 실제 할인 금액 계산 (필요시 결제 금액과 비교)
-            BigDecimal actualDiscountAmount = calculateActualDiscount(
-                    couponIssue, command.getPaymentAmount());
-
-            // 4. 쿠폰 사용 확정
-            couponIssue.confirmUsage(command.getOrderId(), actualDiscountAmount);
-
-            // 5. 변경사항 저장
-            saveCouponIssuePort.update(couponIssue);
+            // 2. 실제 할인 금액 계산 (여러 쿠폰이면 예약 시와 같은 순서로 함께 적용)
+            StackedDiscount discounts = calculateActualDiscounts(couponIssues, command.getPaymentAmount());
 
-            log.info("쿠폰 사용 확정 완료 - reservationId: {}, couponId: {}, orderId: {}, discountAmount: {}",
-                    command.getReservationId(), couponIssue.getId(),
-                    command.getOrderId(), actualDiscountAmount);
+            for (int i = 0; i < couponIssues.size(); i++) {
+                confirmCoupon(couponIssues.get(i), command, discounts.amountAt(i));
+            }
 
             // TODO: 쿠폰 사용 완료 이벤트 발행
             // publishCouponUsedEvent(couponIssue);
@@ -93,16 +66,49 @@ public class CouponConfirmService implements ConfirmCouponUseUseCase {
         }
     }
 
+    /**
+     * 쿠폰 한 장의 상태 확인 후 사용 확정
+     */
+    private void confirmCoupon(CouponIssue couponIssue, ConfirmCouponUseCommand command,
+                               BigDecimal actualDiscountAmount) {
+        // RESERVED 상태 또는 타임아웃 후 ISSUED 상태 모두 처리 가능
+        if (couponIssue.getStatus() == CouponStatus.RESERVED) {
+            // 정상적인 예약 상태에서 사용 확정
+            log.info("예약된 쿠폰 사용 확정 - couponId: {}, reservationId: {}",
+                    couponIssue.getId(), command.getReservationId());
+        } else if (couponIssue.getStatus() == CouponStatus.ISSUED &&
+                   couponIssue.matchesReservation(command.getReservationId())) {
+            // 타임아웃으로 롤백되었지만 같은 reservationId로 결제 완료된 경우
+            log.info("타임아웃 후 결제 완료 - 쿠폰 복구 후 사용 처리 - couponId: {}, reservationId: {}",
+                    couponIssue.getId(), command.getReservationId());
+        } else if (couponIssue.getStatus() == CouponStatus.USED) {
+            // 이미 사용된 경우 (중복 이벤트)
+            log.warn("이미 사용된 쿠폰입니다 - couponId: {}, reservationId: {}",
+                    couponIssue.getId(), command.getReservationId());
+            return;
+        } else {
+            throw new CouponDomainException(
+                    String.format("쿠폰을 사용할 수 없는 상태입니다. status: %s, reservationId match: %s",
+                            couponIssue.getStatus(),
+                            couponIssue.matchesReservation(command.getReservationId())));
+        }
+
+        // 쿠폰 사용 확정 및 저장
+        couponIssue.confirmUsage(command.getOrderId(), actualDiscountAmount);
+        saveCouponIssuePort.update(couponIssue);
+
+        log.info("쿠폰 사용 확정 완료 - reservationId: {}, couponId: {}, orderId: {}, discountAmount: {}",
+                command.getReservationId(), couponIssue.getId(),
+                command.getOrderId(), actualDiscountAmount);
+    }
 
     /**
      * 실제 할인 금액 계산
+     * 쿠폰 발급 시점의 할인 정책 기준 (할인 정책이 없는 쿠폰은 0)
      */
-    private BigDecimal calculateActualDiscount(CouponIssue couponIssue, BigDecimal paymentAmount) {
-        // 기본적으로 쿠폰의 할인 정책에 따라 계산
+    private StackedDiscount calculateActualDiscounts(List<CouponIssue> couponIssues, BigDecimal paymentAmount) {
         // 실제로는 상품 정보와 함께 계산해야 함
-        if (couponIssue.getDiscountPolicy() != null) {
-            return couponIssue.getDiscountPolicy().calculateDiscountAmount(paymentAmount);
-        }
-        return BigDecimal.ZERO;
+        return StackedDiscount.calculate(
+                couponIssues.stream().map(CouponIssue::getDiscountPolicy).toList(), paymentAmount);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ReconcileCouponCountersUseCase;
+import com.teambind.coupon.application.port.out.CouponCounterPort;
+import com.teambind.coupon.application.port.out.CouponCounterPort.CounterValues;
+import com.teambind.coupon.application.port.out.CouponIssuePartitionPort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.domain.model.CouponStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 쿠폰 상태 카운터 보정 서비스
+ * 이벤트 유실(커밋 후 Redis 장애 등)로 벌어진 카운터를 주기적으로 DB 집계 값에 맞춤
+ *
+ * 카운터를 DB 집계보다 먼저 읽어 두고, 반영은 관측값 기준 compare-and-set으로 차이만 증감하므로
+ * 집계와 반영 사이에 들어온 이벤트 증감을 덮어쓰지 않음 (해당 필드는 다음 보정에서 처리)
+ * DB에 더 이상 쿠폰이 없는 정책의 카운터는 삭제
+ *
+ * 카운터는 발급 이후 모든 쿠폰을 세므로 기대값도 핫 테이블, 보관 이력 테이블(coupon_issue_history),
+ * 보관 스키마로 분리된 파티션을 모두 합산한다 (보관/분리로 행이 옮겨져도 카운터가 줄지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponCounterReconcileService implements ReconcileCouponCountersUseCase {
+
+    private final LoadCouponIssuePort loadCouponIssuePort;
+    private final CouponCounterPort couponCounterPort;
+    private final CouponIssuePartitionPort couponIssuePartitionPort;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.partition.archive-schema:coupon_archive}")
+    private String archiveSchema;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReconcileResult reconcileCounters() {
+        long startNanos = System.nanoTime();
+
+        // 1. 관측값 스냅샷 (DB 집계 전)
+        Map<Long, CounterValues> observed = couponCounterPort.loadPolicyCounters(
+                couponCounterPort.loadCounterPolicyIds());
+        CounterValues observedGlobal = couponCounterPort.loadGlobalCounters();
+
+        // 2. 기대값 (핫/이력 테이블 + 분리된 파티션 집계, 카운터만 남은 정책은 0)
+        Map<Long, Map<CouponStatus, Long>> actual = new HashMap<>();
+        mergeCounts(actual, loadCouponIssuePort.countByPolicyAndStatus());
+        mergeCounts(actual, couponIssuePartitionPort.countDetachedByPolicyAndStatus(archiveSchema));
+        Map<Long, Map<CouponStatus, Long>> expected = new HashMap<>(actual);
+        observed.keySet().forEach(policyId -> expected.putIfAbsent(policyId, Map.of()));
+
+        Map<CouponStatus, Long> expectedGlobal = new EnumMap<>(CouponStatus.class);
+        actual.values().forEach(counts -> counts.forEach((status, count) -> expectedGlobal.merge(status, count, Long::sum)));
+
+        int driftedPolicyCount = 0;
+        long totalDrift = 0;
+
+        for (Map.Entry<Long, Map<CouponStatus, Long>> entry : expected.entrySet()) {
+            long drift = drift(entry.getValue(), observed.get(entry.getKey()));
+            if (drift > 0) {
+                driftedPolicyCount++;
+                totalDrift += drift;
+                log.warn("쿠폰 카운터 드리프트 감지 - policyId: {}, drift: {}", entry.getKey(), drift);
+            }
+        }
+
+        // 3. compare-and-set 반영
+        long skippedFields = couponCounterPort.compareAndSetCounters(expected, observed, expectedGlobal, observedGlobal);
+        meterRegistry.counter("coupon.counter.drift").increment(totalDrift);
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("쿠폰 카운터 보정 완료 - policies: {}, drifted: {}, totalDrift: {}, skipped: {}, elapsed: {}ms",
+                expected.size(), driftedPolicyCount, totalDrift, skippedFields, elapsedMillis);
+
+        return ReconcileResult.builder()
+                .policyCount(expected.size())
+                .driftedPolicyCount(driftedPolicyCount)
+                .totalDrift(totalDrift)
+                .skippedFields(skippedFields)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private void mergeCounts(Map<Long, Map<CouponStatus, Long>> target, Map<Long, Map<CouponStatus, Long>> source) {
+        source.forEach((policyId, counts) -> counts.forEach((status, count) -> target
+                .computeIfAbsent(policyId, id -> new EnumMap<>(CouponStatus.class))
+                .merge(status, count, Long::sum)));
+    }
+
+    private long drift(Map<CouponStatus, Long> expected, CounterValues observed) {
+        long drift = 0;
+        for (CouponStatus status : CouponStatus.values()) {
+            drift += Math.abs(expected.getOrDefault(status, 0L) - (observed != null ? observed.count(status) : 0L));
+        }
+        return drift;
+    }
+}
@@ -0,0 +1,44 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ExportCouponIssuesUseCase;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportFilter;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * 발급 쿠폰 내보내기 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponExportService implements ExportCouponIssuesUseCase {
+
+    private final StreamCouponIssuesPort streamCouponIssuesPort;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public long exportIssues(ExportFilter filter, Consumer<ExportRow> sink) {
+        if (!filter.isBounded()) {
+            throw new IllegalArgumentException("정책 ID 또는 발급 기간(issuedFrom, issuedTo)을 지정해야 합니다");
+        }
+
+        log.info("쿠폰 내보내기 시작 - policyId: {}, status: {}, issuedFrom: {}, issuedTo: {}",
+                filter.getPolicyId(), filter.getStatus(), filter.getIssuedFrom(), filter.getIssuedTo());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long rows = streamCouponIssuesPort.streamIssues(filter, sink);
+        long elapsedNanos = sample.stop(meterRegistry.timer("coupon.export.duration"));
+
+        meterRegistry.counter("coupon.export.rows").increment(rows);
+        log.info("쿠폰 내보내기 완료 - rows: {}, elapsed: {}ms", rows, elapsedNanos / 1_000_000);
+
+        return rows;
+    }
+}
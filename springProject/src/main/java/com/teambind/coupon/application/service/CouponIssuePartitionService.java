@@ -0,0 +1,102 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ManageCouponIssuePartitionsUseCase;
+import com.teambind.coupon.application.port.out.CouponIssuePartitionPort;
+import com.teambind.coupon.common.config.CouponPartitionWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 파티션 관리 서비스
+ * DETACH PARTITION CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로 @Transactional을 사용하지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssuePartitionService implements ManageCouponIssuePartitionsUseCase {
+
+    private final CouponIssuePartitionPort couponIssuePartitionPort;
+    private final CouponPartitionWindow partitionWindow;
+
+    @Value("${coupon.partition.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${coupon.partition.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${coupon.partition.archive-schema:coupon_archive}")
+    private String archiveSchema;
+
+    @Value("${coupon.partition.archive-tablespace:}")
+    private String archiveTablespace;
+
+    @Override
+    public PartitionMaintenanceResult maintainPartitions() {
+        if (!couponIssuePartitionPort.isPartitioned()) {
+            log.info("coupon_issues가 파티션 테이블이 아니므로 파티션 관리를 건너뜁니다");
+            return PartitionMaintenanceResult.builder()
+                    .partitioned(false)
+                    .ensuredPartitions(List.of())
+                    .detachedPartitions(List.of())
+                    .skippedPartitions(List.of())
+                    .build();
+        }
+
+        YearMonth current = YearMonth.now();
+
+        // 1. 현재 월 + 향후 N개월 파티션 미리 생성 (DEFAULT 파티션이 없으므로 필수)
+        List<String> ensured = new ArrayList<>();
+        for (int i = 0; i <= premakeMonths; i++) {
+            ensured.add(couponIssuePartitionPort.createMonthlyPartition(current.plusMonths(i)));
+        }
+
+        // 2. 보관 기간이 지난 파티션 중 활성 쿠폰이 없는 파티션만 분리
+        YearMonth detachBefore = current.minusMonths(retentionMonths);
+        List<String> detached = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+
+        for (YearMonth month : couponIssuePartitionPort.loadAttachedPartitions()) {
+            if (!month.isBefore(detachBefore)) {
+                break;
+            }
+
+            if (couponIssuePartitionPort.hasActiveCoupons(month)) {
+                log.warn("활성 쿠폰이 남아있어 파티션 분리를 보류합니다 - month: {}", month);
+                skipped.add(month.toString());
+                continue;
+            }
+
+            detached.add(couponIssuePartitionPort.detachPartition(month, archiveSchema, archiveTablespace));
+        }
+
+        refreshActiveWindow();
+
+        log.info("쿠폰 발급 파티션 관리 완료 - ensured: {}, detached: {}, skipped: {}",
+                ensured.size(), detached.size(), skipped.size());
+
+        return PartitionMaintenanceResult.builder()
+                .partitioned(true)
+                .ensuredPartitions(ensured)
+                .detachedPartitions(detached)
+                .skippedPartitions(skipped)
+                .build();
+    }
+
+    @Override
+    public void refreshActiveWindow() {
+        // 일반 테이블(로컬/테스트)은 프루닝 대상 파티션이 없으므로 전체 하한 유지
+        if (!couponIssuePartitionPort.isPartitioned()) {
+            return;
+        }
+        YearMonth oldestActive = couponIssuePartitionPort.findOldestActiveMonth()
+                .orElse(YearMonth.now());
+        partitionWindow.updateActiveFloor(oldestActive);
+        log.debug("활성 쿠폰 조회 하한 갱신 - from: {}", partitionWindow.activeFrom());
+    }
+}
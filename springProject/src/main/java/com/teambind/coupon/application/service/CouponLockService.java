@@ -99,26 +99,8 @@ public class CouponLockService {
      * 할인 금액 계산
      */
     private BigDecimal calculateDiscount(CouponPolicy policy, BigDecimal orderAmount) {
-        BigDecimal amount = orderAmount;
-
-        if (policy.getDiscountType() == DiscountType.AMOUNT ||
-            policy.getDiscountType() == DiscountType.FIXED_AMOUNT) {
-            // 정액 할인
-            return policy.getDiscountValue().min(amount);
-        } else if (policy.getDiscountType() == DiscountType.PERCENTAGE) {
-            // 퍼센트 할인
-            BigDecimal discount = amount.multiply(policy.getDiscountValue())
-                    .divide(BigDecimal.valueOf(100));
-
-            // 최대 할인 금액 제한
-            if (policy.getMaxDiscountAmount() != null) {
-                discount = discount.min(policy.getMaxDiscountAmount());
-            }
-
-            return discount.min(amount);
-        } else {
-            return BigDecimal.ZERO;
-        }
+        return DiscountCalculator.discount(policy.getDiscountType(), orderAmount, policy.getDiscountValue(),
+                policy.getMinimumOrderAmount(), policy.getMaxDiscountAmount());
     }
 
     /**
@@ -1,21 +1,36 @@
 package com.teambind.coupon.application.service;
 
 import com.teambind.coupon.adapter.in.web.dto.CouponQueryRequest;
-import com.teambind.coupon.adapter.in.web.dto.CouponQueryResponse;
 import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueProjection;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueHistoryRepository;
 import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueQueryRepository;
+import com.teambind.coupon.application.dto.response.UserCouponPage;
+import com.teambind.coupon.application.dto.response.UserCouponView;
 import com.teambind.coupon.application.port.in.QueryUserCouponsUseCase;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort.UserCouponCounts;
+import com.teambind.coupon.application.port.out.CouponWalletCachePort;
+import com.teambind.coupon.application.port.out.CouponWalletCachePort.CouponWallet;
+import com.teambind.coupon.common.config.CouponPartitionWindow;
+import com.teambind.coupon.domain.model.CouponStatus;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 쿠폰 조회 서비스
  * 유저별 쿠폰 조회, 필터링, 커서 기반 페이지네이션 처리
+ * 필터 없는 기본 지갑 조회와 통계는 Redis 지갑 읽기 모델에서 조회 (쿠폰 상태 변경 시 무효화)
  */
 @Slf4j
 @Service
@@ -24,24 +39,62 @@ import java.util.List;
 public class CouponQueryService implements QueryUserCouponsUseCase {
 
     private final CouponIssueQueryRepository couponIssueQueryRepository;
+    private final CouponIssueHistoryRepository couponIssueHistoryRepository;
+    private final LoadCouponIssuePort loadCouponIssuePort;
+    private final CouponWalletCachePort couponWalletCachePort;
+    private final MeterRegistry meterRegistry;
+    private final CouponPartitionWindow partitionWindow;
+
+    /**
+     * 활성 상태 조회 시 파티션 프루닝이 가능한 상태값
+     */
+    private static final Set<String> ACTIVE_STATUSES = Set.of("AVAILABLE", "ISSUED", "RESERVED");
+
+    /**
+     * 보관 테이블(coupon_issue_history)에도 존재할 수 있는 상태값
+     */
+    private static final Set<String> HISTORY_STATUSES = Set.of("USED", "EXPIRED", "CANCELLED");
+
+    /**
+     * 통계의 만료 임박 기준 일수
+     */
+    private static final int EXPIRING_WITHIN_DAYS = 7;
+
+    @Value("${coupon.archive.history-fallback-enabled:true}")
+    private boolean historyFallbackEnabled;
+
+    @Value("${coupon.wallet.cache-enabled:true}")
+    private boolean walletCacheEnabled;
+
+    @Value("${coupon.wallet.page-size:50}")
+    private int walletPageSize;
 
     @Override
-    public CouponQueryResponse queryUserCoupons(Long userId, CouponQueryRequest request) {
+    public UserCouponPage queryUserCoupons(Long userId, CouponQueryRequest request) {
         log.info("쿠폰 조회 시작 - userId: {}, status: {}, productIds: {}, cursor: {}, limit: {}",
                 userId, request.getStatus(), request.getProductIds(), request.getCursor(), request.getLimit());
 
-        // limit + 1개 조회하여 다음 페이지 존재 여부 확인
-        int fetchLimit = request.getLimit() + 1;
+        // 필터 없는 첫 페이지는 지갑 읽기 모델에서 조회
+        if (isWalletRequest(request)) {
+            CouponWallet wallet = loadWallet(userId);
+            UserCouponPage response = UserCouponPage.of(wallet.getItems(), request.getLimit());
 
-        List<CouponIssueProjection> coupons = couponIssueQueryRepository.findUserCouponsWithCursor(
+            log.info("쿠폰 조회 완료 (지갑 캐시) - userId: {}, 조회 개수: {}, hasNext: {}",
+                    userId, response.getCount(), response.isHasNext());
+
+            return response;
+        }
+
+        // limit + 1개 조회하여 다음 페이지 존재 여부 확인
+        List<CouponIssueProjection> coupons = findCoupons(
                 userId,
                 request.getStatusForQuery(),
                 request.getProductIdsAsPostgresArray(),
                 request.getCursor(),
-                fetchLimit
+                request.getLimit() + 1
         );
 
-        CouponQueryResponse response = CouponQueryResponse.of(coupons, request.getLimit());
+        UserCouponPage response = UserCouponPage.of(toViews(coupons), request.getLimit());
 
         log.info("쿠폰 조회 완료 - userId: {}, 조회 개수: {}, hasNext: {}",
                 userId, response.getCount(), response.isHasNext());
@@ -50,15 +103,15 @@ public class CouponQueryService implements QueryUserCouponsUseCase {
     }
 
     @Override
-    public CouponQueryResponse queryExpiringCoupons(Long userId, int daysUntilExpiry, int limit) {
+    public UserCouponPage queryExpiringCoupons(Long userId, int daysUntilExpiry, int limit) {
         log.info("만료 임박 쿠폰 조회 - userId: {}, daysUntilExpiry: {}, limit: {}",
                 userId, daysUntilExpiry, limit);
 
         List<CouponIssueProjection> expiringCoupons = couponIssueQueryRepository.findExpiringCoupons(
-                userId, daysUntilExpiry, limit
+                userId, daysUntilExpiry, activeIssuedFrom(), limit
         );
 
-        CouponQueryResponse response = CouponQueryResponse.of(expiringCoupons, limit);
+        UserCouponPage response = UserCouponPage.of(toViews(expiringCoupons), limit);
 
         log.info("만료 임박 쿠폰 조회 완료 - userId: {}, 조회 개수: {}",
                 userId, response.getCount());
@@ -67,32 +120,148 @@ public class CouponQueryService implements QueryUserCouponsUseCase {
     }
 
     @Override
-    @Cacheable(value = "couponStatistics", key = "#userId", cacheManager = "cacheManager")
     public CouponStatistics getCouponStatistics(Long userId) {
         log.info("쿠폰 통계 조회 - userId: {}", userId);
 
-        // 각 상태별 쿠폰 개수 조회
-        Long totalCoupons = couponIssueQueryRepository.countUserCoupons(userId, null, null);
-        Long availableCoupons = couponIssueQueryRepository.countUserCoupons(userId, "AVAILABLE", null);
-        Long usedCoupons = couponIssueQueryRepository.countUserCoupons(userId, "USED", null);
-        Long expiredCoupons = couponIssueQueryRepository.countUserCoupons(userId, "EXPIRED", null);
+        if (walletCacheEnabled) {
+            CouponWallet wallet = loadWallet(userId);
+            return CouponStatistics.builder()
+                    .totalCoupons(wallet.getTotalCoupons())
+                    .availableCoupons(wallet.getAvailableCoupons())
+                    .usedCoupons(wallet.getUsedCoupons())
+                    .expiredCoupons(wallet.getExpiredCoupons())
+                    .expiringCoupons(wallet.getExpiringCoupons())
+                    .build();
+        }
 
-        // 7일 내 만료 예정 쿠폰 조회
-        List<CouponIssueProjection> expiringCoupons = couponIssueQueryRepository.findExpiringCoupons(
-                userId, 7, Integer.MAX_VALUE
-        );
+        return loadStatistics(userId);
+    }
+
+    /**
+     * DB에서 상태별 쿠폰 통계 집계 (단일 쿼리)
+     */
+    private CouponStatistics loadStatistics(Long userId) {
+        UserCouponCounts counts = loadCouponIssuePort.countUserCoupons(userId, EXPIRING_WITHIN_DAYS);
 
         CouponStatistics statistics = CouponStatistics.builder()
-                .totalCoupons(totalCoupons)
-                .availableCoupons(availableCoupons)
-                .usedCoupons(usedCoupons)
-                .expiredCoupons(expiredCoupons)
-                .expiringCoupons((long) expiringCoupons.size())
+                .totalCoupons(counts.totalCount())
+                .availableCoupons(counts.getAvailableCount())
+                .usedCoupons(counts.count(CouponStatus.USED))
+                .expiredCoupons(counts.count(CouponStatus.EXPIRED))
+                .expiringCoupons(counts.getExpiringCount())
                 .build();
 
         log.info("쿠폰 통계 조회 완료 - userId: {}, total: {}, available: {}, used: {}, expired: {}",
-                userId, totalCoupons, availableCoupons, usedCoupons, expiredCoupons);
+                userId, statistics.getTotalCoupons(), statistics.getAvailableCoupons(),
+                statistics.getUsedCoupons(), statistics.getExpiredCoupons());
 
         return statistics;
     }
-}
\ No newline at end of file
+
+    /**
+     * 지갑 읽기 모델 조회
+     * 캐시 미스 시 첫 페이지와 통계를 DB에서 만들어 저장
+     */
+    private CouponWallet loadWallet(Long userId) {
+        Optional<CouponWallet> cached = couponWalletCachePort.load(userId);
+        if (cached.isPresent()) {
+            meterRegistry.counter("coupon.wallet.cache", "result", "hit").increment();
+            return cached.get();
+        }
+        meterRegistry.counter("coupon.wallet.cache", "result", "miss").increment();
+
+        List<UserCouponView> items = toViews(findCoupons(userId, null, null, null, walletPageSize + 1));
+        CouponStatistics statistics = loadStatistics(userId);
+
+        CouponWallet wallet = CouponWallet.builder()
+                .items(items)
+                .totalCoupons(statistics.getTotalCoupons())
+                .availableCoupons(statistics.getAvailableCoupons())
+                .usedCoupons(statistics.getUsedCoupons())
+                .expiredCoupons(statistics.getExpiredCoupons())
+                .expiringCoupons(statistics.getExpiringCoupons())
+                .builtAt(LocalDateTime.now())
+                .build();
+
+        couponWalletCachePort.save(userId, wallet);
+        return wallet;
+    }
+
+    private List<UserCouponView> toViews(List<CouponIssueProjection> coupons) {
+        return coupons.stream()
+                .map(UserCouponView::from)
+                .toList();
+    }
+
+    /**
+     * 지갑 캐시로 응답 가능한 요청인지 확인 (필터/커서 없는 첫 페이지)
+     */
+    private boolean isWalletRequest(CouponQueryRequest request) {
+        return walletCacheEnabled
+                && request.getStatusForQuery() == null
+                && request.getProductIdsAsPostgresArray() == null
+                && request.getCursor() == null
+                && request.getLimit() <= walletPageSize;
+    }
+
+    /**
+     * 핫 테이블 조회 후 필요 시 보관된 이력 쿠폰까지 ID 내림차순으로 병합
+     */
+    private List<CouponIssueProjection> findCoupons(Long userId, String status, String productIds,
+                                                    Long cursor, int fetchLimit) {
+        List<CouponIssueProjection> coupons = couponIssueQueryRepository.findUserCouponsWithCursor(
+                userId, status, productIds, cursor, resolveIssuedFrom(status), fetchLimit
+        );
+
+        if (shouldQueryHistory(status)) {
+            List<CouponIssueProjection> history = couponIssueHistoryRepository.findUserHistoryWithCursor(
+                    userId, status, productIds, cursor, fetchLimit
+            );
+            coupons = mergeByIdDesc(coupons, history, fetchLimit);
+        }
+
+        return coupons;
+    }
+
+    /**
+     * 상태 필터에 따른 발급일시 하한 결정
+     * 활성 상태는 유효기간 상한 이내 파티션만, 그 외(전체/USED/EXPIRED)는 전체 파티션 조회
+     */
+    private LocalDateTime resolveIssuedFrom(String status) {
+        if (status != null && ACTIVE_STATUSES.contains(status)) {
+            return activeIssuedFrom();
+        }
+        return partitionWindow.allFrom();
+    }
+
+    private LocalDateTime activeIssuedFrom() {
+        return partitionWindow.activeFrom();
+    }
+
+    /**
+     * 이력 테이블 조회 필요 여부
+     * 전체/USED/EXPIRED 조회만 보관 데이터가 포함될 수 있다
+     */
+    private boolean shouldQueryHistory(String status) {
+        return historyFallbackEnabled && (status == null || HISTORY_STATUSES.contains(status));
+    }
+
+    /**
+     * 핫 테이블과 이력 테이블 결과를 ID 내림차순으로 병합
+     * 두 테이블의 ID는 겹치지 않으므로 단순 병합 후 limit만큼 자른다
+     */
+    private List<CouponIssueProjection> mergeByIdDesc(List<CouponIssueProjection> hot,
+                                                      List<CouponIssueProjection> history,
+                                                      int limit) {
+        if (history.isEmpty()) {
+            return hot;
+        }
+
+        List<CouponIssueProjection> merged = new ArrayList<>(hot.size() + history.size());
+        merged.addAll(hot);
+        merged.addAll(history);
+        merged.sort(Comparator.comparing(CouponIssueProjection::getCouponIssueId).reversed());
+
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+}
@@ -0,0 +1,110 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.RecommendCouponsCommand;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.DiscountCalculator;
+import com.teambind.coupon.domain.model.OrderCart;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 쿠폰 추천 서비스
+ * 장바구니를 한 번 컴파일하고, 캐시된 정책 규칙으로 유저의 사용 가능한 쿠폰을 모두 평가해 상위 N개를 반환
+ * 쿠폰당 계산은 long 연산과 이진 탐색뿐이므로 DB 조회는 사용 가능 쿠폰 조회 1회(+ 캐시 미스 정책 배치 조회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponRecommendationService implements RecommendCouponsUseCase {
+
+    // 할인 금액 내림차순, 같으면 먼저 만료되는 쿠폰, 그다음 쿠폰 ID 순
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingLong(Candidate::discount).reversed()
+            .thenComparing(candidate -> candidate.coupon().getExpiredAt(),
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(candidate -> candidate.coupon().getId(),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final LoadCouponIssuePort loadCouponIssuePort;
+    private final CompiledCouponRuleCache ruleCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.recommend.max-results:20}")
+    private int maxResults;
+
+    @Override
+    public CouponRecommendationResult recommend(RecommendCouponsCommand command) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        OrderCart cart = OrderCart.of(command.getItems());
+        int limit = Math.max(1, Math.min(command.getLimit(), maxResults));
+
+        List<CouponIssue> coupons = loadCouponIssuePort.loadUsableCoupons(command.getUserId());
+        Set<Long> policyIds = new HashSet<>();
+        for (CouponIssue coupon : coupons) {
+            policyIds.add(coupon.getPolicyId());
+        }
+        Map<Long, CompiledCouponRule> rules = ruleCache.getAll(policyIds);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (CouponIssue coupon : coupons) {
+            CompiledCouponRule rule = rules.get(coupon.getPolicyId());
+            if (rule == null || !coupon.isUsable()) {
+                continue;
+            }
+            long discount = rule.evaluate(cart);
+            if (discount > 0) {
+                candidates.add(new Candidate(coupon, rule, discount));
+            }
+        }
+        candidates.sort(BEST_FIRST);
+
+        List<CouponRecommendation> recommendations = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (Candidate candidate : candidates.subList(0, Math.min(limit, candidates.size()))) {
+            recommendations.add(toRecommendation(candidate, cart));
+        }
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("coupon.recommend.duration"));
+        log.info("쿠폰 추천 완료 - userId: {}, items: {}, coupons: {}, applicable: {}, elapsed: {}us",
+                command.getUserId(), cart.itemCount(), coupons.size(), candidates.size(), elapsedNanos / 1_000);
+
+        return CouponRecommendationResult.builder()
+                .userId(command.getUserId())
+                .orderAmount(DiscountCalculator.toAmount(cart.totalAmount()))
+                .evaluatedCoupons(coupons.size())
+                .recommendations(recommendations)
+                .build();
+    }
+
+    private static CouponRecommendation toRecommendation(Candidate candidate, OrderCart cart) {
+        CouponIssue coupon = candidate.coupon();
+        return CouponRecommendation.builder()
+                .couponIssueId(coupon.getId())
+                .policyId(coupon.getPolicyId())
+                .couponName(coupon.getCouponName())
+                .discountType(candidate.rule().getDiscountType())
+                .discountAmount(DiscountCalculator.toAmount(candidate.discount()))
+                .applicableAmount(DiscountCalculator.toAmount(candidate.rule().applicableAmount(cart)))
+                .expiredAt(coupon.getExpiredAt())
+                .build();
+    }
+
+    private record Candidate(CouponIssue coupon, CompiledCouponRule rule, long discount) {
+    }
+}
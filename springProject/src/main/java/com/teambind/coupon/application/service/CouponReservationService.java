@@ -1,5 +1,6 @@
 package com.teambind.coupon.application.service;
 
+import com.teambind.coupon.application.port.in.ReserveCartCouponsCommand;
 import com.teambind.coupon.application.port.in.ReserveCouponCommand;
 import com.teambind.coupon.application.port.in.ReserveCouponUseCase;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
@@ -7,10 +8,14 @@ import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
 import com.teambind.coupon.common.annotation.DistributedLock;
 import com.teambind.coupon.domain.exception.CouponDomainException;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponPolicy;
 import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountCalculator;
+import com.teambind.coupon.domain.model.DiscountPolicy;
 import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.StackedDiscount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,10 +24,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 쿠폰 예약 서비스
  * 결제 전 쿠폰을 예약 상태로 변경하는 비즈니스 로직 구현
+ * 장바구니 예약은 유저 단위 락 1개, 쿠폰/정책 배치 조회, 단일 UPDATE로 여러 쿠폰을 한 트랜잭션에서 예약
  */
 @Slf4j
 @Service
@@ -33,10 +46,14 @@ public class CouponReservationService implements ReserveCouponUseCase {
     private final LoadCouponIssuePort loadCouponIssuePort;
     private final SaveCouponIssuePort saveCouponIssuePort;
     private final LoadCouponPolicyPort loadCouponPolicyPort;
+    private final CompiledCouponRuleCache ruleCache;
 
     @Value("${coupon.reservation.timeout:10}")
     private int reservationTimeoutMinutes;
 
+    @Value("${coupon.reservation.max-coupons-per-cart:3}")
+    private int maxCouponsPerCart;
+
     @Override
     @Transactional
     @DistributedLock(key = "#command.userId + ':' + #command.couponId", prefix = "coupon:reserve", waitTime = 3, leaseTime = 5)
@@ -87,8 +104,11 @@ public class CouponReservationService implements ReserveCouponUseCase {
                         .build();
             }
 
-            // 3. 쿠폰 상태 검증
+            // 3. 쿠폰 상태 및 예약 ID 중복 검증
             String validationError = validateCouponForReservation(couponIssue);
+            if (validationError == null && isReservationIdTaken(command.getReservationId(), List.of(couponIssue.getId()))) {
+                validationError = "이미 다른 쿠폰에 사용된 예약 ID입니다";
+            }
             if (validationError != null) {
                 return CouponReservationResult.builder()
                         .success(false)
@@ -100,8 +120,8 @@ public class CouponReservationService implements ReserveCouponUseCase {
                         .build();
             }
 
-            // 4. 쿠폰 정책 조회 (할인 금액 계산을 위해)
-            CouponPolicy policy = loadCouponPolicyPort.loadById(couponIssue.getPolicyId())
+            // 4. 컴파일된 정책 규칙 조회 (할인 금액 계산을 위해, 공용 규칙 캐시 사용)
+            CompiledCouponRule rule = ruleCache.get(couponIssue.getPolicyId())
                     .orElseThrow(() -> new CouponDomainException("쿠폰 정책을 찾을 수 없습니다"));
 
             // 5. 쿠폰 예약 처리
@@ -113,15 +133,8 @@ public class CouponReservationService implements ReserveCouponUseCase {
             // 7. 예약 만료 시간 계산
             LocalDateTime reservedUntil = LocalDateTime.now().plusMinutes(reservationTimeoutMinutes);
 
-            // 8. 할인 금액 계산 및 검증
-            BigDecimal discountAmount = calculateDiscountAmount(policy, command.getOrderAmount());
-
-            // 할인 금액이 주문 금액보다 크면 조정
-            if (command.getOrderAmount() != null && discountAmount.compareTo(command.getOrderAmount()) > 0) {
-                log.warn("할인 금액이 주문 금액보다 큼 - discount: {}, orderAmount: {}",
-                        discountAmount, command.getOrderAmount());
-                discountAmount = command.getOrderAmount();
-            }
+            // 8. 할인 금액 계산 (최소 주문 금액 미만이면 0, 주문 금액을 넘지 않음)
+            BigDecimal discountAmount = calculateDiscountAmount(rule, command.getOrderAmount());
 
             log.info("쿠폰 예약 성공 - reservationId: {}, couponId: {}, reservedUntil: {}",
                     command.getReservationId(), command.getCouponId(), reservedUntil);
@@ -150,6 +163,167 @@ public class CouponReservationService implements ReserveCouponUseCase {
         }
     }
 
+    @Override
+    @Transactional
+    @DistributedLock(key = "#command.userId", prefix = "coupon:reserve:user", waitTime = 3, leaseTime = 5)
+    public CartReservationResult reserveCoupons(ReserveCartCouponsCommand command) {
+        log.info("장바구니 쿠폰 예약 시작 - reservationId: {}, userId: {}, couponIds: {}",
+                command.getReservationId(), command.getUserId(), command.getCouponIds());
+
+        // 0. 요청 검증
+        String requestError = validateCartRequest(command);
+        if (requestError != null) {
+            return cartFailure(command, requestError);
+        }
+        List<Long> couponIds = command.getCouponIds();
+
+        // 1. 쿠폰 일괄 조회 (요청 순서 유지)
+        Map<Long, CouponIssue> loaded = new HashMap<>();
+        for (CouponIssue coupon : loadCouponIssuePort.loadByIdsAndUserId(couponIds, command.getUserId())) {
+            loaded.put(coupon.getId(), coupon);
+        }
+        List<CouponIssue> coupons = new ArrayList<>(couponIds.size());
+        for (Long couponId : couponIds) {
+            CouponIssue coupon = loaded.get(couponId);
+            if (coupon == null) {
+                return cartFailure(command, "쿠폰을 찾을 수 없음 (couponId: " + couponId + ")");
+            }
+            coupons.add(coupon);
+        }
+
+        // 2. 멱등성 체크 - 모든 쿠폰이 동일한 예약 ID로 이미 예약된 경우
+        boolean alreadyReserved = coupons.stream().allMatch(coupon ->
+                coupon.getStatus() == CouponStatus.RESERVED
+                        && command.getReservationId().equals(coupon.getReservationId()));
+
+        // 3. 쿠폰 상태 및 예약 ID 중복 검증
+        if (!alreadyReserved) {
+            for (CouponIssue coupon : coupons) {
+                String validationError = validateCouponForReservation(coupon);
+                if (validationError != null) {
+                    return cartFailure(command, validationError + " (couponId: " + coupon.getId() + ")");
+                }
+            }
+            if (isReservationIdTaken(command.getReservationId(), couponIds)) {
+                return cartFailure(command, "이미 다른 쿠폰에 사용된 예약 ID입니다");
+            }
+        }
+
+        // 4. 쿠폰 정책 일괄 조회 및 중복 적용 규칙 검증
+        Map<Long, CouponPolicy> policies = loadCouponPolicyPort.loadByIds(
+                coupons.stream().map(CouponIssue::getPolicyId).distinct().toList());
+        String stackingError = validateStacking(coupons, policies);
+        if (stackingError != null) {
+            return cartFailure(command, stackingError);
+        }
+
+        // 5. 합산 할인 금액 계산 (정률 → 정액 순서, 합계는 주문 금액 이하)
+        List<DiscountPolicy> discountPolicies = coupons.stream()
+                .map(coupon -> policies.get(coupon.getPolicyId()).getDiscountPolicy())
+                .toList();
+        StackedDiscount discount = StackedDiscount.calculate(discountPolicies, command.getOrderAmount());
+
+        // 6. 일괄 예약 (단일 UPDATE)
+        if (alreadyReserved) {
+            log.info("장바구니 쿠폰 이미 예약됨 (멱등성) - reservationId: {}", command.getReservationId());
+        } else {
+            int reserved = saveCouponIssuePort.reserveAll(
+                    couponIds, command.getUserId(), command.getReservationId(), LocalDateTime.now());
+            if (reserved != couponIds.size()) {
+                // 조회 이후 다른 요청이 상태를 바꾼 경우 → 예외로 트랜잭션을 롤백하여 일부만 예약되지 않도록 함
+                throw new CouponDomainException(String.format(
+                        "쿠폰 상태가 변경되어 예약할 수 없습니다 (요청: %d, 예약: %d)", couponIds.size(), reserved));
+            }
+        }
+
+        LocalDateTime reservedUntil = LocalDateTime.now().plusMinutes(reservationTimeoutMinutes);
+        List<ReservedCoupon> reservedCoupons = new ArrayList<>(coupons.size());
+        for (int i = 0; i < coupons.size(); i++) {
+            reservedCoupons.add(new ReservedCoupon(coupons.get(i).getId(), discount.amountAt(i)));
+        }
+
+        log.info("장바구니 쿠폰 예약 성공 - reservationId: {}, coupons: {}, totalDiscount: {}, reservedUntil: {}",
+                command.getReservationId(), coupons.size(), discount.totalAmount(), reservedUntil);
+
+        return CartReservationResult.builder()
+                .success(true)
+                .reservationId(command.getReservationId())
+                .coupons(reservedCoupons)
+                .totalDiscountAmount(discount.totalAmount())
+                .message(alreadyReserved ? "쿠폰이 이미 예약됨" : "쿠폰 예약 성공")
+                .reservedUntil(reservedUntil)
+                .build();
+    }
+
+    /**
+     * 장바구니 예약 요청 검증
+     * @return 에러 메시지 (null이면 검증 통과)
+     */
+    private String validateCartRequest(ReserveCartCouponsCommand command) {
+        if (command.getReservationId() == null || command.getReservationId().trim().isEmpty()) {
+            return "예약 ID가 유효하지 않음";
+        }
+        List<Long> couponIds = command.getCouponIds();
+        if (couponIds == null || couponIds.isEmpty()) {
+            return "예약할 쿠폰이 없음";
+        }
+        if (couponIds.size() > maxCouponsPerCart) {
+            return "한 주문에 사용할 수 있는 쿠폰은 최대 " + maxCouponsPerCart + "개입니다";
+        }
+        if (couponIds.stream().anyMatch(Objects::isNull) || new HashSet<>(couponIds).size() != couponIds.size()) {
+            return "쿠폰 ID가 중복되었거나 비어 있음";
+        }
+        return null;
+    }
+
+    /**
+     * 쿠폰 중복 적용 규칙 검증
+     * - 같은 정책의 쿠폰은 한 주문에 하나만
+     * - 정률 할인 쿠폰은 한 주문에 하나만 (정액 쿠폰과는 함께 사용 가능)
+     * @return 에러 메시지 (null이면 검증 통과)
+     */
+    private String validateStacking(List<CouponIssue> coupons, Map<Long, CouponPolicy> policies) {
+        Set<Long> policyIds = new HashSet<>();
+        int percentageCoupons = 0;
+        for (CouponIssue coupon : coupons) {
+            CouponPolicy policy = policies.get(coupon.getPolicyId());
+            if (policy == null) {
+                return "쿠폰 정책을 찾을 수 없습니다 (couponId: " + coupon.getId() + ")";
+            }
+            if (!policyIds.add(policy.getId())) {
+                return "같은 쿠폰은 한 주문에 하나만 사용할 수 있습니다 (policyId: " + policy.getId() + ")";
+            }
+            DiscountPolicy discountPolicy = policy.getDiscountPolicy();
+            if (discountPolicy != null && discountPolicy.getDiscountType() == DiscountType.PERCENTAGE
+                    && ++percentageCoupons > 1) {
+                return "정률 할인 쿠폰은 한 주문에 하나만 사용할 수 있습니다";
+            }
+        }
+        return null;
+    }
+
+    private CartReservationResult cartFailure(ReserveCartCouponsCommand command, String message) {
+        log.warn("장바구니 쿠폰 예약 실패 - reservationId: {}, message: {}", command.getReservationId(), message);
+        return CartReservationResult.builder()
+                .success(false)
+                .reservationId(command.getReservationId())
+                .coupons(List.of())
+                .totalDiscountAmount(BigDecimal.ZERO)
+                .message(message)
+                .reservedUntil(null)
+                .build();
+    }
+
+    /**
+     * 예약 ID가 요청 외 쿠폰에 이미 쓰였는지 확인
+     * coupon_issues는 파티션 테이블이라 reservation_id 단독 유니크 제약을 둘 수 없으므로 예약 시 검증
+     * (타임아웃으로 해제된 쿠폰도 늦은 결제 이벤트를 위해 예약 ID를 유지하므로 함께 확인)
+     */
+    private boolean isReservationIdTaken(String reservationId, List<Long> couponIds) {
+        return loadCouponIssuePort.loadAllByReservationId(reservationId).stream()
+                .anyMatch(coupon -> !couponIds.contains(coupon.getId()));
+    }
+
     /**
      * 쿠폰 예약 가능 여부 검증
      * @return 에러 메시지 (null이면 검증 통과)
@@ -184,37 +358,15 @@ public class CouponReservationService implements ReserveCouponUseCase {
 
     /**
      * 할인 금액 계산
-     * @param policy 쿠폰 정책
-     * @param orderAmount 주문 금액
+     * 주문 금액 없이 예약한 경우 정액 쿠폰은 쿠폰 금액, 정률 쿠폰은 0 (결제 확정 시 실제 금액으로 재계산)
+     * @param rule 컴파일된 쿠폰 정책 규칙
+     * @param orderAmount 주문 금액 (null 가능)
      * @return 할인 금액
      */
-    private BigDecimal calculateDiscountAmount(CouponPolicy policy, BigDecimal orderAmount) {
-        if (policy.getDiscountPolicy() == null) {
-            return BigDecimal.ZERO;
+    private BigDecimal calculateDiscountAmount(CompiledCouponRule rule, BigDecimal orderAmount) {
+        if (orderAmount == null) {
+            return DiscountCalculator.toAmount(rule.fixedAmount());
         }
-
-        BigDecimal discountAmount = BigDecimal.ZERO;
-
-        // 정률 할인인 경우
-        if (policy.getDiscountPolicy().getDiscountType() == DiscountType.PERCENTAGE) {
-            if (orderAmount != null) {
-                BigDecimal percentage = policy.getDiscountPolicy().getDiscountValue()
-                        .divide(new BigDecimal("100"));
-                discountAmount = orderAmount.multiply(percentage);
-
-                // 최대 할인 금액 제한 적용
-                BigDecimal maxDiscount = policy.getDiscountPolicy().getMaxDiscountAmount();
-                if (maxDiscount != null && discountAmount.compareTo(maxDiscount) > 0) {
-                    discountAmount = maxDiscount;
-                }
-            }
-        }
-        // 정액 할인인 경우
-        else if (policy.getDiscountPolicy().getDiscountType() == DiscountType.FIXED_AMOUNT
-                || policy.getDiscountPolicy().getDiscountType() == DiscountType.AMOUNT) {
-            discountAmount = policy.getDiscountPolicy().getDiscountValue();
-        }
-
-        return discountAmount;
+        return DiscountCalculator.toAmount(rule.evaluate(DiscountCalculator.toMinorUnits(orderAmount)));
     }
-}
\ No newline at end of file
+}
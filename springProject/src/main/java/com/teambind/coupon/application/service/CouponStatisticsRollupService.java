@@ -0,0 +1,183 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.RollupCouponStatisticsUseCase;
+import com.teambind.coupon.application.port.out.CouponStatisticsRollupPort;
+import com.teambind.coupon.application.port.out.JobLockPort;
+import com.teambind.coupon.application.port.out.JobLockPort.JobLock;
+import com.teambind.coupon.common.exceptions.CustomException;
+import com.teambind.coupon.common.exceptions.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 쿠폰 일별 통계 롤업 서비스
+ * 일자 구간을 청크 단위 트랜잭션으로 나누어 집계하며, 청크마다 워터마크를 저장하여 재시작 가능
+ * 백필은 인스턴스 간 락을 잡은 뒤 공유 스레드 풀에서 비동기로 실행 (동시에 하나만 실행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponStatisticsRollupService implements RollupCouponStatisticsUseCase {
+
+    static final String JOB_NAME = "coupon-statistics-daily";
+    static final String BACKFILL_LOCK_NAME = "backfillCouponStatistics";
+
+    private final CouponStatisticsRollupPort rollupPort;
+    private final JobLockPort jobLockPort;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.statistics.rollup.lookback-days:1}")
+    private int lookbackDays;
+
+    @Value("${coupon.statistics.rollup.chunk-days:7}")
+    private int chunkDays;
+
+    @Value("${coupon.statistics.rollup.backfill-parallelism:4}")
+    private int backfillParallelism;
+
+    @Value("${coupon.statistics.rollup.backfill-lock-at-most-minutes:360}")
+    private long backfillLockAtMostMinutes;
+
+    // 백필 청크 실행용 공유 풀 (락으로 백필이 하나만 실행되므로 동시 집계는 backfillParallelism으로 제한)
+    private ExecutorService backfillExecutor;
+
+    @PostConstruct
+    void init() {
+        backfillExecutor = Executors.newFixedThreadPool(backfillParallelism,
+                new CustomizableThreadFactory("statistics-backfill-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        backfillExecutor.shutdownNow();
+    }
+
+    @Override
+    public RollupResult rollupIncremental() {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+
+        // 확정된 일자도 늦게 커밋된 변경을 반영하도록 lookbackDays만큼 겹쳐서 다시 집계
+        LocalDate fromDate = rollupPort.loadWatermark(JOB_NAME)
+                .map(watermark -> watermark.plusDays(1).minusDays(lookbackDays))
+                .orElse(today.minusDays(lookbackDays));
+
+        long startNanos = System.nanoTime();
+        long upsertedRows = 0;
+        int chunkCount = 0;
+        LocalDate watermark = null;
+
+        for (DateChunk chunk : split(fromDate, today)) {
+            upsertedRows += rollupPort.rollupDays(chunk.from(), chunk.to());
+            chunkCount++;
+
+            LocalDate confirmed = chunk.to().isAfter(yesterday) ? yesterday : chunk.to();
+            rollupPort.saveWatermark(JOB_NAME, confirmed);
+            watermark = confirmed;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        meterRegistry.counter("coupon.statistics.rollup.rows", "mode", "incremental").increment(upsertedRows);
+
+        log.info("쿠폰 통계 증분 롤업 완료 - from: {}, to: {}, chunks: {}, upserted: {}, watermark: {}, elapsed: {}ms",
+                fromDate, today, chunkCount, upsertedRows, watermark, elapsedMillis);
+
+        return RollupResult.builder()
+                .fromDate(fromDate)
+                .toDate(today)
+                .chunkCount(chunkCount)
+                .upsertedRows(upsertedRows)
+                .watermark(watermark)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<RollupResult> backfill(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null || toDate == null || fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("백필 기간이 올바르지 않습니다: " + fromDate + " ~ " + toDate);
+        }
+
+        JobLock lock = jobLockPort.tryLock(BACKFILL_LOCK_NAME, Duration.ofMinutes(backfillLockAtMostMinutes))
+                .orElseThrow(() -> new CustomException(ErrorCode.LOCK_ACQUISITION_FAILED,
+                        "이미 진행 중인 통계 백필이 있습니다"));
+
+        List<DateChunk> chunks = split(fromDate, toDate);
+        long startNanos = System.nanoTime();
+        log.info("쿠폰 통계 백필 시작 - from: {}, to: {}, chunks: {}, parallelism: {}",
+                fromDate, toDate, chunks.size(), backfillParallelism);
+
+        // 청크는 서로 다른 일자만 다루므로 upsert가 충돌하지 않음
+        List<CompletableFuture<Integer>> futures;
+        try {
+            futures = chunks.stream()
+                    .map(chunk -> CompletableFuture.supplyAsync(
+                            () -> rollupPort.rollupDays(chunk.from(), chunk.to()), backfillExecutor))
+                    .toList();
+        } catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+
+        // 모든 청크가 끝난 뒤(실패 포함) 락 해제
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    long upsertedRows = futures.stream()
+                            .mapToLong(CompletableFuture::join)
+                            .sum();
+                    long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+                    meterRegistry.counter("coupon.statistics.rollup.rows", "mode", "backfill").increment(upsertedRows);
+
+                    log.info("쿠폰 통계 백필 완료 - from: {}, to: {}, chunks: {}, upserted: {}, elapsed: {}ms",
+                            fromDate, toDate, chunks.size(), upsertedRows, elapsedMillis);
+
+                    return RollupResult.builder()
+                            .fromDate(fromDate)
+                            .toDate(toDate)
+                            .chunkCount(chunks.size())
+                            .upsertedRows(upsertedRows)
+                            .elapsedMillis(elapsedMillis)
+                            .build();
+                })
+                .whenComplete((result, failure) -> {
+                    lock.unlock();
+                    if (failure != null) {
+                        log.error("쿠폰 통계 백필 실패 - from: {}, to: {}", fromDate, toDate, failure);
+                    }
+                });
+    }
+
+    /**
+     * [fromDate, toDate] 구간을 chunkDays 단위로 분할
+     */
+    List<DateChunk> split(LocalDate fromDate, LocalDate toDate) {
+        List<DateChunk> chunks = new ArrayList<>();
+        LocalDate cursor = fromDate;
+        while (!cursor.isAfter(toDate)) {
+            LocalDate end = cursor.plusDays(chunkDays - 1L);
+            if (end.isAfter(toDate)) {
+                end = toDate;
+            }
+            chunks.add(new DateChunk(cursor, end));
+            cursor = end.plusDays(1);
+        }
+        return chunks;
+    }
+
+    record DateChunk(LocalDate from, LocalDate to) {
+    }
+}
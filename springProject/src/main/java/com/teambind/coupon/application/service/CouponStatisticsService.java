@@ -1,7 +1,12 @@
 package com.teambind.coupon.application.service;
 
 import com.teambind.coupon.application.port.in.GetCouponStatisticsUseCase;
+import com.teambind.coupon.application.port.in.ManageStatisticsCacheUseCase;
+import com.teambind.coupon.application.port.out.CacheKeyCleanupPort;
+import com.teambind.coupon.application.port.out.CouponCounterPort;
+import com.teambind.coupon.application.port.out.CouponCounterPort.CounterValues;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort.UserCouponCounts;
 import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.domain.model.CouponPolicy;
 import com.teambind.coupon.domain.model.CouponStatus;
@@ -13,25 +18,32 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 쿠폰 통계 서비스
- * Redis 캐시를 활용한 실시간 통계 제공
+ * 상태 전이마다 갱신되는 Redis 카운터를 활용한 실시간 통계 제공
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class CouponStatisticsService implements GetCouponStatisticsUseCase {
+public class CouponStatisticsService implements GetCouponStatisticsUseCase, ManageStatisticsCacheUseCase {
 
     private final LoadCouponPolicyPort loadCouponPolicyPort;
     private final LoadCouponIssuePort loadCouponIssuePort;
+    private final CouponCounterPort couponCounterPort;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheKeyCleanupPort cacheKeyCleanupPort;
 
     private static final String STATS_KEY_PREFIX = "stats:coupon:";
+    private static final String POLICY_INDEX_PREFIX = STATS_KEY_PREFIX + "index:policy:";
     private static final long CACHE_TTL_SECONDS = 60; // 1분 캐시
 
     @Override
@@ -51,11 +63,12 @@ public class CouponStatisticsService implements GetCouponStatisticsUseCase {
         CouponPolicy policy = loadCouponPolicyPort.loadById(policyId)
                 .orElseThrow(() -> new IllegalArgumentException("쿠폰 정책을 찾을 수 없습니다: " + policyId));
 
-        // 상태별 카운트 조회
-        int issuedCount = policy.getCurrentIssueCount().get();
-        int usedCount = countByPolicyAndStatus(policyId, CouponStatus.USED);
-        int reservedCount = countByPolicyAndStatus(policyId, CouponStatus.RESERVED);
-        
+        // 상태별 카운트 조회 (Redis 카운터 HGETALL 1회)
+        CounterValues counters = couponCounterPort.loadPolicyCounters(policyId);
+        int issuedCount = (int) counters.totalIssued();
+        int usedCount = (int) counters.count(CouponStatus.USED);
+        int reservedCount = (int) counters.count(CouponStatus.RESERVED);
+
         RealtimeStatistics statistics = RealtimeStatistics.builder()
                 .policyId(policyId)
                 .policyName(policy.getCouponName())
@@ -65,12 +78,13 @@ public class CouponStatisticsService implements GetCouponStatisticsUseCase {
                 .reservedCount(reservedCount)
                 .availableCount(policy.getMaxIssueCount() - issuedCount)
                 .usageRate(calculateUsageRate(usedCount, issuedCount))
-                .lastIssuedAt(getLastActivityTime(policyId, "issued"))
-                .lastUsedAt(getLastActivityTime(policyId, "used"))
+                .lastIssuedAt(counters.getLastIssuedAt())
+                .lastUsedAt(counters.getLastUsedAt())
                 .build();
 
-        // 캐시 저장
+        // 캐시 저장 (정책 인덱스에 키 등록 → 무효화 시 패턴 조회 없이 삭제)
         redisTemplate.opsForValue().set(cacheKey, statistics, CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+        indexPolicyKey(policyId, cacheKey);
         
         return statistics;
     }
@@ -90,13 +104,13 @@ public class CouponStatisticsService implements GetCouponStatisticsUseCase {
         // 전체 정책 수
         int totalPolicies = loadCouponPolicyPort.countAll();
         
-        // 상태별 분포
+        // 상태별 분포 (전체 카운터 HGETALL 1회)
+        CounterValues globalCounters = couponCounterPort.loadGlobalCounters();
         Map<String, Long> statusDistribution = new HashMap<>();
         for (CouponStatus status : CouponStatus.values()) {
-            long count = countAllByStatus(status);
-            statusDistribution.put(status.name(), count);
+            statusDistribution.put(status.name(), globalCounters.count(status));
         }
-        
+
         long totalIssued = statusDistribution.values().stream().mapToLong(Long::longValue).sum();
         long totalUsed = statusDistribution.getOrDefault(CouponStatus.USED.name(), 0L);
         long totalReserved = statusDistribution.getOrDefault(CouponStatus.RESERVED.name(), 0L);
@@ -110,7 +124,7 @@ public class CouponStatisticsService implements GetCouponStatisticsUseCase {
                 .totalExpiredCoupons(totalExpired)
                 .overallUsageRate(calculateUsageRate(totalUsed, totalIssued))
                 .statusDistribution(statusDistribution)
-                .typeDistribution(getTypeDistribution())
+                .typeDistribution(loadCouponPolicyPort.countByDistributionType())
                 .build();
 
         // 캐시 저장 (5분)
@@ -130,33 +144,22 @@ public class CouponStatisticsService implements GetCouponStatisticsUseCase {
             return cached;
         }
 
-        // 사용자 쿠폰 통계
+        // 사용자 쿠폰 통계 (상태별 개수/첫 발급/마지막 사용을 단일 쿼리로 집계)
+        UserCouponCounts counts = loadCouponIssuePort.countUserCoupons(userId, 7);
+
         Map<String, Integer> couponsByStatus = new HashMap<>();
-        int totalCoupons = 0;
-        int availableCoupons = 0;
-        int usedCoupons = 0;
-        int expiredCoupons = 0;
-        
         for (CouponStatus status : CouponStatus.values()) {
-            int count = loadCouponIssuePort.countByUserIdAndStatus(userId, status);
-            couponsByStatus.put(status.name(), count);
-            totalCoupons += count;
-            
-            switch (status) {
-                case ISSUED -> availableCoupons += count;
-                case USED -> usedCoupons += count;
-                case EXPIRED -> expiredCoupons += count;
-            }
+            couponsByStatus.put(status.name(), (int) counts.count(status));
         }
-        
+
         UserStatistics statistics = UserStatistics.builder()
                 .userId(userId)
-                .totalCoupons(totalCoupons)
-                .availableCoupons(availableCoupons)
-                .usedCoupons(usedCoupons)
-                .expiredCoupons(expiredCoupons)
-                .firstIssuedAt(getFirstIssuedTime(userId))
-                .lastUsedAt(getLastUsedTime(userId))
+                .totalCoupons((int) counts.totalCount())
+                .availableCoupons((int) counts.count(CouponStatus.ISSUED))
+                .usedCoupons((int) counts.count(CouponStatus.USED))
+                .expiredCoupons((int) counts.count(CouponStatus.EXPIRED))
+                .firstIssuedAt(counts.getFirstIssuedAt())
+                .lastUsedAt(counts.getLastUsedAt())
                 .couponsByStatus(couponsByStatus)
                 .build();
 
@@ -166,39 +169,34 @@ public class CouponStatisticsService implements GetCouponStatisticsUseCase {
         return statistics;
     }
 
-    /**
-     * 정책별 상태별 카운트
-     */
-    private int countByPolicyAndStatus(Long policyId, CouponStatus status) {
-        String countKey = String.format("%scount:%d:%s", STATS_KEY_PREFIX, policyId, status.name());
-        Integer count = (Integer) redisTemplate.opsForValue().get(countKey);
-        
-        if (count == null) {
-            // DB에서 조회
-            count = 0; // TODO: Repository 메서드 추가 필요
-            redisTemplate.opsForValue().set(countKey, count, CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+    @Override
+    public CounterSnapshot getCounterSnapshot(List<Long> policyIds) {
+        CounterValues global = couponCounterPort.loadGlobalCounters();
+        Map<Long, CounterValues> policies = policyIds == null || policyIds.isEmpty()
+                ? Map.of()
+                : couponCounterPort.loadPolicyCounters(policyIds);
+
+        Map<Long, Map<String, Long>> policyCounts = new LinkedHashMap<>();
+        for (Long policyId : policyIds == null ? List.<Long>of() : policyIds) {
+            CounterValues counters = policies.get(policyId);
+            if (counters != null) {
+                policyCounts.put(policyId, toStatusCounts(counters));
+            }
         }
-        
-        return count;
-    }
 
-    /**
-     * 전체 상태별 카운트
-     */
-    private long countAllByStatus(CouponStatus status) {
-        // TODO: Repository 메서드 추가 필요
-        return 0L;
+        return CounterSnapshot.builder()
+                .global(toStatusCounts(global))
+                .policies(policyCounts)
+                .capturedAt(LocalDateTime.now())
+                .build();
     }
 
-    /**
-     * 타입별 분포
-     */
-    private Map<String, Long> getTypeDistribution() {
-        Map<String, Long> distribution = new HashMap<>();
-        distribution.put("CODE", 0L);
-        distribution.put("DIRECT", 0L);
-        // TODO: 실제 데이터 조회
-        return distribution;
+    private Map<String, Long> toStatusCounts(CounterValues counters) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (CouponStatus status : CouponStatus.values()) {
+            counts.put(status.name(), counters.count(status));
+        }
+        return counts;
     }
 
     /**
@@ -209,35 +207,32 @@ public class CouponStatisticsService implements GetCouponStatisticsUseCase {
     }
 
     /**
-     * 마지막 활동 시간 조회
+     * 정책 인덱스 Set에 캐시 키 등록
+     * 인덱스 TTL은 등록할 때마다 갱신되므로 항상 등록된 캐시 키보다 오래 유지됨
      */
-    private LocalDateTime getLastActivityTime(Long policyId, String activityType) {
-        String key = String.format("%slast:%d:%s", STATS_KEY_PREFIX, policyId, activityType);
-        LocalDateTime time = (LocalDateTime) redisTemplate.opsForValue().get(key);
-        return time != null ? time : LocalDateTime.now();
+    private void indexPolicyKey(Long policyId, String cacheKey) {
+        String indexKey = POLICY_INDEX_PREFIX + policyId;
+        redisTemplate.opsForSet().add(indexKey, cacheKey);
+        redisTemplate.expire(indexKey, CACHE_TTL_SECONDS, TimeUnit.SECONDS);
     }
 
-    /**
-     * 첫 발급 시간 조회
-     */
-    private LocalDateTime getFirstIssuedTime(Long userId) {
-        // TODO: Repository 메서드 추가 필요
-        return LocalDateTime.now();
-    }
+    @Override
+    public void invalidateCache(Long policyId) {
+        String indexKey = POLICY_INDEX_PREFIX + policyId;
+        Set<Object> members = redisTemplate.opsForSet().members(indexKey);
 
-    /**
-     * 마지막 사용 시간 조회
-     */
-    private LocalDateTime getLastUsedTime(Long userId) {
-        // TODO: Repository 메서드 추가 필요
-        return LocalDateTime.now();
+        List<String> keys = new ArrayList<>();
+        if (members != null) {
+            members.forEach(member -> keys.add(String.valueOf(member)));
+        }
+        keys.add(indexKey);
+
+        redisTemplate.delete(keys);
+        log.debug("정책 통계 캐시 무효화 - policyId: {}, keys: {}", policyId, keys.size());
     }
 
-    /**
-     * 통계 캐시 초기화
-     */
-    public void invalidateCache(Long policyId) {
-        String pattern = STATS_KEY_PREFIX + "*" + policyId + "*";
-        redisTemplate.delete(redisTemplate.keys(pattern));
+    @Override
+    public long purgeAllCache() {
+        return cacheKeyCleanupPort.deleteByPattern(STATS_KEY_PREFIX + "*");
     }
 }
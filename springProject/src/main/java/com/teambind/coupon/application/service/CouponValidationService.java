@@ -0,0 +1,152 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ValidateCouponsCommand;
+import com.teambind.coupon.application.port.in.ValidateCouponsUseCase;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.domain.exception.CouponDomainException;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.DiscountCalculator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쿠폰 일괄 검증 서비스
+ * 요청의 모든 쿠폰을 단일 IN 쿼리로 조회하고, 캐시된 정책 규칙으로 메모리에서 검증
+ * DB 조회는 쿠폰 조회 1회(+ 캐시 미스 정책 배치 조회)로 요청 크기와 무관
+ *
+ * 상품별 금액 없이 주문 금액만 전달되므로 최소 주문 금액과 할인은 주문 금액 기준으로 판단하고,
+ * 특정 상품 쿠폰은 주문 상품 중 적용 가능 상품이 하나라도 있는지만 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponValidationService implements ValidateCouponsUseCase {
+
+    private final LoadCouponIssuePort loadCouponIssuePort;
+    private final CompiledCouponRuleCache ruleCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.validation.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Override
+    public BatchValidationResult validateAll(ValidateCouponsCommand command) {
+        List<ValidateCouponsCommand.Target> targets = command.getTargets();
+        if (targets == null || targets.isEmpty()) {
+            throw new CouponDomainException.InvalidRequest("검증할 쿠폰이 없습니다");
+        }
+        if (targets.size() > maxBatchSize) {
+            throw new CouponDomainException.InvalidRequest(
+                    "한 번에 검증할 수 있는 쿠폰은 최대 " + maxBatchSize + "개입니다");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // 1. 쿠폰 일괄 조회 (단일 IN 쿼리)
+        Set<Long> couponIds = new HashSet<>();
+        for (ValidateCouponsCommand.Target target : targets) {
+            if (target.couponId() != null) {
+                couponIds.add(target.couponId());
+            }
+        }
+        Map<Long, CouponIssue> coupons = new HashMap<>();
+        for (CouponIssue coupon : loadCouponIssuePort.loadByIds(couponIds)) {
+            coupons.put(coupon.getId(), coupon);
+        }
+
+        // 2. 정책 규칙 조회 (캐시 미스만 배치 조회)
+        Set<Long> policyIds = new HashSet<>();
+        for (CouponIssue coupon : coupons.values()) {
+            policyIds.add(coupon.getPolicyId());
+        }
+        Map<Long, CompiledCouponRule> rules = ruleCache.getAll(policyIds);
+
+        // 3. 대상별 검증 (요청 순서 유지)
+        List<CouponValidation> results = new ArrayList<>(targets.size());
+        int validCount = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            CouponValidation validation = validate(i, targets.get(i), coupons, rules);
+            if (validation.isValid()) {
+                validCount++;
+            }
+            results.add(validation);
+        }
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("coupon.validate.batch.duration"));
+        log.info("쿠폰 일괄 검증 완료 - requested: {}, coupons: {}, valid: {}, elapsed: {}us",
+                targets.size(), coupons.size(), validCount, elapsedNanos / 1_000);
+
+        return BatchValidationResult.builder()
+                .requested(targets.size())
+                .validCount(validCount)
+                .results(results)
+                .build();
+    }
+
+    private static CouponValidation validate(int index, ValidateCouponsCommand.Target target,
+                                             Map<Long, CouponIssue> coupons, Map<Long, CompiledCouponRule> rules) {
+        CouponIssue coupon = coupons.get(target.couponId());
+        // 다른 유저의 쿠폰은 존재 여부를 드러내지 않도록 없는 쿠폰과 동일하게 처리
+        if (coupon == null || target.userId() == null || !target.userId().equals(coupon.getUserId())) {
+            return failure(index, target, FailureReason.COUPON_NOT_FOUND, "쿠폰을 찾을 수 없습니다");
+        }
+        if (!coupon.isUsable()) {
+            return failure(index, target, FailureReason.NOT_USABLE,
+                    "사용 가능한 상태가 아닙니다: " + coupon.getStatus());
+        }
+        if (coupon.isExpired()) {
+            return failure(index, target, FailureReason.EXPIRED, "유효기간이 만료된 쿠폰입니다");
+        }
+
+        CompiledCouponRule rule = rules.get(coupon.getPolicyId());
+        if (rule == null) {
+            return failure(index, target, FailureReason.POLICY_NOT_FOUND, "쿠폰 정책을 찾을 수 없습니다");
+        }
+        if (!rule.appliesToAny(target.itemIds())) {
+            return failure(index, target, FailureReason.NOT_APPLICABLE_ITEM, "쿠폰을 적용할 수 있는 상품이 없습니다");
+        }
+        long orderAmount = DiscountCalculator.toMinorUnits(target.orderAmount());
+        if (!rule.meetsMinimumOrder(orderAmount)) {
+            return failure(index, target, FailureReason.MINIMUM_ORDER_NOT_MET, "최소 주문 금액을 충족하지 않습니다");
+        }
+
+        return CouponValidation.builder()
+                .index(index)
+                .userId(target.userId())
+                .couponId(target.couponId())
+                .valid(true)
+                .message("사용 가능한 쿠폰")
+                .discountType(rule.getDiscountType())
+                .discountAmount(DiscountCalculator.toAmount(rule.evaluate(orderAmount)))
+                .expiredAt(coupon.getExpiredAt())
+                .build();
+    }
+
+    private static CouponValidation failure(int index, ValidateCouponsCommand.Target target,
+                                            FailureReason reason, String message) {
+        return CouponValidation.builder()
+                .index(index)
+                .userId(target.userId())
+                .couponId(target.couponId())
+                .valid(false)
+                .reason(reason)
+                .message(message)
+                .discountAmount(BigDecimal.ZERO)
+                .build();
+    }
+}
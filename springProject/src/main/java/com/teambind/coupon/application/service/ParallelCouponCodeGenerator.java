@@ -0,0 +1,192 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.common.util.sketch.ConcurrentFingerprintSet;
+import com.teambind.coupon.domain.service.CouponCodeGenerator;
+import com.teambind.coupon.domain.service.PermutationCodeGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * 쿠폰 코드 병렬 대량 생성기
+ * 고정 크기 윈도우를 ForkJoinPool로 나눠 채우고 호출 스레드가 순서대로 sink에 전달
+ * 다음 윈도우 생성과 현재 윈도우 전달을 겹쳐(더블 버퍼) 수천만 건도 윈도우 2개 + 지문 집합만 메모리에 유지
+ * ForkJoinPool은 인스턴스당 하나를 공유하므로 동시 요청 수와 무관하게 생성 스레드 수는 parallelism으로 제한
+ *
+ * - 랜덤 생성기: ConcurrentFingerprintSet으로 배치 내 중복을 락 없이 제거하고 중복 자리는 재생성
+ * - 순열 생성기: 예약된 일련번호 구간을 나눠 변환하므로 중복 확인 자체가 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelCouponCodeGenerator {
+
+    private static final int MAX_ATTEMPTS_PER_CODE = 10;
+
+    private final PermutationCodeGenerator permutationCodeGenerator;
+
+    @Value("${coupon.code.parallel.parallelism:0}")
+    private int parallelism;
+
+    @Value("${coupon.code.parallel.window-size:65536}")
+    private int windowSize;
+
+    @Value("${coupon.code.parallel.leaf-size:2048}")
+    private int leafSize;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        pool = parallelism > 0 ? new ForkJoinPool(parallelism) : new ForkJoinPool();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 랜덤 생성기로 배치 내 고유 코드 생성
+     *
+     * @param generator 코드 생성기 (여러 스레드에서 동시에 호출됨)
+     * @param count     생성 개수
+     * @param prefix    프리픽스 (선택)
+     * @param sink      코드 수신자 (호출 스레드에서만 호출)
+     * @return 전달한 코드 수
+     */
+    public long generate(CouponCodeGenerator generator, int count, String prefix, Consumer<String> sink) {
+        ConcurrentFingerprintSet seen = new ConcurrentFingerprintSet(count);
+        long emitted = run(count, sink, (window, from, to, windowStart) ->
+                fillUnique(generator, prefix, seen, window, from, to));
+
+        log.debug("병렬 코드 생성 지문 집합 - codes: {}, bytes: {}", seen.size(), seen.sizeInBytes());
+        return emitted;
+    }
+
+    /**
+     * 예약된 일련번호 구간을 순열 코드로 생성
+     *
+     * @param startIndex 시작 일련번호 (count개가 예약된 상태)
+     * @param count      생성 개수
+     * @param prefix     프리픽스 (선택)
+     * @param sink       코드 수신자 (호출 스레드에서만 호출)
+     * @return 전달한 코드 수
+     */
+    public long generateRange(long startIndex, int count, String prefix, Consumer<String> sink) {
+        return run(count, sink, (window, from, to, windowStart) ->
+                permutationCodeGenerator.generateRange(startIndex + windowStart + from, to - from, prefix, window, from));
+    }
+
+    private long run(int count, Consumer<String> sink, LeafFiller filler) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("생성 개수는 1 이상이어야 합니다");
+        }
+        int window = Math.min(windowSize, count);
+        String[][] buffers = {new String[window], new String[window]};
+        long startedAt = System.nanoTime();
+
+        long emitted = 0;
+        ForkJoinTask<Void> pending = null;
+        try {
+            int filled = Math.min(window, count);
+            pending = pool.submit(new FillTask(filler, buffers[0], 0, filled, 0, leafSize));
+            int current = 0;
+            while (emitted < count) {
+                pending.join();
+                String[] ready = buffers[current];
+                int readyCount = filled;
+
+                // 다음 윈도우를 생성하는 동안 현재 윈도우를 전달
+                long nextStart = emitted + readyCount;
+                if (nextStart < count) {
+                    filled = (int) Math.min(window, count - nextStart);
+                    current ^= 1;
+                    pending = pool.submit(new FillTask(filler, buffers[current], 0, filled, nextStart, leafSize));
+                }
+                for (int i = 0; i < readyCount; i++) {
+                    sink.accept(ready[i]);
+                }
+                emitted += readyCount;
+            }
+        } catch (RuntimeException e) {
+            // sink 실패(클라이언트 연결 종료 등) 시 아직 시작하지 않은 다음 윈도우 생성은 취소
+            // (이미 실행 중인 leaf는 최대 한 윈도우만큼 마저 채우고 끝남)
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            throw e;
+        }
+
+        long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        log.info("쿠폰 코드 병렬 생성 완료 - count: {}, parallelism: {}, elapsed: {}ms, codes/sec: {}",
+                emitted, pool.getParallelism(), elapsedMillis, emitted * 1000 / elapsedMillis);
+        return emitted;
+    }
+
+    private static void fillUnique(CouponCodeGenerator generator, String prefix, ConcurrentFingerprintSet seen,
+                                   String[] window, int from, int to) {
+        boolean hasPrefix = prefix != null && !prefix.isEmpty();
+        for (int i = from; i < to; i++) {
+            String code = null;
+            for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_CODE && code == null; attempt++) {
+                String candidate = hasPrefix ? generator.generate(prefix) : generator.generate();
+                if (seen.add(candidate)) {
+                    code = candidate;
+                }
+            }
+            if (code == null) {
+                throw new IllegalStateException("고유한 쿠폰 코드를 더 생성할 수 없습니다 (코드 공간 부족) - generated: " + seen.size());
+            }
+            window[i] = code;
+        }
+    }
+
+    /**
+     * 윈도우의 [from, to) 구간을 채우는 leaf 작업
+     */
+    @FunctionalInterface
+    private interface LeafFiller {
+        void fill(String[] window, int from, int to, long windowStart);
+    }
+
+    /**
+     * 윈도우를 leaf 크기까지 반으로 나눠 병렬로 채우는 작업
+     */
+    private static final class FillTask extends RecursiveAction {
+        private final LeafFiller filler;
+        private final String[] window;
+        private final int from;
+        private final int to;
+        private final long windowStart;
+        private final int leafSize;
+
+        private FillTask(LeafFiller filler, String[] window, int from, int to, long windowStart, int leafSize) {
+            this.filler = filler;
+            this.window = window;
+            this.from = from;
+            this.to = to;
+            this.windowStart = windowStart;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                filler.fill(window, from, to, windowStart);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FillTask(filler, window, from, middle, windowStart, leafSize),
+                    new FillTask(filler, window, middle, to, windowStart, leafSize));
+        }
+    }
+}
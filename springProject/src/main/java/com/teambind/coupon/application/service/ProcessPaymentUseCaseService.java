@@ -5,12 +5,16 @@ import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
 import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.StackedDiscount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -27,35 +31,41 @@ public class ProcessPaymentUseCaseService implements ProcessPaymentUseCase {
                 command.getOrderId(), command.getReservationId(), command.getUserId());
 
         try {
-            // Find coupon by reservation ID
-            Optional<CouponIssue> couponOpt = loadCouponIssuePort.loadByReservationIdWithLock(command.getReservationId());
+            // Find coupons by reservation ID (장바구니 예약이면 여러 개)
+            List<CouponIssue> coupons = loadCouponIssuePort.loadAllByReservationIdWithLock(command.getReservationId());
 
-            if (couponOpt.isEmpty()) {
+            if (coupons.isEmpty()) {
                 log.warn("No coupon found for reservation: {}", command.getReservationId());
                 return PaymentResult.failure(command.getReservationId(), "Coupon not found");
             }
 
-            CouponIssue coupon = couponOpt.get();
-
             // 멱등성 체크: 이미 사용된 쿠폰인지 확인
-            if (coupon.getStatus() == CouponStatus.USED) {
-                if (command.getOrderId().equals(coupon.getOrderId())) {
-                    log.info("이미 처리된 결제 이벤트 (멱등성 보장) - orderId: {}, reservationId: {}",
-                            command.getOrderId(), command.getReservationId());
-                    return PaymentResult.success(command.getReservationId(), command.getOrderId());
-                } else {
+            for (CouponIssue coupon : coupons) {
+                if (coupon.getStatus() == CouponStatus.USED && !command.getOrderId().equals(coupon.getOrderId())) {
                     log.error("쿠폰이 다른 주문에 이미 사용됨 - couponOrderId: {}, newOrderId: {}",
                             coupon.getOrderId(), command.getOrderId());
                     return PaymentResult.failure(command.getReservationId(), "쿠폰이 다른 주문에 이미 사용됨");
                 }
             }
+            if (coupons.stream().allMatch(coupon -> coupon.getStatus() == CouponStatus.USED)) {
+                log.info("이미 처리된 결제 이벤트 (멱등성 보장) - orderId: {}, reservationId: {}",
+                        command.getOrderId(), command.getReservationId());
+                return PaymentResult.success(command.getReservationId(), command.getOrderId());
+            }
 
             // Update coupon status to USED
-            coupon.use(command.getOrderId(), command.getDiscountAmount());
-            saveCouponIssuePort.save(coupon);
+            List<BigDecimal> discountAmounts = discountAmounts(coupons, command);
+            for (int i = 0; i < coupons.size(); i++) {
+                CouponIssue coupon = coupons.get(i);
+                if (coupon.getStatus() == CouponStatus.USED) {
+                    continue;
+                }
+                coupon.use(command.getOrderId(), discountAmounts.get(i));
+                saveCouponIssuePort.save(coupon);
 
-            log.info("Coupon usage completed - reservationId: {}, couponId: {}",
-                    command.getReservationId(), coupon.getId());
+                log.info("Coupon usage completed - reservationId: {}, couponId: {}",
+                        command.getReservationId(), coupon.getId());
+            }
             return PaymentResult.success(command.getReservationId(), command.getOrderId());
 
         } catch (Exception e) {
@@ -64,6 +74,33 @@ public class ProcessPaymentUseCaseService implements ProcessPaymentUseCase {
         }
     }
 
+    /**
+     * 쿠폰별 할인 금액
+     * 결제 이벤트의 할인 금액은 주문 합계이므로 쿠폰이 여러 개면 주문 금액(결제 금액 + 할인 금액)에
+     * 중복 적용 규칙(CouponConfirmService와 동일)을 적용하여 쿠폰별로 나눔
+     */
+    private List<BigDecimal> discountAmounts(List<CouponIssue> coupons, PaymentCompletedCommand command) {
+        if (coupons.size() == 1) {
+            return Collections.singletonList(command.getDiscountAmount());
+        }
+        if (command.getPaymentAmount() == null) {
+            log.warn("결제 금액이 없어 쿠폰별 할인 금액을 계산할 수 없음 - reservationId: {}", command.getReservationId());
+            return Collections.nCopies(coupons.size(), null);
+        }
+
+        BigDecimal orderAmount = command.getDiscountAmount() != null
+                ? command.getPaymentAmount().add(command.getDiscountAmount())
+                : command.getPaymentAmount();
+        StackedDiscount discounts = StackedDiscount.calculate(
+                coupons.stream().map(CouponIssue::getDiscountPolicy).toList(), orderAmount);
+
+        List<BigDecimal> amounts = new ArrayList<>(coupons.size());
+        for (int i = 0; i < coupons.size(); i++) {
+            amounts.add(discounts.amountAt(i));
+        }
+        return amounts;
+    }
+
     @Override
     @Transactional
     public PaymentResult processPaymentFailed(PaymentFailedCommand command) {
@@ -71,34 +108,37 @@ public class ProcessPaymentUseCaseService implements ProcessPaymentUseCase {
                 command.getOrderId(), command.getReservationId(), command.getUserId());
 
         try {
-            // Find coupon by reservation ID
-            Optional<CouponIssue> couponOpt = loadCouponIssuePort.loadByReservationIdWithLock(command.getReservationId());
+            // Find coupons by reservation ID (장바구니 예약이면 여러 개)
+            List<CouponIssue> coupons = loadCouponIssuePort.loadAllByReservationIdWithLock(command.getReservationId());
 
-            if (couponOpt.isEmpty()) {
+            if (coupons.isEmpty()) {
                 log.warn("No coupon found for reservation: {}", command.getReservationId());
                 return PaymentResult.failure(command.getReservationId(), "Coupon not found");
             }
 
-            CouponIssue coupon = couponOpt.get();
+            // 이미 사용된 쿠폰은 취소할 수 없음
+            if (coupons.stream().anyMatch(coupon -> coupon.getStatus() == CouponStatus.USED)) {
+                log.warn("이미 사용된 쿠폰은 예약 취소 불가 - reservationId: {}", command.getReservationId());
+                return PaymentResult.failure(command.getReservationId(), "이미 사용된 쿠폰");
+            }
 
             // 멱등성 체크: 이미 ISSUED 상태인지 확인
-            if (coupon.getStatus() == CouponStatus.ISSUED) {
+            if (coupons.stream().allMatch(coupon -> coupon.getStatus() == CouponStatus.ISSUED)) {
                 log.info("이미 예약 해제된 쿠폰 (멱등성 보장) - reservationId: {}", command.getReservationId());
                 return PaymentResult.success(command.getReservationId(), command.getOrderId());
             }
 
-            // 이미 사용된 쿠폰은 취소할 수 없음
-            if (coupon.getStatus() == CouponStatus.USED) {
-                log.warn("이미 사용된 쿠폰은 예약 취소 불가 - reservationId: {}", command.getReservationId());
-                return PaymentResult.failure(command.getReservationId(), "이미 사용된 쿠폰");
-            }
-
             // Cancel reservation and revert status to ISSUED
-            coupon.cancelReservation();
-            saveCouponIssuePort.save(coupon);
+            for (CouponIssue coupon : coupons) {
+                if (coupon.getStatus() != CouponStatus.RESERVED) {
+                    continue;
+                }
+                coupon.cancelReservation();
+                saveCouponIssuePort.save(coupon);
 
-            log.info("Coupon cancellation completed - reservationId: {}, couponId: {}",
-                    command.getReservationId(), coupon.getId());
+                log.info("Coupon cancellation completed - reservationId: {}, couponId: {}",
+                        command.getReservationId(), coupon.getId());
+            }
             return PaymentResult.success(command.getReservationId(), command.getOrderId());
 
         } catch (Exception e) {
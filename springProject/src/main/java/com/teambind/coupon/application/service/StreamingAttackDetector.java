@@ -0,0 +1,318 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.common.util.sketch.CountMinSketch;
+import com.teambind.coupon.common.util.sketch.HyperLogLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 인스턴스 내 스트리밍 공격 탐지기
+ * 시간 슬롯 링으로 Sliding window를 구성하고 슬롯마다 식별자별 HyperLogLog(고유 코드/패턴 수)와
+ * Count-Min Sketch(시도 횟수)만 보관하여 공격자 수가 늘어도 메모리 상한이 고정됨
+ *
+ * - 슬롯당 추적 식별자 수를 넘으면 HyperLogLog 대신 Count-Min Sketch의 시도 횟수로 판정 (과대 추정)
+ * - 지난 슬롯은 다음 사용 시 새 슬롯으로 교체되어 별도 정리 작업이 필요 없음
+ * - 클러스터 병합용으로 새로 본 쿠폰 코드를 버퍼링하며 AttackDetectionService가 주기적으로 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingAttackDetector {
+
+    private static final Pattern TRAILING_NUMBER = Pattern.compile("(\\d+)\\D*$");
+    private static final int CMS_DEPTH = 4;
+    private static final int CMS_WIDTH = 2048;
+    // 식별자당 버퍼링할 최대 코드 수 (임계값을 충분히 넘는 크기)
+    private static final int MAX_PENDING_CODES_PER_IDENTIFIER = 64;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.security.detector.slot-minutes:5}")
+    private int slotMinutes;
+
+    @Value("${coupon.security.detector.brute-force-window-minutes:60}")
+    private int bruteForceWindowMinutes;
+
+    @Value("${coupon.security.detector.scan-window-minutes:10}")
+    private int scanWindowMinutes;
+
+    @Value("${coupon.security.detector.max-tracked-identifiers:5000}")
+    private int maxTrackedIdentifiers;
+
+    @Value("${coupon.security.detector.hll-precision:8}")
+    private int hllPrecision;
+
+    @Value("${coupon.security.detector.max-pending-identifiers:10000}")
+    private int maxPendingIdentifiers;
+
+    private AtomicReferenceArray<Slot> ring;
+    private final AtomicReference<Map<String, Set<String>>> pendingCodes =
+            new AtomicReference<>(new ConcurrentHashMap<>());
+
+    @PostConstruct
+    void init() {
+        int slots = Math.max(bruteForceWindowMinutes, scanWindowMinutes) / slotMinutes + 1;
+        ring = new AtomicReferenceArray<>(slots);
+
+        Gauge.builder("coupon.security.detector.tracked.identifiers", this, StreamingAttackDetector::trackedIdentifiers)
+                .register(meterRegistry);
+        Gauge.builder("coupon.security.detector.memory.bytes", this, StreamingAttackDetector::estimatedMemoryBytes)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쿠폰 코드 시도 기록
+     *
+     * @param identifier 식별자
+     * @param couponCode 시도한 쿠폰 코드
+     * @return 무작위 대입 윈도우 내 고유 코드 수 추정값 (추적 한도 초과 시 시도 횟수)
+     */
+    public long recordCodeAttempt(String identifier, String couponCode) {
+        long now = System.currentTimeMillis();
+        Slot slot = currentSlot(now);
+        slot.attempts.add(identifier);
+        bufferPendingCode(identifier, couponCode);
+
+        HyperLogLog sketch = slot.codes.get(identifier);
+        if (sketch == null) {
+            if (slot.codes.size() >= maxTrackedIdentifiers) {
+                return attemptsInWindow(identifier, now, bruteForceWindowMinutes);
+            }
+            sketch = slot.codes.computeIfAbsent(identifier, k -> new HyperLogLog(hllPrecision));
+        }
+        synchronized (sketch) {
+            sketch.add(couponCode);
+        }
+
+        return distinctCodesInWindow(identifier, now);
+    }
+
+    /**
+     * 요청 패턴 기록
+     *
+     * @param identifier 식별자
+     * @param pattern    요청 패턴
+     * @return 스캔 윈도우 내 패턴 요약 (추적 한도 초과 시 빈 요약)
+     */
+    public ScanSummary recordPattern(String identifier, String pattern) {
+        long now = System.currentTimeMillis();
+        Slot slot = currentSlot(now);
+
+        ScanState state = slot.scans.get(identifier);
+        if (state == null) {
+            if (slot.scans.size() >= maxTrackedIdentifiers) {
+                return ScanSummary.EMPTY;
+            }
+            state = slot.scans.computeIfAbsent(identifier, k -> new ScanState(hllPrecision));
+        }
+        synchronized (state) {
+            state.record(pattern);
+        }
+
+        long attempts = 0;
+        long sequential = 0;
+        HyperLogLog distinct = new HyperLogLog(hllPrecision);
+        for (Slot windowSlot : slotsInWindow(now, scanWindowMinutes)) {
+            ScanState windowState = windowSlot.scans.get(identifier);
+            if (windowState != null) {
+                synchronized (windowState) {
+                    attempts += windowState.attempts;
+                    sequential += windowState.sequential;
+                    distinct.merge(windowState.distinct);
+                }
+            }
+        }
+        return new ScanSummary(attempts, sequential, distinct.estimate());
+    }
+
+    /**
+     * 클러스터 병합 대기 중인 코드 반환 후 비움
+     */
+    public Map<String, Set<String>> drainPendingCodes() {
+        return pendingCodes.getAndSet(new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 현재 추적 중인 식별자 수 (전체 슬롯 합계)
+     */
+    public long trackedIdentifiers() {
+        long count = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Slot slot = ring.get(i);
+            if (slot != null) {
+                count += slot.codes.size() + slot.scans.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sketch 메모리 추정 (레지스터/카운터 크기 기준, 객체 오버헤드 제외)
+     */
+    public long estimatedMemoryBytes() {
+        long hllBytes = 1L << hllPrecision;
+        long bytes = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Slot slot = ring.get(i);
+            if (slot != null) {
+                bytes += slot.attempts.sizeInBytes() + (slot.codes.size() + slot.scans.size()) * hllBytes;
+            }
+        }
+        return bytes;
+    }
+
+    private long distinctCodesInWindow(String identifier, long now) {
+        HyperLogLog merged = new HyperLogLog(hllPrecision);
+        for (Slot slot : slotsInWindow(now, bruteForceWindowMinutes)) {
+            HyperLogLog sketch = slot.codes.get(identifier);
+            if (sketch != null) {
+                synchronized (sketch) {
+                    merged.merge(sketch);
+                }
+            }
+        }
+        return merged.estimate();
+    }
+
+    private long attemptsInWindow(String identifier, long now, int windowMinutes) {
+        long attempts = 0;
+        for (Slot slot : slotsInWindow(now, windowMinutes)) {
+            attempts += slot.attempts.estimate(identifier);
+        }
+        return attempts;
+    }
+
+    private void bufferPendingCode(String identifier, String couponCode) {
+        Map<String, Set<String>> pending = pendingCodes.get();
+        Set<String> codes = pending.get(identifier);
+        if (codes == null) {
+            if (pending.size() >= maxPendingIdentifiers) {
+                // 병합 버퍼가 가득 차면 로컬 판정만 수행
+                return;
+            }
+            codes = pending.computeIfAbsent(identifier, k -> ConcurrentHashMap.newKeySet());
+        }
+        if (codes.size() < MAX_PENDING_CODES_PER_IDENTIFIER) {
+            codes.add(couponCode);
+        }
+    }
+
+    /**
+     * 현재 시각의 슬롯 (지난 주기의 슬롯이면 새 슬롯으로 교체)
+     */
+    private Slot currentSlot(long now) {
+        long index = now / slotMillis();
+        int position = (int) (index % ring.length());
+        while (true) {
+            Slot slot = ring.get(position);
+            if (slot != null && slot.index == index) {
+                return slot;
+            }
+            Slot fresh = new Slot(index);
+            if (ring.compareAndSet(position, slot, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private Set<Slot> slotsInWindow(long now, int windowMinutes) {
+        long currentIndex = now / slotMillis();
+        long oldestIndex = currentIndex - Math.max(1, windowMinutes / slotMinutes) + 1;
+        Set<Slot> slots = new HashSet<>();
+        for (int i = 0; i < ring.length(); i++) {
+            Slot slot = ring.get(i);
+            if (slot != null && slot.index >= oldestIndex && slot.index <= currentIndex) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    private long slotMillis() {
+        return slotMinutes * 60_000L;
+    }
+
+    /**
+     * 스캔 윈도우 내 패턴 요약
+     *
+     * @param attempts   요청 수
+     * @param sequential 직전 패턴보다 끝 번호가 1 큰 요청 수
+     * @param distinct   고유 패턴 수 추정값
+     */
+    public record ScanSummary(long attempts, long sequential, long distinct) {
+
+        static final ScanSummary EMPTY = new ScanSummary(0, 0, 0);
+
+        public boolean isMostlySequential() {
+            return sequential > attempts / 2;
+        }
+
+        public boolean isMostlyDistinct() {
+            // 작은 집합에서도 레지스터 충돌로 1~2개 적게 추정될 수 있어 80% 이상이면 모두 다른 패턴으로 판단
+            return attempts > 0 && distinct >= attempts * 0.8;
+        }
+    }
+
+    /**
+     * 시간 슬롯
+     */
+    private static final class Slot {
+        private final long index;
+        private final Map<String, HyperLogLog> codes = new ConcurrentHashMap<>();
+        private final Map<String, ScanState> scans = new ConcurrentHashMap<>();
+        private final CountMinSketch attempts = new CountMinSketch(CMS_DEPTH, CMS_WIDTH);
+
+        private Slot(long index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * 식별자별 패턴 상태 (슬롯 단위)
+     */
+    private static final class ScanState {
+        private final HyperLogLog distinct;
+        private long attempts;
+        private long sequential;
+        private Long lastNumber;
+
+        private ScanState(int precision) {
+            this.distinct = new HyperLogLog(precision);
+        }
+
+        private void record(String pattern) {
+            attempts++;
+            distinct.add(pattern);
+
+            Long number = trailingNumber(pattern);
+            if (number != null && lastNumber != null && number - lastNumber == 1) {
+                sequential++;
+            }
+            lastNumber = number;
+        }
+
+        private static Long trailingNumber(String pattern) {
+            Matcher matcher = TRAILING_NUMBER.matcher(pattern);
+            if (!matcher.find()) {
+                return null;
+            }
+            String digits = matcher.group(1);
+            // long 범위를 넘는 숫자는 뒤 18자리만 비교
+            return Long.parseLong(digits.length() > 18 ? digits.substring(digits.length() - 18) : digits);
+        }
+    }
+}
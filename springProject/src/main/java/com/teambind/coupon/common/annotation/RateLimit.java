@@ -1,5 +1,7 @@
 package com.teambind.coupon.common.annotation;
 
+import com.teambind.coupon.adapter.out.redis.RateLimitAlgorithm;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -34,6 +36,12 @@ public @interface RateLimit {
      */
     int perDay() default 0;
 
+    /**
+     * 제한 알고리즘
+     * 제한 횟수가 큰 윈도우(시간/일)는 SLIDING_WINDOW 또는 GCRA로 키당 메모리를 고정
+     */
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.SLIDING_LOG;
+
     /**
      * 제한 초과 시 에러 메시지
      */
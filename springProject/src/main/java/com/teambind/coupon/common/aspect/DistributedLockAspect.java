@@ -1,6 +1,6 @@
 package com.teambind.coupon.common.aspect;
 
-import com.teambind.coupon.adapter.out.redis.DistributedLockService;
+import com.teambind.coupon.adapter.out.redis.LocalLockCoalescer;
 import com.teambind.coupon.common.annotation.DistributedLock;
 import com.teambind.coupon.common.exceptions.CustomException;
 import com.teambind.coupon.common.exceptions.ErrorCode;
@@ -22,6 +22,7 @@ import java.lang.reflect.Method;
 /**
  * DistributedLock 어노테이션 처리를 위한 AOP Aspect
  * 메서드 실행 전후로 분산 락을 획득하고 해제
+ * 같은 인스턴스 내 동일 키 요청은 로컬 락에서 먼저 줄을 세워 한 스레드만 Redis 락을 획득하러 감
  */
 @Slf4j
 @Aspect
@@ -29,7 +30,7 @@ import java.lang.reflect.Method;
 @RequiredArgsConstructor
 public class DistributedLockAspect {
 
-    private final DistributedLockService distributedLockService;
+    private final LocalLockCoalescer localLockCoalescer;
     private final ExpressionParser parser = new SpelExpressionParser();
 
     @Around("@annotation(distributedLock)")
@@ -42,7 +43,8 @@ public class DistributedLockAspect {
 
         // 락을 사용하여 작업 실행
         try {
-            return distributedLockService.executeWithLock(
+            return localLockCoalescer.executeWithLock(
+                    distributedLock.prefix(),
                     lockKey,
                     distributedLock.waitTime(),
                     distributedLock.leaseTime(),
@@ -1,5 +1,7 @@
 package com.teambind.coupon.common.aspect;
 
+import com.teambind.coupon.adapter.out.redis.LocalFirstRateLimiter;
+import com.teambind.coupon.adapter.out.redis.RateLimitAlgorithm;
 import com.teambind.coupon.adapter.out.redis.RateLimiterService;
 import com.teambind.coupon.application.service.AttackDetectionService;
 import com.teambind.coupon.common.annotation.RateLimit;
@@ -35,6 +37,7 @@ import java.time.Duration;
 public class RateLimitAspect {
 
     private final RateLimiterService rateLimiterService;
+    private final LocalFirstRateLimiter localFirstRateLimiter;
     private final AttackDetectionService attackDetectionService;
     private final ExpressionParser parser = new SpelExpressionParser();
 
@@ -52,13 +55,19 @@ public class RateLimitAspect {
             throw new CustomException(ErrorCode.FORBIDDEN, "접근이 차단되었습니다");
         }
 
-        // Rate limit 확인
-        boolean allowed = rateLimiterService.allowRequestMultiLevel(
-                rateLimitKey,
-                rateLimit.perMinute(),
-                rateLimit.perHour(),
-                rateLimit.perDay()
-        );
+        // Rate limit 확인 (LOCAL_FIRST는 로컬 lease 우선)
+        boolean allowed = rateLimit.algorithm() == RateLimitAlgorithm.LOCAL_FIRST
+                ? localFirstRateLimiter.allowRequestMultiLevel(
+                        rateLimitKey,
+                        rateLimit.perMinute(),
+                        rateLimit.perHour(),
+                        rateLimit.perDay())
+                : rateLimiterService.allowRequestMultiLevel(
+                        rateLimitKey,
+                        rateLimit.perMinute(),
+                        rateLimit.perHour(),
+                        rateLimit.perDay(),
+                        rateLimit.algorithm());
 
         if (!allowed) {
             log.warn("Rate limit 초과 - method: {}, key: {}",
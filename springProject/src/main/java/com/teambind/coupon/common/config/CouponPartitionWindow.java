@@ -0,0 +1,103 @@
+package com.teambind.coupon.common.config;
+
+import com.teambind.coupon.common.util.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+
+/**
+ * coupon_issues 파티션(issued_at 월 단위 Range) 조회 범위
+ * 모든 조회가 같은 설정으로 issued_at 조건을 만들도록 한곳에서 계산
+ *
+ * 활성 쿠폰 조회 하한은 고정 기간이 아니라 "활성 쿠폰이 남아있는 가장 오래된 파티션"의 시작일
+ * (파티션 메타데이터로 인스턴스마다 주기적으로 갱신, 갱신 전에는 전체 파티션 하한을 사용)
+ * 오래된 파티션의 쿠폰도 유효기간이 남아있는 한 지갑/만료 처리 대상에서 빠지지 않음
+ *
+ * ID 조회는 Snowflake ID의 생성 시각 ± 여유 시간으로 issued_at 범위를 좁혀 해당 파티션만 읽음
+ * (issued_at은 ID 생성 직전에 정해지므로 여유 시간은 생성 지연과 시간대 차이를 흡수하는 용도)
+ * 이관 데이터처럼 issued_at이 ID 생성 시각과 어긋난 행은 범위 조회가 빗나가므로 전체 범위로 다시 조회
+ */
+@Component
+public class CouponPartitionWindow {
+
+    // 전체 범위 재조회 시 issued_at 상한 (PostgreSQL timestamp 범위 안의 충분히 먼 미래)
+    private static final LocalDateTime FAR_FUTURE = LocalDate.of(9999, 12, 31).atStartOfDay();
+
+    private final LocalDateTime allPartitionsFrom;
+    private final Duration idLookupSlack;
+
+    // 활성 쿠폰이 남아있는 가장 오래된 파티션 시작일
+    private volatile LocalDateTime activeFloor;
+
+    public CouponPartitionWindow(
+            @Value("${coupon.partition.all-partitions-from:2021-01-01}") String allPartitionsFrom,
+            @Value("${coupon.partition.id-lookup-slack-hours:24}") long idLookupSlackHours) {
+        this.allPartitionsFrom = LocalDate.parse(allPartitionsFrom).atStartOfDay();
+        this.idLookupSlack = Duration.ofHours(idLookupSlackHours);
+        this.activeFloor = this.allPartitionsFrom;
+    }
+
+    /**
+     * 활성 쿠폰(ISSUED/RESERVED)이 존재할 수 있는 issued_at 하한
+     */
+    public LocalDateTime activeFrom() {
+        return activeFloor;
+    }
+
+    /**
+     * 활성 쿠폰 하한 갱신
+     * 종료 상태 쿠폰은 다시 활성화되지 않고 새 쿠폰은 현재 월 파티션에 발급되므로
+     * 다음 갱신 전까지 이 하한보다 오래된 활성 쿠폰은 생기지 않음
+     *
+     * @param oldestActiveMonth 활성 쿠폰이 남아있는 가장 오래된 파티션 월 (없으면 현재 월)
+     */
+    public void updateActiveFloor(YearMonth oldestActiveMonth) {
+        activeFloor = oldestActiveMonth.atDay(1).atStartOfDay();
+    }
+
+    /**
+     * 전체 파티션 조회 시 issued_at 하한 (가장 오래된 파티션 시작일)
+     */
+    public LocalDateTime allFrom() {
+        return allPartitionsFrom;
+    }
+
+    /**
+     * 단건 ID 조회 시 issued_at 범위
+     */
+    public IssuedRange rangeOf(long id) {
+        LocalDateTime createdAt = SnowflakeIdGenerator.timestampOf(id);
+        return new IssuedRange(createdAt.minus(idLookupSlack), createdAt.plus(idLookupSlack));
+    }
+
+    /**
+     * 여러 ID 조회 시 issued_at 범위 (가장 이른 ID ~ 가장 늦은 ID)
+     */
+    public IssuedRange rangeOf(Collection<Long> ids) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Long id : ids) {
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+        }
+        return new IssuedRange(rangeOf(min).from(), rangeOf(max).to());
+    }
+
+    /**
+     * ID 범위 조회가 빗나갔을 때 다시 조회할 전체 issued_at 범위
+     */
+    public IssuedRange fullRange() {
+        return new IssuedRange(allPartitionsFrom, FAR_FUTURE);
+    }
+
+    /**
+     * issued_at 조회 범위 (양 끝 포함)
+     */
+    public record IssuedRange(LocalDateTime from, LocalDateTime to) {
+    }
+}
@@ -2,6 +2,10 @@ package com.teambind.coupon.common.util;
 
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 /**
  * 분산 환경에서 유니크한 ID를 생성하는 Snowflake ID Generator
  *
@@ -72,6 +76,16 @@ public class SnowflakeIdGenerator {
                 sequence;
     }
 
+    /**
+     * ID에 기록된 생성 시각 (시스템 시간대)
+     *
+     * @param id Snowflake ID
+     * @return 생성 시각
+     */
+    public static LocalDateTime timestampOf(long id) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH), ZoneId.systemDefault());
+    }
+
     private long waitForNextMillis(long lastTimestamp) {
         long timestamp = currentTimestamp();
         while (timestamp <= lastTimestamp) {
@@ -0,0 +1,88 @@
+package com.teambind.coupon.common.util.sketch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 동시 갱신 가능한 64비트 지문 집합 (중복 제거용)
+ * 문자열 대신 64비트 해시만 개방 주소법(선형 탐사) 배열에 CAS로 기록하므로
+ * 원소당 8바이트 남짓으로 수천만 건을 락 없이 중복 확인 가능
+ *
+ * 지문 충돌 시 서로 다른 값을 중복으로 판단할 수 있음 (1,000만 건 기준 확률 약 3×10^-6)
+ * 생성 후 버리는 용도(재생성으로 대체)에서만 사용하고, 집합에 없다는 판단은 항상 정확
+ */
+public class ConcurrentFingerprintSet {
+
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final int maxSize;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * @param expectedSize 최대 원소 수 (초과하면 add가 실패)
+     */
+    public ConcurrentFingerprintSet(int expectedSize) {
+        if (expectedSize <= 0) {
+            throw new IllegalArgumentException("Expected size must be positive");
+        }
+        long required = (long) Math.ceil(expectedSize / MAX_LOAD_FACTOR);
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+        }
+        int capacity = Integer.highestOneBit((int) Math.max(required - 1, 1)) << 1;
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.maxSize = expectedSize;
+    }
+
+    /**
+     * 값 추가
+     *
+     * @return 새로 추가되었으면 true, 이미 있으면(또는 지문 충돌이면) false
+     */
+    public boolean add(String value) {
+        return addFingerprint(SketchHash.hash64(value));
+    }
+
+    /**
+     * 지문 추가
+     *
+     * @return 새로 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean addFingerprint(long fingerprint) {
+        // 0은 빈 슬롯 표시이므로 다른 값으로 대체
+        long key = fingerprint == EMPTY ? 1L : fingerprint;
+        int index = (int) SketchHash.mix(key) & mask;
+
+        while (true) {
+            long current = slots.get(index);
+            if (current == key) {
+                return false;
+            }
+            if (current == EMPTY) {
+                if (size.get() >= maxSize) {
+                    throw new IllegalStateException("Fingerprint set is full: " + maxSize);
+                }
+                if (slots.compareAndSet(index, EMPTY, key)) {
+                    size.incrementAndGet();
+                    return true;
+                }
+                // 다른 스레드가 먼저 기록 → 같은 슬롯을 다시 확인
+                continue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long sizeInBytes() {
+        return (long) slots.length() * Long.BYTES;
+    }
+}
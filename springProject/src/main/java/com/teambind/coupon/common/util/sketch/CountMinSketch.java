@@ -0,0 +1,67 @@
+package com.teambind.coupon.common.util.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch 빈도 추정기
+ * 고정 크기(depth × width) 카운터로 키별 빈도를 과대 추정 방향으로만 근사
+ * 카운터를 AtomicLongArray로 두어 여러 스레드가 동시에 갱신 가능
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Depth and width must be positive");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * 빈도 증가
+     *
+     * @return 증가 후 추정 빈도
+     */
+    public long add(String key) {
+        long hash = SketchHash.hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long count = counters.incrementAndGet(index(row, hash));
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    /**
+     * 빈도 추정 (실제 빈도 이상)
+     */
+    public long estimate(String key) {
+        long hash = SketchHash.hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    public int sizeInBytes() {
+        return counters.length() * Long.BYTES;
+    }
+
+    private int index(int row, long hash) {
+        // 행마다 다른 해시를 이중 해싱으로 생성
+        long rowHash = SketchHash.mix(hash + row * 0x9e3779b97f4a7c15L);
+        return row * width + (int) Math.floorMod(rowHash, (long) width);
+    }
+}
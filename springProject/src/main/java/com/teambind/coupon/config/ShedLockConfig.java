@@ -0,0 +1,33 @@
+package com.teambind.coupon.config;
+
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
+import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * ShedLock 설정
+ * 스케줄러의 @SchedulerLock과 백필 같은 수동 작업이 shedlock 테이블 기반 락을 공유하여
+ * 여러 인스턴스 중 하나에서만 실행되도록 보장
+ */
+@Configuration
+@EnableSchedulerLock(defaultLockAtMostFor = "10m")
+public class ShedLockConfig {
+
+    /**
+     * shedlock 테이블 락 제공자 (인스턴스 간 시계 차이를 피하도록 DB 시간 사용)
+     */
+    @Bean
+    public LockProvider lockProvider(DataSource dataSource) {
+        return new JdbcTemplateLockProvider(
+                JdbcTemplateLockProvider.Configuration.builder()
+                        .withJdbcTemplate(new JdbcTemplate(dataSource))
+                        .usingDbTime()
+                        .build()
+        );
+    }
+}
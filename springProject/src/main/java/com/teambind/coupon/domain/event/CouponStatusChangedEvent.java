@@ -0,0 +1,34 @@
+package com.teambind.coupon.domain.event;
+
+import com.teambind.coupon.domain.model.CouponStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 상태 전이 이벤트
+ * 발급(null → ISSUED), 예약, 사용, 취소, 만료 시 발행되어 정책별/전체 카운터에 반영
+ */
+@Getter
+@AllArgsConstructor
+public class CouponStatusChangedEvent {
+    private List<Transition> transitions;
+
+    public static CouponStatusChangedEvent of(Long policyId, CouponStatus from, CouponStatus to) {
+        return new CouponStatusChangedEvent(List.of(new Transition(policyId, from, to, LocalDateTime.now())));
+    }
+
+    /**
+     * 단일 쿠폰의 상태 전이
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Transition {
+        private Long policyId;
+        private CouponStatus from; // 신규 발급이면 null
+        private CouponStatus to;
+        private LocalDateTime occurredAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.teambind.coupon.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 쿠폰 지갑 변경 이벤트
+ * 쿠폰 발급/예약/사용/취소/만료로 지갑 읽기 모델이 무효화되어야 할 때 발행
+ */
+@Getter
+@AllArgsConstructor
+public class CouponWalletChangedEvent {
+    private Set<Long> userIds;
+
+    public static CouponWalletChangedEvent of(Long userId) {
+        return new CouponWalletChangedEvent(Set.of(userId));
+    }
+
+    public static CouponWalletChangedEvent of(Collection<Long> userIds) {
+        return new CouponWalletChangedEvent(userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.teambind.coupon.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 컴파일된 쿠폰 적용 규칙
+ * 정책의 할인 조건(DiscountPolicy)과 적용 상품 규칙(ItemApplicableRule)을 long 값으로 한 번만 변환해 두고
+ * 장바구니마다 BigDecimal/박싱 없이 할인 금액을 계산
+ *
+ * 할인 기준 금액은 적용 가능 상품 금액의 합계이며, 최소 주문 금액도 이 합계로 판단
+ * 쿠폰 정책은 생성 후 할인 조건이 바뀌지 않으므로 정책 단위로 캐시해도 안전
+ */
+public final class CompiledCouponRule {
+
+    private static final long[] NO_ITEMS = new long[0];
+
+    private final Long policyId;
+    private final DiscountType discountType;
+    private final long discountValue;     // 정률: 0.01% 단위, 정액: 1/100원
+    private final long minOrderAmount;    // 1/100원 (0이면 조건 없음)
+    private final long maxDiscountAmount; // 1/100원 (0이면 한도 없음)
+    private final boolean allItems;
+    private final long[] itemIds;         // 정렬, 중복 제거
+
+    private CompiledCouponRule(Long policyId, DiscountType discountType, long discountValue,
+                               long minOrderAmount, long maxDiscountAmount, boolean allItems, long[] itemIds) {
+        this.policyId = policyId;
+        this.discountType = discountType;
+        this.discountValue = discountValue;
+        this.minOrderAmount = minOrderAmount;
+        this.maxDiscountAmount = maxDiscountAmount;
+        this.allItems = allItems;
+        this.itemIds = itemIds;
+    }
+
+    /**
+     * 쿠폰 정책 컴파일
+     * 할인 정책이 없으면 항상 0을 반환하는 규칙, 적용 상품 규칙이 없으면 모든 상품 적용
+     *
+     * @param policy 쿠폰 정책
+     * @return 컴파일된 규칙
+     */
+    public static CompiledCouponRule compile(CouponPolicy policy) {
+        DiscountPolicy discount = policy.getDiscountPolicy();
+        ItemApplicableRule rule = policy.getApplicableRule();
+        boolean allItems = rule == null || rule.isAllItemsApplicable();
+        long[] itemIds = allItems ? NO_ITEMS : rule.compiledItemIds();
+
+        if (discount == null || discount.getDiscountType() == null) {
+            return new CompiledCouponRule(policy.getId(), null, 0, 0, 0, allItems, itemIds);
+        }
+
+        long value = discount.getDiscountType() == DiscountType.PERCENTAGE
+                ? DiscountCalculator.toRate(discount.getDiscountValue())
+                : DiscountCalculator.toMinorUnits(discount.getDiscountValue());
+        return new CompiledCouponRule(policy.getId(), discount.getDiscountType(), value,
+                DiscountCalculator.toMinorUnits(discount.getMinOrderAmount()),
+                DiscountCalculator.toMinorUnits(discount.getMaxDiscountAmount()),
+                allItems, itemIds);
+    }
+
+    /**
+     * 장바구니 중 쿠폰 적용 가능 상품 금액 합계
+     *
+     * @param cart 장바구니
+     * @return 적용 가능 금액 (1/100원)
+     */
+    public long applicableAmount(OrderCart cart) {
+        return allItems ? cart.totalAmount() : cart.amountOf(itemIds);
+    }
+
+    /**
+     * 장바구니에 대한 할인 금액 계산
+     * 적용 가능 상품이 없거나 최소 주문 금액 미만이면 0
+     *
+     * @param cart 장바구니
+     * @return 할인 금액 (1/100원)
+     */
+    public long evaluate(OrderCart cart) {
+        return evaluate(applicableAmount(cart));
+    }
+
+    /**
+     * 할인 기준 금액에 대한 할인 금액 계산 (상품별 금액 없이 기준 금액만 아는 경우)
+     * 최소 주문 금액 미만이면 0
+     *
+     * @param baseAmount 할인 기준 금액 (1/100원)
+     * @return 할인 금액 (1/100원)
+     */
+    public long evaluate(long baseAmount) {
+        return DiscountCalculator.discount(discountType, baseAmount, discountValue,
+                minOrderAmount, maxDiscountAmount, DiscountCalculator.DEFAULT_ROUNDING);
+    }
+
+    /**
+     * 주문 금액 없이 정해지는 할인 금액 (정액 쿠폰은 쿠폰 금액, 정률 쿠폰과 할인 정책이 없는 규칙은 0)
+     *
+     * @return 할인 금액 (1/100원)
+     */
+    public long fixedAmount() {
+        return discountType == null || discountType == DiscountType.PERCENTAGE ? 0 : discountValue;
+    }
+
+    /**
+     * 주문 상품 중 쿠폰 적용 가능 상품이 있는지 확인
+     * 특정 상품 쿠폰인데 상품 목록이 비어 있으면 적용 불가
+     *
+     * @param orderItemIds 주문 상품 ID 목록
+     * @return 하나라도 적용 가능하면 true
+     */
+    public boolean appliesToAny(List<Long> orderItemIds) {
+        if (allItems) {
+            return true;
+        }
+        if (itemIds.length == 0 || orderItemIds == null) {
+            return false;
+        }
+        for (Long itemId : orderItemIds) {
+            if (itemId != null && Arrays.binarySearch(itemIds, itemId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 최소 주문 금액 충족 여부
+     *
+     * @param baseAmount 할인 기준 금액 (1/100원)
+     */
+    public boolean meetsMinimumOrder(long baseAmount) {
+        return baseAmount >= minOrderAmount;
+    }
+
+    public Long getPolicyId() {
+        return policyId;
+    }
+
+    public DiscountType getDiscountType() {
+        return discountType;
+    }
+}
@@ -0,0 +1,10 @@
+package com.teambind.coupon.domain.model;
+
+/**
+ * 1회용 쿠폰 코드 상태
+ * coupon_codes.status에 순서값(SMALLINT)으로 저장되므로 순서를 바꾸지 말 것
+ */
+public enum CouponCodeStatus {
+    AVAILABLE,  // 미사용
+    REDEEMED    // 사용 완료 (쿠폰 발급됨)
+}
@@ -1,10 +1,12 @@
 package com.teambind.coupon.domain.model;
 
+import com.teambind.coupon.domain.exception.CouponDomainException;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
 
 /**
  * 쿠폰 정책 Aggregate Root
@@ -16,6 +18,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Builder
 public class CouponPolicy {
 
+    private static final int DEFAULT_COUPON_VALID_DAYS = 30;
+
     private Long id; // Snowflake ID
 
     private String couponName;
@@ -149,6 +153,70 @@ public class CouponPolicy {
         return LocalDateTime.now().isBefore(validFrom);
     }
 
+    /**
+     * 발급 가능 여부 검증 (모든 발급 경로 공통 규칙)
+     * 비활성 → 만료 → 시작 전 → 재고 소진 순으로 판단하여 도메인 예외 발생
+     */
+    public void validateIssuable() {
+        if (!isActive) {
+            throw new CouponDomainException("비활성화된 쿠폰입니다");
+        }
+        if (!isIssuable()) {
+            if (isExpired()) {
+                throw new CouponDomainException.CouponExpired(id);
+            }
+            if (isNotStarted()) {
+                throw new CouponDomainException("아직 발급 기간이 시작되지 않았습니다");
+            }
+            throw new CouponDomainException.StockExhausted("쿠폰 재고가 소진되었습니다: " + couponCode);
+        }
+    }
+
+    /**
+     * 코드 입력 발급 가능 여부 검증 (CODE 타입 + 공통 발급 규칙)
+     */
+    public void validateCodeIssuable() {
+        if (!isCodeType()) {
+            throw new CouponDomainException("CODE 타입 쿠폰만 다운로드 가능합니다");
+        }
+        validateIssuable();
+    }
+
+    /**
+     * 사용자별 발급 한도 검증
+     * 한도가 없는 정책은 발급 건수를 조회하지 않음
+     *
+     * @param userId            사용자 ID
+     * @param userIssuanceCount 사용자의 현재 발급 건수 조회
+     */
+    public void validateUserLimit(Long userId, IntSupplier userIssuanceCount) {
+        if (hasUserLimit() && userIssuanceCount.getAsInt() >= maxUsagePerUser) {
+            throw new CouponDomainException.UserCouponLimitExceeded(userId, couponCode);
+        }
+    }
+
+    /**
+     * 정책으로 사용자에게 발급할 쿠폰 생성
+     * 만료일은 정책 유효기간 종료일, 없으면 발급일로부터 30일
+     *
+     * @param issueId 발급 쿠폰 ID
+     * @param userId  사용자 ID
+     * @return ISSUED 상태의 쿠폰
+     */
+    public CouponIssue issueTo(Long issueId, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return CouponIssue.builder()
+                .id(issueId)
+                .policyId(id)
+                .userId(userId)
+                .status(CouponStatus.ISSUED)
+                .issuedAt(now)
+                .expiredAt(validUntil != null ? validUntil : now.plusDays(DEFAULT_COUPON_VALID_DAYS))
+                .couponName(couponName)
+                .discountPolicy(discountPolicy)
+                .build();
+    }
+
     /**
      * 남은 발급 수량 업데이트
      * 생성된 쿠폰 정책의 유일한 수정 가능 필드
@@ -0,0 +1,144 @@
+package com.teambind.coupon.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 할인 금액 계산 엔진
+ * 금액은 저장 컬럼(numeric scale 2)과 같은 1/100원 단위 long(minor unit), 할인율은 0.01% 단위 long으로 계산하여
+ * BigDecimal 할당/스케일 문제 없이 모든 할인 계산 경로가 같은 결과를 내도록 함
+ *
+ * - 정액 할인: min(할인 금액, 주문 금액)
+ * - 정률 할인: 주문 금액 × 할인율을 지정한 반올림 방식으로 1/100원에 맞춘 뒤 최대 할인 금액, 주문 금액 순으로 제한
+ * - 최소 주문 금액 미만이면 0
+ */
+public final class DiscountCalculator {
+
+    public static final int MINOR_UNIT_SCALE = 2;
+    // 저장 컬럼이 초과 자릿수를 반올림하던 것과 동일
+    public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
+
+    private static final long MINOR_UNITS_PER_WON = 100;
+    // 할인율 단위 (0.01%) 기준 100%
+    private static final long FULL_RATE = 100 * 100;
+
+    private DiscountCalculator() {
+    }
+
+    /**
+     * 할인 금액 계산
+     *
+     * @param type           할인 타입 (null이면 0)
+     * @param orderAmount    주문 금액 (1/100원)
+     * @param value          정액이면 할인 금액(1/100원), 정률이면 할인율(0.01%)
+     * @param minOrderAmount 최소 주문 금액 (1/100원, 0 이하면 제한 없음)
+     * @param maxDiscount    정률 할인 최대 금액 (1/100원, 0 이하면 제한 없음)
+     * @param rounding       정률 할인 반올림 방식
+     * @return 할인 금액 (1/100원)
+     */
+    public static long discount(DiscountType type, long orderAmount, long value,
+                                long minOrderAmount, long maxDiscount, RoundingMode rounding) {
+        if (type == null || orderAmount <= 0 || orderAmount < minOrderAmount) {
+            return 0;
+        }
+        return type == DiscountType.PERCENTAGE
+                ? percentDiscount(orderAmount, value, maxDiscount, rounding)
+                : fixedDiscount(orderAmount, value);
+    }
+
+    /**
+     * 정액 할인 금액
+     */
+    public static long fixedDiscount(long orderAmount, long discountAmount) {
+        return Math.max(0, Math.min(discountAmount, orderAmount));
+    }
+
+    /**
+     * 정률 할인 금액
+     *
+     * @param orderAmount 주문 금액 (1/100원)
+     * @param rate        할인율 (0.01% 단위, 10000 = 100%)
+     * @param maxDiscount 최대 할인 금액 (1/100원, 0 이하면 제한 없음)
+     * @param rounding    반올림 방식
+     * @return 할인 금액 (1/100원)
+     */
+    public static long percentDiscount(long orderAmount, long rate, long maxDiscount, RoundingMode rounding) {
+        if (orderAmount <= 0 || rate <= 0) {
+            return 0;
+        }
+        // orderAmount × rate가 넘치지 않도록 몫/나머지로 나눠 곱함 (결과는 정확히 동일)
+        long quotient = orderAmount / FULL_RATE;
+        long remainder = orderAmount % FULL_RATE;
+        long fractional = remainder * rate;
+        long discount = Math.addExact(Math.multiplyExact(quotient, rate), fractional / FULL_RATE);
+        discount = round(discount, fractional % FULL_RATE, rounding);
+
+        if (maxDiscount > 0) {
+            discount = Math.min(discount, maxDiscount);
+        }
+        return Math.min(discount, orderAmount);
+    }
+
+    /**
+     * 금액을 1/100원 단위로 변환 (초과 자릿수는 반올림, null이면 0)
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        // 대부분의 금액은 정수 원이므로 추가 할당 없이 변환
+        if (amount.scale() == 0) {
+            return Math.multiplyExact(amount.longValueExact(), MINOR_UNITS_PER_WON);
+        }
+        return amount.setScale(MINOR_UNIT_SCALE, DEFAULT_ROUNDING).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 할인율(%)을 0.01% 단위로 변환 (초과 자릿수는 반올림, null이면 0)
+     */
+    public static long toRate(BigDecimal percent) {
+        return toMinorUnits(percent);
+    }
+
+    /**
+     * 1/100원 단위를 금액으로 변환 (불필요한 소수 자릿수 없이)
+     */
+    public static BigDecimal toAmount(long minorUnits) {
+        if (minorUnits % MINOR_UNITS_PER_WON == 0) {
+            return BigDecimal.valueOf(minorUnits / MINOR_UNITS_PER_WON);
+        }
+        if (minorUnits % 10 == 0) {
+            return BigDecimal.valueOf(minorUnits / 10, 1);
+        }
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+
+    /**
+     * BigDecimal 경계용 할인 금액 계산 (기본 반올림 방식)
+     */
+    public static BigDecimal discount(DiscountType type, BigDecimal orderAmount, BigDecimal value,
+                                      BigDecimal minOrderAmount, BigDecimal maxDiscount) {
+        long discountValue = type == DiscountType.PERCENTAGE ? toRate(value) : toMinorUnits(value);
+        return toAmount(discount(type, toMinorUnits(orderAmount), discountValue,
+                toMinorUnits(minOrderAmount), toMinorUnits(maxDiscount), DEFAULT_ROUNDING));
+    }
+
+    /**
+     * 양수 몫에 나머지(분모 FULL_RATE)를 반영한 반올림
+     */
+    private static long round(long quotient, long remainder, RoundingMode rounding) {
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twice = remainder * 2;
+        boolean up = switch (rounding) {
+            case DOWN, FLOOR -> false;
+            case UP, CEILING -> true;
+            case HALF_UP -> twice >= FULL_RATE;
+            case HALF_DOWN -> twice > FULL_RATE;
+            case HALF_EVEN -> twice > FULL_RATE || (twice == FULL_RATE && (quotient & 1) == 1);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return up ? quotient + 1 : quotient;
+    }
+}
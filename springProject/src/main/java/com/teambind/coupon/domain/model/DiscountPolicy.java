@@ -3,6 +3,7 @@ package com.teambind.coupon.domain.model;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * 할인 정책 Value Object
@@ -25,25 +26,33 @@ public class DiscountPolicy {
      * @return 할인 금액
      */
     public BigDecimal calculateDiscountAmount(BigDecimal originalPrice) {
-        // 최소 주문 금액 체크
-        if (minOrderAmount != null && originalPrice.compareTo(minOrderAmount) < 0) {
-            return BigDecimal.ZERO;
-        }
-
-        if (discountType == DiscountType.FIXED_AMOUNT || discountType == DiscountType.AMOUNT) {
-            return discountValue.min(originalPrice);
-        } else { // PERCENTAGE
-            BigDecimal percentDiscount = originalPrice
-                    .multiply(discountValue)
-                    .divide(BigDecimal.valueOf(100));
+        return calculateDiscountAmount(originalPrice, DiscountCalculator.DEFAULT_ROUNDING);
+    }
 
-            // 최대 할인 금액 제한 적용
-            if (maxDiscountAmount != null && maxDiscountAmount.compareTo(BigDecimal.ZERO) > 0) {
-                percentDiscount = percentDiscount.min(maxDiscountAmount);
-            }
+    /**
+     * 실제 할인 금액 계산 (반올림 방식 지정)
+     * @param originalPrice 원래 가격
+     * @param rounding 정률 할인 반올림 방식
+     * @return 할인 금액
+     */
+    public BigDecimal calculateDiscountAmount(BigDecimal originalPrice, RoundingMode rounding) {
+        return DiscountCalculator.toAmount(
+                calculateDiscountAmount(DiscountCalculator.toMinorUnits(originalPrice), rounding));
+    }
 
-            return percentDiscount.min(originalPrice);
-        }
+    /**
+     * 실제 할인 금액 계산 (1/100원 단위)
+     * @param originalPrice 원래 가격 (1/100원)
+     * @param rounding 정률 할인 반올림 방식
+     * @return 할인 금액 (1/100원)
+     */
+    public long calculateDiscountAmount(long originalPrice, RoundingMode rounding) {
+        long value = discountType == DiscountType.PERCENTAGE
+                ? DiscountCalculator.toRate(discountValue)
+                : DiscountCalculator.toMinorUnits(discountValue);
+        return DiscountCalculator.discount(discountType, originalPrice, value,
+                DiscountCalculator.toMinorUnits(minOrderAmount),
+                DiscountCalculator.toMinorUnits(maxDiscountAmount), rounding);
     }
 
     /**
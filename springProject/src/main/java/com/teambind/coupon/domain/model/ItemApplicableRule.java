@@ -1,28 +1,40 @@
 package com.teambind.coupon.domain.model;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 쿠폰 적용 가능 상품 규칙 Value Object
  * 쿠폰을 사용할 수 있는 상품 목록을 정의
+ *
+ * 적용 가능 상품 ID는 정렬된 long[]로 컴파일하여 이진 탐색으로 조회 (박싱/선형 탐색 제거)
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 public class ItemApplicableRule {
 
+    private static final long[] EMPTY = new long[0];
+
     // 자주 사용되는 인스턴스
     public static final ItemApplicableRule ALL = forAllItems();
 
     private boolean allItemsApplicable; // 모든 상품 적용 가능 여부
     private List<Long> applicableItemIds; // 적용 가능한 상품 ID 목록
 
+    @Getter(AccessLevel.NONE)
+    private transient volatile long[] sortedItemIds; // 컴파일된 상품 ID (정렬, 중복 제거)
+
+    public ItemApplicableRule(boolean allItemsApplicable, List<Long> applicableItemIds) {
+        this.allItemsApplicable = allItemsApplicable;
+        this.applicableItemIds = applicableItemIds;
+    }
+
     /**
      * 특정 상품이 쿠폰 적용 가능한지 확인
      * @param itemId 상품 ID
@@ -32,7 +44,16 @@ public class ItemApplicableRule {
         if (allItemsApplicable) {
             return true;
         }
-        return applicableItemIds != null && applicableItemIds.contains(itemId);
+        return itemId != null && contains(compiledItemIds(), itemId);
+    }
+
+    /**
+     * 특정 상품이 쿠폰 적용 가능한지 확인 (primitive)
+     * @param itemId 상품 ID
+     * @return 적용 가능 여부
+     */
+    public boolean isApplicable(long itemId) {
+        return allItemsApplicable || contains(compiledItemIds(), itemId);
     }
 
     /**
@@ -44,10 +65,67 @@ public class ItemApplicableRule {
         if (allItemsApplicable) {
             return true;
         }
-        if (applicableItemIds == null || applicableItemIds.isEmpty()) {
+        long[] compiled = compiledItemIds();
+        if (compiled.length == 0 || itemIds == null) {
+            return false;
+        }
+        for (Long itemId : itemIds) {
+            if (itemId != null && contains(compiled, itemId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 여러 상품 중 적용 가능한 상품이 있는지 확인 (primitive)
+     * @param itemIds 상품 ID 배열
+     * @return 하나라도 적용 가능하면 true
+     */
+    public boolean hasApplicableItem(long[] itemIds) {
+        if (allItemsApplicable) {
+            return true;
+        }
+        long[] compiled = compiledItemIds();
+        if (compiled.length == 0 || itemIds == null) {
             return false;
         }
-        return itemIds.stream().anyMatch(this::isApplicable);
+        for (long itemId : itemIds) {
+            if (contains(compiled, itemId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 정렬된 상품 ID 배열 반환 (최초 호출 시 한 번만 컴파일)
+     * 동시 호출로 중복 컴파일되어도 결과가 같으므로 별도 동기화하지 않음
+     */
+    long[] compiledItemIds() {
+        long[] compiled = sortedItemIds;
+        if (compiled == null) {
+            compiled = compile(applicableItemIds);
+            sortedItemIds = compiled;
+        }
+        return compiled;
+    }
+
+    private static long[] compile(List<Long> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = itemIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return sorted.length == 0 ? EMPTY : sorted;
+    }
+
+    private static boolean contains(long[] sorted, long itemId) {
+        return sorted.length != 0 && Arrays.binarySearch(sorted, itemId) >= 0;
     }
 
     /**
@@ -63,4 +141,4 @@ public class ItemApplicableRule {
     public static ItemApplicableRule forSpecificItems(List<Long> itemIds) {
         return new ItemApplicableRule(false, itemIds);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.teambind.coupon.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 주문 장바구니 Value Object
+ * 쿠폰 추천/검증용으로 상품 ID를 정렬된 long[]로, 금액을 1/100원 단위 long[]로 한 번만 컴파일
+ * 같은 상품이 여러 줄이면 금액을 합산
+ */
+public final class OrderCart {
+
+    private final long[] itemIds;     // 정렬, 중복 제거
+    private final long[] amounts;     // itemIds와 같은 순서의 금액 (1/100원)
+    private final long totalAmount;   // 전체 금액 (1/100원)
+
+    private OrderCart(long[] itemIds, long[] amounts, long totalAmount) {
+        this.itemIds = itemIds;
+        this.amounts = amounts;
+        this.totalAmount = totalAmount;
+    }
+
+    /**
+     * 장바구니 생성
+     *
+     * @param lines 상품별 금액
+     * @return 컴파일된 장바구니
+     * @throws IllegalArgumentException 상품 ID가 없거나 금액이 음수인 경우
+     */
+    public static OrderCart of(List<Line> lines) {
+        int size = lines == null ? 0 : lines.size();
+        long[][] pairs = new long[size][];
+        for (int i = 0; i < size; i++) {
+            Line line = lines.get(i);
+            if (line == null || line.itemId() == null) {
+                throw new IllegalArgumentException("상품 ID는 필수입니다");
+            }
+            long amount = DiscountCalculator.toMinorUnits(line.amount());
+            if (amount < 0) {
+                throw new IllegalArgumentException("상품 금액은 0 이상이어야 합니다 - itemId: " + line.itemId());
+            }
+            pairs[i] = new long[]{line.itemId(), amount};
+        }
+        Arrays.sort(pairs, (a, b) -> Long.compare(a[0], b[0]));
+
+        long[] itemIds = new long[size];
+        long[] amounts = new long[size];
+        long total = 0;
+        int distinct = 0;
+        for (long[] pair : pairs) {
+            if (distinct > 0 && itemIds[distinct - 1] == pair[0]) {
+                amounts[distinct - 1] = Math.addExact(amounts[distinct - 1], pair[1]);
+            } else {
+                itemIds[distinct] = pair[0];
+                amounts[distinct] = pair[1];
+                distinct++;
+            }
+            total = Math.addExact(total, pair[1]);
+        }
+
+        return new OrderCart(Arrays.copyOf(itemIds, distinct), Arrays.copyOf(amounts, distinct), total);
+    }
+
+    /**
+     * 전체 금액 (1/100원)
+     */
+    public long totalAmount() {
+        return totalAmount;
+    }
+
+    /**
+     * 상품 종류 수
+     */
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    /**
+     * 지정한 상품들의 금액 합계
+     * 장바구니 상품마다 정렬된 규칙 상품 ID를 이진 탐색
+     *
+     * @param sortedItemIds 정렬, 중복 제거된 상품 ID
+     * @return 해당 상품 금액 합계 (1/100원)
+     */
+    long amountOf(long[] sortedItemIds) {
+        if (sortedItemIds.length == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < itemIds.length; i++) {
+            if (Arrays.binarySearch(sortedItemIds, itemIds[i]) >= 0) {
+                sum += amounts[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 장바구니 한 줄
+     *
+     * @param itemId 상품 ID
+     * @param amount 금액
+     */
+    public record Line(Long itemId, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.teambind.coupon.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 여러 쿠폰을 한 주문에 함께 적용한 할인 결과
+ *
+ * 적용 순서: 정률 쿠폰을 먼저, 그다음 정액 쿠폰을 입력 순서대로 적용
+ * 각 쿠폰의 최소 주문 금액은 원래 주문 금액 기준으로 판단하고, 할인은 앞선 쿠폰 적용 후 남은 금액을 넘지 않음
+ * 따라서 합계는 항상 주문 금액 이하
+ */
+public final class StackedDiscount {
+
+    private final long[] amounts; // 입력 순서별 할인 금액 (1/100원)
+    private final long total;     // 할인 합계 (1/100원)
+
+    private StackedDiscount(long[] amounts, long total) {
+        this.amounts = amounts;
+        this.total = total;
+    }
+
+    /**
+     * 할인 계산
+     *
+     * @param policies    쿠폰별 할인 정책 (null이면 해당 쿠폰 할인 0)
+     * @param orderAmount 주문 금액
+     * @return 쿠폰별 할인 금액과 합계
+     */
+    public static StackedDiscount calculate(List<DiscountPolicy> policies, BigDecimal orderAmount) {
+        long order = DiscountCalculator.toMinorUnits(orderAmount);
+        long[] amounts = new long[policies.size()];
+        long remaining = order;
+
+        // 정률 → 정액 순서로 두 번 순회 (입력 순서 유지)
+        for (int pass = 0; pass < 2; pass++) {
+            boolean percentagePass = pass == 0;
+            for (int i = 0; i < amounts.length; i++) {
+                DiscountPolicy policy = policies.get(i);
+                if (policy == null || (policy.getDiscountType() == DiscountType.PERCENTAGE) != percentagePass) {
+                    continue;
+                }
+                if (order < DiscountCalculator.toMinorUnits(policy.getMinOrderAmount())) {
+                    continue;
+                }
+                long value = percentagePass
+                        ? DiscountCalculator.toRate(policy.getDiscountValue())
+                        : DiscountCalculator.toMinorUnits(policy.getDiscountValue());
+                // 최소 주문 금액은 위에서 원래 주문 금액으로 확인했으므로 남은 금액에는 적용하지 않음
+                long discount = DiscountCalculator.discount(policy.getDiscountType(), remaining, value, 0,
+                        DiscountCalculator.toMinorUnits(policy.getMaxDiscountAmount()),
+                        DiscountCalculator.DEFAULT_ROUNDING);
+                amounts[i] = discount;
+                remaining -= discount;
+            }
+        }
+
+        return new StackedDiscount(amounts, order - remaining);
+    }
+
+    /**
+     * 할인 합계
+     */
+    public BigDecimal totalAmount() {
+        return DiscountCalculator.toAmount(total);
+    }
+
+    /**
+     * 입력 순서 기준 쿠폰별 할인 금액
+     *
+     * @param index 쿠폰 순서
+     */
+    public BigDecimal amountAt(int index) {
+        return DiscountCalculator.toAmount(amounts[index]);
+    }
+
+    /**
+     * 쿠폰 수
+     */
+    public int size() {
+        return amounts.length;
+    }
+}
@@ -6,6 +6,10 @@
  * - CouponPolicy: 쿠폰 정책 (Aggregate Root)
  * - CouponIssue: 발급된 쿠폰
  * - DiscountPolicy: 할인 정책 (Value Object)
+ * - DiscountCalculator: 할인 금액 계산 (1/100원 단위 long 고정소수점)
  * - ItemApplicableRule: 적용 가능 상품 규칙 (Value Object)
+ * - CompiledCouponRule: 장바구니 할인 계산용으로 컴파일된 정책 규칙
+ * - OrderCart: 주문 장바구니 (Value Object)
+ * - StackedDiscount: 여러 쿠폰을 함께 적용한 할인 결과
  */
 package com.teambind.coupon.domain.model;
\ No newline at end of file
@@ -3,7 +3,6 @@ package com.teambind.coupon.domain.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.security.SecureRandom;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,14 +14,18 @@ import java.util.Set;
 @Component
 public class AlphanumericCodeGenerator implements CouponCodeGenerator {
 
-    // 사용할 문자 집합 (혼동하기 쉬운 문자 제외: 0, O, I, l)
-    private static final String CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    // 사용할 문자 집합 (혼동하기 쉬운 문자 제외: 0, O, I, l) → CodeEncoding.BASE32
     private static final int DEFAULT_LENGTH = 12;
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int GROUP_SIZE = 4;
+
+    // 스레드별 조립 버퍼 (랜덤 영역 + 출력 영역)
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
 
     @Override
     public String generate() {
-        return generateCode(DEFAULT_LENGTH);
+        char[] buffer = CodeEncoding.buffer(BUFFER, DEFAULT_LENGTH);
+        CodeEncoding.fillRandomBase32(buffer, 0, DEFAULT_LENGTH);
+        return new String(buffer, 0, DEFAULT_LENGTH);
     }
 
     @Override
@@ -32,11 +35,22 @@ public class AlphanumericCodeGenerator implements CouponCodeGenerator {
         }
 
         // 프리픽스 정규화 (대문자 변환, 특수문자 제거)
-        String normalizedPrefix = prefix.toUpperCase().replaceAll("[^A-Z0-9]", "");
+        int prefixLength = CodeEncoding.normalizedLength(prefix);
+        int randomLength = DEFAULT_LENGTH - prefixLength - 1;
+        if (randomLength < 0) {
+            throw new IllegalArgumentException("프리픽스가 너무 깁니다: " + prefix);
+        }
 
-        // 프리픽스 + 구분자 + 랜덤 코드
-        String randomPart = generateCode(DEFAULT_LENGTH - normalizedPrefix.length() - 1);
-        return String.format("%s-%s", normalizedPrefix, formatCode(randomPart));
+        // 프리픽스 + 구분자 + 랜덤 코드 (4자리씩 구분)
+        int formattedLength = CodeEncoding.groupedLength(randomLength, GROUP_SIZE);
+        char[] buffer = CodeEncoding.buffer(BUFFER, randomLength + prefixLength + 1 + formattedLength);
+        CodeEncoding.fillRandomBase32(buffer, 0, randomLength);
+
+        int start = randomLength;
+        int position = CodeEncoding.writeNormalized(prefix, buffer, start);
+        buffer[position++] = '-';
+        position = CodeEncoding.writeGrouped(buffer, 0, randomLength, GROUP_SIZE, buffer, position);
+        return new String(buffer, start, position - start);
     }
 
     @Override
@@ -63,44 +77,4 @@ public class AlphanumericCodeGenerator implements CouponCodeGenerator {
     public GeneratorType getType() {
         return GeneratorType.ALPHANUMERIC;
     }
-
-    /**
-     * 지정된 길이의 랜덤 코드 생성
-     *
-     * @param length 코드 길이
-     * @return 생성된 코드
-     */
-    private String generateCode(int length) {
-        StringBuilder code = new StringBuilder(length);
-
-        for (int i = 0; i < length; i++) {
-            int index = RANDOM.nextInt(CHARS.length());
-            code.append(CHARS.charAt(index));
-        }
-
-        return code.toString();
-    }
-
-    /**
-     * 코드를 읽기 쉽게 포맷팅 (4자리씩 구분)
-     *
-     * @param code 원본 코드
-     * @return 포맷된 코드
-     */
-    private String formatCode(String code) {
-        if (code == null || code.length() <= 4) {
-            return code;
-        }
-
-        StringBuilder formatted = new StringBuilder();
-        for (int i = 0; i < code.length(); i += 4) {
-            if (i > 0) {
-                formatted.append("-");
-            }
-            int end = Math.min(i + 4, code.length());
-            formatted.append(code.substring(i, end));
-        }
-
-        return formatted.toString();
-    }
-}
\ No newline at end of file
+}
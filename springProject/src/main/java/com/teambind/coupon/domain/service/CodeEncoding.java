@@ -0,0 +1,122 @@
+package com.teambind.coupon.domain.service;
+
+import java.security.SecureRandom;
+
+/**
+ * 쿠폰 코드 생성 공통 인코딩
+ * 생성기들이 문자열 연산/정규식 없이 스레드별 char[] 버퍼에 직접 코드를 써서 코드당 String 하나만 할당하도록 지원
+ */
+final class CodeEncoding {
+
+    // 혼동하기 쉬운 문자(0, O, I, 1)를 제외한 32자 (문자당 정확히 5비트)
+    static final char[] BASE32 = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+
+    // SecureRandom은 내부 동기화로 스레드 간 경합이 생기므로 스레드별 인스턴스 사용
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    private CodeEncoding() {
+    }
+
+    static SecureRandom random() {
+        return RANDOM.get();
+    }
+
+    /**
+     * 스레드별 버퍼를 필요한 크기 이상으로 확보
+     */
+    static char[] buffer(ThreadLocal<char[]> holder, int size) {
+        char[] buffer = holder.get();
+        if (buffer.length < size) {
+            buffer = new char[Math.max(size, buffer.length * 2)];
+            holder.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * 비트를 32자 알파벳으로 인코딩 (마지막 문자가 최하위 5비트)
+     */
+    static void encodeBase32(long bits, char[] dest, int offset, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            dest[i] = BASE32[(int) (bits & 31)];
+            bits >>>= 5;
+        }
+    }
+
+    /**
+     * 32자 알파벳 랜덤 문자 채우기 (nextLong 하나로 12자)
+     */
+    static void fillRandomBase32(char[] dest, int offset, int length) {
+        SecureRandom random = RANDOM.get();
+        int written = 0;
+        while (written < length) {
+            int chunk = Math.min(12, length - written);
+            encodeBase32(random.nextLong(), dest, offset + written, chunk);
+            written += chunk;
+        }
+    }
+
+    /**
+     * 임의 알파벳 랜덤 문자 채우기
+     */
+    static void fillRandom(char[] alphabet, char[] dest, int offset, int length) {
+        SecureRandom random = RANDOM.get();
+        for (int i = offset; i < offset + length; i++) {
+            dest[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+    }
+
+    /**
+     * 정규화한 프리픽스 길이 (대문자 변환 후 A-Z, 0-9만 유지)
+     */
+    static int normalizedLength(String prefix) {
+        int length = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (isCodeChar(Character.toUpperCase(prefix.charAt(i)))) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 프리픽스 정규화 후 쓰기
+     *
+     * @return 쓴 다음 위치
+     */
+    static int writeNormalized(String prefix, char[] dest, int offset) {
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = Character.toUpperCase(prefix.charAt(i));
+            if (isCodeChar(c)) {
+                dest[offset++] = c;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * group 자리마다 '-'로 구분하여 쓰기
+     *
+     * @return 쓴 다음 위치
+     */
+    static int writeGrouped(char[] src, int srcOffset, int length, int group, char[] dest, int offset) {
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && i % group == 0) {
+                dest[offset++] = '-';
+            }
+            dest[offset++] = src[srcOffset + i];
+        }
+        return offset;
+    }
+
+    /**
+     * 구분자를 포함한 길이
+     */
+    static int groupedLength(int length, int group) {
+        return length <= 0 ? 0 : length + (length - 1) / group;
+    }
+
+    private static boolean isCodeChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
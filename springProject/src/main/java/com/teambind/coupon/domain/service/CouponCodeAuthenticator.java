@@ -0,0 +1,172 @@
+package com.teambind.coupon.domain.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * 쿠폰 코드 진위 검증기
+ * 서명 코드(XXXX-XXXX-XXXX-XXXX)의 마지막 4자리는 앞 12자리의 HMAC 태그이므로
+ * DB/Redis 조회 없이 위조되거나 오타가 난 코드를 걸러낼 수 있음
+ */
+@Component
+public class CouponCodeAuthenticator {
+
+    public static final int BODY_LENGTH = 12;
+    public static final int TAG_LENGTH = 4;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String KEY_LABEL = "coupon-code-mac";
+    private static final char[] ALPHABET = CodeEncoding.BASE32;
+    private static final int[] DECODE = new int[128];
+    private static final Pattern SIGNED_CODE = Pattern.compile(
+            "^(?:[A-Z0-9]+:)?[A-HJ-NP-Z2-9]{4}-[A-HJ-NP-Z2-9]{4}-[A-HJ-NP-Z2-9]{4}-[A-HJ-NP-Z2-9]{4}$");
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = i;
+        }
+    }
+
+    private final byte[] key;
+    private final boolean requireSignature;
+
+    // Mac은 스레드 안전하지 않고 생성 비용(키 스케줄)이 크므로 다이제스트 버퍼와 함께 스레드별로 재사용
+    private final ThreadLocal<MacState> macState = ThreadLocal.withInitial(this::newMacState);
+
+    public CouponCodeAuthenticator(@Value("${coupon.code.secret}") String secret,
+                                   @Value("${coupon.code.require-signature:false}") boolean requireSignature) {
+        this.key = deriveKey(secret);
+        this.requireSignature = requireSignature;
+    }
+
+    /**
+     * 코드 본문의 태그 계산
+     *
+     * @param body 12자리 본문 (알파벳 문자만)
+     * @return 4자리 태그
+     */
+    public String tag(CharSequence body) {
+        MacState state = macState.get();
+        for (int i = 0; i < BODY_LENGTH; i++) {
+            state.mac.update((byte) body.charAt(i));
+        }
+        char[] chars = new char[TAG_LENGTH];
+        CodeEncoding.encodeBase32(state.finish(), chars, 0, TAG_LENGTH);
+        return new String(chars);
+    }
+
+    /**
+     * 코드 본문의 태그를 버퍼에 직접 쓰기 (생성기용)
+     *
+     * @param body       본문이 담긴 버퍼
+     * @param offset     본문 시작 위치
+     * @param dest       태그를 쓸 버퍼
+     * @param destOffset 태그를 쓸 위치
+     */
+    void writeTag(char[] body, int offset, char[] dest, int destOffset) {
+        MacState state = macState.get();
+        for (int i = offset; i < offset + BODY_LENGTH; i++) {
+            state.mac.update((byte) body[i]);
+        }
+        CodeEncoding.encodeBase32(state.finish(), dest, destOffset, TAG_LENGTH);
+    }
+
+    /**
+     * 조회 전에 거절해야 하는 코드인지 확인
+     * 서명 형식의 코드는 태그가 맞아야 하고, 서명 형식이 아닌 코드(관리자가 지정한 캠페인 코드 등)는
+     * coupon.code.require-signature가 켜진 경우에만 거절
+     *
+     * @param code 사용자가 입력한 쿠폰 코드
+     * @return 위조/오타로 판단되면 true
+     */
+    public boolean isForged(String code) {
+        if (code == null) {
+            return true;
+        }
+        String normalized = code.trim().toUpperCase();
+        if (!SIGNED_CODE.matcher(normalized).matches()) {
+            return requireSignature;
+        }
+        return !verify(normalized);
+    }
+
+    /**
+     * 서명 코드의 태그 검증 (형식은 SIGNED_CODE로 확인된 상태)
+     * 본문 문자를 바로 Mac에 넣어 중간 문자열 없이 검증
+     */
+    private boolean verify(String code) {
+        MacState state = macState.get();
+        int fed = 0;
+        int expected = 0;
+        for (int i = code.indexOf(':') + 1; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (fed < BODY_LENGTH) {
+                state.mac.update((byte) c);
+                fed++;
+            } else {
+                expected = (expected << 5) | DECODE[c];
+            }
+        }
+        return state.finish() == expected;
+    }
+
+    private MacState newMacState() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(new SecretKeySpec(key, ALGORITHM));
+            return new MacState(instance);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("쿠폰 코드 서명 키 초기화에 실패했습니다", e);
+        }
+    }
+
+    private static byte[] deriveKey(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("coupon.code.secret 설정이 필요합니다");
+        }
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return instance.doFinal(KEY_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("쿠폰 코드 서명 키 파생에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 스레드별 Mac과 다이제스트 버퍼
+     */
+    private static final class MacState {
+        private final Mac mac;
+        private final byte[] digest;
+
+        private MacState(Mac mac) {
+            this.mac = mac;
+            this.digest = new byte[mac.getMacLength()];
+        }
+
+        /**
+         * 다이제스트 상위 20비트를 태그 값으로 반환 (Mac은 초기 상태로 재설정됨)
+         */
+        private int finish() {
+            try {
+                mac.doFinal(digest, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("쿠폰 코드 태그 계산에 실패했습니다", e);
+            }
+            int value = ((digest[0] & 0xFF) << 16) | ((digest[1] & 0xFF) << 8) | (digest[2] & 0xFF);
+            return value >>> (24 - TAG_LENGTH * 5);
+        }
+    }
+}
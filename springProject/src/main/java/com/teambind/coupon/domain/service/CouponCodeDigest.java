@@ -0,0 +1,87 @@
+package com.teambind.coupon.domain.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 1회용 쿠폰 코드 다이제스트
+ * 코드 원문 대신 키 기반 64비트 해시만 저장하여 테이블을 작게 유지하고 DB가 유출되어도 코드가 노출되지 않게 함
+ */
+@Component
+public class CouponCodeDigest {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String KEY_LABEL = "coupon-code-inventory";
+
+    private final byte[] key;
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::newMac);
+
+    public CouponCodeDigest(@Value("${coupon.code.secret}") String secret) {
+        this.key = deriveKey(secret);
+    }
+
+    /**
+     * 코드 정규화 (공백/구분자 제거, 대문자 변환)
+     * 사용자가 하이픈 없이 입력해도 같은 코드로 인식
+     *
+     * @param code 원본 코드
+     * @return 정규화된 코드 (null이면 빈 문자열)
+     */
+    public static String normalize(String code) {
+        if (code == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(code.length());
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c == '-' || Character.isWhitespace(c)) {
+                continue;
+            }
+            normalized.append(Character.toUpperCase(c));
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 코드 다이제스트 계산
+     *
+     * @param code 원본 코드 (내부에서 정규화)
+     * @return 64비트 다이제스트
+     */
+    public long digest(String code) {
+        byte[] hash = mac.get().doFinal(normalize(code).getBytes(StandardCharsets.UTF_8));
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(new SecretKeySpec(key, ALGORITHM));
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("쿠폰 코드 다이제스트 키 초기화에 실패했습니다", e);
+        }
+    }
+
+    private static byte[] deriveKey(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("coupon.code.secret 설정이 필요합니다");
+        }
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return instance.doFinal(KEY_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("쿠폰 코드 다이제스트 키 파생에 실패했습니다", e);
+        }
+    }
+}
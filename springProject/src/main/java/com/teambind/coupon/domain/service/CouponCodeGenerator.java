@@ -44,6 +44,7 @@ public interface CouponCodeGenerator {
         NUMERIC,         // 숫자만
         CUSTOM,          // 커스텀 패턴
         UUID,            // UUID 기반
-        SECURE_RANDOM    // 보안 랜덤
+        SECURE_RANDOM,   // 보안 랜덤
+        PERMUTATION      // 일련번호 순열 (PermutationCodeGenerator, 중복 확인 없음)
     }
 }
\ No newline at end of file
@@ -6,9 +6,12 @@ import org.springframework.stereotype.Component;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 커스텀 패턴 기반 쿠폰 코드 생성기
@@ -21,14 +24,20 @@ import java.util.Set;
  * - {DD}: 일
  * - {RAND:n}: n자리 랜덤 문자
  * - {NUM:n}: n자리 랜덤 숫자
+ *
+ * 패턴은 처음 사용할 때 토큰 배열로 컴파일해 캐시하므로 코드마다 문자열 치환/포맷터 생성이 없음
  */
 @Slf4j
 @Component
 public class CustomPatternCodeGenerator implements CouponCodeGenerator {
 
-    private static final SecureRandom RANDOM = new SecureRandom();
-    private static final String ALPHA_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-    private static final String NUM_CHARS = "0123456789";
+    private static final char[] ALPHA_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] NUM_CHARS = "0123456789".toCharArray();
+    private static final String PREFIX_PATTERN = "{PREFIX}-{YYYY}{MM}-{RAND:4}-{NUM:4}";
+    private static final int MAX_CACHED_PATTERNS = 256;
+    private static final int MAX_SEQ_LENGTH = 18;
+
+    private final Map<String, CompiledPattern> compiledPatterns = new ConcurrentHashMap<>();
 
     @Value("${coupon.code.pattern:COUP-{YYYY}{MM}-{RAND:4}-{NUM:4}}")
     private String defaultPattern;
@@ -41,8 +50,7 @@ public class CustomPatternCodeGenerator implements CouponCodeGenerator {
     @Override
     public String generate(String prefix) {
         // 프리픽스를 포함한 패턴 생성
-        String pattern = "{PREFIX}-{YYYY}{MM}-{RAND:4}-{NUM:4}";
-        return generateByPattern(pattern, prefix);
+        return generateByPattern(PREFIX_PATTERN, prefix);
     }
 
     @Override
@@ -87,120 +95,201 @@ public class CustomPatternCodeGenerator implements CouponCodeGenerator {
      * @return 생성된 코드
      */
     public String generateByPattern(String pattern, String prefix) {
-        String result = pattern;
-        LocalDateTime now = LocalDateTime.now();
-
-        // 프리픽스 치환
-        if (prefix != null && !prefix.isEmpty()) {
-            result = result.replace("{PREFIX}", prefix.toUpperCase());
-        } else {
-            result = result.replace("{PREFIX}-", "").replace("{PREFIX}", "");
+        return compile(pattern).render(prefix, LocalDateTime.now());
+    }
+
+    /**
+     * 컴파일된 패턴 조회
+     * 관리자 입력 패턴이 무한히 쌓이지 않도록 캐시 크기를 제한 (초과 시 캐시하지 않고 매번 컴파일)
+     */
+    private CompiledPattern compile(String pattern) {
+        CompiledPattern compiled = compiledPatterns.get(pattern);
+        if (compiled != null) {
+            return compiled;
         }
+        compiled = CompiledPattern.parse(pattern);
+        if (compiledPatterns.size() < MAX_CACHED_PATTERNS) {
+            compiledPatterns.putIfAbsent(pattern, compiled);
+        }
+        return compiled;
+    }
 
-        // 날짜 패턴 치환
-        result = result.replace("{YYYY}", now.format(DateTimeFormatter.ofPattern("yyyy")));
-        result = result.replace("{YY}", now.format(DateTimeFormatter.ofPattern("yy")));
-        result = result.replace("{MM}", now.format(DateTimeFormatter.ofPattern("MM")));
-        result = result.replace("{DD}", now.format(DateTimeFormatter.ofPattern("dd")));
-        result = result.replace("{HH}", now.format(DateTimeFormatter.ofPattern("HH")));
+    /**
+     * 토큰 배열로 컴파일된 패턴
+     */
+    private static final class CompiledPattern {
 
-        // 랜덤 문자 패턴 치환
-        result = replaceRandomPattern(result, "{RAND:", ALPHA_CHARS);
+        private enum Kind {LITERAL, PREFIX, PREFIX_DASH, YEAR, YEAR2, MONTH, DAY, HOUR, RAND, NUM, SEQ}
 
-        // 랜덤 숫자 패턴 치환
-        result = replaceRandomPattern(result, "{NUM:", NUM_CHARS);
+        private static final long[] POWERS_OF_TEN = new long[MAX_SEQ_LENGTH + 1];
 
-        // 시퀀스 패턴 치환 (간단한 구현)
-        if (result.contains("{SEQ:")) {
-            result = replaceSequencePattern(result);
+        static {
+            POWERS_OF_TEN[0] = 1;
+            for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+                POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+            }
         }
 
-        return result;
-    }
+        private final Kind[] kinds;
+        private final String[] literals;
+        private final int[] lengths;
+        private final int fixedLength;
+
+        private CompiledPattern(List<Kind> kinds, List<String> literals, List<Integer> lengths) {
+            this.kinds = kinds.toArray(new Kind[0]);
+            this.literals = literals.toArray(new String[0]);
+            this.lengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+            int total = 0;
+            for (int length : this.lengths) {
+                total += length;
+            }
+            this.fixedLength = total;
+        }
 
-    /**
-     * 랜덤 패턴 치환
-     *
-     * @param input    입력 문자열
-     * @param pattern  찾을 패턴
-     * @param charSet  사용할 문자 집합
-     * @return 치환된 문자열
-     */
-    private String replaceRandomPattern(String input, String pattern, String charSet) {
-        String result = input;
+        /**
+         * 패턴 파싱 (알 수 없는 토큰이나 잘못된 길이는 원문 그대로 유지)
+         */
+        private static CompiledPattern parse(String pattern) {
+            List<Kind> kinds = new ArrayList<>();
+            List<String> literals = new ArrayList<>();
+            List<Integer> lengths = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+
+            int i = 0;
+            while (i < pattern.length()) {
+                int end = pattern.charAt(i) == '{' ? pattern.indexOf('}', i) : -1;
+                if (end < 0) {
+                    literal.append(pattern.charAt(i++));
+                    continue;
+                }
 
-        while (result.contains(pattern)) {
-            int startIdx = result.indexOf(pattern);
-            int endIdx = result.indexOf("}", startIdx);
+                String token = pattern.substring(i + 1, end);
+                Kind kind = null;
+                int length = 0;
+                switch (token) {
+                    case "PREFIX" -> {
+                        // {PREFIX}- 는 프리픽스가 없으면 구분자까지 생략
+                        boolean dash = end + 1 < pattern.length() && pattern.charAt(end + 1) == '-';
+                        kind = dash ? Kind.PREFIX_DASH : Kind.PREFIX;
+                        if (dash) {
+                            end++;
+                        }
+                    }
+                    case "YYYY" -> {
+                        kind = Kind.YEAR;
+                        length = 4;
+                    }
+                    case "YY" -> {
+                        kind = Kind.YEAR2;
+                        length = 2;
+                    }
+                    case "MM" -> {
+                        kind = Kind.MONTH;
+                        length = 2;
+                    }
+                    case "DD" -> {
+                        kind = Kind.DAY;
+                        length = 2;
+                    }
+                    case "HH" -> {
+                        kind = Kind.HOUR;
+                        length = 2;
+                    }
+                    default -> {
+                        length = parseLength(token);
+                        if (length >= 0 && token.startsWith("RAND:")) {
+                            kind = Kind.RAND;
+                        } else if (length >= 0 && token.startsWith("NUM:")) {
+                            kind = Kind.NUM;
+                        } else if (length > 0 && length <= MAX_SEQ_LENGTH && token.startsWith("SEQ:")) {
+                            kind = Kind.SEQ;
+                        }
+                    }
+                }
 
-            if (endIdx == -1) {
-                break;
+                if (kind == null) {
+                    log.warn("잘못된 패턴 토큰: {}", token);
+                    literal.append(pattern, i, end + 1);
+                } else {
+                    if (!literal.isEmpty()) {
+                        kinds.add(Kind.LITERAL);
+                        literals.add(literal.toString());
+                        lengths.add(literal.length());
+                        literal.setLength(0);
+                    }
+                    kinds.add(kind);
+                    literals.add(null);
+                    lengths.add(length);
+                }
+                i = end + 1;
             }
+            if (!literal.isEmpty()) {
+                kinds.add(Kind.LITERAL);
+                literals.add(literal.toString());
+                lengths.add(literal.length());
+            }
+            return new CompiledPattern(kinds, literals, lengths);
+        }
 
-            String fullPattern = result.substring(startIdx, endIdx + 1);
-            String lengthStr = fullPattern.substring(pattern.length(), fullPattern.length() - 1);
-
+        private static int parseLength(String token) {
+            int colon = token.indexOf(':');
+            if (colon < 0) {
+                return -1;
+            }
             try {
-                int length = Integer.parseInt(lengthStr);
-                String randomStr = generateRandom(charSet, length);
-                result = result.replace(fullPattern, randomStr);
+                return Integer.parseInt(token.substring(colon + 1));
             } catch (NumberFormatException e) {
-                log.warn("잘못된 패턴 길이: {}", lengthStr);
-                break;
+                return -1;
             }
         }
 
-        return result;
-    }
-
-    /**
-     * 시퀀스 패턴 치환 (간단한 구현)
-     *
-     * @param input 입력 문자열
-     * @return 치환된 문자열
-     */
-    private String replaceSequencePattern(String input) {
-        // 실제로는 데이터베이스나 Redis를 통해 시퀀스 관리 필요
-        String result = input;
-
-        if (result.contains("{SEQ:")) {
-            int startIdx = result.indexOf("{SEQ:");
-            int endIdx = result.indexOf("}", startIdx);
-
-            if (endIdx != -1) {
-                String fullPattern = result.substring(startIdx, endIdx + 1);
-                String lengthStr = fullPattern.substring(5, fullPattern.length() - 1);
-
-                try {
-                    int length = Integer.parseInt(lengthStr);
-                    // 간단한 구현을 위해 랜덤 숫자 사용 (실제로는 시퀀스 사용)
-                    long sequence = System.currentTimeMillis() % (long) Math.pow(10, length);
-                    String seqStr = String.format("%0" + length + "d", sequence);
-                    result = result.replace(fullPattern, seqStr);
-                } catch (NumberFormatException e) {
-                    log.warn("잘못된 시퀀스 길이: {}", lengthStr);
+        private String render(String prefix, LocalDateTime now) {
+            boolean hasPrefix = prefix != null && !prefix.isEmpty();
+            StringBuilder sb = new StringBuilder(fixedLength + (hasPrefix ? prefix.length() + 1 : 0));
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                    case LITERAL -> sb.append(literals[i]);
+                    case PREFIX -> appendPrefix(sb, prefix, hasPrefix);
+                    case PREFIX_DASH -> {
+                        if (hasPrefix) {
+                            appendPrefix(sb, prefix, true);
+                            sb.append('-');
+                        }
+                    }
+                    case YEAR -> appendPadded(sb, now.getYear(), 4);
+                    case YEAR2 -> appendPadded(sb, now.getYear() % 100, 2);
+                    case MONTH -> appendPadded(sb, now.getMonthValue(), 2);
+                    case DAY -> appendPadded(sb, now.getDayOfMonth(), 2);
+                    case HOUR -> appendPadded(sb, now.getHour(), 2);
+                    case RAND -> appendRandom(sb, ALPHA_CHARS, lengths[i]);
+                    case NUM -> appendRandom(sb, NUM_CHARS, lengths[i]);
+                    // 실제로는 데이터베이스나 Redis를 통해 시퀀스 관리 필요
+                    case SEQ -> appendPadded(sb, System.currentTimeMillis() % POWERS_OF_TEN[lengths[i]], lengths[i]);
                 }
             }
+            return sb.toString();
         }
 
-        return result;
-    }
-
-    /**
-     * 지정된 문자 집합에서 랜덤 문자열 생성
-     *
-     * @param charSet 문자 집합
-     * @param length  길이
-     * @return 생성된 문자열
-     */
-    private String generateRandom(String charSet, int length) {
-        StringBuilder sb = new StringBuilder(length);
+        private static void appendPrefix(StringBuilder sb, String prefix, boolean hasPrefix) {
+            if (!hasPrefix) {
+                return;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                sb.append(Character.toUpperCase(prefix.charAt(i)));
+            }
+        }
 
-        for (int i = 0; i < length; i++) {
-            int index = RANDOM.nextInt(charSet.length());
-            sb.append(charSet.charAt(index));
+        private static void appendRandom(StringBuilder sb, char[] alphabet, int length) {
+            SecureRandom random = CodeEncoding.random();
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
         }
 
-        return sb.toString();
+        private static void appendPadded(StringBuilder sb, long value, int width) {
+            for (int i = width - 1; i >= 0; i--) {
+                sb.append((char) ('0' + (value / POWERS_OF_TEN[i]) % 10));
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package com.teambind.coupon.domain.service;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * 키 기반 Feistel 순열
+ * 0 ~ 32^12-1 범위의 일련번호를 같은 범위의 다른 값으로 일대일 대응시킨 뒤 32자 알파벳 12자리로 인코딩
+ *
+ * - 32^12 = 2^60 이므로 30비트씩 나눈 균형 Feistel 네트워크로 순열을 구성 (cycle-walking 불필요)
+ * - 라운드 함수는 AES-128 (비밀 키에서 HMAC-SHA256으로 파생)이므로 키 없이는 다음 코드를 추측할 수 없음
+ * - 순열이므로 서로 다른 일련번호는 항상 서로 다른 코드가 되어 중복 확인이 필요 없음
+ */
+public class FeistelCodePermutation {
+
+    // 혼동하기 쉬운 문자(0, O, I, 1)를 제외한 32자 (AlphanumericCodeGenerator와 동일)
+    static final char[] ALPHABET = CodeEncoding.BASE32;
+    public static final int CODE_LENGTH = 12;
+    public static final long DOMAIN_SIZE = 1L << 60;
+
+    private static final int HALF_BITS = 30;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 8;
+    private static final int[] DECODE = new int[128];
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = i;
+        }
+    }
+
+    private final SecretKeySpec roundKey;
+    private final ThreadLocal<RoundFunction> roundFunction;
+
+    /**
+     * @param secret 순열 비밀 값 (바뀌면 같은 일련번호에서 다른 코드가 생성됨)
+     */
+    public FeistelCodePermutation(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("Permutation secret must not be empty");
+        }
+        this.roundKey = new SecretKeySpec(deriveKey(secret), "AES");
+        this.roundFunction = ThreadLocal.withInitial(() -> new RoundFunction(roundKey));
+    }
+
+    /**
+     * 일련번호를 코드로 변환
+     *
+     * @param index 일련번호 (0 이상 DOMAIN_SIZE 미만)
+     * @return 12자리 코드 (구분자 없음)
+     */
+    public String encode(long index) {
+        char[] chars = new char[CODE_LENGTH];
+        encodeTo(index, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * 일련번호를 코드로 변환하여 버퍼에 직접 쓰기
+     *
+     * @param index  일련번호 (0 이상 DOMAIN_SIZE 미만)
+     * @param dest   코드를 쓸 버퍼 (offset부터 12자리)
+     * @param offset 쓰기 시작 위치
+     */
+    public void encodeTo(long index, char[] dest, int offset) {
+        if (index < 0 || index >= DOMAIN_SIZE) {
+            throw new IllegalArgumentException("Index out of range: " + index);
+        }
+        CodeEncoding.encodeBase32(permute(index), dest, offset, CODE_LENGTH);
+    }
+
+    /**
+     * 코드를 일련번호로 역변환
+     *
+     * @param code 12자리 코드 (구분자 없음)
+     * @return 일련번호 (형식이 맞지 않으면 -1)
+     */
+    public long decode(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            char c = code.charAt(i);
+            int digit = c < 128 ? DECODE[c] : -1;
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 5) | digit;
+        }
+        return inverse(value);
+    }
+
+    long permute(long value) {
+        RoundFunction function = roundFunction.get();
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ function.apply(round, right);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    long inverse(long value) {
+        RoundFunction function = roundFunction.get();
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int round = ROUNDS - 1; round >= 0; round--) {
+            long previous = right ^ function.apply(round, left);
+            right = left;
+            left = previous;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static byte[] deriveKey(String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Arrays.copyOf(mac.doFinal("coupon-code-feistel".getBytes(StandardCharsets.UTF_8)), 16);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("순열 키 파생에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * AES 기반 라운드 함수 (스레드별 Cipher와 버퍼 재사용)
+     */
+    private static final class RoundFunction {
+        private final Cipher cipher;
+        private final byte[] input = new byte[16];
+        private final byte[] output = new byte[16];
+
+        private RoundFunction(SecretKeySpec key) {
+            try {
+                this.cipher = Cipher.getInstance("AES/ECB/NoPadding");
+                this.cipher.init(Cipher.ENCRYPT_MODE, key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("라운드 함수 초기화에 실패했습니다", e);
+            }
+        }
+
+        private long apply(int round, long half) {
+            input[0] = (byte) round;
+            input[1] = (byte) (half >>> 24);
+            input[2] = (byte) (half >>> 16);
+            input[3] = (byte) (half >>> 8);
+            input[4] = (byte) half;
+            try {
+                cipher.doFinal(input, 0, 16, output, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("라운드 함수 실행에 실패했습니다", e);
+            }
+            return (((output[0] & 0xFFL) << 24) | ((output[1] & 0xFFL) << 16)
+                    | ((output[2] & 0xFFL) << 8) | (output[3] & 0xFFL)) & HALF_MASK;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.teambind.coupon.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 순열 기반 쿠폰 코드 생성기
+ * 미리 예약한 일련번호 구간을 Feistel 순열로 변환하므로 구간이 겹치지 않는 한 중복이 발생하지 않음
+ * 일련번호 구간 예약은 호출자(CouponCodeService)가 CouponCodeSequencePort로 수행
+ */
+@Slf4j
+@Component
+public class PermutationCodeGenerator {
+
+    private static final int GROUP_SIZE = 4;
+    private static final int FORMATTED_LENGTH = CodeEncoding.groupedLength(FeistelCodePermutation.CODE_LENGTH, GROUP_SIZE);
+
+    private final FeistelCodePermutation permutation;
+
+    public PermutationCodeGenerator(@Value("${coupon.code.secret}") String secret) {
+        this.permutation = new FeistelCodePermutation(secret);
+    }
+
+    /**
+     * 일련번호 구간의 쿠폰 코드 생성
+     *
+     * @param startIndex 시작 일련번호
+     * @param count      생성할 개수
+     * @param prefix     프리픽스 (선택)
+     * @return 생성된 쿠폰 코드 배열 (일련번호 순서, XXXX-XXXX-XXXX 또는 PREFIX-XXXX-XXXX-XXXX)
+     */
+    public String[] generateRange(long startIndex, int count, String prefix) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("생성 개수는 1 이상이어야 합니다");
+        }
+        String[] codes = new String[count];
+        generateRange(startIndex, count, prefix, codes, 0);
+
+        log.info("순열 쿠폰 코드 {} 개 생성 완료 - start: {}", count, startIndex);
+        return codes;
+    }
+
+    /**
+     * 일련번호 구간의 쿠폰 코드를 주어진 배열에 생성 (병렬 생성 시 구간별 호출용)
+     *
+     * @param startIndex 시작 일련번호
+     * @param count      생성할 개수
+     * @param prefix     프리픽스 (선택)
+     * @param dest       코드를 담을 배열
+     * @param offset     배열 시작 위치
+     */
+    public void generateRange(long startIndex, int count, String prefix, String[] dest, int offset) {
+        if (startIndex < 0 || startIndex + count > FeistelCodePermutation.DOMAIN_SIZE) {
+            throw new IllegalArgumentException("일련번호 범위를 벗어났습니다: " + startIndex);
+        }
+
+        // 프리픽스와 구분자는 한 번만 쓰고, 코드마다 순열 결과만 버퍼에 덮어씀
+        int prefixLength = prefix != null && !prefix.isEmpty() ? CodeEncoding.normalizedLength(prefix) : 0;
+        int codeStart = prefixLength > 0 ? prefixLength + 1 : 0;
+        char[] buffer = new char[codeStart + FORMATTED_LENGTH + FeistelCodePermutation.CODE_LENGTH];
+        if (prefixLength > 0) {
+            CodeEncoding.writeNormalized(prefix, buffer, 0);
+            buffer[prefixLength] = '-';
+        }
+        int scratch = codeStart + FORMATTED_LENGTH;
+
+        for (int i = 0; i < count; i++) {
+            permutation.encodeTo(startIndex + i, buffer, scratch);
+            CodeEncoding.writeGrouped(buffer, scratch, FeistelCodePermutation.CODE_LENGTH, GROUP_SIZE, buffer, codeStart);
+            dest[offset + i] = new String(buffer, 0, codeStart + FORMATTED_LENGTH);
+        }
+    }
+
+    /**
+     * 쿠폰 코드의 일련번호 조회
+     *
+     * @param code 쿠폰 코드 (프리픽스/구분자 포함 가능)
+     * @return 일련번호 (이 생성기로 만들 수 없는 형식이면 -1)
+     */
+    public long indexOf(String code) {
+        if (code == null) {
+            return -1;
+        }
+        String clean = code.replace("-", "");
+        if (clean.length() < FeistelCodePermutation.CODE_LENGTH) {
+            return -1;
+        }
+        return permutation.decode(clean.substring(clean.length() - FeistelCodePermutation.CODE_LENGTH));
+    }
+}
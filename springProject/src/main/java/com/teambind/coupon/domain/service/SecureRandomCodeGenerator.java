@@ -1,77 +1,57 @@
 package com.teambind.coupon.domain.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
-import java.time.Instant;
-import java.util.Base64;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * 보안 강화 랜덤 쿠폰 코드 생성기
- * HMAC과 SecureRandom을 조합하여 예측 불가능한 쿠폰 코드 생성
+ * SecureRandom으로 만든 12자리 본문 뒤에 HMAC 태그 4자리를 붙여
+ * 조회 없이 CouponCodeAuthenticator로 진위를 확인할 수 있는 쿠폰 코드 생성
+ * 스레드별 버퍼에서 조립하므로 코드당 할당은 결과 String 하나
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SecureRandomCodeGenerator implements CouponCodeGenerator {
 
-    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
-    private static final String ALGORITHM = "HmacSHA256";
-    private static final String SECRET_KEY = "CouponSecretKey2024!@#"; // 실제로는 설정 파일에서 관리
-    private static final int CODE_LENGTH = 16;
+    private static final int CODE_LENGTH = CouponCodeAuthenticator.BODY_LENGTH + CouponCodeAuthenticator.TAG_LENGTH;
+    private static final int GROUP_SIZE = 4;
+
+    // 스레드별 조립 버퍼 (앞쪽은 본문+태그, 뒤쪽은 출력 영역)
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+    private final CouponCodeAuthenticator authenticator;
 
     @Override
     public String generate() {
-        try {
-            // 1. 랜덤 바이트 생성
-            byte[] randomBytes = new byte[16];
-            SECURE_RANDOM.nextBytes(randomBytes);
-
-            // 2. 타임스탬프 추가
-            long timestamp = Instant.now().toEpochMilli();
-            String input = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes) + timestamp;
-
-            // 3. HMAC 생성
-            Mac mac = Mac.getInstance(ALGORITHM);
-            SecretKeySpec secretKeySpec = new SecretKeySpec(
-                    SECRET_KEY.getBytes(StandardCharsets.UTF_8), ALGORITHM);
-            mac.init(secretKeySpec);
-
-            byte[] hmacBytes = mac.doFinal(input.getBytes(StandardCharsets.UTF_8));
-
-            // 4. Base64 인코딩 후 URL-safe 변환
-            String code = Base64.getUrlEncoder()
-                    .withoutPadding()
-                    .encodeToString(hmacBytes)
-                    .substring(0, CODE_LENGTH)
-                    .toUpperCase();
-
-            return formatSecureCode(code);
-
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            log.error("보안 코드 생성 실패", e);
-            throw new RuntimeException("쿠폰 코드 생성 중 오류가 발생했습니다", e);
-        }
+        return generate(null);
     }
 
     @Override
     public String generate(String prefix) {
-        if (prefix == null || prefix.isEmpty()) {
-            return generate();
+        boolean hasPrefix = prefix != null && !prefix.isEmpty();
+        int prefixLength = hasPrefix ? CodeEncoding.normalizedLength(prefix) + 1 : 0;
+        char[] buffer = CodeEncoding.buffer(BUFFER,
+                CODE_LENGTH + prefixLength + CodeEncoding.groupedLength(CODE_LENGTH, GROUP_SIZE));
+
+        // 1. 랜덤 본문 생성 (60비트, 문자당 5비트)
+        CodeEncoding.fillRandomBase32(buffer, 0, CouponCodeAuthenticator.BODY_LENGTH);
+
+        // 2. 본문 HMAC 태그 추가
+        authenticator.writeTag(buffer, 0, buffer, CouponCodeAuthenticator.BODY_LENGTH);
+
+        // 3. [PREFIX:]XXXX-XXXX-XXXX-XXXX 형식으로 조립
+        int position = CODE_LENGTH;
+        if (hasPrefix) {
+            position = CodeEncoding.writeNormalized(prefix, buffer, position);
+            buffer[position++] = ':';
         }
-
-        String normalizedPrefix = prefix.toUpperCase().replaceAll("[^A-Z0-9]", "");
-        String secureCode = generate();
-
-        // 프리픽스와 보안 코드 조합
-        return String.format("%s:%s", normalizedPrefix, secureCode);
+        position = CodeEncoding.writeGrouped(buffer, 0, CODE_LENGTH, GROUP_SIZE, buffer, position);
+        return new String(buffer, CODE_LENGTH, position - CODE_LENGTH);
     }
 
     @Override
@@ -98,23 +78,4 @@ public class SecureRandomCodeGenerator implements CouponCodeGenerator {
     public GeneratorType getType() {
         return GeneratorType.SECURE_RANDOM;
     }
-
-    /**
-     * 보안 코드 포맷팅
-     * XXXX-XXXX-XXXX-XXXX 형식
-     *
-     * @param code 원본 코드
-     * @return 포맷된 코드
-     */
-    private String formatSecureCode(String code) {
-        if (code == null || code.length() != CODE_LENGTH) {
-            return code;
-        }
-
-        return String.format("%s-%s-%s-%s",
-                code.substring(0, 4),
-                code.substring(4, 8),
-                code.substring(8, 12),
-                code.substring(12, 16));
-    }
-}
\ No newline at end of file
+}
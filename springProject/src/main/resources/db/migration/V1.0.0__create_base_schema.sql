@@ -0,0 +1,53 @@
+-- 기본 스키마
+-- 스키마는 Flyway 마이그레이션(db/migration)으로만 관리한다 (spring.jpa.hibernate.ddl-auto: none).
+-- coupon_issues는 V1.0.2에서 파티션 테이블로 생성하므로 여기서 만들지 않는다.
+--
+-- 기존에 Hibernate ddl-auto로 스키마를 만든 DB는 spring.flyway.baseline-on-migrate로
+-- 이 버전을 기준점(baseline)으로 등록하고 V1.0.1부터 적용한다.
+CREATE TABLE IF NOT EXISTS coupon_policies (
+    id                    BIGINT         NOT NULL,
+    coupon_name           VARCHAR(100)   NOT NULL,
+    coupon_code           VARCHAR(50),
+    description           VARCHAR(500),
+    discount_type         VARCHAR(20)    NOT NULL,
+    discount_value        NUMERIC(10, 2) NOT NULL,
+    max_discount_amount   NUMERIC(10, 2),
+    minimum_order_amount  NUMERIC(10, 2),
+    applicable_rule       JSONB,
+    distribution_type     VARCHAR(20)    NOT NULL,
+    valid_from            TIMESTAMP      NOT NULL,
+    valid_until           TIMESTAMP      NOT NULL,
+    max_issue_count       INTEGER,
+    max_usage_per_user    INTEGER,
+    current_issue_count   INTEGER        DEFAULT 0,
+    is_active             BOOLEAN        NOT NULL DEFAULT TRUE,
+    created_by            BIGINT,
+    version               BIGINT,
+    created_at            TIMESTAMP      NOT NULL,
+    updated_at            TIMESTAMP,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_coupon_policies_code UNIQUE (coupon_code)
+);
+
+CREATE INDEX IF NOT EXISTS idx_coupon_code ON coupon_policies (coupon_code);
+CREATE INDEX IF NOT EXISTS idx_valid_period ON coupon_policies (valid_from, valid_until);
+CREATE INDEX IF NOT EXISTS idx_is_active ON coupon_policies (is_active);
+
+CREATE TABLE IF NOT EXISTS coupon_reservations (
+    reservation_id   VARCHAR(255)   NOT NULL,
+    coupon_id        BIGINT         NOT NULL,
+    user_id          BIGINT         NOT NULL,
+    order_id         VARCHAR(255),
+    order_amount     NUMERIC(10, 2) NOT NULL,
+    discount_amount  NUMERIC(10, 2) NOT NULL,
+    reserved_at      TIMESTAMP      NOT NULL,
+    expires_at       TIMESTAMP      NOT NULL,
+    status           VARCHAR(20)    NOT NULL,
+    lock_value       VARCHAR(255),
+    created_at       TIMESTAMP,
+    updated_at       TIMESTAMP,
+    PRIMARY KEY (reservation_id)
+);
+
+COMMENT ON TABLE coupon_policies IS '쿠폰 정책';
+COMMENT ON TABLE coupon_reservations IS '쿠폰 예약';
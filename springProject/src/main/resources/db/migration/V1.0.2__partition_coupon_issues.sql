@@ -0,0 +1,118 @@
+-- coupon_issues 월 단위 Range 파티셔닝 전환
+-- issued_at 기준으로 월별 파티션을 구성하여 오래된 USED/EXPIRED 데이터를
+-- 핫 파티션 잠금 없이 분리(DETACH CONCURRENTLY)할 수 있도록 한다.
+--
+-- 주의
+-- 1. 파티션 키(issued_at)가 포함되지 않은 UNIQUE 제약은 만들 수 없으므로
+--    PK는 (id, issued_at), reservation_id 유니크는 (reservation_id, issued_at)로 구성한다.
+-- 2. DETACH PARTITION CONCURRENTLY는 DEFAULT 파티션이 있으면 사용할 수 없으므로
+--    DEFAULT 파티션을 두지 않고 CouponIssuePartitionScheduler가 미래 파티션을 미리 생성한다.
+
+-- 월별 파티션 생성 함수 (이미 존재하면 무시)
+CREATE OR REPLACE FUNCTION create_coupon_issues_partition(target_month DATE)
+RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', target_month)::DATE;
+    month_end DATE := (date_trunc('month', target_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'coupon_issues_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF coupon_issues FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, month_end
+    );
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 콜드 스토리지 스키마 (분리된 파티션 보관용)
+CREATE SCHEMA IF NOT EXISTS coupon_archive;
+
+DO $$
+DECLARE
+    is_partitioned BOOLEAN;
+    min_month DATE;
+    cursor_month DATE;
+BEGIN
+    SELECT c.relkind = 'p' INTO is_partitioned
+    FROM pg_class c
+    JOIN pg_namespace n ON n.oid = c.relnamespace
+    WHERE c.relname = 'coupon_issues' AND n.nspname = current_schema();
+
+    IF is_partitioned THEN
+        RAISE NOTICE 'coupon_issues 테이블은 이미 파티션 테이블입니다';
+        RETURN;
+    END IF;
+
+    IF is_partitioned IS NOT NULL THEN
+        -- 인덱스/제약 이름 충돌을 피하기 위해 기존 테이블을 보관 스키마로 먼저 이동
+        ALTER TABLE coupon_issues RENAME TO coupon_issues_legacy;
+        ALTER TABLE coupon_issues_legacy SET SCHEMA coupon_archive;
+    END IF;
+
+    CREATE TABLE coupon_issues (
+        id                      BIGINT         NOT NULL,
+        policy_id               BIGINT         NOT NULL,
+        user_id                 BIGINT         NOT NULL,
+        status                  VARCHAR(20)    NOT NULL,
+        reservation_id          VARCHAR(255),
+        order_id                VARCHAR(255),
+        issued_at               TIMESTAMP      NOT NULL,
+        reserved_at             TIMESTAMP,
+        used_at                 TIMESTAMP,
+        expired_at              TIMESTAMP,
+        expires_at              TIMESTAMP,
+        actual_discount_amount  NUMERIC(10, 2),
+        coupon_name             VARCHAR(100),
+        discount_value          NUMERIC(10, 2),
+        discount_type           VARCHAR(20),
+        max_discount_amount     NUMERIC(10, 2),
+        min_order_amount        NUMERIC(10, 2),
+        version                 BIGINT,
+        created_at              TIMESTAMP      NOT NULL,
+        updated_at              TIMESTAMP,
+        PRIMARY KEY (id, issued_at),
+        CONSTRAINT uk_coupon_issues_reservation UNIQUE (reservation_id, issued_at)
+    ) PARTITION BY RANGE (issued_at);
+
+    -- 파티션 테이블 인덱스 (각 파티션에 자동 생성)
+    CREATE INDEX idx_user_status ON coupon_issues (user_id, status);
+    CREATE INDEX idx_user_active ON coupon_issues (user_id, expires_at);
+    CREATE INDEX idx_reservation ON coupon_issues (reservation_id);
+    CREATE INDEX idx_timeout_check ON coupon_issues (status, reserved_at);
+    CREATE INDEX idx_policy_id ON coupon_issues (policy_id);
+
+    -- 기존 데이터 범위 + 향후 3개월 파티션 생성
+    min_month := date_trunc('month', CURRENT_DATE)::DATE;
+    IF is_partitioned IS NOT NULL THEN
+        SELECT LEAST(min_month, COALESCE(date_trunc('month', MIN(issued_at))::DATE, min_month))
+        INTO min_month
+        FROM coupon_archive.coupon_issues_legacy;
+    END IF;
+
+    cursor_month := min_month;
+    WHILE cursor_month <= (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE LOOP
+        PERFORM create_coupon_issues_partition(cursor_month);
+        cursor_month := (cursor_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+
+    IF is_partitioned IS NOT NULL THEN
+        INSERT INTO coupon_issues (
+            id, policy_id, user_id, status, reservation_id, order_id,
+            issued_at, reserved_at, used_at, expired_at, expires_at,
+            actual_discount_amount, coupon_name, discount_value, discount_type,
+            max_discount_amount, min_order_amount, version, created_at, updated_at
+        )
+        SELECT
+            id, policy_id, user_id, status, reservation_id, order_id,
+            issued_at, reserved_at, used_at, expired_at, expires_at,
+            actual_discount_amount, coupon_name, discount_value, discount_type,
+            max_discount_amount, min_order_amount, version, created_at, updated_at
+        FROM coupon_archive.coupon_issues_legacy;
+
+        -- coupon_archive.coupon_issues_legacy는 검증 후 수동으로 삭제한다
+    END IF;
+END $$;
+
+COMMENT ON TABLE coupon_issues IS '발급 쿠폰 (issued_at 월 단위 Range 파티션)';
+COMMENT ON FUNCTION create_coupon_issues_partition(DATE) IS '월별 coupon_issues 파티션 생성';
+COMMENT ON SCHEMA coupon_archive IS '분리된 coupon_issues 파티션 보관 스키마';
@@ -0,0 +1,32 @@
+-- 종료 상태 쿠폰 보관 테이블
+-- USED/EXPIRED/CANCELLED 상태로 보관 기간이 지난 쿠폰을 coupon_issues에서 이동하여
+-- 핫 테이블 인덱스 크기를 유지한다. 정책 정보는 coupon_policies 조인으로 조회한다.
+CREATE TABLE IF NOT EXISTS coupon_issue_history (
+    id                      BIGINT         NOT NULL,
+    policy_id               BIGINT         NOT NULL,
+    user_id                 BIGINT         NOT NULL,
+    status                  VARCHAR(20)    NOT NULL,
+    order_id                VARCHAR(255),
+    issued_at               TIMESTAMP      NOT NULL,
+    used_at                 TIMESTAMP,
+    expired_at              TIMESTAMP,
+    expires_at              TIMESTAMP,
+    actual_discount_amount  NUMERIC(10, 2),
+    archived_at             TIMESTAMP      NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_history_user_id ON coupon_issue_history (user_id, id);
+
+-- 보관 작업 워터마크 (중단 시 마지막 처리 ID 이후부터 재개)
+CREATE TABLE IF NOT EXISTS coupon_archive_watermarks (
+    job_name           VARCHAR(64)  NOT NULL,
+    last_processed_id  BIGINT       NOT NULL,
+    updated_at         TIMESTAMP    NOT NULL,
+    PRIMARY KEY (job_name)
+);
+
+COMMENT ON TABLE coupon_issue_history IS '보관된 종료 상태 쿠폰 이력';
+COMMENT ON COLUMN coupon_issue_history.archived_at IS '보관 처리 일시';
+COMMENT ON TABLE coupon_archive_watermarks IS '쿠폰 보관 작업 워터마크';
+COMMENT ON COLUMN coupon_archive_watermarks.last_processed_id IS '마지막으로 처리한 coupon_issues ID';
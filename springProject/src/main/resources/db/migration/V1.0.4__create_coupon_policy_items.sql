@@ -0,0 +1,24 @@
+-- 쿠폰 정책 적용 가능 상품 정규화 테이블
+-- coupon_policies.applicable_rule->'applicableItemIds'를 행 단위로 펼쳐 저장하여
+-- 상품 필터 조회 시 jsonb_array_elements_text 전개 없이 PK/인덱스로 조회한다.
+-- 애플리케이션에서는 CouponPolicyEntity의 @PrePersist/@PreUpdate 한 곳에서만 동기화하며,
+-- 컬렉션을 교체하지 않고 바뀐 상품 행만 추가/삭제한다. (매퍼는 동기화하지 않음)
+CREATE TABLE IF NOT EXISTS coupon_policy_items (
+    policy_id  BIGINT  NOT NULL,
+    item_id    BIGINT  NOT NULL,
+    PRIMARY KEY (policy_id, item_id),
+    CONSTRAINT fk_policy_items_policy FOREIGN KEY (policy_id) REFERENCES coupon_policies (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_policy_items_item ON coupon_policy_items (item_id, policy_id);
+
+-- 기존 정책 백필
+INSERT INTO coupon_policy_items (policy_id, item_id)
+SELECT cp.id, item::BIGINT
+FROM coupon_policies cp
+CROSS JOIN LATERAL jsonb_array_elements_text(cp.applicable_rule->'applicableItemIds') AS item
+WHERE cp.applicable_rule IS NOT NULL
+    AND jsonb_typeof(cp.applicable_rule->'applicableItemIds') = 'array'
+ON CONFLICT DO NOTHING;
+
+COMMENT ON TABLE coupon_policy_items IS '쿠폰 정책별 적용 가능 상품 (applicable_rule 정규화)';
@@ -0,0 +1,37 @@
+-- 쿠폰 일별 통계 롤업
+-- coupon_issues/coupon_issue_history를 정책별 일자별로 집계한 coupon_statistics를
+-- ON CONFLICT (policy_id, date) upsert로 갱신한다. 일자 단위로 전부 다시 계산하므로 재실행해도 결과가 같다.
+CREATE TABLE IF NOT EXISTS coupon_statistics (
+    id                     BIGSERIAL      NOT NULL,
+    policy_id              BIGINT         NOT NULL,
+    date                   DATE           NOT NULL,
+    total_issued           INTEGER        NOT NULL DEFAULT 0,
+    total_used             INTEGER        NOT NULL DEFAULT 0,
+    total_expired          INTEGER        NOT NULL DEFAULT 0,
+    total_discount_amount  NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    hourly_usage           INTEGER[],
+    created_at             TIMESTAMP      NOT NULL,
+    updated_at             TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+-- upsert 충돌 대상 (엔티티의 @UniqueConstraint와 동일)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_coupon_statistics_policy_date ON coupon_statistics (policy_id, date);
+CREATE INDEX IF NOT EXISTS idx_date ON coupon_statistics (date);
+
+-- 사용/만료 일시 기준 구간 조회용 (발급 일시는 파티션 키로 프루닝)
+CREATE INDEX IF NOT EXISTS idx_coupon_issues_used_at ON coupon_issues (used_at) WHERE status = 'USED';
+CREATE INDEX IF NOT EXISTS idx_coupon_issues_expired_at ON coupon_issues (expired_at) WHERE status = 'EXPIRED';
+
+-- 롤업 작업 워터마크 (마지막으로 확정 집계한 일자)
+CREATE TABLE IF NOT EXISTS coupon_statistics_watermarks (
+    job_name             VARCHAR(64)  NOT NULL,
+    last_rolled_up_date  DATE         NOT NULL,
+    updated_at           TIMESTAMP    NOT NULL,
+    PRIMARY KEY (job_name)
+);
+
+COMMENT ON TABLE coupon_statistics IS '정책별 일별 쿠폰 통계';
+COMMENT ON COLUMN coupon_statistics.hourly_usage IS '시간대별 사용 건수 (0-23시)';
+COMMENT ON TABLE coupon_statistics_watermarks IS '쿠폰 통계 롤업 워터마크';
+COMMENT ON COLUMN coupon_statistics_watermarks.last_rolled_up_date IS '마지막으로 확정 집계한 일자';
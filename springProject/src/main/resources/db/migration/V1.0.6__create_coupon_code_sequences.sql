@@ -0,0 +1,12 @@
+-- 쿠폰 코드 일련번호
+-- 순열(Feistel) 코드 생성기가 겹치지 않는 일련번호 구간을 예약하는 카운터.
+-- 순열은 일대일 대응이므로 일련번호가 겹치지 않으면 코드도 겹치지 않는다. 값을 되돌리면 중복 코드가 생기므로 감소시키지 않는다.
+CREATE TABLE IF NOT EXISTS coupon_code_sequences (
+    name        VARCHAR(64)  NOT NULL,
+    next_value  BIGINT       NOT NULL,
+    updated_at  TIMESTAMP    NOT NULL,
+    PRIMARY KEY (name)
+);
+
+COMMENT ON TABLE coupon_code_sequences IS '쿠폰 코드 일련번호';
+COMMENT ON COLUMN coupon_code_sequences.next_value IS '다음에 예약할 일련번호';
@@ -0,0 +1,19 @@
+-- 1회용 쿠폰 코드 재고
+-- 수신자별 코드를 정책당 수백만 건 저장하므로 코드 원문 대신 키 기반 64비트 다이제스트(CouponCodeDigest)만 저장한다.
+-- 사용 처리는 status = 0 조건의 단일 UPDATE로 수행하여 같은 코드가 두 번 사용되지 않는다.
+CREATE TABLE IF NOT EXISTS coupon_codes (
+    code_hash    BIGINT     NOT NULL,
+    policy_id    BIGINT     NOT NULL,
+    status       SMALLINT   NOT NULL DEFAULT 0,
+    redeemed_by  BIGINT,
+    issue_id     BIGINT,
+    redeemed_at  TIMESTAMP,
+    PRIMARY KEY (code_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_coupon_codes_policy_status ON coupon_codes (policy_id, status);
+
+COMMENT ON TABLE coupon_codes IS '1회용 쿠폰 코드 재고';
+COMMENT ON COLUMN coupon_codes.code_hash IS '정규화한 코드의 HMAC-SHA256 상위 64비트';
+COMMENT ON COLUMN coupon_codes.status IS '0: 미사용, 1: 사용 완료';
+COMMENT ON COLUMN coupon_codes.issue_id IS '코드 사용으로 발급된 쿠폰 ID';
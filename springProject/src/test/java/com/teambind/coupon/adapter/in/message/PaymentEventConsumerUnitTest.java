@@ -88,6 +88,7 @@ class PaymentEventConsumerUnitTest {
             assertThat(capturedCommand.getOrderId()).isEqualTo("ORD-001");
             assertThat(capturedCommand.getReservationId()).isEqualTo(reservationId);
             assertThat(capturedCommand.getUserId()).isEqualTo(100L);
+            assertThat(capturedCommand.getPaymentAmount()).isEqualByComparingTo(new BigDecimal("50000"));
             assertThat(capturedCommand.getDiscountAmount()).isEqualByComparingTo(new BigDecimal("5000"));
 
             verify(acknowledgment).acknowledge();
@@ -0,0 +1,62 @@
+package com.teambind.coupon.adapter.in.web;
+
+import com.teambind.coupon.application.port.in.GenerateCouponCodesUseCase;
+import com.teambind.coupon.domain.exception.CouponDomainException;
+import com.teambind.coupon.domain.service.CouponCodeGenerator.GeneratorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CouponCodeGenerationController 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCodeGenerationController 단위 테스트")
+class CouponCodeGenerationControllerTest {
+
+    @InjectMocks
+    private CouponCodeGenerationController controller;
+
+    @Mock
+    private GenerateCouponCodesUseCase generateCouponCodesUseCase;
+
+    @Test
+    @DisplayName("허용 개수를 넘으면 스트리밍 시작 전에 거절")
+    void generateCodes_OverLimitRejectedBeforeStreaming() {
+        // given
+        doThrow(new CouponDomainException.InvalidRequest("생성 개수는 1~10000000 사이여야 합니다"))
+                .when(generateCouponCodesUseCase).validateStreamRequest(20_000_000);
+
+        // when & then
+        assertThatThrownBy(() -> controller.generateCodes(GeneratorType.PERMUTATION, 20_000_000, null, false))
+                .isInstanceOf(CouponDomainException.InvalidRequest.class);
+        verify(generateCouponCodesUseCase, never()).streamCodes(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("검증을 통과하면 스트리밍 본문 반환")
+    void generateCodes_Valid() {
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                controller.generateCodes(GeneratorType.PERMUTATION, 100, "SALE", false);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        verify(generateCouponCodesUseCase).validateStreamRequest(100);
+    }
+}
@@ -4,17 +4,20 @@ import com.teambind.coupon.adapter.in.web.dto.CouponIssueResponse;
 import com.teambind.coupon.adapter.in.web.dto.DirectIssueRequest;
 import com.teambind.coupon.adapter.in.web.dto.DirectIssueResponse;
 import com.teambind.coupon.adapter.in.web.dto.DownloadCouponRequest;
+import com.teambind.coupon.adapter.in.web.dto.RedeemCouponCodeRequest;
 import com.teambind.coupon.adapter.in.web.dto.ReserveCouponRequest;
 import com.teambind.coupon.adapter.in.web.dto.ReserveCouponResponse;
 import com.teambind.coupon.application.port.in.*;
 import com.teambind.coupon.application.port.in.DirectIssueCouponUseCase.DirectIssueResult;
 import com.teambind.coupon.application.port.in.ReserveCouponUseCase.CouponReservationResult;
 import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.exception.CouponDomainException;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponPolicy;
 import com.teambind.coupon.domain.model.CouponStatus;
 import com.teambind.coupon.domain.model.DiscountType;
 import com.teambind.coupon.domain.model.DistributionType;
+import com.teambind.coupon.domain.service.CouponCodeAuthenticator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +34,10 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -57,6 +63,12 @@ class CouponControllerUnitTest {
     @Mock
     private LoadCouponPolicyPort loadCouponPolicyPort;
 
+    @Mock
+    private CouponCodeAuthenticator couponCodeAuthenticator;
+
+    @Mock
+    private RedeemCouponCodeUseCase redeemCouponCodeUseCase;
+
     private DownloadCouponRequest downloadRequest;
     private ReserveCouponRequest reserveRequest;
     private DirectIssueRequest directIssueRequest;
@@ -67,7 +79,7 @@ class CouponControllerUnitTest {
     void setUp() {
         downloadRequest = new DownloadCouponRequest("TEST2024", 100L);
 
-        reserveRequest = new ReserveCouponRequest("RESV-123", 100L, 1L);
+        reserveRequest = new ReserveCouponRequest("RESV-123", 100L, 1L, null);
 
         directIssueRequest = DirectIssueRequest.builder()
                 .couponPolicyId(10L)
@@ -296,4 +308,56 @@ class CouponControllerUnitTest {
         assertThat(response.getBody().isValid()).isFalse();
         assertThat(response.getBody().getMessage()).isEqualTo("사용할 수 없는 쿠폰입니다");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("쿠폰 다운로드 - 위조 코드는 조회 없이 거절")
+    void downloadCoupon_ForgedCode() {
+        // given
+        when(couponCodeAuthenticator.isForged("TEST2024")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> couponController.downloadCoupon(downloadRequest))
+                .isInstanceOf(CouponDomainException.CouponNotFound.class);
+        verifyNoInteractions(downloadCouponUseCase, loadCouponPolicyPort);
+    }
+
+    @Test
+    @DisplayName("쿠폰 코드 유효성 검증 - 위조 코드는 조회 없이 무효")
+    void validateCouponCode_ForgedCode() {
+        // given
+        when(couponCodeAuthenticator.isForged("ABCD-EFGH-JKLM-NPQR")).thenReturn(true);
+
+        // when
+        ResponseEntity<CouponController.CouponValidationResponse> response =
+                couponController.validateCouponCode("ABCD-EFGH-JKLM-NPQR");
+
+        // then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().isValid()).isFalse();
+        verifyNoInteractions(loadCouponPolicyPort);
+    }
+
+    @Test
+    @DisplayName("1회용 코드 사용 - 4자리 prefix 코드도 서명 검증 없이 사용")
+    void redeemCouponCode_FourCharacterPrefix() {
+        // given - 서명 코드 형식(XXXX-XXXX-XXXX-XXXX)과 같은 모양의 1회용 코드
+        String code = "SALE-ABCD-EFGH-JKMN";
+        CouponIssue issued = CouponIssue.builder()
+                .id(1L)
+                .policyId(10L)
+                .userId(100L)
+                .status(CouponStatus.ISSUED)
+                .expiredAt(LocalDateTime.now().plusDays(30))
+                .build();
+        when(redeemCouponCodeUseCase.redeem(100L, code)).thenReturn(issued);
+
+        // when
+        ResponseEntity<CouponIssueResponse> response =
+                couponController.redeemCouponCode(new RedeemCouponCodeRequest(code, 100L));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        verify(redeemCouponCodeUseCase).redeem(100L, code);
+        verifyNoInteractions(couponCodeAuthenticator);
+    }
+}
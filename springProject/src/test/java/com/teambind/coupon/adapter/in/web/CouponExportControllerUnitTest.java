@@ -0,0 +1,141 @@
+package com.teambind.coupon.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.coupon.adapter.in.web.export.ExportFormat;
+import com.teambind.coupon.application.port.in.ExportCouponIssuesUseCase;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportFilter;
+import com.teambind.coupon.application.port.out.StreamCouponIssuesPort.ExportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponExportController 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponExportController 단위 테스트")
+class CouponExportControllerUnitTest {
+
+    @Mock
+    private ExportCouponIssuesUseCase exportCouponIssuesUseCase;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CouponExportController exportController;
+
+    private final ExportRow usedRow = ExportRow.builder()
+            .issueId(1L)
+            .policyId(10L)
+            .couponName("봄맞이, \"특가\" 쿠폰")
+            .couponCode("SPRING")
+            .discountType("AMOUNT")
+            .discountValue(new BigDecimal("1000.00"))
+            .userId(100L)
+            .status("USED")
+            .orderId("ORDER-1")
+            .issuedAt(LocalDateTime.of(2025, 3, 1, 9, 0))
+            .usedAt(LocalDateTime.of(2025, 3, 2, 14, 30))
+            .actualDiscountAmount(new BigDecimal("1000.00"))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        exportController = new CouponExportController(exportCouponIssuesUseCase, objectMapper);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 구분자/따옴표가 포함된 값은 이스케이프")
+    void exportCsv() throws IOException {
+        // given
+        stubRows(List.of(usedRow));
+
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                exportController.exportIssues(10L, null, null, null, ExportFormat.CSV, false, true);
+        String content = new String(writeBody(response), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("coupon-issues-10.csv");
+        String[] lines = content.substring(1).split("\r\n");
+        assertThat(content.charAt(0)).isEqualTo('\uFEFF');
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("issue_id,policy_id,coupon_name");
+        assertThat(lines[1]).isEqualTo("1,10,\"봄맞이, \"\"특가\"\" 쿠폰\",SPRING,AMOUNT,1000.00,100,USED,ORDER-1,"
+                + "2025-03-01T09:00,2025-03-02T14:30,,1000.00");
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 + gzip - 한 줄에 한 건")
+    void exportNdjsonGzip() throws IOException {
+        // given
+        stubRows(List.of(usedRow, usedRow));
+
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                exportController.exportIssues(10L, null, null, null, ExportFormat.NDJSON, true, true);
+        byte[] compressed = writeBody(response);
+
+        // then
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("coupon-issues-10.ndjson.gz");
+        String content;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode node = objectMapper.readTree(lines[0]);
+        assertThat(node.get("issueId").asLong()).isEqualTo(1L);
+        assertThat(node.get("couponName").asText()).isEqualTo("봄맞이, \"특가\" 쿠폰");
+        assertThat(node.get("expiredAt").isNull()).isTrue();
+        assertThat(node.get("usedAt").asText()).isEqualTo("2025-03-02T14:30");
+    }
+
+    @Test
+    @DisplayName("정책과 발급 기간이 모두 없으면 스트리밍 없이 400 응답")
+    void rejectUnboundedExport() {
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                exportController.exportIssues(null, null, LocalDateTime.now(), null, ExportFormat.CSV, false, true);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(exportCouponIssuesUseCase);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(List<ExportRow> rows) {
+        when(exportCouponIssuesUseCase.exportIssues(any(ExportFilter.class), any(Consumer.class)))
+                .thenAnswer(invocation -> {
+                    Consumer<ExportRow> sink = invocation.getArgument(1);
+                    rows.forEach(sink);
+                    return (long) rows.size();
+                });
+    }
+
+    private byte[] writeBody(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+}
@@ -2,7 +2,8 @@ package com.teambind.coupon.adapter.in.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teambind.coupon.adapter.in.web.dto.CouponQueryRequest;
-import com.teambind.coupon.adapter.in.web.dto.CouponQueryResponse;
+import com.teambind.coupon.application.dto.response.UserCouponPage;
+import com.teambind.coupon.application.dto.response.UserCouponView;
 import com.teambind.coupon.application.service.CouponQueryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,7 +46,7 @@ class CouponQueryControllerTest {
     private CouponQueryController couponQueryController;
 
     private Long userId;
-    private CouponQueryResponse mockResponse;
+    private UserCouponPage mockResponse;
 
     @BeforeEach
     void setUp() {
@@ -56,31 +57,30 @@ class CouponQueryControllerTest {
         userId = 100L;
 
         // Mock 응답 데이터 생성
-        CouponQueryResponse.CouponItem item1 = CouponQueryResponse.CouponItem.builder()
+        UserCouponView item1 = UserCouponView.builder()
                 .couponIssueId(1L)
                 .userId(userId)
                 .couponName("10% 할인 쿠폰")
                 .status("ISSUED")
                 .discountType("PERCENTAGE")
-                .isAvailable(true)
+                .available(true)
                 .remainingDays(30L)
                 .build();
 
-        CouponQueryResponse.CouponItem item2 = CouponQueryResponse.CouponItem.builder()
+        UserCouponView item2 = UserCouponView.builder()
                 .couponIssueId(2L)
                 .userId(userId)
                 .couponName("5000원 할인 쿠폰")
                 .status("ISSUED")
                 .discountType("FIXED")
-                .isAvailable(true)
+                .available(true)
                 .remainingDays(15L)
                 .build();
 
-        mockResponse = CouponQueryResponse.builder()
-                .data(Arrays.asList(item1, item2))
+        mockResponse = UserCouponPage.builder()
+                .items(Arrays.asList(item1, item2))
                 .nextCursor(2L)
                 .hasNext(true)
-                .count(2)
                 .build();
     }
 
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -148,4 +149,42 @@ class CouponPolicyEntityTest {
         assertThat(minimal.getCouponCode()).isNull();
         assertThat(minimal.getDescription()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("적용 상품 동기화 - 컬렉션을 교체하지 않고 바뀐 상품만 반영")
+    void syncApplicableItemsInPlace() {
+        // given
+        CouponPolicyEntity.ItemApplicableRuleJson rule = new CouponPolicyEntity.ItemApplicableRuleJson();
+        rule.setApplicableItemIds(List.of(100L, 200L));
+        entity.setApplicableRule(rule);
+        entity.syncApplicableItems();
+        Set<Long> items = entity.getApplicableItems();
+
+        // when
+        CouponPolicyEntity.ItemApplicableRuleJson changed = new CouponPolicyEntity.ItemApplicableRuleJson();
+        changed.setApplicableItemIds(List.of(200L, 300L));
+        entity.setApplicableRule(changed);
+        entity.syncApplicableItems();
+
+        // then
+        assertThat(entity.getApplicableItems()).isSameAs(items);
+        assertThat(entity.getApplicableItems()).containsExactlyInAnyOrder(200L, 300L);
+    }
+
+    @Test
+    @DisplayName("적용 상품 동기화 - 규칙이 없으면 비운다")
+    void syncApplicableItemsClearsWithoutRule() {
+        // given
+        CouponPolicyEntity.ItemApplicableRuleJson rule = new CouponPolicyEntity.ItemApplicableRuleJson();
+        rule.setApplicableItemIds(List.of(100L));
+        entity.setApplicableRule(rule);
+        entity.syncApplicableItems();
+
+        // when
+        entity.setApplicableRule(null);
+        entity.syncApplicableItems();
+
+        // then
+        assertThat(entity.getApplicableItems()).isEmpty();
+    }
+}
@@ -179,6 +179,7 @@ class CouponIssueMapperTest {
         assertThat(entity.getReservedAt()).isEqualTo(now.minusHours(3));
         assertThat(entity.getUsedAt()).isEqualTo(now.minusHours(1));
         assertThat(entity.getExpiredAt()).isEqualTo(now.plusDays(28));
+        assertThat(entity.getExpiresAt()).isEqualTo(now.plusDays(28));
         assertThat(entity.getActualDiscountAmount()).isEqualTo(new BigDecimal("3000"));
         assertThat(entity.getCouponName()).isEqualTo("할인 쿠폰");
 
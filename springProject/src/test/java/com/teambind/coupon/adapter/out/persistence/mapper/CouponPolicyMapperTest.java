@@ -152,9 +152,9 @@ class CouponPolicyMapperTest {
         CouponPolicy domain = mapper.toDomain(entity);
 
         // then
-        assertThat(domain.getApplicableRule()).isNotNull();
+        assertThat(domain.getApplicableRule()).isSameAs(ItemApplicableRule.ALL);
         assertThat(domain.getApplicableRule().isAllItemsApplicable()).isTrue();
-        assertThat(domain.getApplicableRule().getApplicableItemIds()).isNull();
+        assertThat(domain.getApplicableRule().getApplicableItemIds()).isEmpty();
     }
 
     @Test
@@ -0,0 +1,170 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponPolicyEntity;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.common.util.SnowflakeIdGenerator;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.DistributionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ID 기반 쿠폰 조회 통합 테스트
+ * issued_at이 Snowflake ID 생성 시각과 어긋난 행(이관 데이터 등)도 조회/수정되는지 실제 DB로 검증
+ */
+@SpringBootTest
+@Testcontainers
+@Transactional
+@DisplayName("쿠폰 ID 조회 범위 테스트")
+class CouponIssueIdLookupQueryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("coupon_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private LoadCouponIssuePort loadCouponIssuePort;
+
+    @Autowired
+    private SaveCouponIssuePort saveCouponIssuePort;
+
+    @Autowired
+    private CouponIssueRepository couponIssueRepository;
+
+    @Autowired
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long policyId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        policyId = couponPolicyRepository.save(CouponPolicyEntity.builder()
+                .id(41_000L)
+                .couponName("ID 조회 테스트 쿠폰")
+                .couponCode("ID_LOOKUP_TEST")
+                .discountType(DiscountType.AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .distributionType(DistributionType.CODE)
+                .validFrom(now.minusYears(1))
+                .validUntil(now.plusDays(30))
+                .maxIssueCount(100)
+                .maxUsagePerUser(10)
+                .isActive(true)
+                .createdBy(1L)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("issued_at이 ID 생성 시각과 다른 쿠폰도 단건 조회된다")
+    void loadsCouponIssuedOutsideIdRange() {
+        // given
+        Long issueId = saveMigratedIssue(LocalDateTime.now().minusMonths(3));
+
+        // when & then
+        assertThat(loadCouponIssuePort.loadById(issueId)).isPresent();
+        assertThat(loadCouponIssuePort.loadByIdAndUserId(issueId, 100L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("ID 범위 안팎의 쿠폰을 함께 다건 조회한다")
+    void loadsMixedCouponsByIds() {
+        // given
+        Long migratedId = saveMigratedIssue(LocalDateTime.now().minusMonths(3));
+        Long recentId = saveMigratedIssue(LocalDateTime.now());
+
+        // when
+        List<CouponIssue> loaded = loadCouponIssuePort.loadByIds(List.of(migratedId, recentId));
+
+        // then
+        assertThat(loaded).extracting(CouponIssue::getId)
+                .containsExactlyInAnyOrder(migratedId, recentId);
+    }
+
+    @Test
+    @DisplayName("issued_at이 ID 생성 시각과 다른 쿠폰도 일괄 상태 변경된다")
+    void updatesCouponIssuedOutsideIdRange() {
+        // given
+        Long issueId = saveMigratedIssue(LocalDateTime.now().minusMonths(3));
+
+        // when
+        int updated = saveCouponIssuePort.updateStatusBatch(
+                List.of(issueId), CouponStatus.EXPIRED, LocalDateTime.now());
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        entityManager.clear();
+        assertThat(loadCouponIssuePort.loadById(issueId))
+                .get()
+                .extracting(CouponIssue::getStatus)
+                .isEqualTo(CouponStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("이미 목표 상태인 쿠폰은 일괄 상태 변경에서 제외된다")
+    void skipsCouponAlreadyInTargetStatus() {
+        // given
+        Long expiredId = saveMigratedIssue(LocalDateTime.now().minusMonths(3));
+        Long issuedId = saveMigratedIssue(LocalDateTime.now());
+        saveCouponIssuePort.updateStatusBatch(List.of(expiredId), CouponStatus.EXPIRED, LocalDateTime.now());
+        entityManager.clear();
+
+        // when
+        int updated = saveCouponIssuePort.updateStatusBatch(
+                List.of(expiredId, issuedId), CouponStatus.EXPIRED, LocalDateTime.now());
+
+        // then
+        assertThat(updated).isEqualTo(1);
+    }
+
+    private Long saveMigratedIssue(LocalDateTime issuedAt) {
+        Long issueId = idGenerator.nextId();
+        couponIssueRepository.save(CouponIssueEntity.builder()
+                .id(issueId)
+                .policyId(policyId)
+                .userId(100L)
+                .status(CouponStatus.ISSUED)
+                .issuedAt(issuedAt)
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .couponName("ID 조회 테스트 쿠폰")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        return issueId;
+    }
+}
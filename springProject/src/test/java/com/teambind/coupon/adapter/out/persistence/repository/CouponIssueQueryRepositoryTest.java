@@ -32,6 +32,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("CouponIssueQueryRepository 통합 테스트")
 class CouponIssueQueryRepositoryTest {
 
+    private static final LocalDateTime ALL_PARTITIONS_FROM = LocalDateTime.of(2021, 1, 1, 0, 0);
+
     @Container
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
             .withDatabaseName("coupon_test")
@@ -79,7 +81,7 @@ class CouponIssueQueryRepositoryTest {
         void findFirstPage() {
             // when
             List<CouponIssueProjection> result = couponIssueQueryRepository.findUserCouponsWithCursor(
-                    userId, null, null, null, 3
+                    userId, null, null, null, ALL_PARTITIONS_FROM, 3
             );
 
             // then
@@ -93,13 +95,13 @@ class CouponIssueQueryRepositoryTest {
         void findNextPageWithCursor() {
             // given
             List<CouponIssueProjection> firstPage = couponIssueQueryRepository.findUserCouponsWithCursor(
-                    userId, null, null, null, 2
+                    userId, null, null, null, ALL_PARTITIONS_FROM, 2
             );
             Long cursor = firstPage.get(firstPage.size() - 1).getCouponIssueId();
 
             // when
             List<CouponIssueProjection> nextPage = couponIssueQueryRepository.findUserCouponsWithCursor(
-                    userId, null, null, cursor, 2
+                    userId, null, null, cursor, ALL_PARTITIONS_FROM, 2
             );
 
             // then
@@ -117,7 +119,7 @@ class CouponIssueQueryRepositoryTest {
         void filterByStatusIssued() {
             // when
             List<CouponIssueProjection> result = couponIssueQueryRepository.findUserCouponsWithCursor(
-                    userId, "ISSUED", null, null, 10
+                    userId, "ISSUED", null, null, ALL_PARTITIONS_FROM, 10
             );
 
             // then
@@ -129,7 +131,7 @@ class CouponIssueQueryRepositoryTest {
         void filterByStatusAvailable() {
             // when
             List<CouponIssueProjection> result = couponIssueQueryRepository.findUserCouponsWithCursor(
-                    userId, "AVAILABLE", null, null, 10
+                    userId, "AVAILABLE", null, null, ALL_PARTITIONS_FROM, 10
             );
 
             // then
@@ -145,7 +147,7 @@ class CouponIssueQueryRepositoryTest {
             // when
             String productIds = "{1,2}";  // PostgreSQL 배열 형식
             List<CouponIssueProjection> result = couponIssueQueryRepository.findUserCouponsWithCursor(
-                    userId, null, productIds, null, 10
+                    userId, null, productIds, null, ALL_PARTITIONS_FROM, 10
             );
 
             // then
@@ -158,7 +160,7 @@ class CouponIssueQueryRepositoryTest {
         void filterByMultipleConditions() {
             // when
             List<CouponIssueProjection> result = couponIssueQueryRepository.findUserCouponsWithCursor(
-                    userId, "ISSUED", "{1,2,3}", null, 10
+                    userId, "ISSUED", "{1,2,3}", null, ALL_PARTITIONS_FROM, 10
             );
 
             // then
@@ -189,7 +191,7 @@ class CouponIssueQueryRepositoryTest {
 
             // when
             List<CouponIssueProjection> result = couponIssueQueryRepository.findExpiringCoupons(
-                    userId, 7, 10
+                    userId, 7, ALL_PARTITIONS_FROM, 10
             );
 
             // then
@@ -207,7 +209,7 @@ class CouponIssueQueryRepositoryTest {
         @DisplayName("전체 쿠폰 개수 조회")
         void countAllCoupons() {
             // when
-            Long count = couponIssueQueryRepository.countUserCoupons(userId, null, null);
+            Long count = couponIssueQueryRepository.countUserCoupons(userId, null, null, ALL_PARTITIONS_FROM);
 
             // then
             assertThat(count).isGreaterThan(0);
@@ -217,8 +219,8 @@ class CouponIssueQueryRepositoryTest {
         @DisplayName("상태별 쿠폰 개수 조회")
         void countByStatus() {
             // when
-            Long issuedCount = couponIssueQueryRepository.countUserCoupons(userId, "ISSUED", null);
-            Long usedCount = couponIssueQueryRepository.countUserCoupons(userId, "USED", null);
+            Long issuedCount = couponIssueQueryRepository.countUserCoupons(userId, "ISSUED", null, ALL_PARTITIONS_FROM);
+            Long usedCount = couponIssueQueryRepository.countUserCoupons(userId, "USED", null, ALL_PARTITIONS_FROM);
 
             // then
             assertThat(issuedCount).isGreaterThanOrEqualTo(0);
@@ -0,0 +1,185 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponPolicyEntity;
+import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueProjection;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.DistributionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 필터 조회 성능 테스트
+ * coupon_policy_items 정규화 테이블 조회와 기존 jsonb_array_elements_text 전개 방식 비교
+ * 실행 시간 비교는 환경에 따라 흔들리므로 기본 test에서 제외
+ *
+ * 실행: ./gradlew benchmark --tests '*CouponPolicyItemsFilterPerformanceTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Testcontainers
+@Transactional
+@DisplayName("상품 필터 조회 성능 테스트")
+class CouponPolicyItemsFilterPerformanceTest {
+
+    private static final LocalDateTime ALL_PARTITIONS_FROM = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    private static final int POLICY_COUNT = 20;
+    private static final int ITEMS_PER_POLICY = 2000;
+    private static final int COUPONS_PER_POLICY = 10;
+    private static final int ITERATIONS = 50;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("coupon_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.properties.hibernate.jdbc.batch_size", () -> "1000");
+    }
+
+    @Autowired
+    private CouponIssueQueryRepository couponIssueQueryRepository;
+
+    @Autowired
+    private CouponIssueRepository couponIssueRepository;
+
+    @Autowired
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Long userId = 100L;
+
+    @BeforeEach
+    void setUp() {
+        long issueId = 1_000_000L;
+
+        for (int p = 0; p < POLICY_COUNT; p++) {
+            long firstItem = (long) p * ITEMS_PER_POLICY;
+            List<Long> itemIds = LongStream.range(firstItem, firstItem + ITEMS_PER_POLICY).boxed().toList();
+            CouponPolicyEntity policy = couponPolicyRepository.save(createPolicy(p, itemIds));
+
+            for (int c = 0; c < COUPONS_PER_POLICY; c++) {
+                couponIssueRepository.save(CouponIssueEntity.builder()
+                        .id(issueId++)
+                        .userId(userId)
+                        .policyId(policy.getId())
+                        .status(CouponStatus.ISSUED)
+                        .issuedAt(LocalDateTime.now().minusDays(1))
+                        .expiresAt(LocalDateTime.now().plusDays(30))
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    @Test
+    @DisplayName("수천 개 상품이 등록된 정책에서 상품 필터 조회")
+    void productFilter_performanceTest() {
+        // given - 마지막 정책의 마지막 상품 (JSON 전개 시 가장 늦게 매칭)
+        long lastItem = (long) POLICY_COUNT * ITEMS_PER_POLICY - 1;
+        String productIds = "{" + lastItem + ",999999999}";
+
+        // warm-up
+        for (int i = 0; i < 5; i++) {
+            couponIssueQueryRepository.findUserCouponsWithCursor(userId, null, productIds, null, ALL_PARTITIONS_FROM, 100);
+            legacyJsonbQuery(productIds);
+        }
+
+        // when
+        long indexStart = System.nanoTime();
+        List<CouponIssueProjection> indexed = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            indexed = couponIssueQueryRepository.findUserCouponsWithCursor(userId, null, productIds, null, ALL_PARTITIONS_FROM, 100);
+        }
+        long indexElapsed = (System.nanoTime() - indexStart) / ITERATIONS;
+
+        long jsonbStart = System.nanoTime();
+        List<?> legacy = List.of();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacy = legacyJsonbQuery(productIds);
+        }
+        long jsonbElapsed = (System.nanoTime() - jsonbStart) / ITERATIONS;
+
+        // then
+        System.out.println("=== 상품 필터 조회 성능 (정책 " + POLICY_COUNT + "개 x 상품 " + ITEMS_PER_POLICY + "개) ===");
+        System.out.println("coupon_policy_items 조회 평균: " + indexElapsed / 1_000 + "us");
+        System.out.println("jsonb_array_elements_text 조회 평균: " + jsonbElapsed / 1_000 + "us");
+
+        assertThat(indexed).hasSize(COUPONS_PER_POLICY);
+        assertThat(legacy).hasSize(COUPONS_PER_POLICY);
+        assertThat(indexElapsed / 1_000_000).isLessThan(100); // 100ms 이내
+    }
+
+    private List<?> legacyJsonbQuery(String productIds) {
+        return entityManager.createNativeQuery("""
+                SELECT ci.id
+                FROM coupon_issues ci
+                INNER JOIN coupon_policies cp ON ci.policy_id = cp.id
+                WHERE ci.user_id = :userId
+                    AND EXISTS (
+                        SELECT 1 FROM jsonb_array_elements_text(cp.applicable_rule->'applicableItemIds') AS item
+                        WHERE item::bigint = ANY(CAST(:productIds AS bigint[]))
+                    )
+                ORDER BY ci.id DESC
+                LIMIT 100
+                """)
+                .setParameter("userId", userId)
+                .setParameter("productIds", productIds)
+                .getResultList();
+    }
+
+    private CouponPolicyEntity createPolicy(int index, List<Long> itemIds) {
+        return CouponPolicyEntity.builder()
+                .id(10_000L + index)
+                .couponName("성능 테스트 쿠폰 " + index)
+                .couponCode("PERF_" + index)
+                .description("성능 테스트")
+                .discountType(DiscountType.PERCENTAGE)
+                .discountValue(BigDecimal.TEN)
+                .minimumOrderAmount(BigDecimal.valueOf(10000))
+                .maxDiscountAmount(BigDecimal.valueOf(5000))
+                .applicableRule(CouponPolicyEntity.ItemApplicableRuleJson.builder()
+                        .allItemsApplicable(false)
+                        .applicableItemIds(itemIds)
+                        .build())
+                .distributionType(DistributionType.CODE)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(30))
+                .maxIssueCount(1000)
+                .maxUsagePerUser(100)
+                .isActive(true)
+                .createdBy(1L)
+                .build();
+    }
+}
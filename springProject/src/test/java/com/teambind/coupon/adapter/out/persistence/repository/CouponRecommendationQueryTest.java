@@ -0,0 +1,121 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponPolicyEntity;
+import com.teambind.coupon.application.port.in.RecommendCouponsCommand;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase.CouponRecommendationResult;
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.common.util.SnowflakeIdGenerator;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.DistributionType;
+import com.teambind.coupon.domain.model.OrderCart;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발급 → 추천 통합 테스트
+ * 발급 저장 경로가 사용 가능 쿠폰 조회 조건(만료 예정 시각)을 채우는지 실제 DB로 검증
+ */
+@SpringBootTest
+@Testcontainers
+@Transactional
+@DisplayName("쿠폰 발급 후 추천 조회 테스트")
+class CouponRecommendationQueryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("coupon_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private RecommendCouponsUseCase recommendCouponsUseCase;
+
+    @Autowired
+    private SaveCouponIssuePort saveCouponIssuePort;
+
+    @Autowired
+    private LoadCouponPolicyPort loadCouponPolicyPort;
+
+    @Autowired
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CouponPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Long policyId = couponPolicyRepository.save(CouponPolicyEntity.builder()
+                .id(40_000L)
+                .couponName("추천 테스트 쿠폰")
+                .couponCode("RECOMMEND_TEST")
+                .discountType(DiscountType.AMOUNT)
+                .discountValue(BigDecimal.valueOf(3000))
+                .applicableRule(CouponPolicyEntity.ItemApplicableRuleJson.builder()
+                        .allItemsApplicable(true)
+                        .build())
+                .distributionType(DistributionType.CODE)
+                .validFrom(now.minusDays(1))
+                .validUntil(now.plusDays(30))
+                .maxIssueCount(100)
+                .maxUsagePerUser(10)
+                .isActive(true)
+                .createdBy(1L)
+                .build()).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+        policy = loadCouponPolicyPort.loadById(policyId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("발급한 쿠폰이 사용 가능 쿠폰으로 조회되어 추천된다")
+    void issuedCouponIsRecommended() {
+        // given
+        CouponIssue issued = saveCouponIssuePort.save(policy.issueTo(idGenerator.nextId(), 100L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        CouponRecommendationResult result = recommendCouponsUseCase.recommend(RecommendCouponsCommand.of(
+                100L, List.of(new OrderCart.Line(1L, BigDecimal.valueOf(20000))), 5));
+
+        // then
+        assertThat(result.getEvaluatedCoupons()).isEqualTo(1);
+        assertThat(result.getRecommendations()).hasSize(1);
+        assertThat(result.getRecommendations().get(0).getCouponIssueId()).isEqualTo(issued.getId());
+        assertThat(result.getRecommendations().get(0).getDiscountAmount()).isEqualByComparingTo("3000");
+    }
+}
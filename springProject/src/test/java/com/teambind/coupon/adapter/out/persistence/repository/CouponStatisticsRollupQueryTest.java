@@ -0,0 +1,153 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueHistoryEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponPolicyEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponStatisticsEntity;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.DistributionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 통계 롤업 upsert 쿼리 통합 테스트
+ */
+@SpringBootTest
+@Testcontainers
+@Transactional
+@DisplayName("일별 통계 롤업 쿼리 테스트")
+class CouponStatisticsRollupQueryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("coupon_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private CouponStatisticsRepository statisticsRepository;
+
+    @Autowired
+    private CouponIssueRepository couponIssueRepository;
+
+    @Autowired
+    private CouponIssueHistoryRepository couponIssueHistoryRepository;
+
+    @Autowired
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate day = LocalDate.of(2025, 3, 10);
+    private Long policyId;
+
+    @BeforeEach
+    void setUp() {
+        policyId = couponPolicyRepository.save(CouponPolicyEntity.builder()
+                .id(30_000L)
+                .couponName("롤업 테스트 쿠폰")
+                .couponCode("ROLLUP_TEST")
+                .discountType(DiscountType.AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .distributionType(DistributionType.CODE)
+                .validFrom(day.minusDays(30).atStartOfDay())
+                .validUntil(day.plusDays(30).atStartOfDay())
+                .maxIssueCount(100)
+                .maxUsagePerUser(10)
+                .isActive(true)
+                .createdBy(1L)
+                .build()).getId();
+
+        LocalDateTime base = day.atStartOfDay();
+        saveIssue(1L, CouponStatus.ISSUED, base.plusHours(9), null, null, null);
+        saveIssue(2L, CouponStatus.USED, base.plusHours(9), base.plusHours(14), null, BigDecimal.valueOf(1000));
+        saveIssue(3L, CouponStatus.USED, base.minusDays(1), base.plusHours(14), null, BigDecimal.valueOf(500));
+        saveIssue(4L, CouponStatus.EXPIRED, base.minusDays(5), null, base.plusHours(1), null);
+
+        // 보관 이력 (당일 사용)
+        couponIssueHistoryRepository.save(CouponIssueHistoryEntity.builder()
+                .id(5L)
+                .policyId(policyId)
+                .userId(100L)
+                .status(CouponStatus.USED)
+                .issuedAt(base.minusDays(100))
+                .usedAt(base.plusHours(20))
+                .actualDiscountAmount(BigDecimal.valueOf(2000))
+                .archivedAt(base.plusHours(21))
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("발급/사용/만료를 각 발생 일자 기준으로 집계하고 보관 이력까지 포함한다")
+    void rollupDay() {
+        // when
+        statisticsRepository.upsertDailyRollup(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+
+        // then
+        CouponStatisticsEntity stats = statisticsRepository.findByPolicyIdAndDate(policyId, day).orElseThrow();
+        assertThat(stats.getTotalIssued()).isEqualTo(2);
+        assertThat(stats.getTotalUsed()).isEqualTo(3);
+        assertThat(stats.getTotalExpired()).isEqualTo(1);
+        assertThat(stats.getTotalDiscountAmount()).isEqualByComparingTo("3500");
+        assertThat(stats.getHourlyUsage()).hasSize(24);
+        assertThat(stats.getHourlyUsage()[14]).isEqualTo(2);
+        assertThat(stats.getHourlyUsage()[20]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 구간을 다시 집계해도 결과가 같다")
+    void rollupIsIdempotent() {
+        // when
+        statisticsRepository.upsertDailyRollup(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        statisticsRepository.upsertDailyRollup(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        entityManager.clear();
+
+        // then
+        assertThat(statisticsRepository.findByPolicyIdAndDateRange(policyId, day, day)).hasSize(1);
+        CouponStatisticsEntity stats = statisticsRepository.findByPolicyIdAndDate(policyId, day).orElseThrow();
+        assertThat(stats.getTotalUsed()).isEqualTo(3);
+    }
+
+    private void saveIssue(Long id, CouponStatus status, LocalDateTime issuedAt, LocalDateTime usedAt,
+                           LocalDateTime expiredAt, BigDecimal discount) {
+        couponIssueRepository.save(CouponIssueEntity.builder()
+                .id(id)
+                .userId(100L)
+                .policyId(policyId)
+                .status(status)
+                .issuedAt(issuedAt)
+                .usedAt(usedAt)
+                .expiredAt(expiredAt)
+                .expiresAt(day.plusDays(30).atStartOfDay())
+                .actualDiscountAmount(discount)
+                .build());
+    }
+}
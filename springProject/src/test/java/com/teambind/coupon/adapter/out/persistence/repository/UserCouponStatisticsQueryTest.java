@@ -0,0 +1,178 @@
+package com.teambind.coupon.adapter.out.persistence.repository;
+
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueHistoryEntity;
+import com.teambind.coupon.adapter.out.persistence.entity.CouponPolicyEntity;
+import com.teambind.coupon.application.port.in.QueryUserCouponsUseCase;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort.UserCouponCounts;
+import com.teambind.coupon.application.service.CouponQueryService;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.DistributionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유저 쿠폰 통계 단일 쿼리 집계 통합 테스트
+ * Hibernate Statistics로 통계 요청당 실행되는 SQL 문 수를 검증
+ */
+@SpringBootTest
+@Testcontainers
+@Transactional
+@DisplayName("유저 쿠폰 통계 단일 쿼리 집계 테스트")
+class UserCouponStatisticsQueryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("coupon_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("coupon.wallet.cache-enabled", () -> "false");
+    }
+
+    @Autowired
+    private LoadCouponIssuePort loadCouponIssuePort;
+
+    @Autowired
+    private CouponQueryService couponQueryService;
+
+    @Autowired
+    private CouponIssueRepository couponIssueRepository;
+
+    @Autowired
+    private CouponIssueHistoryRepository couponIssueHistoryRepository;
+
+    @Autowired
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Long userId = 100L;
+
+    @BeforeEach
+    void setUp() {
+        CouponPolicyEntity policy = couponPolicyRepository.save(CouponPolicyEntity.builder()
+                .id(20_000L)
+                .couponName("통계 테스트 쿠폰")
+                .couponCode("STATS_TEST")
+                .discountType(DiscountType.AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .distributionType(DistributionType.CODE)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(30))
+                .maxIssueCount(100)
+                .maxUsagePerUser(10)
+                .isActive(true)
+                .createdBy(1L)
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        saveIssue(1L, policy.getId(), CouponStatus.ISSUED, now.plusDays(3));   // 만료 임박
+        saveIssue(2L, policy.getId(), CouponStatus.ISSUED, now.plusDays(30));
+        saveIssue(3L, policy.getId(), CouponStatus.ISSUED, now.minusDays(1));  // 만료 처리 전
+        saveIssue(4L, policy.getId(), CouponStatus.RESERVED, now.plusDays(30));
+        saveIssue(5L, policy.getId(), CouponStatus.USED, now.plusDays(30));
+
+        // 보관된 이력
+        couponIssueHistoryRepository.save(CouponIssueHistoryEntity.builder()
+                .id(6L)
+                .policyId(policy.getId())
+                .userId(userId)
+                .status(CouponStatus.EXPIRED)
+                .issuedAt(now.minusDays(200))
+                .expiresAt(now.minusDays(170))
+                .expiredAt(now.minusDays(170))
+                .archivedAt(now.minusDays(10))
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("상태별 개수와 만료 임박 개수를 보관 이력까지 포함하여 집계")
+    void countUserCoupons() {
+        // when
+        UserCouponCounts counts = loadCouponIssuePort.countUserCoupons(userId, 7);
+
+        // then
+        assertThat(counts.count(CouponStatus.ISSUED)).isEqualTo(3L);
+        assertThat(counts.count(CouponStatus.RESERVED)).isEqualTo(1L);
+        assertThat(counts.count(CouponStatus.USED)).isEqualTo(1L);
+        assertThat(counts.count(CouponStatus.EXPIRED)).isEqualTo(1L);
+        assertThat(counts.count(CouponStatus.CANCELLED)).isZero();
+        assertThat(counts.totalCount()).isEqualTo(6L);
+        assertThat(counts.getAvailableCount()).isEqualTo(2L);
+        assertThat(counts.getExpiringCount()).isEqualTo(1L);
+        assertThat(counts.getFirstIssuedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("통계 요청당 SQL 문은 한 번만 실행")
+    void singleStatementPerStatisticsRequest() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        QueryUserCouponsUseCase.CouponStatistics result = couponQueryService.getCouponStatistics(userId);
+
+        // then
+        assertThat(result.getTotalCoupons()).isEqualTo(6L);
+        assertThat(result.getExpiringCoupons()).isEqualTo(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("쿠폰이 없는 유저도 0으로 채워진 결과 반환")
+    void emptyUser() {
+        // when
+        UserCouponCounts counts = loadCouponIssuePort.countUserCoupons(999L, 7);
+
+        // then
+        assertThat(counts.totalCount()).isZero();
+        assertThat(counts.getAvailableCount()).isZero();
+        assertThat(counts.getFirstIssuedAt()).isNull();
+    }
+
+    private void saveIssue(Long id, Long policyId, CouponStatus status, LocalDateTime expiresAt) {
+        couponIssueRepository.save(CouponIssueEntity.builder()
+                .id(id)
+                .userId(userId)
+                .policyId(policyId)
+                .status(status)
+                .issuedAt(LocalDateTime.now().minusDays(1))
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
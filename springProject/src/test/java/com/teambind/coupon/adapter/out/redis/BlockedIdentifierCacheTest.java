@@ -0,0 +1,139 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 차단 식별자 로컬 캐시 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("차단 식별자 로컬 캐시 테스트")
+class BlockedIdentifierCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private BlockedIdentifierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BlockedIdentifierCache(redisTemplate, listenerContainer);
+        ReflectionTestUtils.setField(cache, "negativeTtlMillis", 30_000L);
+        ReflectionTestUtils.setField(cache, "negativeMaxSize", 100);
+    }
+
+    @Test
+    @DisplayName("차단되지 않은 식별자는 negative 캐시로 두 번째 확인부터 Redis를 조회하지 않음")
+    void negativeCache() {
+        // given
+        when(redisTemplate.getExpire("blocked:ip:1", TimeUnit.MILLISECONDS)).thenReturn(-2L);
+
+        // when
+        boolean first = cache.isBlocked("ip:1");
+        boolean second = cache.isBlocked("ip:1");
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(redisTemplate, times(1)).getExpire(anyString(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Redis에서 확인한 차단은 남은 TTL 동안 로컬에서 응답")
+    void positiveCache() {
+        // given
+        when(redisTemplate.getExpire("blocked:ip:1", TimeUnit.MILLISECONDS)).thenReturn(60_000L);
+
+        // when
+        cache.isBlocked("ip:1");
+        boolean blocked = cache.isBlocked("ip:1");
+
+        // then
+        assertThat(blocked).isTrue();
+        verify(redisTemplate, times(1)).getExpire(anyString(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 차단 이벤트는 negative 캐시를 덮어씀")
+    void blockEventOverridesNegativeCache() {
+        // given
+        when(redisTemplate.getExpire("blocked:ip:1", TimeUnit.MILLISECONDS)).thenReturn(-2L);
+        cache.isBlocked("ip:1");
+
+        // when
+        long until = System.currentTimeMillis() + 60_000L;
+        cache.onMessage(message("BLOCK|" + until + "|ip:1"), null);
+
+        // then
+        assertThat(cache.isBlocked("ip:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("해제 이벤트를 받으면 로컬 차단을 제거")
+    void unblockEvent() {
+        // given
+        cache.onMessage(message("BLOCK|" + (System.currentTimeMillis() + 60_000L) + "|ip:1"), null);
+        when(redisTemplate.getExpire("blocked:ip:1", TimeUnit.MILLISECONDS)).thenReturn(-2L);
+
+        // when
+        cache.onMessage(message("UNBLOCK|0|ip:1"), null);
+
+        // then
+        assertThat(cache.isBlocked("ip:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("차단 시 로컬에 즉시 반영하고 채널에 발행")
+    void publishBlocked() {
+        // when
+        cache.publishBlocked("ip:1", Duration.ofHours(1));
+
+        // then
+        assertThat(cache.isBlocked("ip:1")).isTrue();
+        verify(redisTemplate).convertAndSend(eq(SecurityRedisKeys.BLOCK_EVENTS_CHANNEL), startsWith("BLOCK|"));
+        verify(redisTemplate, never()).getExpire(anyString(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 허용하고 결과를 캐시하지 않음")
+    void failOpenWithoutCaching() {
+        // given
+        when(redisTemplate.getExpire("blocked:ip:1", TimeUnit.MILLISECONDS))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(60_000L);
+
+        // when
+        boolean first = cache.isBlocked("ip:1");
+        boolean second = cache.isBlocked("ip:1");
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                SecurityRedisKeys.BLOCK_EVENTS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
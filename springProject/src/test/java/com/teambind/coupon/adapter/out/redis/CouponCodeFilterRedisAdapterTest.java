@@ -0,0 +1,107 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1회용 쿠폰 코드 Bloom filter 테스트
+ */
+@Testcontainers
+@DisplayName("1회용 쿠폰 코드 필터 테스트")
+class CouponCodeFilterRedisAdapterTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private CouponCodeFilterRedisAdapter filter;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+        filter = new CouponCodeFilterRedisAdapter(redisTemplate);
+        ReflectionTestUtils.setField(filter, "bits", 1L << 20);
+        ReflectionTestUtils.setField(filter, "hashFunctions", 7);
+    }
+
+    @Test
+    @DisplayName("준비되지 않은 필터는 모든 코드를 통과")
+    void notReady_PassesAll() {
+        // when & then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain(12345L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가한 코드는 항상 통과하고 추가하지 않은 코드는 대부분 거절")
+    void addedCodes_NoFalseNegatives() {
+        // given
+        Random random = new Random(7);
+        long[] added = new long[10_000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = random.nextLong();
+        }
+        filter.addAll(added);
+        filter.markReady();
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 2_000; i++) {
+            if (filter.mightContain(random.nextLong())) {
+                falsePositives++;
+            }
+        }
+
+        // then (2^20비트, 1만 개 → 이론상 거짓 양성률 0.1% 미만)
+        for (int i = 0; i < added.length; i += 100) {
+            assertThat(filter.mightContain(added[i])).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("Redis 데이터가 유실되면 준비 표시도 사라져 다시 통과 처리")
+    void flushed_FailsOpen() {
+        // given
+        filter.addAll(new long[]{1L, 2L, 3L});
+        filter.markReady();
+        assertThat(filter.mightContain(999_999L)).isFalse();
+
+        // when
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        // then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain(999_999L)).isTrue();
+    }
+}
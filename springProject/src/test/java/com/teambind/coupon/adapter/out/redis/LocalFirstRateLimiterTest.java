@@ -0,0 +1,143 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 우선 Rate Limiter 테스트
+ * 두 인스턴스가 같은 Redis 예산을 나눠 쓰는 상황에서 과다 허용 여부와 로컬 처리 비율을 검증
+ */
+@Testcontainers
+@DisplayName("로컬 우선 Rate Limiter 테스트")
+class LocalFirstRateLimiterTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("제한에 여유가 있으면 대부분의 요청을 로컬에서 허용")
+    void localHits() {
+        // given
+        LocalFirstRateLimiter limiter = newLimiter();
+
+        // when
+        long allowed = IntStream.range(0, 100)
+                .filter(i -> limiter.allowRequest("user:1", 1000, 3600))
+                .count();
+
+        // then
+        // lease 50개 단위로 Redis 왕복 2회
+        assertThat(allowed).isEqualTo(100);
+        assertThat(limiter.getLocalHitRatio()).isEqualTo(0.98);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 요청해도 공유 예산보다 많이 허용하지 않음")
+    void noOverAdmission() throws InterruptedException {
+        // given
+        LocalFirstRateLimiter instanceA = newLimiter();
+        LocalFirstRateLimiter instanceB = newLimiter();
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1500; i++) {
+            LocalFirstRateLimiter limiter = i % 2 == 0 ? instanceA : instanceB;
+            executor.submit(() -> {
+                if (limiter.allowRequest("user:1", 1000, 3600)) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        // 미사용 lease(인스턴스당 최대 50)만큼 적게 허용될 수 있음
+        assertThat(allowed.get()).isLessThanOrEqualTo(1000).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("유휴 lease의 남은 토큰은 Redis 카운터에 반납")
+    void releaseIdleLease() {
+        // given
+        LocalFirstRateLimiter limiter = newLimiter();
+        ReflectionTestUtils.setField(limiter, "idleReleaseMillis", 0L);
+        limiter.allowRequest("user:1", 1000, 3600);
+
+        // when
+        long released = limiter.sync();
+
+        // then
+        long window = System.currentTimeMillis() / 3_600_000L;
+        assertThat(released).isEqualTo(49);
+        assertThat(redisTemplate.opsForValue().get(RateLimiterService.windowKey("user:1", window))).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("lease가 2보다 작은 제한은 Redis에서 정확히 확인")
+    void smallLimitUsesRedis() {
+        // given
+        LocalFirstRateLimiter limiter = newLimiter();
+
+        // when
+        long allowed = IntStream.range(0, 15)
+                .filter(i -> limiter.allowRequest("user:1", 10, 60))
+                .count();
+
+        // then
+        assertThat(allowed).isEqualTo(10);
+        assertThat(limiter.getLocalHitRatio()).isZero();
+    }
+
+    private LocalFirstRateLimiter newLimiter() {
+        LocalFirstRateLimiter limiter = new LocalFirstRateLimiter(
+                redisTemplate, new RateLimiterService(redisTemplate), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "leaseFraction", 0.05);
+        ReflectionTestUtils.setField(limiter, "idleReleaseMillis", 2000L);
+        limiter.registerMetrics();
+        return limiter;
+    }
+}
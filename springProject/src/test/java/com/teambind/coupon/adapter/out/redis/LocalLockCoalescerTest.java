@@ -0,0 +1,185 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import com.teambind.coupon.common.exceptions.CustomException;
+import com.teambind.coupon.common.exceptions.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 single-flight 락 테스트
+ * 같은 키를 요청한 스레드 중 한 번에 하나만 분산 락을 요청하는지 검증
+ */
+@DisplayName("로컬 single-flight 락 테스트")
+class LocalLockCoalescerTest {
+
+    private DistributedLockService distributedLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private LocalLockCoalescer coalescer;
+
+    // 분산 락 구현을 대신해 동시에 락을 요청 중인 스레드 수를 추적
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        distributedLockService = mock(DistributedLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new LocalLockCoalescer(distributedLockService, meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        coalescer.registerMetrics();
+
+        when(distributedLockService.executeWithLock(anyString(), anyLong(), anyLong(), any(), any()))
+                .thenAnswer(invocation -> {
+                    remoteCalls.incrementAndGet();
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                        return ((Supplier<Object>) invocation.getArgument(4)).get();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    @Test
+    @DisplayName("같은 키는 한 스레드만 분산 락을 요청하고 나머지는 로컬에서 대기")
+    void sameKeyCoalesced() throws Exception {
+        // given
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            int value = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return coalescer.executeWithLock("coupon:download", "coupon:download:CODE",
+                        5, 10, TimeUnit.SECONDS, () -> value);
+            }));
+        }
+        start.countDown();
+        int sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(sum).isEqualTo(threads * (threads - 1) / 2);
+        assertThat(remoteCalls.get()).isEqualTo(threads);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(coalescer.getActiveKeys()).isZero();
+        assertThat(meterRegistry.get("coupon.lock.wait").tag("stage", "local").timer().count())
+                .isEqualTo(threads);
+        assertThat(meterRegistry.get("coupon.lock.wait").tag("stage", "remote").timer().count())
+                .isEqualTo(threads);
+    }
+
+    @Test
+    @DisplayName("다른 키는 로컬에서 서로 기다리지 않음")
+    void differentKeysIndependent() throws Exception {
+        // given
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Object> holder = executor.submit(() -> coalescer.executeWithLock("lock", "lock:A",
+                5, 10, TimeUnit.SECONDS, () -> {
+                    holding.countDown();
+                    awaitQuietly(release);
+                    return null;
+                }));
+        holding.await();
+
+        // when
+        String result = coalescer.executeWithLock("lock", "lock:B", 1, 10, TimeUnit.SECONDS, () -> "B");
+
+        // then
+        assertThat(result).isEqualTo("B");
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로컬 대기 시간이 지나면 분산 락을 요청하지 않고 실패")
+    void localTimeout() throws Exception {
+        // given
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Object> holder = executor.submit(() -> coalescer.executeWithLock("lock", "lock:A",
+                5, 10, TimeUnit.SECONDS, () -> {
+                    holding.countDown();
+                    awaitQuietly(release);
+                    return null;
+                }));
+        holding.await();
+
+        // when & then
+        assertThatThrownBy(() -> coalescer.executeWithLock("lock", "lock:A",
+                50, 1000, TimeUnit.MILLISECONDS, () -> "late"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LOCK_ACQUISITION_FAILED);
+        assertThat(remoteCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("coupon.lock.local.timeout").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(coalescer.getActiveKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 로컬 락 없이 분산 락에 바로 위임")
+    void disabled() {
+        // given
+        ReflectionTestUtils.setField(coalescer, "enabled", false);
+
+        // when
+        String result = coalescer.executeWithLock("lock", "lock:A", 3, 10, TimeUnit.SECONDS, () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        verify(distributedLockService).executeWithLock(eq("lock:A"), eq(TimeUnit.SECONDS.toNanos(3)),
+                eq(TimeUnit.SECONDS.toNanos(10)), eq(TimeUnit.NANOSECONDS), any());
+        assertThat(coalescer.getActiveKeys()).isZero();
+        verify(distributedLockService, never()).tryLock(anyString(), anyLong(), anyLong(), any());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rate limit 알고리즘별 동작 테스트
+ */
+@Testcontainers
+@DisplayName("Rate limit 알고리즘 테스트")
+class RateLimiterServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimiterService rateLimiterService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+        rateLimiterService = new RateLimiterService(redisTemplate);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    @DisplayName("제한 횟수까지 허용하고 초과 요청은 거부")
+    void allowUpToLimit(RateLimitAlgorithm algorithm) {
+        // when
+        long allowed = IntStream.range(0, 15)
+                .filter(i -> rateLimiterService.allowRequest("user:1", 10, 3600, algorithm))
+                .count();
+
+        // then
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    @DisplayName("키별로 독립적으로 제한")
+    void independentKeys(RateLimitAlgorithm algorithm) {
+        // given
+        IntStream.range(0, 5).forEach(i -> rateLimiterService.allowRequest("user:1", 5, 3600, algorithm));
+
+        // when & then
+        assertThat(rateLimiterService.allowRequest("user:1", 5, 3600, algorithm)).isFalse();
+        assertThat(rateLimiterService.allowRequest("user:2", 5, 3600, algorithm)).isTrue();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RateLimitAlgorithm.class, names = {"SLIDING_WINDOW", "GCRA"})
+    @DisplayName("카운터 방식은 제한 횟수와 무관하게 키 수가 고정")
+    void constantKeyCount(RateLimitAlgorithm algorithm) {
+        // when
+        IntStream.range(0, 200).forEach(i -> rateLimiterService.allowRequest("user:1", 1000, 86400, algorithm));
+
+        // then
+        Set<String> keys = redisTemplate.keys("rate_limit:user:1*");
+        assertThat(keys).hasSizeBetween(1, 2);
+        keys.forEach(key -> assertThat(redisTemplate.type(key).code()).isEqualTo("string"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    @DisplayName("다단계 제한은 가장 엄격한 윈도우에서 거부")
+    void multiLevel(RateLimitAlgorithm algorithm) {
+        // when
+        long allowed = IntStream.range(0, 10)
+                .filter(i -> rateLimiterService.allowRequestMultiLevel("user:1", 3, 100, 0, algorithm))
+                .count();
+
+        // then
+        assertThat(allowed).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Sliding log는 같은 시각의 요청도 각각 기록")
+    void slidingLogDistinctMembers() {
+        // when
+        IntStream.range(0, 50).forEach(i -> rateLimiterService.allowRequest("user:1", 100, 60));
+
+        // then
+        assertThat(redisTemplate.opsForZSet().zCard("rate_limit:user:1")).isEqualTo(50);
+    }
+}
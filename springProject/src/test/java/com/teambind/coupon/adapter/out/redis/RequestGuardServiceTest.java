@@ -0,0 +1,146 @@
+package com.teambind.coupon.adapter.out.redis;
+
+import com.teambind.coupon.adapter.out.redis.RequestGuardService.Decision;
+import com.teambind.coupon.adapter.out.redis.RequestGuardService.GuardResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 보호 Lua 스크립트 테스트
+ * 실제 Redis에서 제한/위험 점수가 한 번의 스크립트 실행으로 평가되는지 검증
+ */
+@Testcontainers
+@DisplayName("요청 보호 스크립트 테스트")
+class RequestGuardServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RequestGuardService requestGuardService;
+
+    private final String identifier = "ip:10.0.0.1";
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+        requestGuardService = new RequestGuardService(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("제한 이내 요청은 허용하고 남은 요청 수를 반환")
+    void allowWithinLimit() {
+        // when
+        GuardResult first = requestGuardService.evaluate(identifier, identifier, 3, 10, 0);
+        GuardResult second = requestGuardService.evaluate(identifier, identifier, 3, 10, 0);
+
+        // then
+        assertThat(first.decision()).isEqualTo(Decision.ALLOWED);
+        assertThat(first.limit()).isEqualTo(3);
+        assertThat(first.remaining()).isEqualTo(2);
+        assertThat(second.remaining()).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().zCard(SecurityRedisKeys.rateLimit(identifier + ":minute"))).isEqualTo(2);
+        assertThat(redisTemplate.hasKey(SecurityRedisKeys.rateLimit(identifier + ":day"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("분당 제한 초과 시 제한 결과와 재시도 시간을 반환하고 요청을 기록하지 않음")
+    void rateLimited() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            requestGuardService.evaluate(identifier, identifier, 3, 10, 0);
+        }
+
+        // when
+        GuardResult result = requestGuardService.evaluate(identifier, identifier, 3, 10, 0);
+
+        // then
+        assertThat(result.decision()).isEqualTo(Decision.RATE_LIMITED);
+        assertThat(result.limit()).isEqualTo(3);
+        assertThat(result.remaining()).isZero();
+        assertThat(result.resetAfterMillis()).isBetween(1L, 60_000L);
+        assertThat(redisTemplate.opsForZSet().zCard(SecurityRedisKeys.rateLimit(identifier + ":hour"))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("차단 키는 스크립트에서 조회하지 않음 (차단 확인은 로컬 캐시에서 먼저 수행)")
+    void blockedKeyNotRead() {
+        // given
+        redisTemplate.opsForValue().set(SecurityRedisKeys.blocked(identifier), "brute_force", Duration.ofMinutes(5));
+
+        // when
+        GuardResult result = requestGuardService.evaluate(identifier, identifier, 3, 10, 0);
+
+        // then
+        assertThat(result.decision()).isEqualTo(Decision.ALLOWED);
+        assertThat(redisTemplate.opsForZSet().zCard(SecurityRedisKeys.rateLimit(identifier + ":minute"))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 기록, 차단 이력, 브루트포스 시도를 합산하여 위험 점수 계산")
+    void riskScore() {
+        // given
+        redisTemplate.opsForHash().put(SecurityRedisKeys.failures(identifier), "login", "5");
+        redisTemplate.opsForHash().put(SecurityRedisKeys.failures(identifier), "rate_limit", "2");
+        redisTemplate.opsForList().leftPush(SecurityRedisKeys.blockHistory(identifier), "history");
+        redisTemplate.opsForHyperLogLog().add(SecurityRedisKeys.bruteForce(identifier), "A", "B", "C");
+
+        // when
+        GuardResult result = requestGuardService.evaluate(identifier, identifier, 3, 10, 0);
+
+        // then
+        // 실패 유형 2개(20) + 차단 이력(30) + 시도 코드 3개(15)
+        assertThat(result.decision()).isEqualTo(Decision.ALLOWED);
+        assertThat(result.riskScore()).isEqualTo(65);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 요청 허용")
+    void failOpen() {
+        // given
+        RequestGuardService brokenService = new RequestGuardService(
+                new StringRedisTemplate(brokenConnectionFactory()));
+
+        // when
+        GuardResult result = brokenService.evaluate(identifier, identifier, 3, 10, 0);
+
+        // then
+        assertThat(result.decision()).isEqualTo(Decision.ALLOWED);
+    }
+
+    private LettuceConnectionFactory brokenConnectionFactory() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", 1));
+        factory.afterPropertiesSet();
+        return factory;
+    }
+}
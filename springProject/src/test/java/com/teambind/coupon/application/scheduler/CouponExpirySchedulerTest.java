@@ -1,7 +1,10 @@
 package com.teambind.coupon.application.scheduler;
 
 import com.teambind.coupon.adapter.out.persistence.entity.CouponIssueEntity;
+import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueStatusProjection;
 import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueRepository;
+import com.teambind.coupon.common.config.CouponPartitionWindow;
+import com.teambind.coupon.domain.event.CouponStatusChangedEvent;
 import com.teambind.coupon.domain.model.CouponStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,7 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +24,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -39,6 +45,12 @@ class CouponExpirySchedulerTest {
     @Mock
     private CouponIssueRepository couponIssueRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CouponPartitionWindow partitionWindow = new CouponPartitionWindow("2021-01-01", 24);
+
     @BeforeEach
     void setUp() {
         // 배치 크기와 스케줄러 활성화 설정
@@ -70,10 +82,11 @@ class CouponExpirySchedulerTest {
                 25
         );
 
-        when(couponIssueRepository.findExpiredCouponsWithPaging(any(LocalDateTime.class), any(Pageable.class)))
+        when(couponIssueRepository.findExpiredCouponsWithPaging(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(page1, page2, page3);
 
-        when(couponIssueRepository.updateToExpiredBatch(anyList(), any(LocalDateTime.class)))
+        stubLockAllAsIssued();
+        when(couponIssueRepository.updateToExpiredBatch(anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(10, 10, 5);
 
         // when
@@ -81,14 +94,14 @@ class CouponExpirySchedulerTest {
 
         // then
         verify(couponIssueRepository, times(3))
-                .findExpiredCouponsWithPaging(any(LocalDateTime.class), any(Pageable.class));
+                .findExpiredCouponsWithPaging(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
         verify(couponIssueRepository, times(3))
-                .updateToExpiredBatch(anyList(), any(LocalDateTime.class));
+                .updateToExpiredBatch(anyList(), any(LocalDateTime.class), any(LocalDateTime.class));
 
         // 배치 업데이트에 전달된 ID 검증
         ArgumentCaptor<List<Long>> idsCaptor = ArgumentCaptor.forClass(List.class);
         verify(couponIssueRepository, times(3))
-                .updateToExpiredBatch(idsCaptor.capture(), any(LocalDateTime.class));
+                .updateToExpiredBatch(idsCaptor.capture(), any(LocalDateTime.class), any(LocalDateTime.class));
 
         List<List<Long>> capturedIds = idsCaptor.getAllValues();
         assertThat(capturedIds.get(0)).hasSize(10); // 첫 번째 배치
@@ -107,9 +120,9 @@ class CouponExpirySchedulerTest {
 
         // then
         verify(couponIssueRepository, never())
-                .findExpiredCouponsWithPaging(any(), any());
+                .findExpiredCouponsWithPaging(any(), any(), any());
         verify(couponIssueRepository, never())
-                .updateToExpiredBatch(anyList(), any());
+                .updateToExpiredBatch(anyList(), any(), any());
     }
 
     @Test
@@ -118,7 +131,7 @@ class CouponExpirySchedulerTest {
         // given
         Page<CouponIssueEntity> emptyPage = Page.empty();
 
-        when(couponIssueRepository.findExpiredCouponsWithPaging(any(), any()))
+        when(couponIssueRepository.findExpiredCouponsWithPaging(any(), any(), any()))
                 .thenReturn(emptyPage);
 
         // when
@@ -126,9 +139,9 @@ class CouponExpirySchedulerTest {
 
         // then
         verify(couponIssueRepository, times(1))
-                .findExpiredCouponsWithPaging(any(), any());
+                .findExpiredCouponsWithPaging(any(), any(), any());
         verify(couponIssueRepository, never())
-                .updateToExpiredBatch(anyList(), any());
+                .updateToExpiredBatch(anyList(), any(), any());
     }
 
     @Test
@@ -138,9 +151,10 @@ class CouponExpirySchedulerTest {
         List<CouponIssueEntity> expiredCoupons = createExpiredCoupons(5);
         Page<CouponIssueEntity> page = new PageImpl<>(expiredCoupons);
 
-        when(couponIssueRepository.findExpiredCouponsWithPaging(any(), any()))
+        when(couponIssueRepository.findExpiredCouponsWithPaging(any(), any(), any()))
                 .thenReturn(page);
-        when(couponIssueRepository.updateToExpiredBatch(anyList(), any()))
+        stubLockAllAsIssued();
+        when(couponIssueRepository.updateToExpiredBatch(anyList(), any(), any()))
                 .thenReturn(5);
 
         // when
@@ -148,8 +162,59 @@ class CouponExpirySchedulerTest {
 
         // then
         assertThat(processedCount).isEqualTo(5);
-        verify(couponIssueRepository).findExpiredCouponsWithPaging(any(), any());
-        verify(couponIssueRepository).updateToExpiredBatch(anyList(), any());
+        verify(couponIssueRepository).findExpiredCouponsWithPaging(any(), any(), any());
+        verify(couponIssueRepository).updateToExpiredBatch(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("조회 이후 상태가 바뀐 쿠폰은 만료 처리와 전이 이벤트에서 제외되어야 한다")
+    void processExpiredCoupons_shouldPublishOnlyLockedTransitions() {
+        // given
+        List<CouponIssueEntity> expiredCoupons = createExpiredCoupons(3);
+        when(couponIssueRepository.findExpiredCouponsWithPaging(any(), any(), any()))
+                .thenReturn(new PageImpl<>(expiredCoupons));
+        // 3번 쿠폰은 조회 이후 사용되어 잠금 대상에서 빠짐, 2번 쿠폰은 예약 상태
+        when(couponIssueRepository.lockForStatusChange(anyCollection(), anyCollection(), any(), any()))
+                .thenReturn(List.of(
+                        statusOf(1L, CouponStatus.ISSUED),
+                        statusOf(2L, CouponStatus.RESERVED)));
+        when(couponIssueRepository.updateToExpiredBatch(anyList(), any(), any()))
+                .thenReturn(2);
+
+        // when
+        int processedCount = scheduler.processExpiredCouponsManually();
+
+        // then
+        assertThat(processedCount).isEqualTo(2);
+        verify(couponIssueRepository).updateToExpiredBatch(eq(List.of(1L, 2L)), any(), any());
+
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        CouponStatusChangedEvent event = (CouponStatusChangedEvent) eventCaptor.getAllValues().get(0);
+        assertThat(event.getTransitions())
+                .extracting(CouponStatusChangedEvent.Transition::getFrom)
+                .containsExactly(CouponStatus.ISSUED, CouponStatus.RESERVED);
+        assertThat(event.getTransitions())
+                .extracting(CouponStatusChangedEvent.Transition::getTo)
+                .containsOnly(CouponStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("잠금 대상이 없으면 만료 업데이트와 이벤트 발행을 하지 않아야 한다")
+    void processExpiredCoupons_shouldSkipWhenNothingLocked() {
+        // given
+        when(couponIssueRepository.findExpiredCouponsWithPaging(any(), any(), any()))
+                .thenReturn(new PageImpl<>(createExpiredCoupons(2)));
+        when(couponIssueRepository.lockForStatusChange(anyCollection(), anyCollection(), any(), any()))
+                .thenReturn(List.of());
+
+        // when
+        int processedCount = scheduler.processExpiredCouponsManually();
+
+        // then
+        assertThat(processedCount).isZero();
+        verify(couponIssueRepository, never()).updateToExpiredBatch(anyList(), any(), any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -202,9 +267,9 @@ class CouponExpirySchedulerTest {
         List<CouponIssueEntity> allCoupons = createExpiredCoupons(totalCoupons);
 
         // Mockito의 Answer를 사용하여 동적으로 페이지 반환
-        when(couponIssueRepository.findExpiredCouponsWithPaging(any(LocalDateTime.class), any(Pageable.class)))
+        when(couponIssueRepository.findExpiredCouponsWithPaging(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
                 .thenAnswer(invocation -> {
-                    Pageable pageable = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
                     int pageNumber = pageable.getPageNumber();
                     int pageSize = pageable.getPageSize();
 
@@ -222,7 +287,8 @@ class CouponExpirySchedulerTest {
                     );
                 });
 
-        when(couponIssueRepository.updateToExpiredBatch(anyList(), any(LocalDateTime.class)))
+        stubLockAllAsIssued();
+        when(couponIssueRepository.updateToExpiredBatch(anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(batchSize);
 
         // when
@@ -231,9 +297,9 @@ class CouponExpirySchedulerTest {
         // then
         // 1000개를 100개씩 나누면 10개 페이지가 나오고, 마지막에 빈 페이지를 확인하므로 총 10번 호출
         verify(couponIssueRepository, times(10))
-                .findExpiredCouponsWithPaging(any(LocalDateTime.class), any(Pageable.class));
+                .findExpiredCouponsWithPaging(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
         verify(couponIssueRepository, times(10))
-                .updateToExpiredBatch(anyList(), any(LocalDateTime.class));
+                .updateToExpiredBatch(anyList(), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -252,6 +318,46 @@ class CouponExpirySchedulerTest {
         assertThat(status.getLastProcessedTime()).isNotNull();
     }
 
+    /**
+     * 잠금 조회 결과를 요청한 ID 전체가 ISSUED 상태인 것으로 설정
+     */
+    private void stubLockAllAsIssued() {
+        when(couponIssueRepository.lockForStatusChange(anyCollection(), anyCollection(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    return ids.stream()
+                            .map(id -> statusOf(id, CouponStatus.ISSUED))
+                            .toList();
+                });
+    }
+
+    /**
+     * 테스트용 잠금 조회 결과 생성
+     */
+    private CouponIssueStatusProjection statusOf(Long id, CouponStatus status) {
+        return new CouponIssueStatusProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getPolicyId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getUserId() {
+                return 100 + id;
+            }
+
+            @Override
+            public String getStatus() {
+                return status.name();
+            }
+        };
+    }
+
     /**
      * 테스트용 만료 쿠폰 생성
      */
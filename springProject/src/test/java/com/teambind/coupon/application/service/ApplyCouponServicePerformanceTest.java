@@ -4,7 +4,6 @@ import com.teambind.coupon.adapter.out.redis.RedisDistributedLock;
 import com.teambind.coupon.application.dto.request.CouponApplyRequest;
 import com.teambind.coupon.application.dto.response.CouponApplyResponse;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
-import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.application.port.out.LoadReservationPort;
 import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
 import com.teambind.coupon.application.port.out.SaveReservationPort;
@@ -39,7 +38,7 @@ class ApplyCouponServicePerformanceTest {
     private LoadCouponIssuePort loadCouponIssuePort;
 
     @Mock
-    private LoadCouponPolicyPort loadCouponPolicyPort;
+    private CompiledCouponRuleCache ruleCache;
 
     @Mock
     private SaveCouponIssuePort saveCouponIssuePort;
@@ -95,8 +94,8 @@ class ApplyCouponServicePerformanceTest {
 
         when(loadCouponIssuePort.findById(couponId))
                 .thenReturn(Optional.of(coupon));
-        when(loadCouponPolicyPort.loadById(policyId))
-                .thenReturn(Optional.of(policy));
+        when(ruleCache.get(policyId))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(policy)));
 
         // CouponLockService mock - 쿠폰 적용 시도 시 응답 반환
         when(couponLockService.tryLockAndApplyCoupon(any(), any()))
@@ -118,7 +117,7 @@ class ApplyCouponServicePerformanceTest {
 
         // 개별 조회만 사용
         verify(loadCouponIssuePort, times(1)).findById(couponId);
-        verify(loadCouponPolicyPort, times(1)).loadById(policyId);
+        verify(ruleCache, times(1)).get(policyId);
 
         // 성능 기준: 50ms 이내 완료
         assertThat(executionTime).isLessThan(50);
@@ -203,8 +202,8 @@ class ApplyCouponServicePerformanceTest {
 
         when(loadCouponIssuePort.findById(couponId))
                 .thenReturn(Optional.of(coupon));
-        when(loadCouponPolicyPort.loadById(policyId))
-                .thenReturn(Optional.of(policy));
+        when(ruleCache.get(policyId))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(policy)));
 
         // 첫 번째 요청만 성공, 나머지는 빈 응답
         when(couponLockService.tryLockAndApplyCoupon(any(), any()))
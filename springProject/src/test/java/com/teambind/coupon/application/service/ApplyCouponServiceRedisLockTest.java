@@ -40,7 +40,7 @@ class ApplyCouponServiceRedisLockTest {
     private LoadCouponIssuePort loadCouponIssuePort;
 
     @Mock
-    private LoadCouponPolicyPort loadCouponPolicyPort;
+    private CompiledCouponRuleCache ruleCache;
 
     @Mock
     private SaveCouponIssuePort saveCouponIssuePort;
@@ -94,8 +94,8 @@ class ApplyCouponServiceRedisLockTest {
         // given
         when(loadCouponIssuePort.findById(1001L))
                 .thenReturn(Optional.of(couponIssue));
-        when(loadCouponPolicyPort.loadById(1L))
-                .thenReturn(Optional.of(couponPolicy));
+        when(ruleCache.get(1L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(couponPolicy)));
 
         CouponApplyResponse mockResponse = CouponApplyResponse.builder()
                 .couponId("1001")
@@ -230,8 +230,8 @@ class ApplyCouponServiceRedisLockTest {
 
         when(loadCouponIssuePort.findById(couponId))
                 .thenReturn(Optional.of(couponIssue));
-        when(loadCouponPolicyPort.loadById(1L))
-                .thenReturn(Optional.of(couponPolicy));
+        when(ruleCache.get(1L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(couponPolicy)));
 
         CouponApplyResponse mockResponse = CouponApplyResponse.builder()
                 .couponId(String.valueOf(couponId))
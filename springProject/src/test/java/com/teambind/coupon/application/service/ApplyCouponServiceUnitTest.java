@@ -42,7 +42,7 @@ class ApplyCouponServiceUnitTest {
     private SaveCouponIssuePort saveCouponIssuePort;
 
     @Mock
-    private LoadCouponPolicyPort loadCouponPolicyPort;
+    private CompiledCouponRuleCache ruleCache;
 
     @Mock
     private LoadReservationPort loadReservationPort;
@@ -93,6 +93,8 @@ class ApplyCouponServiceUnitTest {
                 .discountValue(BigDecimal.valueOf(5000))
                 .distributionType(DistributionType.CODE)
                 .minimumOrderAmount(BigDecimal.valueOf(10000))
+                .discountPolicy(new DiscountPolicy(DiscountType.AMOUNT, BigDecimal.valueOf(5000),
+                        BigDecimal.valueOf(10000), null))
                 .validFrom(LocalDateTime.now().minusDays(1))
                 .validUntil(LocalDateTime.now().plusDays(30))
                 .isActive(true)
@@ -122,7 +124,7 @@ class ApplyCouponServiceUnitTest {
     void applyCoupon_Success() {
         // given
         when(loadCouponIssuePort.findById(1L)).thenReturn(Optional.of(validCoupon));
-        when(loadCouponPolicyPort.loadById(10L)).thenReturn(Optional.of(couponPolicy));
+        when(ruleCache.get(10L)).thenReturn(Optional.of(CompiledCouponRule.compile(couponPolicy)));
         when(couponLockService.tryLockAndApplyCoupon(any(CouponIssue.class), any(CouponApplyRequest.class)))
                 .thenReturn(expectedResponse);
 
@@ -135,7 +137,7 @@ class ApplyCouponServiceUnitTest {
         assertThat(result.getDiscountValue()).isEqualTo(BigDecimal.valueOf(5000));
 
         verify(loadCouponIssuePort).findById(1L);
-        verify(loadCouponPolicyPort).loadById(10L);
+        verify(ruleCache).get(10L);
         verify(couponLockService).tryLockAndApplyCoupon(eq(validCoupon), eq(applyRequest));
     }
 
@@ -150,7 +152,7 @@ class ApplyCouponServiceUnitTest {
                 .isInstanceOf(CouponNotFoundException.class)
                 .hasMessage("쿠폰을 찾을 수 없습니다: 1");
 
-        verify(loadCouponPolicyPort, never()).loadById(anyLong());
+        verify(ruleCache, never()).get(anyLong());
         verify(couponLockService, never()).tryLockAndApplyCoupon(any(), any());
     }
 
@@ -172,7 +174,7 @@ class ApplyCouponServiceUnitTest {
                 .isInstanceOf(UnauthorizedCouponAccessException.class)
                 .hasMessage("해당 쿠폰에 대한 권한이 없습니다");
 
-        verify(loadCouponPolicyPort, never()).loadById(anyLong());
+        verify(ruleCache, never()).get(anyLong());
         verify(couponLockService, never()).tryLockAndApplyCoupon(any(), any());
     }
 
@@ -194,7 +196,7 @@ class ApplyCouponServiceUnitTest {
                 .isInstanceOf(CouponAlreadyUsedException.class)
                 .hasMessage("사용 가능한 상태가 아닙니다: USED");
 
-        verify(loadCouponPolicyPort, never()).loadById(anyLong());
+        verify(ruleCache, never()).get(anyLong());
         verify(couponLockService, never()).tryLockAndApplyCoupon(any(), any());
     }
 
@@ -203,7 +205,7 @@ class ApplyCouponServiceUnitTest {
     void applyCoupon_PolicyNotFound() {
         // given
         when(loadCouponIssuePort.findById(1L)).thenReturn(Optional.of(validCoupon));
-        when(loadCouponPolicyPort.loadById(10L)).thenReturn(Optional.empty());
+        when(ruleCache.get(10L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> applyCouponService.applyCoupon(applyRequest))
@@ -225,7 +227,7 @@ class ApplyCouponServiceUnitTest {
                 .build();
 
         when(loadCouponIssuePort.findById(1L)).thenReturn(Optional.of(validCoupon));
-        when(loadCouponPolicyPort.loadById(10L)).thenReturn(Optional.of(couponPolicy));
+        when(ruleCache.get(10L)).thenReturn(Optional.of(CompiledCouponRule.compile(couponPolicy)));
 
         // when & then
         assertThatThrownBy(() -> applyCouponService.applyCoupon(lowAmountRequest))
@@ -256,7 +258,7 @@ class ApplyCouponServiceUnitTest {
                 .build();
 
         when(loadCouponIssuePort.findById(1L)).thenReturn(Optional.of(validCoupon));
-        when(loadCouponPolicyPort.loadById(10L)).thenReturn(Optional.of(noMinimumPolicy));
+        when(ruleCache.get(10L)).thenReturn(Optional.of(CompiledCouponRule.compile(noMinimumPolicy)));
         when(couponLockService.tryLockAndApplyCoupon(any(CouponIssue.class), any(CouponApplyRequest.class)))
                 .thenReturn(expectedResponse);
 
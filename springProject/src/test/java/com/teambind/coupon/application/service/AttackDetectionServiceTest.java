@@ -0,0 +1,192 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.adapter.out.redis.BlockedIdentifierCache;
+import com.teambind.coupon.adapter.out.redis.RateLimiterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AttackDetectionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttackDetectionService 테스트")
+class AttackDetectionServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RateLimiterService rateLimiterService;
+
+    @Mock
+    private BlockedIdentifierCache blockedIdentifierCache;
+
+    @Mock
+    private StreamingAttackDetector streamingAttackDetector;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private AttackDetectionService attackDetectionService;
+
+    @BeforeEach
+    void setUp() {
+        attackDetectionService = new AttackDetectionService(redisTemplate, rateLimiterService, blockedIdentifierCache, streamingAttackDetector);
+        ReflectionTestUtils.setField(attackDetectionService, "maxFailures", 10);
+        ReflectionTestUtils.setField(attackDetectionService, "blockDuration", "24h");
+    }
+
+    @Test
+    @DisplayName("실패는 식별자별 Hash의 액션 필드에 누적된다")
+    void recordFailure_IncrementsHashField() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment("failures:1.2.3.4", "coupon_download", 1)).thenReturn(1L);
+
+        // when
+        attackDetectionService.recordFailure("1.2.3.4", "coupon_download");
+
+        // then
+        verify(redisTemplate).expire("failures:1.2.3.4", Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("성공 시 해당 액션의 실패 카운터만 삭제된다")
+    void recordSuccess_DeletesHashField() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        attackDetectionService.recordSuccess("1.2.3.4", "coupon_download");
+
+        // then
+        verify(hashOperations).delete("failures:1.2.3.4", "coupon_download");
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("위험 점수는 실패 액션 수를 HLEN으로 조회하며 KEYS를 사용하지 않는다")
+    void calculateRiskScore_UsesHashSize() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(hashOperations.size("failures:1.2.3.4")).thenReturn(2L);
+        when(rateLimiterService.allowRequest("risk_check:1.2.3.4", 1000, 3600)).thenReturn(true);
+        when(listOperations.size("block_history:1.2.3.4")).thenReturn(0L);
+        when(hyperLogLogOperations.size("brute_force_hll:1.2.3.4")).thenReturn(1L);
+
+        // when
+        int score = attackDetectionService.calculateRiskScore("1.2.3.4");
+
+        // then
+        assertThat(score).isEqualTo(25);
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("차단 여부는 로컬 차단 캐시로 확인하고 Redis를 직접 조회하지 않는다")
+    void isBlocked_UsesLocalCache() {
+        // given
+        when(blockedIdentifierCache.isBlocked("1.2.3.4")).thenReturn(true);
+
+        // when
+        boolean blocked = attackDetectionService.isBlocked("1.2.3.4");
+
+        // then
+        assertThat(blocked).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("차단과 해제는 다른 인스턴스의 로컬 캐시에 전파된다")
+    void blockAndUnblock_PublishEvents() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+
+        // when
+        attackDetectionService.blockUser("1.2.3.4", "MAX_FAILURES", Duration.ofHours(1));
+        attackDetectionService.unblock("1.2.3.4");
+
+        // then
+        verify(valueOperations).set(eq("blocked:1.2.3.4"), anyString(), eq(Duration.ofHours(1)));
+        verify(blockedIdentifierCache).publishBlocked("1.2.3.4", Duration.ofHours(1));
+        verify(redisTemplate).delete("blocked:1.2.3.4");
+        verify(blockedIdentifierCache).publishUnblocked("1.2.3.4");
+    }
+
+    @Test
+    @DisplayName("무작위 대입은 로컬 Sketch로 판정하고 요청마다 Redis에 기록하지 않는다")
+    void detectBruteForce_UsesLocalSketch() {
+        // given
+        when(streamingAttackDetector.recordCodeAttempt("1.2.3.4", "CODE-1")).thenReturn(3L);
+
+        // when
+        boolean detected = attackDetectionService.detectBruteForce("1.2.3.4", "CODE-1");
+
+        // then
+        assertThat(detected).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("고유 코드 수가 임계값을 넘으면 차단한다")
+    void detectBruteForce_BlocksOverThreshold() {
+        // given
+        when(streamingAttackDetector.recordCodeAttempt("1.2.3.4", "CODE-11")).thenReturn(11L);
+        when(blockedIdentifierCache.isBlocked("1.2.3.4")).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+
+        // when
+        boolean detected = attackDetectionService.detectBruteForce("1.2.3.4", "CODE-11");
+
+        // then
+        assertThat(detected).isTrue();
+        verify(blockedIdentifierCache).publishBlocked("1.2.3.4", Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("순차적인 패턴이 임계값을 넘으면 스캔 공격으로 차단한다")
+    void detectScanning_BlocksSequentialPattern() {
+        // given
+        when(streamingAttackDetector.recordPattern("1.2.3.4", "/coupons/107"))
+                .thenReturn(new StreamingAttackDetector.ScanSummary(8, 7, 8));
+        when(blockedIdentifierCache.isBlocked("1.2.3.4")).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+
+        // when
+        boolean detected = attackDetectionService.detectScanning("1.2.3.4", "/coupons/107");
+
+        // then
+        assertThat(detected).isTrue();
+        verify(blockedIdentifierCache).publishBlocked("1.2.3.4", Duration.ofHours(6));
+    }
+}
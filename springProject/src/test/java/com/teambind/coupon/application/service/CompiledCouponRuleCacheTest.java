@@ -0,0 +1,95 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.DiscountPolicy;
+import com.teambind.coupon.domain.model.ItemApplicableRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * CompiledCouponRuleCache 단위 테스트
+ */
+@DisplayName("CompiledCouponRuleCache 테스트")
+class CompiledCouponRuleCacheTest {
+
+    private LoadCouponPolicyPort loadCouponPolicyPort;
+    private CompiledCouponRuleCache ruleCache;
+
+    @BeforeEach
+    void setUp() {
+        loadCouponPolicyPort = mock(LoadCouponPolicyPort.class);
+        ruleCache = new CompiledCouponRuleCache(loadCouponPolicyPort);
+        ReflectionTestUtils.setField(ruleCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(ruleCache, "maxSize", 100);
+        ruleCache.init();
+    }
+
+    @Test
+    @DisplayName("단건 조회는 캐시 미스일 때만 정책을 조회한다")
+    void getLoadsPolicyOnlyOnMiss() {
+        // given
+        when(loadCouponPolicyPort.loadById(10L)).thenReturn(Optional.of(policy(10L)));
+
+        // when
+        Optional<CompiledCouponRule> first = ruleCache.get(10L);
+        Optional<CompiledCouponRule> second = ruleCache.get(10L);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        verify(loadCouponPolicyPort, times(1)).loadById(10L);
+    }
+
+    @Test
+    @DisplayName("단건 조회와 배치 조회는 같은 캐시를 공유한다")
+    void getSharesEntriesWithGetAll() {
+        // given
+        when(loadCouponPolicyPort.loadByIds(anyList())).thenReturn(Map.of(10L, policy(10L)));
+        CompiledCouponRule batched = ruleCache.getAll(List.of(10L)).get(10L);
+
+        // when
+        Optional<CompiledCouponRule> single = ruleCache.get(10L);
+
+        // then
+        assertThat(single).containsSame(batched);
+        verify(loadCouponPolicyPort, never()).loadById(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 정책은 캐시하지 않고 empty를 반환한다")
+    void getReturnsEmptyForMissingPolicy() {
+        // given
+        when(loadCouponPolicyPort.loadById(99L)).thenReturn(Optional.empty());
+
+        // when
+        Optional<CompiledCouponRule> first = ruleCache.get(99L);
+        Optional<CompiledCouponRule> second = ruleCache.get(99L);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(loadCouponPolicyPort, times(2)).loadById(99L);
+    }
+
+    private CouponPolicy policy(Long id) {
+        return CouponPolicy.builder()
+                .id(id)
+                .couponName("캐시 테스트 쿠폰")
+                .discountPolicy(DiscountPolicy.fixedAmount(new BigDecimal("1000")))
+                .applicableRule(ItemApplicableRule.forSpecificItems(List.of(1L, 2L)))
+                .build();
+    }
+}
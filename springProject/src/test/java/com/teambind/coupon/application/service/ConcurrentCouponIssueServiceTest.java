@@ -305,7 +305,7 @@ class ConcurrentCouponIssueServiceTest {
         // when & then
         assertThatThrownBy(() -> service.issueCoupon(1L, 100L, "admin"))
                 .isInstanceOf(CouponDomainException.class)
-                .hasMessage("비활성화된 쿠폰 정책입니다");
+                .hasMessage("비활성화된 쿠폰입니다");
 
         verify(stockService, never()).decrementStock(anyLong(), anyInt());
     }
@@ -0,0 +1,92 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ArchiveTerminalCouponsUseCase.ArchiveResult;
+import com.teambind.coupon.application.port.out.ArchiveCouponIssuePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponArchiveService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponArchiveService 테스트")
+class CouponArchiveServiceTest {
+
+    @Mock
+    private ArchiveCouponIssuePort archiveCouponIssuePort;
+
+    private MeterRegistry meterRegistry;
+    private CouponArchiveService couponArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        couponArchiveService = new CouponArchiveService(archiveCouponIssuePort, meterRegistry);
+        ReflectionTestUtils.setField(couponArchiveService, "retentionDays", 90);
+        ReflectionTestUtils.setField(couponArchiveService, "batchSize", 2);
+        ReflectionTestUtils.setField(couponArchiveService, "maxBatchesPerRun", 10);
+    }
+
+    @Test
+    @DisplayName("워터마크부터 배치 단위로 이동하고 순회 완료 시 워터마크를 초기화한다")
+    void archiveUntilCompleted() {
+        // given
+        when(archiveCouponIssuePort.loadWatermark(CouponArchiveService.JOB_NAME)).thenReturn(100L);
+        when(archiveCouponIssuePort.loadArchivableIds(eq(100L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(101L, 102L));
+        when(archiveCouponIssuePort.loadArchivableIds(eq(102L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(105L));
+        when(archiveCouponIssuePort.loadArchivableIds(eq(105L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
+        when(archiveCouponIssuePort.archiveBatch(List.of(101L, 102L), CouponArchiveService.JOB_NAME, 102L))
+                .thenReturn(2);
+        when(archiveCouponIssuePort.archiveBatch(List.of(105L), CouponArchiveService.JOB_NAME, 105L))
+                .thenReturn(1);
+
+        // when
+        ArchiveResult result = couponArchiveService.archiveTerminalCoupons();
+
+        // then
+        assertThat(result.getArchivedCount()).isEqualTo(3);
+        assertThat(result.getBatchCount()).isEqualTo(2);
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getWatermark()).isZero();
+        verify(archiveCouponIssuePort).archiveBatch(List.of(), CouponArchiveService.JOB_NAME, 0L);
+        assertThat(meterRegistry.counter("coupon.archive.rows").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.timer("coupon.archive.batch.duration").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 배치 수에 도달하면 워터마크를 유지한 채 중단한다")
+    void stopAtMaxBatches() {
+        // given
+        ReflectionTestUtils.setField(couponArchiveService, "maxBatchesPerRun", 1);
+        when(archiveCouponIssuePort.loadWatermark(CouponArchiveService.JOB_NAME)).thenReturn(0L);
+        when(archiveCouponIssuePort.loadArchivableIds(eq(0L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1L, 2L));
+        when(archiveCouponIssuePort.archiveBatch(List.of(1L, 2L), CouponArchiveService.JOB_NAME, 2L))
+                .thenReturn(2);
+
+        // when
+        ArchiveResult result = couponArchiveService.archiveTerminalCoupons();
+
+        // then
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getWatermark()).isEqualTo(2L);
+        verify(archiveCouponIssuePort, never()).archiveBatch(eq(List.of()), anyString(), anyLong());
+    }
+}
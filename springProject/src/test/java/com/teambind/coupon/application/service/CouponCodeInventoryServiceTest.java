@@ -0,0 +1,257 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ManageCouponCodeInventoryUseCase.ImportResult;
+import com.teambind.coupon.application.port.out.CouponCodeFilterPort;
+import com.teambind.coupon.application.port.out.CouponCodeInventoryPort;
+import com.teambind.coupon.application.port.out.CouponCodeSequencePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.application.port.out.SaveCouponPolicyPort;
+import com.teambind.coupon.common.util.SnowflakeIdGenerator;
+import com.teambind.coupon.domain.exception.CouponDomainException;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.DistributionType;
+import com.teambind.coupon.domain.service.CouponCodeDigest;
+import com.teambind.coupon.domain.service.PermutationCodeGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponCodeInventoryService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCodeInventoryService 테스트")
+class CouponCodeInventoryServiceTest {
+
+    @Mock
+    private CouponCodeInventoryPort inventoryPort;
+
+    @Mock
+    private CouponCodeFilterPort filterPort;
+
+    @Mock
+    private CouponCodeSequencePort sequencePort;
+
+    @Mock
+    private LoadCouponPolicyPort loadCouponPolicyPort;
+
+    @Mock
+    private SaveCouponPolicyPort saveCouponPolicyPort;
+
+    @Mock
+    private LoadCouponIssuePort loadCouponIssuePort;
+
+    @Mock
+    private SaveCouponIssuePort saveCouponIssuePort;
+
+    @Mock
+    private SnowflakeIdGenerator idGenerator;
+
+    private final CouponCodeDigest digest = new CouponCodeDigest("test-secret");
+    private MeterRegistry meterRegistry;
+    private CouponCodeInventoryService service;
+    private CouponPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CouponCodeInventoryService(inventoryPort, filterPort, sequencePort,
+                loadCouponPolicyPort, saveCouponPolicyPort, loadCouponIssuePort, saveCouponIssuePort,
+                new PermutationCodeGenerator("test-secret"), digest, idGenerator, meterRegistry);
+        ReflectionTestUtils.setField(service, "batchSize", 4);
+        ReflectionTestUtils.setField(service, "maxGenerateCount", 1000);
+
+        policy = CouponPolicy.builder()
+                .id(1L)
+                .couponName("1회용 코드 쿠폰")
+                .couponCode("ONE-TIME")
+                .discountType(DiscountType.AMOUNT)
+                .discountValue(BigDecimal.valueOf(3000))
+                .distributionType(DistributionType.CODE)
+                .maxIssueCount(1000)
+                .currentIssueCount(new AtomicInteger(0))
+                .maxUsagePerUser(1)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(30))
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("청크 단위로 필터에 먼저 추가한 뒤 저장하고 저장된 코드만 전달")
+    void generateCodes() {
+        // given
+        when(loadCouponPolicyPort.loadById(1L)).thenReturn(Optional.of(policy));
+        when(sequencePort.reserve(anyInt())).thenReturn(0L, 4L, 8L);
+        // 첫 청크의 두 번째 코드는 다이제스트 충돌로 저장되지 않음
+        when(inventoryPort.saveAll(eq(1L), any(long[].class)))
+                .thenReturn(new boolean[]{true, false, true, true})
+                .thenReturn(new boolean[]{true, true, true, true});
+
+        List<String> codes = new ArrayList<>();
+
+        // when
+        long generated = service.generateCodes(1L, 6, null, codes::add);
+
+        // then: 4개 중 3개 저장 → 나머지 3개를 다음 청크에서 보충
+        assertThat(generated).isEqualTo(6);
+        assertThat(codes).hasSize(6).doesNotHaveDuplicates();
+        verify(sequencePort).reserve(4);
+        verify(sequencePort).reserve(3);
+
+        var inOrder = inOrder(filterPort, inventoryPort);
+        inOrder.verify(filterPort).addAll(any(long[].class));
+        inOrder.verify(inventoryPort).saveAll(eq(1L), any(long[].class));
+    }
+
+    @Test
+    @DisplayName("필터 추가에 실패하면 저장하지 않음")
+    void generateCodes_FilterFailure() {
+        // given
+        when(loadCouponPolicyPort.loadById(1L)).thenReturn(Optional.of(policy));
+        when(sequencePort.reserve(anyInt())).thenReturn(0L);
+        doThrow(new IllegalStateException("redis down")).when(filterPort).addAll(any(long[].class));
+
+        // when & then
+        assertThatThrownBy(() -> service.generateCodes(1L, 2, null, code -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(inventoryPort, never()).saveAll(anyLong(), any(long[].class));
+    }
+
+    @Test
+    @DisplayName("가져오기 - 정규화 후 중복/잘못된 코드 집계")
+    void importCodes() {
+        // given
+        when(loadCouponPolicyPort.loadById(1L)).thenReturn(Optional.of(policy));
+        when(inventoryPort.saveAll(eq(1L), any(long[].class)))
+                .thenAnswer(invocation -> {
+                    long[] hashes = invocation.getArgument(1);
+                    boolean[] saved = new boolean[hashes.length];
+                    var seen = new HashSet<Long>();
+                    for (int i = 0; i < hashes.length; i++) {
+                        saved[i] = seen.add(hashes[i]);
+                    }
+                    return saved;
+                });
+
+        List<String> lines = List.of("abcd-1234", "", "ABCD1234", "EFGH-5678", "BAD CODE!", "IJKL9012");
+
+        // when
+        ImportResult result = service.importCodes(1L, lines.iterator());
+
+        // then: abcd-1234와 ABCD1234는 같은 코드로 정규화
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getInvalid()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DIRECT 정책에는 코드를 등록할 수 없음")
+    void generateCodes_NotCodePolicy() {
+        // given
+        CouponPolicy directPolicy = CouponPolicy.builder()
+                .id(1L)
+                .couponName("직접 발급 쿠폰")
+                .distributionType(DistributionType.DIRECT)
+                .isActive(true)
+                .build();
+        when(loadCouponPolicyPort.loadById(1L)).thenReturn(Optional.of(directPolicy));
+
+        // when & then
+        assertThatThrownBy(() -> service.generateCodes(1L, 1, null, code -> { }))
+                .isInstanceOf(CouponDomainException.class);
+    }
+
+    @Test
+    @DisplayName("필터에 없는 코드는 DB 조회 없이 거절")
+    void redeem_Filtered() {
+        // given
+        when(filterPort.mightContain(anyLong())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> service.redeem(100L, "UNKNOWN-CODE"))
+                .isInstanceOf(CouponDomainException.CouponNotFound.class);
+        verifyNoInteractions(inventoryPort, loadCouponPolicyPort);
+        assertThat(meterRegistry.timer("coupon.code.redeem", "outcome", "filtered").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 사용되었거나 없는 코드는 claim 실패로 거절")
+    void redeem_ClaimFailed() {
+        // given
+        when(filterPort.mightContain(anyLong())).thenReturn(true);
+        when(idGenerator.nextId()).thenReturn(10L);
+        when(inventoryPort.claim(anyLong(), eq(100L), eq(10L))).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> service.redeem(100L, "USED-CODE"))
+                .isInstanceOf(CouponDomainException.CouponNotFound.class);
+        verifyNoInteractions(saveCouponIssuePort);
+        assertThat(meterRegistry.timer("coupon.code.redeem", "outcome", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("claim 성공 시 미리 발급한 ID로 쿠폰 발급")
+    void redeem_Success() {
+        // given
+        long codeHash = digest.digest("ABCD-EFGH-JKLM");
+        when(filterPort.mightContain(codeHash)).thenReturn(true);
+        when(idGenerator.nextId()).thenReturn(10L);
+        when(inventoryPort.claim(codeHash, 100L, 10L)).thenReturn(Optional.of(1L));
+        when(loadCouponPolicyPort.loadById(1L)).thenReturn(Optional.of(policy));
+        when(loadCouponIssuePort.countUserIssuance(100L, 1L)).thenReturn(0);
+        when(saveCouponPolicyPort.decrementStock(1L)).thenReturn(true);
+        when(saveCouponIssuePort.save(any(CouponIssue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when (소문자/구분자 없이 입력해도 같은 코드)
+        CouponIssue issued = service.redeem(100L, "abcdefghjklm");
+
+        // then
+        ArgumentCaptor<CouponIssue> captor = ArgumentCaptor.forClass(CouponIssue.class);
+        verify(saveCouponIssuePort).save(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(10L);
+        assertThat(issued.getPolicyId()).isEqualTo(1L);
+        assertThat(meterRegistry.timer("coupon.code.redeem", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고가 없으면 예외 (트랜잭션 롤백으로 claim도 취소)")
+    void redeem_StockExhausted() {
+        // given
+        when(filterPort.mightContain(anyLong())).thenReturn(true);
+        when(idGenerator.nextId()).thenReturn(10L);
+        when(inventoryPort.claim(anyLong(), eq(100L), eq(10L))).thenReturn(Optional.of(1L));
+        when(loadCouponPolicyPort.loadById(1L)).thenReturn(Optional.of(policy));
+        when(loadCouponIssuePort.countUserIssuance(100L, 1L)).thenReturn(0);
+        when(saveCouponPolicyPort.decrementStock(1L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> service.redeem(100L, "ABCD-EFGH-JKLM"))
+                .isInstanceOf(CouponDomainException.StockExhausted.class);
+        verifyNoInteractions(saveCouponIssuePort);
+    }
+}
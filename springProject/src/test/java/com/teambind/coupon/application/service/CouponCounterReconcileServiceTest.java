@@ -0,0 +1,165 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ReconcileCouponCountersUseCase.ReconcileResult;
+import com.teambind.coupon.application.port.out.CouponCounterPort;
+import com.teambind.coupon.application.port.out.CouponCounterPort.CounterValues;
+import com.teambind.coupon.application.port.out.CouponIssuePartitionPort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.domain.model.CouponStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponCounterReconcileService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCounterReconcileService 테스트")
+class CouponCounterReconcileServiceTest {
+
+    @Mock
+    private LoadCouponIssuePort loadCouponIssuePort;
+
+    @Mock
+    private CouponCounterPort couponCounterPort;
+
+    @Mock
+    private CouponIssuePartitionPort couponIssuePartitionPort;
+
+    private MeterRegistry meterRegistry;
+    private CouponCounterReconcileService reconcileService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconcileService = new CouponCounterReconcileService(
+                loadCouponIssuePort, couponCounterPort, couponIssuePartitionPort, meterRegistry);
+        ReflectionTestUtils.setField(reconcileService, "archiveSchema", "coupon_archive");
+    }
+
+    @Test
+    @DisplayName("DB 집계 전에 읽은 카운터와의 드리프트를 계산하고 compare-and-set으로 보정한다")
+    void reconcileDriftedCounters() {
+        // given
+        Map<Long, CounterValues> observed = Map.of(
+                1L, counters(Map.of(CouponStatus.ISSUED, 12L, CouponStatus.USED, 4L)),
+                2L, counters(Map.of(CouponStatus.ISSUED, 3L)));
+        CounterValues observedGlobal = counters(Map.of(CouponStatus.ISSUED, 15L, CouponStatus.USED, 4L));
+        when(couponCounterPort.loadCounterPolicyIds()).thenReturn(Set.of(1L, 2L));
+        when(couponCounterPort.loadPolicyCounters(anyCollection())).thenReturn(observed);
+        when(couponCounterPort.loadGlobalCounters()).thenReturn(observedGlobal);
+
+        Map<Long, Map<CouponStatus, Long>> actual = Map.of(
+                1L, Map.of(CouponStatus.ISSUED, 10L, CouponStatus.USED, 5L),
+                2L, Map.of(CouponStatus.ISSUED, 3L));
+        when(loadCouponIssuePort.countByPolicyAndStatus()).thenReturn(actual);
+        when(couponCounterPort.compareAndSetCounters(anyMap(), anyMap(), anyMap(), any())).thenReturn(0L);
+
+        // when
+        ReconcileResult result = reconcileService.reconcileCounters();
+
+        // then
+        assertThat(result.getPolicyCount()).isEqualTo(2);
+        assertThat(result.getDriftedPolicyCount()).isEqualTo(1);
+        assertThat(result.getTotalDrift()).isEqualTo(3L);
+        verify(couponCounterPort).compareAndSetCounters(
+                eq(actual), eq(observed),
+                eq(Map.of(CouponStatus.ISSUED, 13L, CouponStatus.USED, 5L)), eq(observedGlobal));
+        assertThat(meterRegistry.counter("coupon.counter.drift").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 정책은 전체 개수만큼 드리프트로 집계한다")
+    void reconcileMissingCounters() {
+        // given
+        when(couponCounterPort.loadCounterPolicyIds()).thenReturn(Set.of());
+        when(couponCounterPort.loadPolicyCounters(anyCollection())).thenReturn(Map.of());
+        Map<Long, Map<CouponStatus, Long>> actual = Map.of(1L, Map.of(CouponStatus.EXPIRED, 7L));
+        when(loadCouponIssuePort.countByPolicyAndStatus()).thenReturn(actual);
+
+        // when
+        ReconcileResult result = reconcileService.reconcileCounters();
+
+        // then
+        assertThat(result.getDriftedPolicyCount()).isEqualTo(1);
+        assertThat(result.getTotalDrift()).isEqualTo(7L);
+        verify(couponCounterPort).compareAndSetCounters(eq(actual), eq(Map.of()), anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("DB에 쿠폰이 없는 정책의 카운터는 기대값 0으로 보정 대상에 포함한다")
+    void reconcileStalePolicyCounters() {
+        // given
+        Map<Long, CounterValues> observed = Map.of(9L, counters(Map.of(CouponStatus.ISSUED, 2L)));
+        when(couponCounterPort.loadCounterPolicyIds()).thenReturn(Set.of(9L));
+        when(couponCounterPort.loadPolicyCounters(anyCollection())).thenReturn(observed);
+        when(loadCouponIssuePort.countByPolicyAndStatus()).thenReturn(Map.of());
+
+        // when
+        ReconcileResult result = reconcileService.reconcileCounters();
+
+        // then
+        assertThat(result.getPolicyCount()).isEqualTo(1);
+        assertThat(result.getTotalDrift()).isEqualTo(2L);
+        verify(couponCounterPort).compareAndSetCounters(eq(Map.of(9L, Map.of())), eq(observed), anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("보정 중 이벤트로 바뀐 필드 수를 결과에 포함한다")
+    void reconcileReportsSkippedFields() {
+        // given
+        when(couponCounterPort.loadCounterPolicyIds()).thenReturn(Set.of());
+        when(couponCounterPort.loadPolicyCounters(anyCollection())).thenReturn(Map.of());
+        when(loadCouponIssuePort.countByPolicyAndStatus()).thenReturn(Map.of(1L, Map.of(CouponStatus.ISSUED, 1L)));
+        when(couponCounterPort.compareAndSetCounters(anyMap(), anyMap(), anyMap(), any())).thenReturn(2L);
+
+        // when
+        ReconcileResult result = reconcileService.reconcileCounters();
+
+        // then
+        assertThat(result.getSkippedFields()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("보관 스키마로 분리된 파티션의 쿠폰도 기대값에 합산한다")
+    void reconcileIncludesDetachedPartitions() {
+        // given
+        Map<Long, CounterValues> observed = Map.of(
+                1L, counters(Map.of(CouponStatus.ISSUED, 2L, CouponStatus.USED, 10L)));
+        CounterValues observedGlobal = counters(Map.of(CouponStatus.ISSUED, 2L, CouponStatus.USED, 10L));
+        when(couponCounterPort.loadCounterPolicyIds()).thenReturn(Set.of(1L));
+        when(couponCounterPort.loadPolicyCounters(anyCollection())).thenReturn(observed);
+        when(couponCounterPort.loadGlobalCounters()).thenReturn(observedGlobal);
+        when(loadCouponIssuePort.countByPolicyAndStatus())
+                .thenReturn(Map.of(1L, Map.of(CouponStatus.ISSUED, 2L, CouponStatus.USED, 4L)));
+        when(couponIssuePartitionPort.countDetachedByPolicyAndStatus("coupon_archive"))
+                .thenReturn(Map.of(1L, Map.of(CouponStatus.USED, 6L)));
+
+        // when
+        ReconcileResult result = reconcileService.reconcileCounters();
+
+        // then
+        assertThat(result.getDriftedPolicyCount()).isZero();
+        assertThat(result.getTotalDrift()).isZero();
+        verify(couponCounterPort).compareAndSetCounters(
+                eq(Map.of(1L, Map.of(CouponStatus.ISSUED, 2L, CouponStatus.USED, 10L))), eq(observed),
+                eq(Map.of(CouponStatus.ISSUED, 2L, CouponStatus.USED, 10L)), eq(observedGlobal));
+    }
+
+    private CounterValues counters(Map<CouponStatus, Long> counts) {
+        return CounterValues.builder().countsByStatus(counts).build();
+    }
+}
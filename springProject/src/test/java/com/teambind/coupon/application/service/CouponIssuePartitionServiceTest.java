@@ -0,0 +1,140 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ManageCouponIssuePartitionsUseCase.PartitionMaintenanceResult;
+import com.teambind.coupon.application.port.out.CouponIssuePartitionPort;
+import com.teambind.coupon.common.config.CouponPartitionWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponIssuePartitionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssuePartitionService 테스트")
+class CouponIssuePartitionServiceTest {
+
+    @Mock
+    private CouponIssuePartitionPort couponIssuePartitionPort;
+
+    @Spy
+    private CouponPartitionWindow partitionWindow = new CouponPartitionWindow("2021-01-01", 24);
+
+    @InjectMocks
+    private CouponIssuePartitionService couponIssuePartitionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(couponIssuePartitionService, "premakeMonths", 2);
+        ReflectionTestUtils.setField(couponIssuePartitionService, "retentionMonths", 12);
+        ReflectionTestUtils.setField(couponIssuePartitionService, "archiveSchema", "coupon_archive");
+        ReflectionTestUtils.setField(couponIssuePartitionService, "archiveTablespace", "");
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 아무 작업도 하지 않는다")
+    void skipWhenNotPartitioned() {
+        // given
+        when(couponIssuePartitionPort.isPartitioned()).thenReturn(false);
+
+        // when
+        PartitionMaintenanceResult result = couponIssuePartitionService.maintainPartitions();
+
+        // then
+        assertThat(result.isPartitioned()).isFalse();
+        verify(couponIssuePartitionPort, never()).createMonthlyPartition(any());
+        verify(couponIssuePartitionPort, never()).detachPartition(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("현재 월부터 premake 개월 수만큼 파티션을 미리 생성한다")
+    void ensureUpcomingPartitions() {
+        // given
+        YearMonth current = YearMonth.now();
+        when(couponIssuePartitionPort.isPartitioned()).thenReturn(true);
+        when(couponIssuePartitionPort.createMonthlyPartition(any()))
+                .thenAnswer(invocation -> "coupon_issues_p" + invocation.getArgument(0));
+        when(couponIssuePartitionPort.loadAttachedPartitions()).thenReturn(List.of(current));
+
+        // when
+        PartitionMaintenanceResult result = couponIssuePartitionService.maintainPartitions();
+
+        // then
+        assertThat(result.getEnsuredPartitions()).hasSize(3);
+        verify(couponIssuePartitionPort).createMonthlyPartition(current);
+        verify(couponIssuePartitionPort).createMonthlyPartition(current.plusMonths(1));
+        verify(couponIssuePartitionPort).createMonthlyPartition(current.plusMonths(2));
+        verify(couponIssuePartitionPort, never()).detachPartition(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나고 활성 쿠폰이 없는 파티션만 분리한다")
+    void detachOnlyColdPartitions() {
+        // given
+        YearMonth current = YearMonth.now();
+        YearMonth cold = current.minusMonths(14);
+        YearMonth stillActive = current.minusMonths(13);
+        YearMonth hot = current.minusMonths(3);
+
+        when(couponIssuePartitionPort.isPartitioned()).thenReturn(true);
+        when(couponIssuePartitionPort.createMonthlyPartition(any())).thenReturn("partition");
+        when(couponIssuePartitionPort.loadAttachedPartitions()).thenReturn(List.of(cold, stillActive, hot));
+        when(couponIssuePartitionPort.hasActiveCoupons(cold)).thenReturn(false);
+        when(couponIssuePartitionPort.hasActiveCoupons(stillActive)).thenReturn(true);
+        when(couponIssuePartitionPort.detachPartition(eq(cold), eq("coupon_archive"), any()))
+                .thenReturn("coupon_archive.coupon_issues_p" + cold);
+
+        // when
+        PartitionMaintenanceResult result = couponIssuePartitionService.maintainPartitions();
+
+        // then
+        assertThat(result.getDetachedPartitions()).containsExactly("coupon_archive.coupon_issues_p" + cold);
+        assertThat(result.getSkippedPartitions()).containsExactly(stillActive.toString());
+        verify(couponIssuePartitionPort, never()).hasActiveCoupons(hot);
+        verify(couponIssuePartitionPort, never()).detachPartition(eq(stillActive), any(), any());
+    }
+
+    @Test
+    @DisplayName("활성 쿠폰이 남은 가장 오래된 파티션 시작일을 활성 쿠폰 조회 하한으로 사용한다")
+    void refreshActiveWindowFromOldestActivePartition() {
+        // given: 유효기간이 긴 쿠폰이 20개월 전 파티션에 남아있음
+        YearMonth oldestActive = YearMonth.now().minusMonths(20);
+        when(couponIssuePartitionPort.isPartitioned()).thenReturn(true);
+        when(couponIssuePartitionPort.findOldestActiveMonth()).thenReturn(Optional.of(oldestActive));
+
+        // when
+        couponIssuePartitionService.refreshActiveWindow();
+
+        // then
+        assertThat(partitionWindow.activeFrom()).isEqualTo(oldestActive.atDay(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 활성 쿠폰 조회 하한은 전체 파티션 하한을 유지한다")
+    void refreshActiveWindowSkipsWhenNotPartitioned() {
+        // given
+        when(couponIssuePartitionPort.isPartitioned()).thenReturn(false);
+
+        // when
+        couponIssuePartitionService.refreshActiveWindow();
+
+        // then
+        assertThat(partitionWindow.activeFrom()).isEqualTo(LocalDate.of(2021, 1, 1).atStartOfDay());
+        verify(couponIssuePartitionPort, never()).findOldestActiveMonth();
+    }
+}
@@ -1,10 +1,20 @@
 package com.teambind.coupon.application.service;
 
 import com.teambind.coupon.adapter.in.web.dto.CouponQueryRequest;
-import com.teambind.coupon.adapter.in.web.dto.CouponQueryResponse;
 import com.teambind.coupon.adapter.out.persistence.projection.CouponIssueProjection;
+import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueHistoryRepository;
 import com.teambind.coupon.adapter.out.persistence.repository.CouponIssueQueryRepository;
+import com.teambind.coupon.application.dto.response.UserCouponPage;
+import com.teambind.coupon.application.dto.response.UserCouponView;
 import com.teambind.coupon.application.port.in.QueryUserCouponsUseCase;
+import com.teambind.coupon.application.port.out.CouponWalletCachePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort.UserCouponCounts;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.application.port.out.CouponWalletCachePort.CouponWallet;
+import com.teambind.coupon.common.config.CouponPartitionWindow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,13 +22,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,9 +46,26 @@ import static org.mockito.Mockito.*;
 @DisplayName("CouponQueryService 테스트")
 class CouponQueryServiceTest {
 
+    private static final LocalDateTime ALL_PARTITIONS_FROM = LocalDateTime.of(2021, 1, 1, 0, 0);
+
     @Mock
     private CouponIssueQueryRepository couponIssueQueryRepository;
 
+    @Mock
+    private CouponIssueHistoryRepository couponIssueHistoryRepository;
+
+    @Mock
+    private LoadCouponIssuePort loadCouponIssuePort;
+
+    @Mock
+    private CouponWalletCachePort couponWalletCachePort;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private CouponPartitionWindow partitionWindow = new CouponPartitionWindow("2021-01-01", 24);
+
     @InjectMocks
     private CouponQueryService couponQueryService;
 
@@ -60,18 +92,18 @@ class CouponQueryServiceTest {
                     .build();
 
             when(couponIssueQueryRepository.findUserCouponsWithCursor(
-                    eq(userId), isNull(), isNull(), isNull(), eq(4)
+                    eq(userId), isNull(), isNull(), isNull(), eq(ALL_PARTITIONS_FROM), eq(4)
             )).thenReturn(mockProjections.subList(0, 4));
 
             // when
-            CouponQueryResponse response = couponQueryService.queryUserCoupons(userId, request);
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
 
             // then
-            assertThat(response.getData()).hasSize(3);
+            assertThat(response.getItems()).hasSize(3);
             assertThat(response.isHasNext()).isTrue();
             assertThat(response.getNextCursor()).isEqualTo(3L);
             verify(couponIssueQueryRepository).findUserCouponsWithCursor(
-                    userId, null, null, null, 4
+                    eq(userId), isNull(), isNull(), isNull(), eq(ALL_PARTITIONS_FROM), eq(4)
             );
         }
 
@@ -85,14 +117,14 @@ class CouponQueryServiceTest {
                     .build();
 
             when(couponIssueQueryRepository.findUserCouponsWithCursor(
-                    eq(userId), isNull(), isNull(), eq(10L), eq(4)
+                    eq(userId), isNull(), isNull(), eq(10L), eq(ALL_PARTITIONS_FROM), eq(4)
             )).thenReturn(mockProjections.subList(0, 2));
 
             // when
-            CouponQueryResponse response = couponQueryService.queryUserCoupons(userId, request);
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
 
             // then
-            assertThat(response.getData()).hasSize(2);
+            assertThat(response.getItems()).hasSize(2);
             assertThat(response.isHasNext()).isFalse();
             assertThat(response.getNextCursor()).isNull();
         }
@@ -107,16 +139,16 @@ class CouponQueryServiceTest {
                     .build();
 
             when(couponIssueQueryRepository.findUserCouponsWithCursor(
-                    eq(userId), eq("AVAILABLE"), isNull(), isNull(), eq(11)
+                    eq(userId), eq("AVAILABLE"), isNull(), isNull(), any(LocalDateTime.class), eq(11)
             )).thenReturn(mockProjections);
 
             // when
-            CouponQueryResponse response = couponQueryService.queryUserCoupons(userId, request);
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
 
             // then
-            assertThat(response.getData()).hasSize(5);
+            assertThat(response.getItems()).hasSize(5);
             verify(couponIssueQueryRepository).findUserCouponsWithCursor(
-                    userId, "AVAILABLE", null, null, 11
+                    eq(userId), eq("AVAILABLE"), isNull(), isNull(), any(LocalDateTime.class), eq(11)
             );
         }
 
@@ -131,16 +163,16 @@ class CouponQueryServiceTest {
                     .build();
 
             when(couponIssueQueryRepository.findUserCouponsWithCursor(
-                    eq(userId), isNull(), eq("{1,2,3}"), isNull(), eq(11)
+                    eq(userId), isNull(), eq("{1,2,3}"), isNull(), eq(ALL_PARTITIONS_FROM), eq(11)
             )).thenReturn(mockProjections);
 
             // when
-            CouponQueryResponse response = couponQueryService.queryUserCoupons(userId, request);
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
 
             // then
-            assertThat(response.getData()).hasSize(5);
+            assertThat(response.getItems()).hasSize(5);
             verify(couponIssueQueryRepository).findUserCouponsWithCursor(
-                    userId, null, "{1,2,3}", null, 11
+                    eq(userId), isNull(), eq("{1,2,3}"), isNull(), eq(ALL_PARTITIONS_FROM), eq(11)
             );
         }
 
@@ -153,18 +185,66 @@ class CouponQueryServiceTest {
                     .build();
 
             when(couponIssueQueryRepository.findUserCouponsWithCursor(
-                    anyLong(), any(), any(), any(), anyInt()
+                    anyLong(), any(), any(), any(), any(), anyInt()
             )).thenReturn(new ArrayList<>());
 
             // when
-            CouponQueryResponse response = couponQueryService.queryUserCoupons(userId, request);
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
 
             // then
-            assertThat(response.getData()).isEmpty();
+            assertThat(response.getItems()).isEmpty();
             assertThat(response.isHasNext()).isFalse();
             assertThat(response.getNextCursor()).isNull();
             assertThat(response.getCount()).isZero();
         }
+
+        @Test
+        @DisplayName("보관된 이력 쿠폰을 ID 내림차순으로 병합 조회")
+        void queryWithHistoryFallback() {
+            // given
+            ReflectionTestUtils.setField(couponQueryService, "historyFallbackEnabled", true);
+            CouponQueryRequest request = CouponQueryRequest.builder()
+                    .limit(3)
+                    .build();
+
+            when(couponIssueQueryRepository.findUserCouponsWithCursor(
+                    anyLong(), any(), any(), any(), any(), anyInt()
+            )).thenReturn(mockProjections.subList(3, 5));
+            when(couponIssueHistoryRepository.findUserHistoryWithCursor(
+                    eq(userId), isNull(), isNull(), isNull(), eq(4)
+            )).thenReturn(mockProjections.subList(0, 2));
+
+            // when
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
+
+            // then
+            assertThat(response.getItems())
+                    .extracting(UserCouponView::getCouponIssueId)
+                    .containsExactly(5L, 4L, 2L);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(response.getNextCursor()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("사용 가능 쿠폰 조회는 이력 테이블을 조회하지 않음")
+        void availableQuerySkipsHistory() {
+            // given
+            ReflectionTestUtils.setField(couponQueryService, "historyFallbackEnabled", true);
+            CouponQueryRequest request = CouponQueryRequest.builder()
+                    .status(CouponQueryRequest.CouponStatusFilter.AVAILABLE)
+                    .limit(10)
+                    .build();
+
+            when(couponIssueQueryRepository.findUserCouponsWithCursor(
+                    anyLong(), any(), any(), any(), any(), anyInt()
+            )).thenReturn(mockProjections);
+
+            // when
+            couponQueryService.queryUserCoupons(userId, request);
+
+            // then
+            verifyNoInteractions(couponIssueHistoryRepository);
+        }
     }
 
     @Nested
@@ -176,16 +256,16 @@ class CouponQueryServiceTest {
         void queryExpiringCoupons() {
             // given
             when(couponIssueQueryRepository.findExpiringCoupons(
-                    eq(userId), eq(7), eq(10)
+                    eq(userId), eq(7), any(LocalDateTime.class), eq(10)
             )).thenReturn(mockProjections.subList(0, 3));
 
             // when
-            CouponQueryResponse response = couponQueryService.queryExpiringCoupons(userId, 7, 10);
+            UserCouponPage response = couponQueryService.queryExpiringCoupons(userId, 7, 10);
 
             // then
-            assertThat(response.getData()).hasSize(3);
+            assertThat(response.getItems()).hasSize(3);
             assertThat(response.isHasNext()).isFalse();
-            verify(couponIssueQueryRepository).findExpiringCoupons(userId, 7, 10);
+            verify(couponIssueQueryRepository).findExpiringCoupons(eq(userId), eq(7), any(LocalDateTime.class), eq(10));
         }
 
         @Test
@@ -193,14 +273,14 @@ class CouponQueryServiceTest {
         void queryNoExpiringCoupons() {
             // given
             when(couponIssueQueryRepository.findExpiringCoupons(
-                    eq(userId), anyInt(), anyInt()
+                    eq(userId), anyInt(), any(LocalDateTime.class), anyInt()
             )).thenReturn(new ArrayList<>());
 
             // when
-            CouponQueryResponse response = couponQueryService.queryExpiringCoupons(userId, 3, 10);
+            UserCouponPage response = couponQueryService.queryExpiringCoupons(userId, 3, 10);
 
             // then
-            assertThat(response.getData()).isEmpty();
+            assertThat(response.getItems()).isEmpty();
             assertThat(response.getCount()).isZero();
         }
     }
@@ -210,19 +290,11 @@ class CouponQueryServiceTest {
     class GetCouponStatistics {
 
         @Test
-        @DisplayName("유저 쿠폰 통계 조회 성공")
+        @DisplayName("유저 쿠폰 통계 조회 성공 - 단일 집계 호출")
         void getCouponStatisticsSuccess() {
             // given
-            when(couponIssueQueryRepository.countUserCoupons(userId, null, null))
-                    .thenReturn(100L);
-            when(couponIssueQueryRepository.countUserCoupons(userId, "AVAILABLE", null))
-                    .thenReturn(30L);
-            when(couponIssueQueryRepository.countUserCoupons(userId, "USED", null))
-                    .thenReturn(50L);
-            when(couponIssueQueryRepository.countUserCoupons(userId, "EXPIRED", null))
-                    .thenReturn(20L);
-            when(couponIssueQueryRepository.findExpiringCoupons(userId, 7, Integer.MAX_VALUE))
-                    .thenReturn(mockProjections.subList(0, 2));
+            when(loadCouponIssuePort.countUserCoupons(userId, 7))
+                    .thenReturn(createCounts(20L, 10L, 50L, 20L, 0L, 18L, 2L));
 
             // when
             QueryUserCouponsUseCase.CouponStatistics statistics =
@@ -230,23 +302,21 @@ class CouponQueryServiceTest {
 
             // then
             assertThat(statistics.getTotalCoupons()).isEqualTo(100L);
-            assertThat(statistics.getAvailableCoupons()).isEqualTo(30L);
+            assertThat(statistics.getAvailableCoupons()).isEqualTo(18L);
             assertThat(statistics.getUsedCoupons()).isEqualTo(50L);
             assertThat(statistics.getExpiredCoupons()).isEqualTo(20L);
             assertThat(statistics.getExpiringCoupons()).isEqualTo(2L);
 
-            verify(couponIssueQueryRepository, times(4)).countUserCoupons(any(), any(), any());
-            verify(couponIssueQueryRepository).findExpiringCoupons(userId, 7, Integer.MAX_VALUE);
+            verify(loadCouponIssuePort, times(1)).countUserCoupons(userId, 7);
+            verifyNoInteractions(couponIssueQueryRepository);
         }
 
         @Test
         @DisplayName("쿠폰이 없는 유저의 통계")
         void getEmptyStatistics() {
             // given
-            when(couponIssueQueryRepository.countUserCoupons(any(), any(), any()))
-                    .thenReturn(0L);
-            when(couponIssueQueryRepository.findExpiringCoupons(any(), anyInt(), anyInt()))
-                    .thenReturn(new ArrayList<>());
+            when(loadCouponIssuePort.countUserCoupons(anyLong(), anyInt()))
+                    .thenReturn(UserCouponCounts.empty());
 
             // when
             QueryUserCouponsUseCase.CouponStatistics statistics =
@@ -261,6 +331,105 @@ class CouponQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("지갑 읽기 모델 캐시")
+    class WalletCache {
+
+        @BeforeEach
+        void enableWalletCache() {
+            ReflectionTestUtils.setField(couponQueryService, "walletCacheEnabled", true);
+            ReflectionTestUtils.setField(couponQueryService, "walletPageSize", 10);
+        }
+
+        @Test
+        @DisplayName("캐시 히트 시 DB 조회 없이 첫 페이지 응답")
+        void defaultPageFromCache() {
+            // given
+            List<UserCouponView> items = mockProjections.stream()
+                    .map(UserCouponView::from)
+                    .toList();
+            when(couponWalletCachePort.load(userId)).thenReturn(Optional.of(CouponWallet.builder()
+                    .items(items)
+                    .totalCoupons(5L)
+                    .build()));
+
+            CouponQueryRequest request = CouponQueryRequest.builder()
+                    .limit(3)
+                    .build();
+
+            // when
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
+
+            // then
+            assertThat(response.getItems()).hasSize(3);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(response.getNextCursor()).isEqualTo(3L);
+            verifyNoInteractions(couponIssueQueryRepository);
+            assertThat(meterRegistry.counter("coupon.wallet.cache", "result", "hit").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("캐시 미스 시 첫 페이지와 통계를 만들어 저장")
+        void buildWalletOnMiss() {
+            // given
+            when(couponWalletCachePort.load(userId)).thenReturn(Optional.empty());
+            when(couponIssueQueryRepository.findUserCouponsWithCursor(
+                    eq(userId), isNull(), isNull(), isNull(), eq(ALL_PARTITIONS_FROM), eq(11)
+            )).thenReturn(mockProjections);
+            when(loadCouponIssuePort.countUserCoupons(userId, 7))
+                    .thenReturn(createCounts(2L, 0L, 3L, 0L, 0L, 2L, 0L));
+
+            // when
+            QueryUserCouponsUseCase.CouponStatistics statistics = couponQueryService.getCouponStatistics(userId);
+
+            // then
+            assertThat(statistics.getTotalCoupons()).isEqualTo(5L);
+            assertThat(statistics.getAvailableCoupons()).isEqualTo(2L);
+            verify(couponWalletCachePort).save(eq(userId), argThat(wallet ->
+                    wallet.getItems().size() == 5 && wallet.getTotalCoupons() == 5L));
+            assertThat(meterRegistry.counter("coupon.wallet.cache", "result", "miss").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("필터가 있는 조회는 캐시를 사용하지 않음")
+        void filteredQueryBypassesCache() {
+            // given
+            CouponQueryRequest request = CouponQueryRequest.builder()
+                    .productIds(Arrays.asList(1L, 2L))
+                    .limit(3)
+                    .build();
+
+            when(couponIssueQueryRepository.findUserCouponsWithCursor(
+                    eq(userId), isNull(), eq("{1,2}"), isNull(), any(LocalDateTime.class), eq(4)
+            )).thenReturn(mockProjections.subList(0, 2));
+
+            // when
+            UserCouponPage response = couponQueryService.queryUserCoupons(userId, request);
+
+            // then
+            assertThat(response.getItems()).hasSize(2);
+            verifyNoInteractions(couponWalletCachePort);
+        }
+    }
+
+    /**
+     * 테스트용 집계 결과 생성
+     */
+    private UserCouponCounts createCounts(long issued, long reserved, long used, long expired, long cancelled,
+                                          long available, long expiring) {
+        Map<CouponStatus, Long> counts = new EnumMap<>(CouponStatus.class);
+        counts.put(CouponStatus.ISSUED, issued);
+        counts.put(CouponStatus.RESERVED, reserved);
+        counts.put(CouponStatus.USED, used);
+        counts.put(CouponStatus.EXPIRED, expired);
+        counts.put(CouponStatus.CANCELLED, cancelled);
+        return UserCouponCounts.builder()
+                .countsByStatus(counts)
+                .availableCount(available)
+                .expiringCount(expiring)
+                .build();
+    }
+
     /**
      * 테스트용 Mock Projection 생성
      */
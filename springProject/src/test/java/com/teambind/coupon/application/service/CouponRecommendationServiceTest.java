@@ -0,0 +1,168 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.RecommendCouponsCommand;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase.CouponRecommendation;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase.CouponRecommendationResult;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountPolicy;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.ItemApplicableRule;
+import com.teambind.coupon.domain.model.OrderCart;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CouponRecommendationService 단위 테스트
+ */
+@DisplayName("CouponRecommendationService 테스트")
+class CouponRecommendationServiceTest {
+
+    private static final Long USER_ID = 100L;
+
+    private LoadCouponIssuePort loadCouponIssuePort;
+    private LoadCouponPolicyPort loadCouponPolicyPort;
+    private CouponRecommendationService service;
+
+    private final List<OrderCart.Line> cart = List.of(
+            new OrderCart.Line(1L, new BigDecimal("30000")),
+            new OrderCart.Line(2L, new BigDecimal("10000"))
+    );
+
+    @BeforeEach
+    void setUp() {
+        loadCouponIssuePort = mock(LoadCouponIssuePort.class);
+        loadCouponPolicyPort = mock(LoadCouponPolicyPort.class);
+
+        CompiledCouponRuleCache ruleCache = new CompiledCouponRuleCache(loadCouponPolicyPort);
+        ReflectionTestUtils.setField(ruleCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(ruleCache, "maxSize", 100);
+        ruleCache.init();
+
+        service = new CouponRecommendationService(loadCouponIssuePort, ruleCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxResults", 20);
+
+        when(loadCouponPolicyPort.loadByIds(anyList())).thenReturn(Map.of(
+                // 40,000 × 10% = 4,000
+                10L, policy(10L, DiscountPolicy.percentage(new BigDecimal("10"), null), ItemApplicableRule.forAllItems()),
+                // 5,000원 (최소 주문 50,000원 미충족 → 0)
+                20L, policy(20L, new DiscountPolicy(DiscountType.FIXED_AMOUNT, new BigDecimal("5000"),
+                        new BigDecimal("50000"), null), ItemApplicableRule.forAllItems()),
+                // 상품 2만 적용: 10,000 × 50% = 5,000 → 최대 3,000
+                30L, policy(30L, DiscountPolicy.percentage(new BigDecimal("50"), new BigDecimal("3000")),
+                        ItemApplicableRule.forSpecificItems(List.of(2L))),
+                // 4,000원 정액
+                40L, policy(40L, DiscountPolicy.fixedAmount(new BigDecimal("4000")), ItemApplicableRule.forAllItems())
+        ));
+    }
+
+    @Test
+    @DisplayName("할인 금액 내림차순으로 상위 N개 반환, 할인 0인 쿠폰 제외")
+    void recommend_TopNByDiscount() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(loadCouponIssuePort.loadUsableCoupons(USER_ID)).thenReturn(List.of(
+                coupon(1L, 10L, now.plusDays(10)),
+                coupon(2L, 20L, now.plusDays(10)),
+                coupon(3L, 30L, now.plusDays(10)),
+                coupon(4L, 40L, now.plusDays(3)),
+                coupon(5L, 99L, now.plusDays(1))   // 정책 없음 → 제외
+        ));
+
+        // when
+        CouponRecommendationResult result = service.recommend(RecommendCouponsCommand.of(USER_ID, cart, 2));
+
+        // then - 4,000원 동률은 먼저 만료되는 쿠폰 우선
+        assertThat(result.getOrderAmount()).isEqualByComparingTo("40000");
+        assertThat(result.getEvaluatedCoupons()).isEqualTo(5);
+        assertThat(result.getRecommendations())
+                .extracting(CouponRecommendation::getCouponIssueId)
+                .containsExactly(4L, 1L);
+        assertThat(result.getRecommendations().get(0).getDiscountAmount()).isEqualByComparingTo("4000");
+    }
+
+    @Test
+    @DisplayName("특정 상품 쿠폰은 적용 가능 상품 금액을 기준 금액으로 반환")
+    void recommend_ApplicableAmount() {
+        // given
+        when(loadCouponIssuePort.loadUsableCoupons(USER_ID)).thenReturn(List.of(
+                coupon(3L, 30L, LocalDateTime.now().plusDays(1))));
+
+        // when
+        CouponRecommendationResult result = service.recommend(RecommendCouponsCommand.of(USER_ID, cart, 5));
+
+        // then
+        CouponRecommendation recommendation = result.getRecommendations().get(0);
+        assertThat(recommendation.getApplicableAmount()).isEqualByComparingTo("10000");
+        assertThat(recommendation.getDiscountAmount()).isEqualByComparingTo("3000");
+        assertThat(recommendation.getDiscountType()).isEqualTo(DiscountType.PERCENTAGE);
+    }
+
+    @Test
+    @DisplayName("정책 규칙은 캐시되어 반복 추천 시 다시 조회하지 않음")
+    void recommend_CachesCompiledRules() {
+        // given
+        when(loadCouponIssuePort.loadUsableCoupons(USER_ID)).thenReturn(List.of(
+                coupon(1L, 10L, LocalDateTime.now().plusDays(1)),
+                coupon(4L, 40L, LocalDateTime.now().plusDays(1))));
+
+        // when
+        service.recommend(RecommendCouponsCommand.of(USER_ID, cart, 5));
+        service.recommend(RecommendCouponsCommand.of(USER_ID, cart, 5));
+
+        // then
+        verify(loadCouponPolicyPort, times(1)).loadByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("사용 가능한 쿠폰이 없으면 빈 결과")
+    void recommend_NoCoupons() {
+        // given
+        when(loadCouponIssuePort.loadUsableCoupons(USER_ID)).thenReturn(List.of());
+
+        // when
+        CouponRecommendationResult result = service.recommend(RecommendCouponsCommand.of(USER_ID, cart, 5));
+
+        // then
+        assertThat(result.getRecommendations()).isEmpty();
+        assertThat(result.getEvaluatedCoupons()).isZero();
+    }
+
+    private static CouponPolicy policy(Long id, DiscountPolicy discountPolicy, ItemApplicableRule rule) {
+        return CouponPolicy.builder()
+                .id(id)
+                .couponName("쿠폰-" + id)
+                .discountPolicy(discountPolicy)
+                .applicableRule(rule)
+                .build();
+    }
+
+    private static CouponIssue coupon(Long id, Long policyId, LocalDateTime expiredAt) {
+        return CouponIssue.builder()
+                .id(id)
+                .policyId(policyId)
+                .userId(USER_ID)
+                .status(CouponStatus.ISSUED)
+                .couponName("쿠폰-" + policyId)
+                .expiredAt(expiredAt)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.teambind.coupon.application.port.in.ReserveCouponUseCase.CouponReserv
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
 import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponPolicy;
 import com.teambind.coupon.domain.model.CouponStatus;
@@ -51,6 +52,9 @@ class CouponReservationServiceTest {
     @Mock
     private LoadCouponPolicyPort loadCouponPolicyPort;
 
+    @Mock
+    private CompiledCouponRuleCache ruleCache;
+
     private CouponPolicy policy;
     private CouponIssue issuedCoupon;
     private ReserveCouponCommand command;
@@ -74,8 +78,8 @@ class CouponReservationServiceTest {
 
             when(loadCouponIssuePort.loadByIdAndUserId(issuedCoupon.getId(), 100L))
                     .thenReturn(Optional.of(issuedCoupon));
-            when(loadCouponPolicyPort.loadById(policy.getId()))
-                    .thenReturn(Optional.of(policy));
+            when(ruleCache.get(policy.getId()))
+                    .thenReturn(Optional.of(CompiledCouponRule.compile(policy)));
             when(saveCouponIssuePort.save(any(CouponIssue.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -245,8 +249,8 @@ class CouponReservationServiceTest {
 
             when(loadCouponIssuePort.loadByIdAndUserId(issuedCoupon.getId(), 100L))
                     .thenReturn(Optional.of(issuedCoupon));
-            when(loadCouponPolicyPort.loadById(policy.getId()))
-                    .thenReturn(Optional.of(policy));
+            when(ruleCache.get(policy.getId()))
+                    .thenReturn(Optional.of(CompiledCouponRule.compile(policy)));
             when(saveCouponIssuePort.save(any(CouponIssue.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -283,8 +287,8 @@ class CouponReservationServiceTest {
 
                 when(loadCouponIssuePort.loadByIdAndUserId(userCoupon.getId(), userId))
                         .thenReturn(Optional.of(userCoupon));
-                when(loadCouponPolicyPort.loadById(policy.getId()))
-                        .thenReturn(Optional.of(policy));
+                when(ruleCache.get(policy.getId()))
+                        .thenReturn(Optional.of(CompiledCouponRule.compile(policy)));
                 when(saveCouponIssuePort.save(any(CouponIssue.class)))
                         .thenAnswer(inv -> inv.getArgument(0));
 
@@ -344,8 +348,8 @@ class CouponReservationServiceTest {
             command = ReserveCouponCommand.of(longReservationId, 100L, issuedCoupon.getId());
             when(loadCouponIssuePort.loadByIdAndUserId(issuedCoupon.getId(), 100L))
                     .thenReturn(Optional.of(issuedCoupon));
-            when(loadCouponPolicyPort.loadById(policy.getId()))
-                    .thenReturn(Optional.of(policy));
+            when(ruleCache.get(policy.getId()))
+                    .thenReturn(Optional.of(CompiledCouponRule.compile(policy)));
             when(saveCouponIssuePort.save(any(CouponIssue.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
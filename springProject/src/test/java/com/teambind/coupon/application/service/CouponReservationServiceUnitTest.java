@@ -1,10 +1,13 @@
 package com.teambind.coupon.application.service;
 
+import com.teambind.coupon.application.port.in.ReserveCartCouponsCommand;
 import com.teambind.coupon.application.port.in.ReserveCouponCommand;
+import com.teambind.coupon.application.port.in.ReserveCouponUseCase.CartReservationResult;
 import com.teambind.coupon.application.port.in.ReserveCouponUseCase.CouponReservationResult;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
 import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.domain.exception.CouponDomainException;
 import com.teambind.coupon.domain.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,10 +20,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -43,6 +49,9 @@ class CouponReservationServiceUnitTest {
     @Mock
     private LoadCouponPolicyPort loadCouponPolicyPort;
 
+    @Mock
+    private CompiledCouponRuleCache ruleCache;
+
     private ReserveCouponCommand command;
     private CouponIssue availableCoupon;
     private CouponPolicy couponPolicy;
@@ -51,6 +60,7 @@ class CouponReservationServiceUnitTest {
     void setUp() {
         // @Value 필드 직접 주입
         ReflectionTestUtils.setField(reservationService, "reservationTimeoutMinutes", 10);
+        ReflectionTestUtils.setField(reservationService, "maxCouponsPerCart", 3);
 
         command = ReserveCouponCommand.of("RESV-123", 100L, 1L, BigDecimal.valueOf(50000));
 
@@ -88,8 +98,8 @@ class CouponReservationServiceUnitTest {
         // given
         when(loadCouponIssuePort.loadByIdAndUserId(1L, 100L))
                 .thenReturn(Optional.of(availableCoupon));
-        when(loadCouponPolicyPort.loadById(10L))
-                .thenReturn(Optional.of(couponPolicy));
+        when(ruleCache.get(10L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(couponPolicy)));
         when(saveCouponIssuePort.save(any(CouponIssue.class)))
                 .thenReturn(availableCoupon);
 
@@ -108,6 +118,31 @@ class CouponReservationServiceUnitTest {
         verify(saveCouponIssuePort).save(any(CouponIssue.class));
     }
 
+    @Test
+    @DisplayName("쿠폰 예약 성공 - 주문 금액 없이 예약하면 정액 쿠폰은 쿠폰 금액, 정률 쿠폰은 0")
+    void reserveCoupon_WithoutOrderAmount() {
+        // given
+        ReserveCouponCommand noAmountCommand = ReserveCouponCommand.of("RESV-123", 100L, 1L);
+        when(loadCouponIssuePort.loadByIdAndUserId(1L, 100L))
+                .thenReturn(Optional.of(availableCoupon));
+        when(ruleCache.get(10L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(cartPolicy(10L, DiscountType.AMOUNT, 5000))),
+                        Optional.of(CompiledCouponRule.compile(cartPolicy(10L, DiscountType.PERCENTAGE, 10))));
+        when(saveCouponIssuePort.save(any(CouponIssue.class)))
+                .thenReturn(availableCoupon);
+
+        // when
+        CouponReservationResult fixedResult = reservationService.reserveCoupon(noAmountCommand);
+        availableCoupon.rollback();
+        CouponReservationResult percentageResult = reservationService.reserveCoupon(noAmountCommand);
+
+        // then
+        assertThat(fixedResult.isSuccess()).isTrue();
+        assertThat(fixedResult.getDiscountAmount()).isEqualByComparingTo("5000");
+        assertThat(percentageResult.isSuccess()).isTrue();
+        assertThat(percentageResult.getDiscountAmount()).isEqualByComparingTo("0");
+    }
+
     @Test
     @DisplayName("쿠폰 예약 실패 - 예약 ID가 없음")
     void reserveCoupon_InvalidReservationId() {
@@ -161,6 +196,31 @@ class CouponReservationServiceUnitTest {
         verify(saveCouponIssuePort, never()).save(any());
     }
 
+    @Test
+    @DisplayName("쿠폰 예약 실패 - 다른 쿠폰에 이미 사용된 예약 ID")
+    void reserveCoupon_ReservationIdTaken() {
+        // given
+        CouponIssue otherCoupon = CouponIssue.builder()
+                .id(2L)
+                .policyId(10L)
+                .userId(200L)
+                .status(CouponStatus.RESERVED)
+                .reservationId("RESV-123")
+                .build();
+        when(loadCouponIssuePort.loadByIdAndUserId(1L, 100L))
+                .thenReturn(Optional.of(availableCoupon));
+        when(loadCouponIssuePort.loadAllByReservationId("RESV-123"))
+                .thenReturn(List.of(otherCoupon));
+
+        // when
+        CouponReservationResult result = reservationService.reserveCoupon(command);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("이미 다른 쿠폰에 사용된 예약 ID입니다");
+        verify(saveCouponIssuePort, never()).save(any());
+    }
+
     @Test
     @DisplayName("쿠폰 예약 - 멱등성 (이미 같은 ID로 예약됨)")
     void reserveCoupon_Idempotency() {
@@ -275,7 +335,7 @@ class CouponReservationServiceUnitTest {
         // given
         when(loadCouponIssuePort.loadByIdAndUserId(1L, 100L))
                 .thenReturn(Optional.of(availableCoupon));
-        when(loadCouponPolicyPort.loadById(10L))
+        when(ruleCache.get(10L))
                 .thenReturn(Optional.empty()); // 정책 없음
 
         // when
@@ -297,8 +357,8 @@ class CouponReservationServiceUnitTest {
 
         when(loadCouponIssuePort.loadByIdAndUserId(1L, 100L))
                 .thenReturn(Optional.of(availableCoupon));
-        when(loadCouponPolicyPort.loadById(10L))
-                .thenReturn(Optional.of(couponPolicy));
+        when(ruleCache.get(10L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(couponPolicy)));
         when(saveCouponIssuePort.save(any(CouponIssue.class)))
                 .thenReturn(availableCoupon);
 
@@ -338,8 +398,8 @@ class CouponReservationServiceUnitTest {
 
         when(loadCouponIssuePort.loadByIdAndUserId(1L, 100L))
                 .thenReturn(Optional.of(percentCoupon));
-        when(loadCouponPolicyPort.loadById(10L))
-                .thenReturn(Optional.of(percentPolicy));
+        when(ruleCache.get(10L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(percentPolicy)));
         when(saveCouponIssuePort.save(any(CouponIssue.class)))
                 .thenReturn(percentCoupon);
 
@@ -354,4 +414,191 @@ class CouponReservationServiceUnitTest {
 
         verify(saveCouponIssuePort).save(any(CouponIssue.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("장바구니 쿠폰 예약 성공 - 정률 쿠폰 적용 후 정액 쿠폰 적용")
+    void reserveCoupons_StackedDiscount() {
+        // given
+        CouponIssue amountCoupon = cartCoupon(1L, 10L);
+        CouponIssue percentageCoupon = cartCoupon(2L, 20L);
+        ReserveCartCouponsCommand cartCommand = ReserveCartCouponsCommand.of(
+                "RESV-CART", 100L, List.of(1L, 2L), BigDecimal.valueOf(50000));
+
+        when(loadCouponIssuePort.loadByIdsAndUserId(List.of(1L, 2L), 100L))
+                .thenReturn(List.of(percentageCoupon, amountCoupon));
+        when(loadCouponPolicyPort.loadByIds(List.of(10L, 20L)))
+                .thenReturn(Map.of(
+                        10L, cartPolicy(10L, DiscountType.AMOUNT, 5000),
+                        20L, cartPolicy(20L, DiscountType.PERCENTAGE, 10)));
+        when(saveCouponIssuePort.reserveAll(eq(List.of(1L, 2L)), eq(100L), eq("RESV-CART"), any()))
+                .thenReturn(2);
+
+        // when
+        CartReservationResult result = reservationService.reserveCoupons(cartCommand);
+
+        // then - 50,000 * 10% = 5,000, 남은 45,000에서 정액 5,000 (요청 순서대로 반환)
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCoupons()).extracting("couponId").containsExactly(1L, 2L);
+        assertThat(result.getCoupons()).extracting("discountAmount")
+                .usingElementComparator((a, b) -> ((BigDecimal) a).compareTo((BigDecimal) b))
+                .containsExactly(BigDecimal.valueOf(5000), BigDecimal.valueOf(5000));
+        assertThat(result.getTotalDiscountAmount()).isEqualByComparingTo("10000");
+        assertThat(result.getReservedUntil()).isNotNull();
+
+        verify(saveCouponIssuePort, times(1)).reserveAll(anyList(), anyLong(), anyString(), any());
+        verify(saveCouponIssuePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("장바구니 쿠폰 예약 실패 - 정률 쿠폰 2개는 함께 사용 불가")
+    void reserveCoupons_TwoPercentageCoupons() {
+        // given
+        ReserveCartCouponsCommand cartCommand = ReserveCartCouponsCommand.of(
+                "RESV-CART", 100L, List.of(1L, 2L), BigDecimal.valueOf(50000));
+
+        when(loadCouponIssuePort.loadByIdsAndUserId(List.of(1L, 2L), 100L))
+                .thenReturn(List.of(cartCoupon(1L, 10L), cartCoupon(2L, 20L)));
+        when(loadCouponPolicyPort.loadByIds(List.of(10L, 20L)))
+                .thenReturn(Map.of(
+                        10L, cartPolicy(10L, DiscountType.PERCENTAGE, 10),
+                        20L, cartPolicy(20L, DiscountType.PERCENTAGE, 5)));
+
+        // when
+        CartReservationResult result = reservationService.reserveCoupons(cartCommand);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("정률 할인 쿠폰은 한 주문에 하나만 사용할 수 있습니다");
+        assertThat(result.getCoupons()).isEmpty();
+
+        verify(saveCouponIssuePort, never()).reserveAll(anyList(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("장바구니 쿠폰 예약 실패 - 같은 정책의 쿠폰 중복 사용 불가")
+    void reserveCoupons_SamePolicy() {
+        // given
+        ReserveCartCouponsCommand cartCommand = ReserveCartCouponsCommand.of(
+                "RESV-CART", 100L, List.of(1L, 2L), BigDecimal.valueOf(50000));
+
+        when(loadCouponIssuePort.loadByIdsAndUserId(List.of(1L, 2L), 100L))
+                .thenReturn(List.of(cartCoupon(1L, 10L), cartCoupon(2L, 10L)));
+        when(loadCouponPolicyPort.loadByIds(List.of(10L)))
+                .thenReturn(Map.of(10L, cartPolicy(10L, DiscountType.AMOUNT, 5000)));
+
+        // when
+        CartReservationResult result = reservationService.reserveCoupons(cartCommand);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getMessage()).contains("같은 쿠폰은 한 주문에 하나만");
+
+        verify(saveCouponIssuePort, never()).reserveAll(anyList(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("장바구니 쿠폰 예약 실패 - 쿠폰 수 초과 또는 없는 쿠폰")
+    void reserveCoupons_InvalidCoupons() {
+        // given
+        ReserveCartCouponsCommand tooMany = ReserveCartCouponsCommand.of(
+                "RESV-CART", 100L, List.of(1L, 2L, 3L, 4L), BigDecimal.valueOf(50000));
+        ReserveCartCouponsCommand missing = ReserveCartCouponsCommand.of(
+                "RESV-CART", 100L, List.of(1L, 2L), BigDecimal.valueOf(50000));
+
+        when(loadCouponIssuePort.loadByIdsAndUserId(List.of(1L, 2L), 100L))
+                .thenReturn(List.of(cartCoupon(1L, 10L)));
+
+        // when
+        CartReservationResult tooManyResult = reservationService.reserveCoupons(tooMany);
+        CartReservationResult missingResult = reservationService.reserveCoupons(missing);
+
+        // then
+        assertThat(tooManyResult.isSuccess()).isFalse();
+        assertThat(tooManyResult.getMessage()).isEqualTo("한 주문에 사용할 수 있는 쿠폰은 최대 3개입니다");
+        assertThat(missingResult.isSuccess()).isFalse();
+        assertThat(missingResult.getMessage()).isEqualTo("쿠폰을 찾을 수 없음 (couponId: 2)");
+
+        verify(loadCouponIssuePort, times(1)).loadByIdsAndUserId(anyList(), anyLong());
+        verify(saveCouponIssuePort, never()).reserveAll(anyList(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("장바구니 쿠폰 예약 실패 - 조회 후 상태가 바뀌면 예외로 전체 롤백")
+    void reserveCoupons_ConcurrentlyChanged() {
+        // given
+        ReserveCartCouponsCommand cartCommand = ReserveCartCouponsCommand.of(
+                "RESV-CART", 100L, List.of(1L, 2L), BigDecimal.valueOf(50000));
+
+        when(loadCouponIssuePort.loadByIdsAndUserId(List.of(1L, 2L), 100L))
+                .thenReturn(List.of(cartCoupon(1L, 10L), cartCoupon(2L, 20L)));
+        when(loadCouponPolicyPort.loadByIds(List.of(10L, 20L)))
+                .thenReturn(Map.of(
+                        10L, cartPolicy(10L, DiscountType.AMOUNT, 5000),
+                        20L, cartPolicy(20L, DiscountType.AMOUNT, 3000)));
+        when(saveCouponIssuePort.reserveAll(anyList(), anyLong(), anyString(), any()))
+                .thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserveCoupons(cartCommand))
+                .isInstanceOf(CouponDomainException.class)
+                .hasMessageContaining("요청: 2, 예약: 1");
+    }
+
+    @Test
+    @DisplayName("장바구니 쿠폰 예약 - 같은 예약 ID로 이미 예약된 경우 멱등 성공")
+    void reserveCoupons_Idempotent() {
+        // given
+        CouponIssue first = cartCoupon(1L, 10L);
+        CouponIssue second = cartCoupon(2L, 20L);
+        first.reserve("RESV-CART");
+        second.reserve("RESV-CART");
+        ReserveCartCouponsCommand cartCommand = ReserveCartCouponsCommand.of(
+                "RESV-CART", 100L, List.of(1L, 2L), BigDecimal.valueOf(50000));
+
+        when(loadCouponIssuePort.loadByIdsAndUserId(List.of(1L, 2L), 100L))
+                .thenReturn(List.of(first, second));
+        when(loadCouponPolicyPort.loadByIds(List.of(10L, 20L)))
+                .thenReturn(Map.of(
+                        10L, cartPolicy(10L, DiscountType.AMOUNT, 5000),
+                        20L, cartPolicy(20L, DiscountType.AMOUNT, 3000)));
+
+        // when
+        CartReservationResult result = reservationService.reserveCoupons(cartCommand);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getMessage()).isEqualTo("쿠폰이 이미 예약됨");
+        assertThat(result.getTotalDiscountAmount()).isEqualByComparingTo("8000");
+
+        verify(saveCouponIssuePort, never()).reserveAll(anyList(), anyLong(), anyString(), any());
+    }
+
+    private CouponIssue cartCoupon(Long id, Long policyId) {
+        return CouponIssue.builder()
+                .id(id)
+                .policyId(policyId)
+                .userId(100L)
+                .status(CouponStatus.ISSUED)
+                .issuedAt(LocalDateTime.now().minusDays(1))
+                .expiredAt(LocalDateTime.now().plusDays(29))
+                .couponName("장바구니 쿠폰 " + id)
+                .build();
+    }
+
+    private CouponPolicy cartPolicy(Long id, DiscountType type, long value) {
+        return CouponPolicy.builder()
+                .id(id)
+                .couponName("장바구니 쿠폰 정책 " + id)
+                .discountPolicy(DiscountPolicy.builder()
+                        .discountType(type)
+                        .discountValue(BigDecimal.valueOf(value))
+                        .build())
+                .distributionType(DistributionType.CODE)
+                .maxIssueCount(100)
+                .currentIssueCount(new AtomicInteger(50))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(30))
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.RollupCouponStatisticsUseCase.RollupResult;
+import com.teambind.coupon.application.port.out.CouponStatisticsRollupPort;
+import com.teambind.coupon.application.port.out.JobLockPort;
+import com.teambind.coupon.application.port.out.JobLockPort.JobLock;
+import com.teambind.coupon.common.exceptions.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponStatisticsRollupService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStatisticsRollupService 테스트")
+class CouponStatisticsRollupServiceTest {
+
+    @Mock
+    private CouponStatisticsRollupPort rollupPort;
+
+    @Mock
+    private JobLockPort jobLockPort;
+
+    @Mock
+    private JobLock jobLock;
+
+    private MeterRegistry meterRegistry;
+    private CouponStatisticsRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rollupService = new CouponStatisticsRollupService(rollupPort, jobLockPort, meterRegistry);
+        ReflectionTestUtils.setField(rollupService, "lookbackDays", 1);
+        ReflectionTestUtils.setField(rollupService, "chunkDays", 7);
+        ReflectionTestUtils.setField(rollupService, "backfillParallelism", 4);
+        ReflectionTestUtils.setField(rollupService, "backfillLockAtMostMinutes", 360L);
+        rollupService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rollupService.shutdown();
+    }
+
+    @Test
+    @DisplayName("워터마크 일자부터 오늘까지 다시 집계하고 어제까지만 워터마크로 확정한다")
+    void rollupFromWatermark() {
+        // given
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        when(rollupPort.loadWatermark(CouponStatisticsRollupService.JOB_NAME)).thenReturn(Optional.of(yesterday));
+        when(rollupPort.rollupDays(yesterday, today)).thenReturn(5);
+
+        // when
+        RollupResult result = rollupService.rollupIncremental();
+
+        // then
+        assertThat(result.getFromDate()).isEqualTo(yesterday);
+        assertThat(result.getToDate()).isEqualTo(today);
+        assertThat(result.getChunkCount()).isEqualTo(1);
+        assertThat(result.getUpsertedRows()).isEqualTo(5);
+        assertThat(result.getWatermark()).isEqualTo(yesterday);
+        verify(rollupPort).saveWatermark(CouponStatisticsRollupService.JOB_NAME, yesterday);
+        assertThat(meterRegistry.counter("coupon.statistics.rollup.rows", "mode", "incremental").count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("워터마크가 오래되면 청크마다 워터마크를 저장하며 이어서 집계한다")
+    void rollupInChunksFromOldWatermark() {
+        // given
+        LocalDate today = LocalDate.now();
+        LocalDate watermark = today.minusDays(10);
+        when(rollupPort.loadWatermark(CouponStatisticsRollupService.JOB_NAME)).thenReturn(Optional.of(watermark));
+        when(rollupPort.rollupDays(any(LocalDate.class), any(LocalDate.class))).thenReturn(1);
+
+        // when
+        RollupResult result = rollupService.rollupIncremental();
+
+        // then: 11일 구간 → 7일 + 4일
+        assertThat(result.getChunkCount()).isEqualTo(2);
+        verify(rollupPort).rollupDays(watermark, watermark.plusDays(6));
+        verify(rollupPort).rollupDays(watermark.plusDays(7), today);
+        verify(rollupPort).saveWatermark(CouponStatisticsRollupService.JOB_NAME, watermark.plusDays(6));
+        verify(rollupPort).saveWatermark(CouponStatisticsRollupService.JOB_NAME, today.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("워터마크가 없으면 최근 일자만 집계한다")
+    void rollupWithoutWatermark() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(rollupPort.loadWatermark(CouponStatisticsRollupService.JOB_NAME)).thenReturn(Optional.empty());
+        when(rollupPort.rollupDays(today.minusDays(1), today)).thenReturn(0);
+
+        // when
+        RollupResult result = rollupService.rollupIncremental();
+
+        // then
+        assertThat(result.getFromDate()).isEqualTo(today.minusDays(1));
+        verify(rollupPort).saveWatermark(CouponStatisticsRollupService.JOB_NAME, today.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("백필은 락을 잡고 기간을 청크로 나누어 모두 집계한 뒤 락을 해제하며 워터마크는 변경하지 않는다")
+    void backfillInParallelChunks() {
+        // given
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(jobLockPort.tryLock(CouponStatisticsRollupService.BACKFILL_LOCK_NAME, Duration.ofMinutes(360)))
+                .thenReturn(Optional.of(jobLock));
+        when(rollupPort.rollupDays(any(LocalDate.class), any(LocalDate.class))).thenReturn(10);
+
+        // when
+        RollupResult result = rollupService.backfill(from, to).join();
+
+        // then: 31일 → 7 + 7 + 7 + 7 + 3
+        assertThat(result.getChunkCount()).isEqualTo(5);
+        assertThat(result.getUpsertedRows()).isEqualTo(50);
+        assertThat(result.getWatermark()).isNull();
+        verify(rollupPort).rollupDays(from, LocalDate.of(2025, 1, 7));
+        verify(rollupPort).rollupDays(LocalDate.of(2025, 1, 29), to);
+        verify(rollupPort, never()).saveWatermark(anyString(), any());
+        verify(jobLock, timeout(1000)).unlock();
+    }
+
+    @Test
+    @DisplayName("청크 집계가 실패해도 남은 청크가 끝나면 락을 해제한다")
+    void backfillReleasesLockOnFailure() {
+        // given
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 14);
+        when(jobLockPort.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of(jobLock));
+        when(rollupPort.rollupDays(from, LocalDate.of(2025, 1, 7))).thenThrow(new IllegalStateException("db error"));
+        when(rollupPort.rollupDays(LocalDate.of(2025, 1, 8), to)).thenReturn(10);
+
+        // when & then
+        assertThatThrownBy(() -> rollupService.backfill(from, to).join())
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        verify(jobLock, timeout(1000)).unlock();
+        assertThat(meterRegistry.find("coupon.statistics.rollup.rows").tag("mode", "backfill").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 진행 중인 백필이 있으면 집계하지 않고 예외가 발생한다")
+    void backfillAlreadyRunning() {
+        // given
+        when(jobLockPort.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> rollupService.backfill(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)))
+                .isInstanceOf(CustomException.class);
+        verifyNoInteractions(rollupPort);
+    }
+
+    @Test
+    @DisplayName("백필 시작 일자가 종료 일자보다 늦으면 예외가 발생한다")
+    void backfillInvalidRange() {
+        // when & then
+        assertThatThrownBy(() -> rollupService.backfill(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(rollupPort, jobLockPort);
+    }
+}
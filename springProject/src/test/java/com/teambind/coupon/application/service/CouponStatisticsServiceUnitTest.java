@@ -1,7 +1,11 @@
 package com.teambind.coupon.application.service;
 
 import com.teambind.coupon.application.port.in.GetCouponStatisticsUseCase.*;
+import com.teambind.coupon.application.port.out.CacheKeyCleanupPort;
+import com.teambind.coupon.application.port.out.CouponCounterPort;
+import com.teambind.coupon.application.port.out.CouponCounterPort.CounterValues;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort.UserCouponCounts;
 import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
 import com.teambind.coupon.domain.model.CouponPolicy;
 import com.teambind.coupon.domain.model.CouponStatus;
@@ -15,11 +19,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -44,12 +53,21 @@ class CouponStatisticsServiceUnitTest {
     @Mock
     private LoadCouponIssuePort loadCouponIssuePort;
 
+    @Mock
+    private CouponCounterPort couponCounterPort;
+
+    @Mock
+    private CacheKeyCleanupPort cacheKeyCleanupPort;
+
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
     private CouponPolicy testPolicy;
 
     @BeforeEach
@@ -78,8 +96,18 @@ class CouponStatisticsServiceUnitTest {
         // given
         Long policyId = 1L;
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(valueOperations.get("stats:coupon:realtime:1")).thenReturn(null);
         when(loadCouponPolicyPort.loadById(policyId)).thenReturn(Optional.of(testPolicy));
+        LocalDateTime lastUsedAt = LocalDateTime.now().minusMinutes(5);
+        when(couponCounterPort.loadPolicyCounters(policyId)).thenReturn(CounterValues.builder()
+                .countsByStatus(Map.of(
+                        CouponStatus.ISSUED, 35L,
+                        CouponStatus.RESERVED, 5L,
+                        CouponStatus.USED, 15L,
+                        CouponStatus.EXPIRED, 5L))
+                .lastUsedAt(lastUsedAt)
+                .build());
 
         // when
         RealtimeStatistics result = statisticsService.getRealtimeStatistics(policyId);
@@ -91,8 +119,13 @@ class CouponStatisticsServiceUnitTest {
         assertThat(result.getMaxIssueCount()).isEqualTo(100);
         assertThat(result.getCurrentIssueCount()).isEqualTo(60);
         assertThat(result.getAvailableCount()).isEqualTo(40);
+        assertThat(result.getUsedCount()).isEqualTo(15);
+        assertThat(result.getReservedCount()).isEqualTo(5);
+        assertThat(result.getUsageRate()).isEqualTo(25.0);
+        assertThat(result.getLastUsedAt()).isEqualTo(lastUsedAt);
 
         verify(valueOperations).set(eq("stats:coupon:realtime:1"), any(RealtimeStatistics.class), eq(60L), eq(TimeUnit.SECONDS));
+        verify(setOperations).add("stats:coupon:index:policy:1", "stats:coupon:realtime:1");
     }
 
     @Test
@@ -147,6 +180,13 @@ class CouponStatisticsServiceUnitTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("stats:coupon:global")).thenReturn(null);
         when(loadCouponPolicyPort.countAll()).thenReturn(10);
+        when(loadCouponPolicyPort.countByDistributionType()).thenReturn(Map.of("CODE", 6L, "DIRECT", 4L));
+        when(couponCounterPort.loadGlobalCounters()).thenReturn(CounterValues.builder()
+                .countsByStatus(Map.of(
+                        CouponStatus.ISSUED, 500L,
+                        CouponStatus.USED, 300L,
+                        CouponStatus.EXPIRED, 200L))
+                .build());
 
         // when
         GlobalStatistics result = statisticsService.getGlobalStatistics();
@@ -154,8 +194,12 @@ class CouponStatisticsServiceUnitTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getTotalPolicies()).isEqualTo(10);
-        assertThat(result.getStatusDistribution()).isNotNull();
-        assertThat(result.getTypeDistribution()).isNotNull();
+        assertThat(result.getTotalIssuedCoupons()).isEqualTo(1000L);
+        assertThat(result.getTotalUsedCoupons()).isEqualTo(300L);
+        assertThat(result.getTotalExpiredCoupons()).isEqualTo(200L);
+        assertThat(result.getOverallUsageRate()).isEqualTo(30.0);
+        assertThat(result.getStatusDistribution()).containsEntry("RESERVED", 0L);
+        assertThat(result.getTypeDistribution()).containsEntry("CODE", 6L).containsEntry("DIRECT", 4L);
 
         verify(valueOperations).set(eq("stats:coupon:global"), any(GlobalStatistics.class), eq(300L), eq(TimeUnit.SECONDS));
     }
@@ -193,10 +237,16 @@ class CouponStatisticsServiceUnitTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("stats:coupon:user:100")).thenReturn(null);
 
-        when(loadCouponIssuePort.countByUserIdAndStatus(userId, CouponStatus.ISSUED)).thenReturn(5);
-        when(loadCouponIssuePort.countByUserIdAndStatus(userId, CouponStatus.USED)).thenReturn(3);
-        when(loadCouponIssuePort.countByUserIdAndStatus(userId, CouponStatus.EXPIRED)).thenReturn(2);
-        when(loadCouponIssuePort.countByUserIdAndStatus(userId, CouponStatus.RESERVED)).thenReturn(1);
+        Map<CouponStatus, Long> counts = new EnumMap<>(CouponStatus.class);
+        counts.put(CouponStatus.ISSUED, 5L);
+        counts.put(CouponStatus.USED, 3L);
+        counts.put(CouponStatus.EXPIRED, 2L);
+        counts.put(CouponStatus.RESERVED, 1L);
+        counts.put(CouponStatus.CANCELLED, 0L);
+        when(loadCouponIssuePort.countUserCoupons(userId, 7)).thenReturn(UserCouponCounts.builder()
+                .countsByStatus(counts)
+                .availableCount(5L)
+                .build());
 
         // when
         UserStatistics result = statisticsService.getUserStatistics(userId);
@@ -209,6 +259,11 @@ class CouponStatisticsServiceUnitTest {
         assertThat(result.getUsedCoupons()).isEqualTo(3);
         assertThat(result.getExpiredCoupons()).isEqualTo(2);
 
+        assertThat(result.getCouponsByStatus()).containsEntry("RESERVED", 1);
+
+        // 상태별 개별 카운트 대신 단일 집계 호출
+        verify(loadCouponIssuePort, times(1)).countUserCoupons(userId, 7);
+        verify(loadCouponIssuePort, never()).countByUserIdAndStatus(anyLong(), any(CouponStatus.class));
         verify(valueOperations).set(eq("stats:coupon:user:100"), any(UserStatistics.class), eq(120L), eq(TimeUnit.SECONDS));
     }
 
@@ -236,7 +291,7 @@ class CouponStatisticsServiceUnitTest {
         assertThat(result.getTotalCoupons()).isEqualTo(10);
         assertThat(result.getAvailableCoupons()).isEqualTo(4);
 
-        verify(loadCouponIssuePort, never()).countByUserIdAndStatus(anyLong(), any(CouponStatus.class));
+        verify(loadCouponIssuePort, never()).countUserCoupons(anyLong(), anyInt());
         verify(valueOperations, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
     }
 
@@ -248,7 +303,7 @@ class CouponStatisticsServiceUnitTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("stats:coupon:user:999")).thenReturn(null);
 
-        when(loadCouponIssuePort.countByUserIdAndStatus(anyLong(), any())).thenReturn(0);
+        when(loadCouponIssuePort.countUserCoupons(anyLong(), anyInt())).thenReturn(UserCouponCounts.empty());
 
         // when
         UserStatistics result = statisticsService.getUserStatistics(userId);
@@ -261,4 +316,56 @@ class CouponStatisticsServiceUnitTest {
         assertThat(result.getUsedCoupons()).isEqualTo(0);
         assertThat(result.getExpiredCoupons()).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카운터 스냅샷 조회 - 요청한 정책만 포함")
+    void getCounterSnapshot() {
+        // given
+        when(couponCounterPort.loadGlobalCounters()).thenReturn(CounterValues.builder()
+                .countsByStatus(Map.of(CouponStatus.ISSUED, 10L))
+                .build());
+        when(couponCounterPort.loadPolicyCounters(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, CounterValues.builder().countsByStatus(Map.of(CouponStatus.USED, 3L)).build(),
+                2L, CounterValues.builder().countsByStatus(Map.of()).build()));
+
+        // when
+        CounterSnapshot snapshot = statisticsService.getCounterSnapshot(List.of(1L, 2L));
+
+        // then
+        assertThat(snapshot.getGlobal()).containsEntry("ISSUED", 10L).containsEntry("USED", 0L);
+        assertThat(snapshot.getPolicies()).containsOnlyKeys(1L, 2L);
+        assertThat(snapshot.getPolicies().get(1L)).containsEntry("USED", 3L);
+        assertThat(snapshot.getCapturedAt()).isNotNull();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("정책 캐시 무효화 - 인덱스에 등록된 키만 삭제하고 KEYS는 사용하지 않음")
+    void invalidateCache_UsesIndexSet() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("stats:coupon:index:policy:1"))
+                .thenReturn(Set.of("stats:coupon:realtime:1"));
+
+        // when
+        statisticsService.invalidateCache(1L);
+
+        // then
+        verify(redisTemplate).delete(List.of("stats:coupon:realtime:1", "stats:coupon:index:policy:1"));
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("전체 캐시 정리 - 통계 키 패턴을 정리 포트에 위임")
+    void purgeAllCache_DelegatesToCleanupPort() {
+        // given
+        when(cacheKeyCleanupPort.deleteByPattern("stats:coupon:*")).thenReturn(7L);
+
+        // when
+        long deleted = statisticsService.purgeAllCache();
+
+        // then
+        assertThat(deleted).isEqualTo(7L);
+        verify(redisTemplate, never()).keys(anyString());
+    }
+}
@@ -0,0 +1,163 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ValidateCouponsCommand;
+import com.teambind.coupon.application.port.in.ValidateCouponsCommand.Target;
+import com.teambind.coupon.application.port.in.ValidateCouponsUseCase.BatchValidationResult;
+import com.teambind.coupon.application.port.in.ValidateCouponsUseCase.CouponValidation;
+import com.teambind.coupon.application.port.in.ValidateCouponsUseCase.FailureReason;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.exception.CouponDomainException;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountPolicy;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.ItemApplicableRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CouponValidationService 단위 테스트
+ */
+@DisplayName("CouponValidationService 테스트")
+class CouponValidationServiceTest {
+
+    private LoadCouponIssuePort loadCouponIssuePort;
+    private LoadCouponPolicyPort loadCouponPolicyPort;
+    private CouponValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        loadCouponIssuePort = mock(LoadCouponIssuePort.class);
+        loadCouponPolicyPort = mock(LoadCouponPolicyPort.class);
+
+        CompiledCouponRuleCache ruleCache = new CompiledCouponRuleCache(loadCouponPolicyPort);
+        ReflectionTestUtils.setField(ruleCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(ruleCache, "maxSize", 100);
+        ruleCache.init();
+
+        service = new CouponValidationService(loadCouponIssuePort, ruleCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxBatchSize", 3);
+
+        when(loadCouponPolicyPort.loadByIds(anyList())).thenReturn(Map.of(
+                // 10%, 최소 주문 20,000원
+                10L, policy(10L, new DiscountPolicy(DiscountType.PERCENTAGE, new BigDecimal("10"),
+                        new BigDecimal("20000"), null), ItemApplicableRule.forAllItems()),
+                // 상품 7에만 3,000원
+                20L, policy(20L, DiscountPolicy.fixedAmount(new BigDecimal("3000")),
+                        ItemApplicableRule.forSpecificItems(List.of(7L)))
+        ));
+    }
+
+    @Test
+    @DisplayName("여러 유저의 쿠폰을 한 번에 조회하고 요청 순서대로 결과 반환")
+    void validateAll_PerTargetResults() {
+        // given
+        when(loadCouponIssuePort.loadByIds(any())).thenReturn(List.of(
+                coupon(1L, 100L, 10L, CouponStatus.ISSUED),
+                coupon(2L, 200L, 20L, CouponStatus.ISSUED),
+                coupon(3L, 300L, 10L, CouponStatus.USED)));
+
+        ValidateCouponsCommand command = ValidateCouponsCommand.of(List.of(
+                new Target(100L, 1L, new BigDecimal("30000"), List.of(1L, 2L)),
+                new Target(200L, 2L, new BigDecimal("30000"), List.of(7L)),
+                new Target(300L, 3L, new BigDecimal("30000"), List.of())));
+
+        // when
+        BatchValidationResult result = service.validateAll(command);
+
+        // then
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getValidCount()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(CouponValidation::getCouponId).containsExactly(1L, 2L, 3L);
+
+        CouponValidation percentage = result.getResults().get(0);
+        assertThat(percentage.isValid()).isTrue();
+        assertThat(percentage.getDiscountAmount()).isEqualByComparingTo("3000");
+
+        assertThat(result.getResults().get(1).getDiscountAmount()).isEqualByComparingTo("3000");
+        assertThat(result.getResults().get(2).getReason()).isEqualTo(FailureReason.NOT_USABLE);
+
+        verify(loadCouponIssuePort, times(1)).loadByIds(any());
+        verify(loadCouponPolicyPort, times(1)).loadByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 유저 쿠폰, 적용 불가 상품, 최소 주문 금액 미충족은 사유와 함께 실패")
+    void validateAll_FailureReasons() {
+        // given
+        when(loadCouponIssuePort.loadByIds(any())).thenReturn(List.of(
+                coupon(1L, 100L, 10L, CouponStatus.ISSUED),
+                coupon(2L, 100L, 20L, CouponStatus.ISSUED)));
+
+        ValidateCouponsCommand command = ValidateCouponsCommand.of(List.of(
+                new Target(999L, 1L, new BigDecimal("30000"), List.of(1L)),
+                new Target(100L, 2L, new BigDecimal("30000"), List.of(1L, 2L)),
+                new Target(100L, 1L, new BigDecimal("10000"), List.of(1L))));
+
+        // when
+        BatchValidationResult result = service.validateAll(command);
+
+        // then
+        assertThat(result.getValidCount()).isZero();
+        assertThat(result.getResults()).extracting(CouponValidation::getReason).containsExactly(
+                FailureReason.COUPON_NOT_FOUND,
+                FailureReason.NOT_APPLICABLE_ITEM,
+                FailureReason.MINIMUM_ORDER_NOT_MET);
+        assertThat(result.getResults()).allSatisfy(validation ->
+                assertThat(validation.getDiscountAmount()).isEqualByComparingTo("0"));
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 요청은 조회 없이 거절")
+    void validateAll_TooManyTargets() {
+        // given
+        Target target = new Target(100L, 1L, new BigDecimal("30000"), List.of());
+        ValidateCouponsCommand command = ValidateCouponsCommand.of(Collections.nCopies(4, target));
+
+        // when & then
+        assertThatThrownBy(() -> service.validateAll(command))
+                .isInstanceOf(CouponDomainException.InvalidRequest.class);
+        verify(loadCouponIssuePort, never()).loadByIds(any());
+    }
+
+    private static CouponPolicy policy(Long id, DiscountPolicy discountPolicy, ItemApplicableRule rule) {
+        return CouponPolicy.builder()
+                .id(id)
+                .couponName("쿠폰-" + id)
+                .discountPolicy(discountPolicy)
+                .applicableRule(rule)
+                .build();
+    }
+
+    private static CouponIssue coupon(Long id, Long userId, Long policyId, CouponStatus status) {
+        return CouponIssue.builder()
+                .id(id)
+                .policyId(policyId)
+                .userId(userId)
+                .status(status)
+                .couponName("쿠폰-" + policyId)
+                .expiredAt(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+}
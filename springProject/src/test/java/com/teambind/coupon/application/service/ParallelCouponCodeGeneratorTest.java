@@ -0,0 +1,120 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.domain.service.AlphanumericCodeGenerator;
+import com.teambind.coupon.domain.service.CouponCodeGenerator;
+import com.teambind.coupon.domain.service.PermutationCodeGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ParallelCouponCodeGenerator 단위 테스트
+ */
+@DisplayName("ParallelCouponCodeGenerator 테스트")
+class ParallelCouponCodeGeneratorTest {
+
+    private PermutationCodeGenerator permutationCodeGenerator;
+    private ParallelCouponCodeGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        permutationCodeGenerator = new PermutationCodeGenerator("test-secret");
+        generator = new ParallelCouponCodeGenerator(permutationCodeGenerator);
+        ReflectionTestUtils.setField(generator, "parallelism", 4);
+        // 여러 윈도우와 leaf로 나뉘도록 작은 크기 사용
+        ReflectionTestUtils.setField(generator, "windowSize", 1000);
+        ReflectionTestUtils.setField(generator, "leafSize", 64);
+        generator.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    @DisplayName("랜덤 생성기 - 요청 개수만큼 중복 없이 전달")
+    void generate_Unique() {
+        // given
+        List<String> codes = new ArrayList<>();
+
+        // when
+        long generated = generator.generate(new AlphanumericCodeGenerator(), 10_500, "EVT", codes::add);
+
+        // then
+        assertThat(generated).isEqualTo(10_500);
+        assertThat(codes).hasSize(10_500);
+        assertThat(new HashSet<>(codes)).hasSize(10_500);
+        assertThat(codes).allMatch(code -> code.startsWith("EVT-"));
+    }
+
+    @Test
+    @DisplayName("랜덤 생성기 - 중복 코드는 재생성하여 채움")
+    void generate_RegeneratesDuplicates() {
+        // given - 절반이 중복인 생성기
+        CouponCodeGenerator duplicating = mock(CouponCodeGenerator.class);
+        AlphanumericCodeGenerator real = new AlphanumericCodeGenerator();
+        when(duplicating.generate()).thenAnswer(invocation ->
+                Math.random() < 0.5 ? "DUPLICATE" : real.generate());
+        List<String> codes = new ArrayList<>();
+
+        // when
+        generator.generate(duplicating, 2_000, null, codes::add);
+
+        // then
+        assertThat(new HashSet<>(codes)).hasSize(2_000);
+    }
+
+    @Test
+    @DisplayName("랜덤 생성기 - 코드 공간이 부족하면 예외")
+    void generate_ExhaustedSpace() {
+        // given
+        CouponCodeGenerator tiny = mock(CouponCodeGenerator.class);
+        when(tiny.generate(anyString())).thenReturn("ONLY-ONE");
+
+        // when & then
+        assertThatThrownBy(() -> generator.generate(tiny, 10, "P", code -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("순열 생성기 - 순차 생성과 같은 코드를 같은 순서로 전달")
+    void generateRange_SameAsSequential() {
+        // given
+        List<String> codes = new ArrayList<>();
+
+        // when
+        long generated = generator.generateRange(500, 3_210, "P", codes::add);
+
+        // then
+        assertThat(generated).isEqualTo(3_210);
+        assertThat(codes).containsExactly(permutationCodeGenerator.generateRange(500, 3_210, "P"));
+    }
+
+    @Test
+    @DisplayName("sink 실패 시 생성 중단")
+    void generate_SinkFailure() {
+        // given
+        int[] received = {0};
+
+        // when & then
+        assertThatThrownBy(() -> generator.generateRange(0, 100_000, null, code -> {
+            if (++received[0] == 10) {
+                throw new IllegalStateException("client closed");
+            }
+        })).hasMessage("client closed");
+        assertThat(received[0]).isEqualTo(10);
+    }
+}
@@ -0,0 +1,116 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.port.in.ProcessPaymentUseCase.PaymentCompletedCommand;
+import com.teambind.coupon.application.port.in.ProcessPaymentUseCase.PaymentResult;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.SaveCouponIssuePort;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountPolicy;
+import com.teambind.coupon.domain.model.DiscountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProcessPaymentUseCaseService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessPaymentUseCaseService 테스트")
+class ProcessPaymentUseCaseServiceTest {
+
+    @InjectMocks
+    private ProcessPaymentUseCaseService paymentService;
+
+    @Mock
+    private LoadCouponIssuePort loadCouponIssuePort;
+
+    @Mock
+    private SaveCouponIssuePort saveCouponIssuePort;
+
+    @Test
+    @DisplayName("단일 쿠폰은 결제 이벤트의 할인 금액을 그대로 기록한다")
+    void singleCouponRecordsEventDiscount() {
+        // given
+        CouponIssue coupon = reservedCoupon(1L, DiscountType.AMOUNT, 3000);
+        when(loadCouponIssuePort.loadAllByReservationIdWithLock("RESV-1")).thenReturn(List.of(coupon));
+
+        // when
+        PaymentResult result = paymentService.processPaymentCompleted(command("47000", "3000"));
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(coupon.getStatus()).isEqualTo(CouponStatus.USED);
+        assertThat(coupon.getActualDiscountAmount()).isEqualByComparingTo("3000");
+        verify(saveCouponIssuePort).save(coupon);
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰은 주문 금액에 중복 적용 규칙을 적용하여 쿠폰별 할인 금액을 기록한다")
+    void multipleCouponsRecordStackedDiscounts() {
+        // given: 주문 50,000원 = 결제 44,000원 + 할인 6,000원 (정률 10% 5,000원 → 정액 1,000원)
+        CouponIssue fixed = reservedCoupon(1L, DiscountType.AMOUNT, 1000);
+        CouponIssue percentage = reservedCoupon(2L, DiscountType.PERCENTAGE, 10);
+        when(loadCouponIssuePort.loadAllByReservationIdWithLock("RESV-1")).thenReturn(List.of(fixed, percentage));
+
+        // when
+        PaymentResult result = paymentService.processPaymentCompleted(command("44000", "6000"));
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(fixed.getActualDiscountAmount()).isEqualByComparingTo("1000");
+        assertThat(percentage.getActualDiscountAmount()).isEqualByComparingTo("5000");
+        verify(saveCouponIssuePort, times(2)).save(any(CouponIssue.class));
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰인데 결제 금액이 없으면 쿠폰별 할인 금액 없이 사용 처리한다")
+    void multipleCouponsWithoutPaymentAmount() {
+        // given
+        CouponIssue first = reservedCoupon(1L, DiscountType.AMOUNT, 1000);
+        CouponIssue second = reservedCoupon(2L, DiscountType.AMOUNT, 2000);
+        when(loadCouponIssuePort.loadAllByReservationIdWithLock("RESV-1")).thenReturn(List.of(first, second));
+
+        // when
+        PaymentResult result = paymentService.processPaymentCompleted(command(null, "3000"));
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(first.getStatus()).isEqualTo(CouponStatus.USED);
+        assertThat(first.getActualDiscountAmount()).isNull();
+        assertThat(second.getActualDiscountAmount()).isNull();
+    }
+
+    private PaymentCompletedCommand command(String paymentAmount, String discountAmount) {
+        return PaymentCompletedCommand.builder()
+                .orderId("ORD-1")
+                .reservationId("RESV-1")
+                .userId(100L)
+                .paymentAmount(paymentAmount != null ? new BigDecimal(paymentAmount) : null)
+                .discountAmount(new BigDecimal(discountAmount))
+                .build();
+    }
+
+    private CouponIssue reservedCoupon(Long id, DiscountType type, long value) {
+        return CouponIssue.builder()
+                .id(id)
+                .policyId(10L + id)
+                .userId(100L)
+                .status(CouponStatus.RESERVED)
+                .reservationId("RESV-1")
+                .discountPolicy(DiscountPolicy.builder()
+                        .discountType(type)
+                        .discountValue(BigDecimal.valueOf(value))
+                        .build())
+                .build();
+    }
+}
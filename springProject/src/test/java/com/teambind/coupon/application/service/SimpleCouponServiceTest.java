@@ -3,10 +3,11 @@ package com.teambind.coupon.application.service;
 import com.teambind.coupon.application.dto.request.CouponApplyRequest;
 import com.teambind.coupon.application.dto.response.CouponApplyResponse;
 import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
-import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.domain.model.CompiledCouponRule;
 import com.teambind.coupon.domain.model.CouponIssue;
 import com.teambind.coupon.domain.model.CouponPolicy;
 import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountPolicy;
 import com.teambind.coupon.domain.model.DiscountType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,7 +40,7 @@ class SimpleCouponServiceTest {
     private LoadCouponIssuePort loadCouponIssuePort;
 
     @Mock
-    private LoadCouponPolicyPort loadCouponPolicyPort;
+    private CompiledCouponRuleCache ruleCache;
 
     @Mock
     private CouponLockService couponLockService;
@@ -81,8 +82,8 @@ class SimpleCouponServiceTest {
         // given
         when(loadCouponIssuePort.findById(1L))
                 .thenReturn(Optional.of(coupon));
-        when(loadCouponPolicyPort.loadById(1L))
-                .thenReturn(Optional.of(policy));
+        when(ruleCache.get(1L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(policy)));
 
         CouponApplyResponse mockResponse = CouponApplyResponse.builder()
                 .couponId("1")
@@ -156,12 +157,14 @@ class SimpleCouponServiceTest {
                 .discountType(DiscountType.AMOUNT)
                 .discountValue(BigDecimal.valueOf(5000))
                 .minimumOrderAmount(BigDecimal.valueOf(10000))
+                .discountPolicy(new DiscountPolicy(DiscountType.AMOUNT, BigDecimal.valueOf(5000),
+                        BigDecimal.valueOf(10000), null))
                 .build();
 
         when(loadCouponIssuePort.findById(1L))
                 .thenReturn(Optional.of(coupon));
-        when(loadCouponPolicyPort.loadById(1L))
-                .thenReturn(Optional.of(highMinimumPolicy));
+        when(ruleCache.get(1L))
+                .thenReturn(Optional.of(CompiledCouponRule.compile(highMinimumPolicy)));
 
         // when & then
         assertThatThrownBy(() -> applyCouponService.applyCoupon(lowAmountRequest))
@@ -0,0 +1,137 @@
+package com.teambind.coupon.application.service;
+
+import com.teambind.coupon.application.service.StreamingAttackDetector.ScanSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 공격 탐지기 테스트
+ */
+@DisplayName("스트리밍 공격 탐지기 테스트")
+class StreamingAttackDetectorTest {
+
+    private StreamingAttackDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = newDetector(5000);
+    }
+
+    @Test
+    @DisplayName("같은 코드를 반복 시도해도 고유 코드 수는 늘지 않음")
+    void distinctCodes() {
+        // when
+        long afterRepeats = 0;
+        for (int i = 0; i < 20; i++) {
+            afterRepeats = detector.recordCodeAttempt("ip:1", "SAME-CODE");
+        }
+        long afterDistinct = 0;
+        for (int i = 0; i < 11; i++) {
+            afterDistinct = detector.recordCodeAttempt("ip:2", "CODE-" + i);
+        }
+
+        // then
+        assertThat(afterRepeats).isEqualTo(1);
+        assertThat(afterDistinct).isBetween(10L, 12L);
+    }
+
+    @Test
+    @DisplayName("추적 한도를 넘은 식별자는 시도 횟수로 판정")
+    void overflowUsesAttemptCount() {
+        // given
+        detector = newDetector(1);
+        detector.recordCodeAttempt("ip:tracked", "CODE");
+
+        // when
+        long estimate = 0;
+        for (int i = 0; i < 3; i++) {
+            estimate = detector.recordCodeAttempt("ip:overflow", "SAME-CODE");
+        }
+
+        // then
+        assertThat(estimate).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("순차 패턴과 고유 패턴 수를 요약")
+    void scanSummary() {
+        // when
+        ScanSummary summary = null;
+        for (int i = 100; i < 108; i++) {
+            summary = detector.recordPattern("ip:1", "/api/coupons/" + i);
+        }
+
+        // then
+        assertThat(summary.attempts()).isEqualTo(8);
+        assertThat(summary.sequential()).isEqualTo(7);
+        assertThat(summary.distinct()).isBetween(7L, 8L);
+        assertThat(summary.isMostlySequential()).isTrue();
+        assertThat(summary.isMostlyDistinct()).isTrue();
+    }
+
+    @Test
+    @DisplayName("반복되는 같은 패턴은 스캔으로 보지 않음")
+    void repeatedPattern() {
+        // when
+        ScanSummary summary = null;
+        for (int i = 0; i < 8; i++) {
+            summary = detector.recordPattern("ip:1", "/api/coupons/me");
+        }
+
+        // then
+        assertThat(summary.isMostlySequential()).isFalse();
+        assertThat(summary.isMostlyDistinct()).isFalse();
+    }
+
+    @Test
+    @DisplayName("클러스터 병합 버퍼는 한 번 비우면 초기화")
+    void drainPendingCodes() {
+        // given
+        detector.recordCodeAttempt("ip:1", "A");
+        detector.recordCodeAttempt("ip:1", "B");
+
+        // when
+        Map<String, Set<String>> first = detector.drainPendingCodes();
+        Map<String, Set<String>> second = detector.drainPendingCodes();
+
+        // then
+        assertThat(first).containsOnlyKeys("ip:1");
+        assertThat(first.get("ip:1")).containsExactlyInAnyOrder("A", "B");
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sketch 메모리는 추적 식별자 수에 비례하고 한도로 제한")
+    void boundedMemory() {
+        // given
+        detector = newDetector(100);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            detector.recordCodeAttempt("ip:" + i, "CODE");
+        }
+
+        // then
+        assertThat(detector.trackedIdentifiers()).isEqualTo(100);
+    }
+
+    private StreamingAttackDetector newDetector(int maxTrackedIdentifiers) {
+        StreamingAttackDetector detector = new StreamingAttackDetector(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(detector, "slotMinutes", 5);
+        ReflectionTestUtils.setField(detector, "bruteForceWindowMinutes", 60);
+        ReflectionTestUtils.setField(detector, "scanWindowMinutes", 10);
+        ReflectionTestUtils.setField(detector, "maxTrackedIdentifiers", maxTrackedIdentifiers);
+        ReflectionTestUtils.setField(detector, "hllPrecision", 8);
+        ReflectionTestUtils.setField(detector, "maxPendingIdentifiers", 10_000);
+        detector.init();
+        return detector;
+    }
+}
@@ -0,0 +1,54 @@
+package com.teambind.coupon.architecture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 코드에서 Redis KEYS 명령 사용 금지 검증
+ * KEYS는 전체 키 공간을 O(N)으로 순회하며 Redis를 블로킹하므로
+ * 인덱스 Set/Hash로 대체하고, 일괄 정리는 RedisKeyScanner(SCAN)를 사용
+ */
+@DisplayName("Redis KEYS 명령 사용 금지")
+class NoRedisKeysCommandTest {
+
+    private static final Path MAIN_SOURCES = Paths.get("src", "main", "java");
+
+    // RedisTemplate/RedisConnection의 keys(...) 호출
+    private static final Pattern KEYS_CALL = Pattern.compile("\\.keys\\s*\\(");
+
+    // Lua 스크립트의 redis.call('KEYS', ...) (KEYS[1] 같은 인자 배열 참조는 허용)
+    private static final Pattern LUA_KEYS_COMMAND = Pattern.compile("redis\\.(p?call)\\(\\s*['\"]keys['\"]", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    @DisplayName("운영 코드 어디에서도 KEYS 명령을 호출하지 않는다")
+    void noKeysCommandInProductionCode() throws IOException {
+        List<String> violations = new ArrayList<>();
+
+        try (Stream<Path> files = Files.walk(MAIN_SOURCES)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".java")).toList()) {
+                List<String> lines = Files.readAllLines(file);
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = lines.get(i);
+                    if (KEYS_CALL.matcher(line).find() || LUA_KEYS_COMMAND.matcher(line).find()) {
+                        violations.add(file + ":" + (i + 1) + " " + line.trim());
+                    }
+                }
+            }
+        }
+
+        assertThat(violations)
+                .as("KEYS 대신 인덱스 Set/Hash 또는 RedisKeyScanner(SCAN)를 사용하세요")
+                .isEmpty();
+    }
+}
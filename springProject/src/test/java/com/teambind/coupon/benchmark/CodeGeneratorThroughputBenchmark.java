@@ -0,0 +1,178 @@
+package com.teambind.coupon.benchmark;
+
+import com.teambind.coupon.application.service.ParallelCouponCodeGenerator;
+import com.teambind.coupon.domain.service.AlphanumericCodeGenerator;
+import com.teambind.coupon.domain.service.CouponCodeAuthenticator;
+import com.teambind.coupon.domain.service.CouponCodeGenerator;
+import com.teambind.coupon.domain.service.CustomPatternCodeGenerator;
+import com.teambind.coupon.domain.service.PermutationCodeGenerator;
+import com.teambind.coupon.domain.service.SecureRandomCodeGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 코드 생성 처리량/할당량 벤치마크
+ * 구현된 GeneratorType별(NUMERIC, UUID는 구현이 없어 팩토리에서 기본 생성기로 대체됨)로
+ * 초당 생성 수와 코드당 할당 바이트를 측정
+ * 할당량은 현재 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean)로 계산하며 결과 String도 포함
+ * 병렬 스트리밍은 ParallelCouponCodeGenerator(CPU 코어 수 병렬도)로 100만 건씩 측정
+ * (랜덤 생성기의 실제 경로에는 코드마다 존재 여부 조회가 추가됨)
+ *
+ * 실행: ./gradlew benchmark --tests '*CodeGeneratorThroughputBenchmark'
+ */
+@Tag("benchmark")
+@DisplayName("쿠폰 코드 생성 처리량 벤치마크")
+class CodeGeneratorThroughputBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int COUNT = 200_000;
+    private static final int PERMUTATION_COUNT = 1_000_000;
+    private static final int THREADS = 4;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("생성기별 초당 코드 생성 수와 코드당 할당 바이트")
+    void throughput() {
+        System.out.printf("%-15s %10s %14s %12s %10s%n", "generator", "codes", "codes/sec", "bytes/code", "distinct");
+
+        PermutationCodeGenerator permutation = new PermutationCodeGenerator("benchmark-secret");
+        permutation.generateRange(0, WARMUP, null);
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        String[] codes = permutation.generateRange(WARMUP, PERMUTATION_COUNT, null);
+        long elapsed = System.nanoTime() - start;
+        allocated = allocatedBytes() - allocated;
+        Set<String> distinct = new HashSet<>(PERMUTATION_COUNT * 2);
+        for (String code : codes) {
+            distinct.add(code);
+        }
+        print("PERMUTATION", PERMUTATION_COUNT, elapsed, allocated, distinct.size());
+        assertThat(distinct).hasSize(PERMUTATION_COUNT);
+
+        for (CouponCodeGenerator generator : generators()) {
+            measure(generator);
+        }
+    }
+
+    @Test
+    @DisplayName("멀티 스레드 생성 처리량 (스레드별 SecureRandom/Mac/버퍼 재사용 확인)")
+    void concurrentThroughput() throws Exception {
+        System.out.printf("%-15s %10s %10s %14s%n", "generator", "threads", "codes", "codes/sec");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (CouponCodeGenerator generator : generators()) {
+                runConcurrently(executor, () -> generate(generator, WARMUP));
+
+                long start = System.nanoTime();
+                runConcurrently(executor, () -> generate(generator, COUNT));
+                long elapsed = System.nanoTime() - start;
+
+                double perSecond = (double) COUNT * THREADS / (elapsed / 1_000_000_000.0);
+                System.out.printf("%-15s %10d %10d %14.0f%n",
+                        generator.getType().name(), THREADS, COUNT * THREADS, perSecond);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("ForkJoin 병렬 스트리밍 생성 처리량 (지문 집합 중복 제거 포함)")
+    void parallelStreaming() {
+        System.out.printf("%-15s %10s %14s%n", "generator", "codes", "codes/sec");
+
+        PermutationCodeGenerator permutation = new PermutationCodeGenerator("benchmark-secret");
+        ParallelCouponCodeGenerator parallel = new ParallelCouponCodeGenerator(permutation);
+        ReflectionTestUtils.setField(parallel, "windowSize", 65_536);
+        ReflectionTestUtils.setField(parallel, "leafSize", 2_048);
+
+        long[] received = {0};
+        long start = System.nanoTime();
+        parallel.generateRange(0, PERMUTATION_COUNT, null, code -> received[0]++);
+        printParallel("PERMUTATION", PERMUTATION_COUNT, System.nanoTime() - start);
+
+        for (CouponCodeGenerator generator : generators()) {
+            start = System.nanoTime();
+            parallel.generate(generator, PERMUTATION_COUNT, null, code -> received[0]++);
+            printParallel(generator.getType().name(), PERMUTATION_COUNT, System.nanoTime() - start);
+        }
+        assertThat(received[0]).isEqualTo(4L * PERMUTATION_COUNT);
+    }
+
+    private void printParallel(String name, int count, long elapsedNanos) {
+        System.out.printf("%-15s %10d %14.0f%n", name, count, count / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private List<CouponCodeGenerator> generators() {
+        CustomPatternCodeGenerator custom = new CustomPatternCodeGenerator();
+        ReflectionTestUtils.setField(custom, "defaultPattern", "COUP-{YYYY}{MM}-{RAND:4}-{NUM:4}");
+
+        return List.of(
+                new AlphanumericCodeGenerator(),
+                custom,
+                new SecureRandomCodeGenerator(new CouponCodeAuthenticator("benchmark-secret", false)));
+    }
+
+    private void measure(CouponCodeGenerator generator) {
+        generate(generator, WARMUP);
+
+        // 할당량은 생성만 측정 (중복 확인용 Set 할당 제외)
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        generate(generator, COUNT);
+        long elapsed = System.nanoTime() - start;
+        allocated = allocatedBytes() - allocated;
+
+        Set<String> distinct = new HashSet<>(COUNT * 2);
+        for (int i = 0; i < COUNT; i++) {
+            distinct.add(generator.generate());
+        }
+        print(generator.getType().name(), COUNT, elapsed, allocated, distinct.size());
+    }
+
+    private int generate(CouponCodeGenerator generator, int count) {
+        // 결과를 사용해 JIT가 생성 호출을 제거하지 못하도록 함
+        int sink = 0;
+        for (int i = 0; i < count; i++) {
+            sink += generator.generate().length();
+        }
+        return sink;
+    }
+
+    private void runConcurrently(ExecutorService executor, IntSupplier task) throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(task::getAsInt));
+        }
+        for (Future<Integer> future : futures) {
+            future.get();
+        }
+    }
+
+    private long allocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private void print(String name, int count, long elapsedNanos, long allocatedBytes, int distinct) {
+        double perSecond = count / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("%-15s %10d %14.0f %12.1f %10d%n",
+                name, count, perSecond, (double) allocatedBytes / count, distinct);
+    }
+}
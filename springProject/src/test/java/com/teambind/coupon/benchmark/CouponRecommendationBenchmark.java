@@ -0,0 +1,208 @@
+package com.teambind.coupon.benchmark;
+
+import com.teambind.coupon.application.port.in.RecommendCouponsCommand;
+import com.teambind.coupon.application.port.in.RecommendCouponsUseCase.CouponRecommendationResult;
+import com.teambind.coupon.application.port.out.LoadCouponIssuePort;
+import com.teambind.coupon.application.port.out.LoadCouponPolicyPort;
+import com.teambind.coupon.application.service.CompiledCouponRuleCache;
+import com.teambind.coupon.application.service.CouponRecommendationService;
+import com.teambind.coupon.domain.model.CouponIssue;
+import com.teambind.coupon.domain.model.CouponPolicy;
+import com.teambind.coupon.domain.model.CouponStatus;
+import com.teambind.coupon.domain.model.DiscountPolicy;
+import com.teambind.coupon.domain.model.DiscountType;
+import com.teambind.coupon.domain.model.ItemApplicableRule;
+import com.teambind.coupon.domain.model.OrderCart;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 장바구니 쿠폰 추천 지연 시간 벤치마크
+ * 쿠폰 수별로 CouponRecommendationService.recommend 전체(장바구니 컴파일, 캐시된 규칙 평가, 정렬, 응답 변환)의
+ * p50/p99 지연 시간을 측정하고, 같은 조건을 BigDecimal + List 규칙으로 매번 계산하는 방식과 비교
+ * 사용 가능 쿠폰 조회(DB)는 목으로 대체하므로 실제 응답 시간에는 조회 1회가 추가됨
+ *
+ * 실행: ./gradlew benchmark --tests '*CouponRecommendationBenchmark'
+ */
+@Tag("benchmark")
+@DisplayName("쿠폰 추천 지연 시간 벤치마크")
+class CouponRecommendationBenchmark {
+
+    private static final int POLICIES = 200;
+    private static final int CART_ITEMS = 30;
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    @DisplayName("쿠폰 수별 추천 p50/p99 지연 시간")
+    void latency() {
+        // 요청마다 남기는 완료 로그가 측정값에 섞이지 않도록 끔
+        ((Logger) LoggerFactory.getLogger(CouponRecommendationService.class)).setLevel(Level.WARN);
+
+        Random random = new Random(47L);
+        Map<Long, CouponPolicy> policies = createPolicies(random);
+        List<OrderCart.Line> cart = createCart(random);
+
+        System.out.printf("%-24s %8s %12s %12s%n", "case", "coupons", "p50(us)", "p99(us)");
+
+        for (int couponCount : new int[]{100, 500, 1_000}) {
+            List<CouponIssue> coupons = createCoupons(random, couponCount);
+
+            CouponRecommendationService service = createService(policies, coupons);
+            RecommendCouponsCommand command = RecommendCouponsCommand.of(1L, cart, 10);
+            CouponRecommendationResult result = service.recommend(command);
+            assertThat(result.getRecommendations()).isNotEmpty();
+
+            long[] compiled = measure(() -> service.recommend(command).getRecommendations().size());
+            report("precompiled (cached)", couponCount, compiled);
+
+            long[] naive = measure(() -> naiveRecommend(policies, coupons, cart, 10));
+            report("BigDecimal per request", couponCount, naive);
+
+            // 단일 자릿수 밀리초 목표 (CI 편차를 감안해 p99만 느슨하게 확인)
+            assertThat(percentile(compiled, 0.99)).isLessThan(10_000_000L);
+        }
+    }
+
+    private long[] measure(java.util.function.IntSupplier operation) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += operation.getAsInt();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += operation.getAsInt();
+            samples[i] = System.nanoTime() - start;
+        }
+        assertThat(sink).isPositive();
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private void report(String name, int coupons, long[] sortedNanos) {
+        System.out.printf("%-24s %8d %12.1f %12.1f%n", name, coupons,
+                percentile(sortedNanos, 0.50) / 1_000.0, percentile(sortedNanos, 0.99) / 1_000.0);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    /**
+     * 비교용 단순 구현: 쿠폰마다 BigDecimal로 적용 상품 금액을 합산하고 DiscountPolicy로 계산 후 전체 정렬
+     */
+    private static int naiveRecommend(Map<Long, CouponPolicy> policies, List<CouponIssue> coupons,
+                                      List<OrderCart.Line> cart, int limit) {
+        List<BigDecimal> discounts = new ArrayList<>();
+        for (CouponIssue coupon : coupons) {
+            CouponPolicy policy = policies.get(coupon.getPolicyId());
+            ItemApplicableRule rule = policy.getApplicableRule();
+            BigDecimal applicable = BigDecimal.ZERO;
+            for (OrderCart.Line line : cart) {
+                if (rule.isAllItemsApplicable() || rule.getApplicableItemIds().contains(line.itemId())) {
+                    applicable = applicable.add(line.amount());
+                }
+            }
+            BigDecimal discount = policy.getDiscountPolicy().calculateDiscountAmount(applicable);
+            if (discount.signum() > 0) {
+                discounts.add(discount);
+            }
+        }
+        discounts.sort(java.util.Comparator.reverseOrder());
+        return Math.min(limit, discounts.size()) + 1;
+    }
+
+    private static CouponRecommendationService createService(Map<Long, CouponPolicy> policies,
+                                                             List<CouponIssue> coupons) {
+        LoadCouponIssuePort loadCouponIssuePort = mock(LoadCouponIssuePort.class);
+        LoadCouponPolicyPort loadCouponPolicyPort = mock(LoadCouponPolicyPort.class);
+        when(loadCouponIssuePort.loadUsableCoupons(anyLong())).thenReturn(coupons);
+        when(loadCouponPolicyPort.loadByIds(anyList())).thenReturn(policies);
+
+        CompiledCouponRuleCache ruleCache = new CompiledCouponRuleCache(loadCouponPolicyPort);
+        ReflectionTestUtils.setField(ruleCache, "ttlSeconds", 3_600L);
+        ReflectionTestUtils.setField(ruleCache, "maxSize", 10_000);
+        ruleCache.init();
+
+        CouponRecommendationService service =
+                new CouponRecommendationService(loadCouponIssuePort, ruleCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxResults", 20);
+        return service;
+    }
+
+    private static Map<Long, CouponPolicy> createPolicies(Random random) {
+        Map<Long, CouponPolicy> policies = new HashMap<>();
+        for (long id = 1; id <= POLICIES; id++) {
+            DiscountPolicy discount = random.nextBoolean()
+                    ? new DiscountPolicy(DiscountType.PERCENTAGE, BigDecimal.valueOf(5 + random.nextInt(30)),
+                            BigDecimal.valueOf(random.nextInt(5) * 10_000L), BigDecimal.valueOf(5_000 + random.nextInt(20_000)))
+                    : new DiscountPolicy(DiscountType.FIXED_AMOUNT, BigDecimal.valueOf(1_000 + random.nextInt(10_000)),
+                            BigDecimal.valueOf(random.nextInt(5) * 10_000L), null);
+
+            ItemApplicableRule rule;
+            if (random.nextInt(3) == 0) {
+                rule = ItemApplicableRule.forAllItems();
+            } else {
+                List<Long> itemIds = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    itemIds.add((long) random.nextInt(1_000));
+                }
+                rule = ItemApplicableRule.forSpecificItems(itemIds);
+            }
+
+            policies.put(id, CouponPolicy.builder()
+                    .id(id)
+                    .couponName("정책-" + id)
+                    .discountPolicy(discount)
+                    .applicableRule(rule)
+                    .build());
+        }
+        return policies;
+    }
+
+    private static List<OrderCart.Line> createCart(Random random) {
+        List<OrderCart.Line> cart = new ArrayList<>();
+        for (int i = 0; i < CART_ITEMS; i++) {
+            cart.add(new OrderCart.Line((long) random.nextInt(1_000), BigDecimal.valueOf(1_000 + random.nextInt(50_000))));
+        }
+        return cart;
+    }
+
+    private static List<CouponIssue> createCoupons(Random random, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponIssue> coupons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            coupons.add(CouponIssue.builder()
+                    .id((long) i + 1)
+                    .policyId(1L + random.nextInt(POLICIES))
+                    .userId(1L)
+                    .status(CouponStatus.ISSUED)
+                    .couponName("쿠폰-" + i)
+                    .expiredAt(now.plusDays(1 + random.nextInt(30)))
+                    .build());
+        }
+        return coupons;
+    }
+}
@@ -0,0 +1,100 @@
+package com.teambind.coupon.benchmark;
+
+import com.teambind.coupon.domain.model.DiscountCalculator;
+import com.teambind.coupon.domain.model.DiscountPolicy;
+import com.teambind.coupon.domain.model.DiscountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 할인 계산 벤치마크
+ * 기존 BigDecimal 계산식과 long 고정소수점 엔진(DiscountCalculator)의 정률/정액 할인 처리량과 호출당 할당 바이트 비교
+ * 할당량은 현재 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean)로 계산
+ *
+ * 실행: ./gradlew benchmark --tests '*DiscountCalculationBenchmark'
+ */
+@Tag("benchmark")
+@DisplayName("할인 계산 벤치마크")
+class DiscountCalculationBenchmark {
+
+    private static final int AMOUNTS = 4_096;
+    private static final int WARMUP = 2_000_000;
+    private static final int ITERATIONS = 10_000_000;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("정률/정액 할인 - BigDecimal 대비 long 엔진 처리량과 할당량")
+    void discountThroughput() {
+        Random random = new Random(46L);
+        BigDecimal[] decimalAmounts = new BigDecimal[AMOUNTS];
+        long[] minorAmounts = new long[AMOUNTS];
+        for (int i = 0; i < AMOUNTS; i++) {
+            long won = 1_000 + random.nextInt(1_000_000);
+            decimalAmounts[i] = BigDecimal.valueOf(won);
+            minorAmounts[i] = won * 100;
+        }
+
+        BigDecimal percent = BigDecimal.valueOf(15);
+        BigDecimal maxDiscount = BigDecimal.valueOf(30_000);
+        BigDecimal fixed = BigDecimal.valueOf(5_000);
+        DiscountPolicy percentPolicy = DiscountPolicy.percentage(percent, maxDiscount);
+        DiscountPolicy fixedPolicy = DiscountPolicy.fixedAmount(fixed);
+        long rate = DiscountCalculator.toRate(percent);
+        long maxMinor = DiscountCalculator.toMinorUnits(maxDiscount);
+        long fixedMinor = DiscountCalculator.toMinorUnits(fixed);
+
+        System.out.printf("%-28s %14s %12s%n", "case", "ops/sec", "bytes/op");
+
+        measure("percent / BigDecimal", i -> {
+            BigDecimal amount = decimalAmounts[(int) i & (AMOUNTS - 1)];
+            BigDecimal discount = amount.multiply(percent).divide(BigDecimal.valueOf(100));
+            return discount.min(maxDiscount).min(amount).signum();
+        });
+        measure("percent / DiscountPolicy", i ->
+                percentPolicy.calculateDiscountAmount(decimalAmounts[(int) i & (AMOUNTS - 1)]).signum());
+        measure("percent / long engine", i ->
+                DiscountCalculator.percentDiscount(minorAmounts[(int) i & (AMOUNTS - 1)], rate, maxMinor,
+                        RoundingMode.HALF_UP));
+
+        measure("fixed / BigDecimal", i ->
+                fixed.min(decimalAmounts[(int) i & (AMOUNTS - 1)]).signum());
+        measure("fixed / DiscountPolicy", i ->
+                fixedPolicy.calculateDiscountAmount(decimalAmounts[(int) i & (AMOUNTS - 1)]).signum());
+        measure("fixed / long engine", i ->
+                DiscountCalculator.discount(DiscountType.FIXED_AMOUNT, minorAmounts[(int) i & (AMOUNTS - 1)],
+                        fixedMinor, 0, 0, RoundingMode.HALF_UP));
+    }
+
+    private void measure(String name, LongUnaryOperator operation) {
+        // 결과를 누적해 JIT가 계산을 제거하지 못하도록 함
+        long sink = 0;
+        for (long i = 0; i < WARMUP; i++) {
+            sink += operation.applyAsLong(i);
+        }
+
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (long i = 0; i < ITERATIONS; i++) {
+            sink += operation.applyAsLong(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = allocatedBytes() - allocated;
+
+        double perSecond = ITERATIONS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-28s %14.0f %12.1f   (checksum %d)%n",
+                name, perSecond, (double) allocated / ITERATIONS, sink);
+    }
+
+    private long allocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
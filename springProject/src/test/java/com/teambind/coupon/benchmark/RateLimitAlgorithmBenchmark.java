@@ -0,0 +1,139 @@
+package com.teambind.coupon.benchmark;
+
+import com.teambind.coupon.adapter.out.redis.RateLimitAlgorithm;
+import com.teambind.coupon.adapter.out.redis.RateLimiterService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * Rate limit 알고리즘 비교 벤치마크
+ * 키당 메모리(MEMORY USAGE), 허용 정확도, 요청당 Redis CPU(INFO commandstats)를 측정
+ *
+ * 실행: ./gradlew benchmark --tests '*RateLimitAlgorithmBenchmark'
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("Rate limit 알고리즘 벤치마크")
+class RateLimitAlgorithmBenchmark {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("알고리즘별 키당 메모리와 요청당 Redis CPU")
+    void memoryAndCpu() {
+        int requests = 5_000;
+        RateLimiterService service = new RateLimiterService(redisTemplate);
+
+        System.out.printf("%-15s %12s %14s %12s%n", "algorithm", "keys", "bytes/client", "usec/call");
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            reset();
+
+            // 일당 10만 회 제한에 클라이언트 1개가 5천 회 요청
+            for (int i = 0; i < requests; i++) {
+                service.allowRequest("bench:client", 100_000, 86400, algorithm);
+            }
+
+            long[] memory = memoryUsage("rate_limit:bench:client*");
+            System.out.printf("%-15s %12d %14d %12s%n",
+                    algorithm, memory[0], memory[1], usecPerCall());
+        }
+    }
+
+    @Test
+    @DisplayName("알고리즘별 허용 정확도 (제한의 2배 속도로 3초간 요청)")
+    void accuracy() throws InterruptedException {
+        int limit = 50;
+        int seconds = 3;
+        RateLimiterService service = new RateLimiterService(redisTemplate);
+
+        System.out.printf("%-15s %10s %10s %10s%n", "algorithm", "allowed", "ideal", "error");
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            reset();
+
+            long intervalMillis = 1000L / (limit * 2);
+            long end = System.currentTimeMillis() + seconds * 1000L;
+            int allowed = 0;
+            while (System.currentTimeMillis() < end) {
+                if (service.allowRequest("bench:accuracy", limit, 1, algorithm)) {
+                    allowed++;
+                }
+                Thread.sleep(intervalMillis);
+            }
+
+            int ideal = limit * seconds;
+            System.out.printf("%-15s %10d %10d %9.1f%%%n",
+                    algorithm, allowed, ideal, (allowed - ideal) * 100.0 / ideal);
+        }
+    }
+
+    private void reset() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+            connection.serverCommands().resetConfigStats();
+        }
+    }
+
+    private long[] memoryUsage(String pattern) {
+        long keys = 0;
+        long bytes = 0;
+        try (RedisConnection connection = connectionFactory.getConnection();
+             Cursor<byte[]> cursor = connection.keyCommands().scan(ScanOptions.scanOptions().match(pattern).build())) {
+            while (cursor.hasNext()) {
+                byte[] key = cursor.next();
+                Object usage = connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key);
+                keys++;
+                bytes += usage instanceof Long value ? value : 0L;
+            }
+        }
+        return new long[]{keys, bytes};
+    }
+
+    private String usecPerCall() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Properties stats = connection.serverCommands().info("commandstats");
+            String evalsha = stats == null ? null : stats.getProperty("cmdstat_evalsha");
+            if (evalsha == null) {
+                return "-";
+            }
+            for (String field : evalsha.split(",")) {
+                if (field.startsWith("usec_per_call=")) {
+                    return field.substring("usec_per_call=".length());
+                }
+            }
+            return "-";
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.teambind.coupon.common.util.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 지문 집합 테스트
+ */
+@DisplayName("ConcurrentFingerprintSet 테스트")
+class ConcurrentFingerprintSetTest {
+
+    @Test
+    @DisplayName("같은 값은 한 번만 추가")
+    void rejectsDuplicates() {
+        // given
+        ConcurrentFingerprintSet set = new ConcurrentFingerprintSet(100);
+
+        // when & then
+        assertThat(set.add("CODE-1")).isTrue();
+        assertThat(set.add("CODE-2")).isTrue();
+        assertThat(set.add("CODE-1")).isFalse();
+        assertThat(set.addFingerprint(0L)).isTrue();
+        assertThat(set.addFingerprint(0L)).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 겹치는 값을 동시에 추가해도 값마다 정확히 한 번만 성공")
+    void concurrentAdds() throws Exception {
+        // given
+        int threads = 8;
+        int values = 200_000;
+        ConcurrentFingerprintSet set = new ConcurrentFingerprintSet(values);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when - 모든 스레드가 같은 값 집합을 서로 다른 순서로 추가
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * (values / threads);
+            futures.add(executor.submit(() -> {
+                int added = 0;
+                for (int i = 0; i < values; i++) {
+                    if (set.add("CODE-" + ((i + offset) % values))) {
+                        added++;
+                    }
+                }
+                return added;
+            }));
+        }
+        int totalAdded = 0;
+        for (Future<Integer> future : futures) {
+            totalAdded += future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(totalAdded).isEqualTo(values);
+        assertThat(set.size()).isEqualTo(values);
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘으면 추가 실패")
+    void rejectsOverflow() {
+        // given
+        ConcurrentFingerprintSet set = new ConcurrentFingerprintSet(2);
+        set.add("A");
+        set.add("B");
+
+        // when & then
+        assertThat(set.add("A")).isFalse();
+        assertThatThrownBy(() -> set.add("C"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("메모리는 원소당 약 8~16바이트")
+    void compactSize() {
+        // given
+        ConcurrentFingerprintSet set = new ConcurrentFingerprintSet(1_000_000);
+
+        // when & then - 부하율 0.75 이하의 2의 거듭제곱 슬롯 (2^21 × 8바이트)
+        assertThat(set.sizeInBytes()).isEqualTo(16L * 1024 * 1024);
+    }
+}
@@ -0,0 +1,46 @@
+package com.teambind.coupon.common.util.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Count-Min Sketch 테스트
+ */
+@DisplayName("Count-Min Sketch 테스트")
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("추정 빈도는 실제 빈도 이상이며 충돌이 적으면 정확")
+    void neverUnderestimates() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+        for (int i = 0; i < 1_000; i++) {
+            for (int j = 0; j <= i % 5; j++) {
+                sketch.add("ip:" + i);
+            }
+        }
+
+        // when & then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sketch.estimate("ip:" + i)).isGreaterThanOrEqualTo(i % 5 + 1);
+        }
+        assertThat(sketch.estimate("ip:7")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("메모리 크기는 원소 수와 무관하게 고정")
+    void fixedSize() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("ip:" + i);
+        }
+
+        // then
+        assertThat(sketch.sizeInBytes()).isEqualTo(4 * 2048 * Long.BYTES);
+    }
+}
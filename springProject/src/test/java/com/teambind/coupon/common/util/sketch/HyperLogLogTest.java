@@ -0,0 +1,72 @@
+package com.teambind.coupon.common.util.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * HyperLogLog 테스트
+ */
+@DisplayName("HyperLogLog 테스트")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("작은 집합은 거의 정확하게 추정")
+    void smallCardinality() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(8);
+
+        // when
+        for (int i = 0; i < 11; i++) {
+            sketch.add("CODE-" + i);
+            sketch.add("CODE-" + i);
+        }
+
+        // then
+        assertThat(sketch.estimate()).isBetween(10L, 12L);
+    }
+
+    @Test
+    @DisplayName("큰 집합도 표준 오차 범위 내로 추정")
+    void largeCardinality() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(12);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("code-" + i);
+        }
+
+        // then
+        // p=12 표준 오차 약 1.6%
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    @DisplayName("병합 결과는 합집합의 고유 원소 수")
+    void merge() {
+        // given
+        HyperLogLog first = new HyperLogLog(10);
+        HyperLogLog second = new HyperLogLog(10);
+        for (int i = 0; i < 500; i++) {
+            first.add("code-" + i);
+            second.add("code-" + (i + 250));
+        }
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat((double) first.estimate()).isCloseTo(750, within(60.0));
+    }
+
+    @Test
+    @DisplayName("precision이 다르면 병합 불가")
+    void mergeDifferentPrecision() {
+        assertThatThrownBy(() -> new HyperLogLog(8).merge(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.teambind.coupon.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CompiledCouponRule / OrderCart 테스트
+ */
+@DisplayName("CompiledCouponRule 테스트")
+class CompiledCouponRuleTest {
+
+    private final OrderCart cart = OrderCart.of(List.of(
+            new OrderCart.Line(30L, new BigDecimal("20000")),
+            new OrderCart.Line(10L, new BigDecimal("10000")),
+            new OrderCart.Line(20L, new BigDecimal("5000.50")),
+            new OrderCart.Line(10L, new BigDecimal("2000"))
+    ));
+
+    @Test
+    @DisplayName("장바구니 - 같은 상품은 금액을 합산하고 전체 금액 계산")
+    void cart_MergesDuplicateItems() {
+        assertThat(cart.itemCount()).isEqualTo(3);
+        assertThat(cart.totalAmount()).isEqualTo(3_700_050);
+        assertThat(cart.amountOf(new long[]{10L})).isEqualTo(1_200_000);
+        assertThat(cart.amountOf(new long[]{20L, 40L})).isEqualTo(500_050);
+        assertThat(cart.amountOf(new long[0])).isZero();
+    }
+
+    @Test
+    @DisplayName("장바구니 - 음수 금액이나 상품 ID 누락은 거절")
+    void cart_RejectsInvalidLines() {
+        assertThatThrownBy(() -> OrderCart.of(List.of(new OrderCart.Line(1L, new BigDecimal("-1")))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCart.of(List.of(new OrderCart.Line(null, BigDecimal.TEN))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("전체 상품 적용 - 장바구니 전체 금액 기준 정률 할인")
+    void evaluate_AllItems() {
+        // given
+        CompiledCouponRule rule = CompiledCouponRule.compile(policy(
+                DiscountPolicy.percentage(new BigDecimal("10"), new BigDecimal("3000")),
+                ItemApplicableRule.forAllItems()));
+
+        // when & then - 37,000.50 × 10% = 3,700.05 → 최대 3,000
+        assertThat(rule.applicableAmount(cart)).isEqualTo(3_700_050);
+        assertThat(rule.evaluate(cart)).isEqualTo(300_000);
+    }
+
+    @Test
+    @DisplayName("특정 상품 적용 - 적용 가능 상품 금액만 할인 기준")
+    void evaluate_SpecificItems() {
+        // given
+        CompiledCouponRule rule = CompiledCouponRule.compile(policy(
+                DiscountPolicy.percentage(new BigDecimal("10"), null),
+                ItemApplicableRule.forSpecificItems(List.of(10L, 99L))));
+
+        // when & then - 12,000 × 10% = 1,200
+        assertThat(rule.applicableAmount(cart)).isEqualTo(1_200_000);
+        assertThat(rule.evaluate(cart)).isEqualTo(120_000);
+    }
+
+    @Test
+    @DisplayName("적용 가능 상품이 없거나 최소 주문 금액 미만이면 0")
+    void evaluate_NotApplicable() {
+        // given
+        CompiledCouponRule noItems = CompiledCouponRule.compile(policy(
+                DiscountPolicy.fixedAmount(new BigDecimal("1000")),
+                ItemApplicableRule.forSpecificItems(List.of(99L))));
+        CompiledCouponRule minOrder = CompiledCouponRule.compile(policy(
+                new DiscountPolicy(DiscountType.FIXED_AMOUNT, new BigDecimal("1000"), new BigDecimal("15000"), null),
+                ItemApplicableRule.forSpecificItems(List.of(10L))));
+
+        // when & then
+        assertThat(noItems.evaluate(cart)).isZero();
+        assertThat(minOrder.evaluate(cart)).isZero();
+    }
+
+    @Test
+    @DisplayName("정액 할인 - 적용 가능 금액을 넘지 않음")
+    void evaluate_FixedCappedByApplicableAmount() {
+        // given
+        CompiledCouponRule rule = CompiledCouponRule.compile(policy(
+                DiscountPolicy.fixedAmount(new BigDecimal("8000")),
+                ItemApplicableRule.forSpecificItems(List.of(20L))));
+
+        // when & then
+        assertThat(rule.evaluate(cart)).isEqualTo(500_050);
+    }
+
+    @Test
+    @DisplayName("할인 정책이 없으면 0, 적용 상품 규칙이 없으면 전체 상품 적용")
+    void compile_MissingParts() {
+        assertThat(CompiledCouponRule.compile(policy(null, ItemApplicableRule.forAllItems())).evaluate(cart))
+                .isZero();
+        assertThat(CompiledCouponRule.compile(policy(DiscountPolicy.fixedAmount(new BigDecimal("1000")), null))
+                .evaluate(cart)).isEqualTo(100_000);
+    }
+
+    private static CouponPolicy policy(DiscountPolicy discountPolicy, ItemApplicableRule rule) {
+        return CouponPolicy.builder()
+                .id(1L)
+                .couponName("테스트 쿠폰")
+                .discountPolicy(discountPolicy)
+                .applicableRule(rule)
+                .build();
+    }
+}
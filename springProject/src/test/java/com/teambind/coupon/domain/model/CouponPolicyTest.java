@@ -1,5 +1,6 @@
 package com.teambind.coupon.domain.model;
 
+import com.teambind.coupon.domain.exception.CouponDomainException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -374,6 +375,101 @@ class CouponPolicyTest {
         }
     }
 
+    @Nested
+    @DisplayName("발급 규칙 검증")
+    class IssuanceRules {
+
+        @Test
+        @DisplayName("비활성화된 정책은 발급 검증에 실패")
+        void inactivePolicy() {
+            // given
+            policy.deactivate();
+
+            // when & then
+            assertThatThrownBy(() -> policy.validateIssuable())
+                    .isInstanceOf(CouponDomainException.class)
+                    .hasMessage("비활성화된 쿠폰입니다");
+        }
+
+        @Test
+        @DisplayName("만료된 정책은 만료 예외로 실패")
+        void expiredPolicy() {
+            // given
+            CouponPolicy expired = CouponPolicy.builder()
+                    .id(2L)
+                    .distributionType(DistributionType.CODE)
+                    .validFrom(LocalDateTime.now().minusDays(30))
+                    .validUntil(LocalDateTime.now().minusDays(1))
+                    .isActive(true)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(expired::validateCodeIssuable)
+                    .isInstanceOf(CouponDomainException.CouponExpired.class);
+        }
+
+        @Test
+        @DisplayName("재고가 소진된 정책은 재고 소진 예외로 실패")
+        void stockExhaustedPolicy() {
+            // given
+            policy.setCurrentIssueCount(new AtomicInteger(100));
+
+            // when & then
+            assertThatThrownBy(() -> policy.validateIssuable())
+                    .isInstanceOf(CouponDomainException.StockExhausted.class)
+                    .hasMessage("쿠폰 재고가 소진되었습니다: TEST2024");
+        }
+
+        @Test
+        @DisplayName("CODE 타입이 아닌 정책은 코드 발급 검증에 실패")
+        void nonCodePolicy() {
+            // given
+            CouponPolicy directPolicy = CouponPolicy.builder()
+                    .distributionType(DistributionType.DIRECT)
+                    .validFrom(LocalDateTime.now().minusDays(1))
+                    .validUntil(LocalDateTime.now().plusDays(1))
+                    .isActive(true)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(directPolicy::validateCodeIssuable)
+                    .isInstanceOf(CouponDomainException.class)
+                    .hasMessage("CODE 타입 쿠폰만 다운로드 가능합니다");
+            directPolicy.validateIssuable();
+        }
+
+        @Test
+        @DisplayName("사용자 발급 건수가 한도에 도달하면 실패하고, 한도가 없으면 건수를 조회하지 않음")
+        void userLimit() {
+            // given
+            CouponPolicy unlimited = CouponPolicy.builder().maxUsagePerUser(null).build();
+
+            // when & then
+            assertThatThrownBy(() -> policy.validateUserLimit(100L, () -> 2))
+                    .isInstanceOf(CouponDomainException.UserCouponLimitExceeded.class);
+            policy.validateUserLimit(100L, () -> 1);
+            unlimited.validateUserLimit(100L, () -> {
+                throw new AssertionError("한도가 없는 정책은 발급 건수를 조회하지 않아야 합니다");
+            });
+        }
+
+        @Test
+        @DisplayName("발급 쿠폰은 ISSUED 상태이며 정책 유효기간 종료일에 만료")
+        void issueTo() {
+            // when
+            CouponIssue issue = policy.issueTo(10L, 100L);
+
+            // then
+            assertThat(issue.getId()).isEqualTo(10L);
+            assertThat(issue.getPolicyId()).isEqualTo(1L);
+            assertThat(issue.getUserId()).isEqualTo(100L);
+            assertThat(issue.getStatus()).isEqualTo(CouponStatus.ISSUED);
+            assertThat(issue.getExpiredAt()).isEqualTo(policy.getValidUntil());
+            assertThat(issue.getCouponName()).isEqualTo("테스트 쿠폰");
+            assertThat(issue.getDiscountPolicy()).isSameAs(discountPolicy);
+        }
+    }
+
     @Nested
     @DisplayName("쿠폰 정책 남은 발급 수량 수정")
     class UpdateRemainingQuantity {
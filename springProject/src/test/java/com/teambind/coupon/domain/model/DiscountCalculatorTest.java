@@ -0,0 +1,172 @@
+package com.teambind.coupon.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DiscountCalculator 테스트
+ * 임의 입력에 대해 BigDecimal 정확 계산(기준 구현)과 결과가 같은지 확인하는 속성 기반 테스트 포함
+ */
+@DisplayName("DiscountCalculator 테스트")
+class DiscountCalculatorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, names = "UNNECESSARY", mode = EnumSource.Mode.EXCLUDE)
+    @DisplayName("정률 할인 - 임의 입력에서 BigDecimal 기준 구현과 동일")
+    void percentDiscount_EquivalentToBigDecimal(RoundingMode rounding) {
+        // given
+        Random random = new Random(46L + rounding.ordinal());
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long orderAmount = randomAmount(random);
+            long rate = random.nextInt(10_001);                      // 0.00% ~ 100.00%
+            long maxDiscount = random.nextBoolean() ? 0 : randomAmount(random);
+
+            // when
+            long actual = DiscountCalculator.percentDiscount(orderAmount, rate, maxDiscount, rounding);
+
+            // then
+            assertThat(actual)
+                    .as("order=%d, rate=%d, max=%d", orderAmount, rate, maxDiscount)
+                    .isEqualTo(referencePercent(orderAmount, rate, maxDiscount, rounding));
+        }
+    }
+
+    @Test
+    @DisplayName("정액 할인 - 임의 입력에서 할인 금액과 주문 금액 중 작은 값")
+    void fixedDiscount_EquivalentToBigDecimal() {
+        // given
+        Random random = new Random(46L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long orderAmount = randomAmount(random);
+            long discountAmount = randomAmount(random);
+
+            // when
+            long actual = DiscountCalculator.fixedDiscount(orderAmount, discountAmount);
+
+            // then
+            BigDecimal expected = BigDecimal.valueOf(discountAmount, 2).min(BigDecimal.valueOf(orderAmount, 2));
+            assertThat(BigDecimal.valueOf(actual, 2)).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("할인 금액은 항상 0 이상 주문 금액 이하")
+    void discount_Bounded() {
+        // given
+        Random random = new Random(7L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long orderAmount = randomAmount(random);
+            DiscountType type = DiscountType.values()[random.nextInt(DiscountType.values().length)];
+            long value = type == DiscountType.PERCENTAGE ? random.nextInt(20_000) : randomAmount(random);
+
+            // when
+            long discount = DiscountCalculator.discount(type, orderAmount, value, 0, 0, RoundingMode.HALF_UP);
+
+            // then
+            assertThat(discount).isBetween(0L, orderAmount);
+        }
+    }
+
+    @Test
+    @DisplayName("매우 큰 주문 금액도 넘침 없이 정확히 계산")
+    void percentDiscount_NoOverflow() {
+        // given
+        long orderAmount = Long.MAX_VALUE / 3;
+
+        // when
+        long discount = DiscountCalculator.percentDiscount(orderAmount, 3_333, 0, RoundingMode.DOWN);
+
+        // then
+        assertThat(discount).isEqualTo(referencePercent(orderAmount, 3_333, 0, RoundingMode.DOWN));
+    }
+
+    @Test
+    @DisplayName("반올림 방식별 결과 (0.005원 경계)")
+    void percentDiscount_RoundingModes() {
+        // given - 1,234.50원 × 12.50% = 154.3125원 → 1/100원 단위 15431.25
+        long orderAmount = 123_450;
+        long rate = 1_250;
+
+        // when & then
+        assertThat(DiscountCalculator.percentDiscount(orderAmount, rate, 0, RoundingMode.DOWN)).isEqualTo(15_431);
+        assertThat(DiscountCalculator.percentDiscount(orderAmount, rate, 0, RoundingMode.UP)).isEqualTo(15_432);
+        assertThat(DiscountCalculator.percentDiscount(orderAmount, rate, 0, RoundingMode.HALF_UP)).isEqualTo(15_431);
+        assertThat(DiscountCalculator.percentDiscount(2_500, 1_000, 0, RoundingMode.HALF_UP)).isEqualTo(250);
+        assertThat(DiscountCalculator.percentDiscount(5, 1_000, 0, RoundingMode.HALF_UP)).isEqualTo(1);
+        assertThat(DiscountCalculator.percentDiscount(5, 1_000, 0, RoundingMode.HALF_DOWN)).isZero();
+        assertThat(DiscountCalculator.percentDiscount(15, 1_000, 0, RoundingMode.HALF_EVEN)).isEqualTo(2);
+        assertThatThrownBy(() -> DiscountCalculator.percentDiscount(5, 1_000, 0, RoundingMode.UNNECESSARY))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("최소 주문 금액 미만이거나 타입이 없으면 0")
+    void discount_Conditions() {
+        assertThat(DiscountCalculator.discount(DiscountType.AMOUNT, 999_900, 500_000, 1_000_000, 0, RoundingMode.HALF_UP))
+                .isZero();
+        assertThat(DiscountCalculator.discount(DiscountType.AMOUNT, 1_000_000, 500_000, 1_000_000, 0, RoundingMode.HALF_UP))
+                .isEqualTo(500_000);
+        assertThat(DiscountCalculator.discount(null, 1_000_000, 500_000, 0, 0, RoundingMode.HALF_UP))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("BigDecimal 변환 - 1/100원 단위 왕복과 불필요한 소수 자릿수 제거")
+    void conversions() {
+        assertThat(DiscountCalculator.toMinorUnits(new BigDecimal("5000"))).isEqualTo(500_000);
+        assertThat(DiscountCalculator.toMinorUnits(new BigDecimal("9876.54"))).isEqualTo(987_654);
+        assertThat(DiscountCalculator.toMinorUnits(new BigDecimal("0.005"))).isEqualTo(1);
+        assertThat(DiscountCalculator.toMinorUnits(null)).isZero();
+
+        assertThat(DiscountCalculator.toAmount(500_000)).isEqualTo(BigDecimal.valueOf(5000));
+        assertThat(DiscountCalculator.toAmount(987_650)).isEqualTo(new BigDecimal("9876.5"));
+        assertThat(DiscountCalculator.toAmount(987_654)).isEqualTo(new BigDecimal("9876.54"));
+    }
+
+    @Test
+    @DisplayName("BigDecimal 경계 계산 - 기존 DiscountPolicy 결과와 동일")
+    void discount_BigDecimalBoundary() {
+        // when
+        BigDecimal discount = DiscountCalculator.discount(DiscountType.PERCENTAGE,
+                new BigDecimal("33333"), new BigDecimal("15"), null, new BigDecimal("10000"));
+
+        // then - 33333 × 15% = 4999.95
+        assertThat(discount).isEqualByComparingTo("4999.95");
+    }
+
+    /**
+     * 임의 금액 (1/100원, 정수 원 위주로 섞어서 생성)
+     */
+    private static long randomAmount(Random random) {
+        long won = (long) (random.nextDouble() * 100_000_000L);
+        return random.nextBoolean() ? won * 100 : won * 100 + random.nextInt(100);
+    }
+
+    /**
+     * BigDecimal 기준 구현 (정확한 곱셈 후 지정한 방식으로 1/100원에 맞춤)
+     */
+    private static long referencePercent(long orderAmount, long rate, long maxDiscount, RoundingMode rounding) {
+        BigDecimal order = BigDecimal.valueOf(orderAmount, 2);
+        BigDecimal discount = order.multiply(BigDecimal.valueOf(rate, 2))
+                .divide(BigDecimal.valueOf(100))
+                .setScale(2, rounding);
+        if (maxDiscount > 0) {
+            discount = discount.min(BigDecimal.valueOf(maxDiscount, 2));
+        }
+        return discount.min(order).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,82 @@
+package com.teambind.coupon.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적용 상품 규칙 조회 성능 테스트
+ * 정렬된 long[] 이진 탐색과 기존 List<Long>.contains 선형 탐색 비교
+ * 실행 시간 비교는 환경에 따라 흔들리므로 기본 test에서 제외
+ *
+ * 실행: ./gradlew benchmark --tests '*ItemApplicableRulePerformanceTest'
+ */
+@Tag("benchmark")
+@DisplayName("적용 상품 규칙 조회 성능 테스트")
+class ItemApplicableRulePerformanceTest {
+
+    private static final int ITERATIONS = 2_000;
+
+    @ParameterizedTest(name = "장바구니 {0}개 x 규칙 상품 {1}개")
+    @CsvSource({
+            "1, 10",
+            "1, 100000",
+            "20, 1000",
+            "200, 10",
+            "200, 10000",
+            "200, 100000"
+    })
+    @DisplayName("장바구니/규칙 크기별 적용 가능 여부 조회")
+    void hasApplicableItem_performanceTest(int cartSize, int ruleSize) {
+        // given - 짝수 상품만 적용 가능, 장바구니는 홀수 상품(미적용)으로 채워 최악의 경우 측정
+        List<Long> ruleItems = LongStream.range(0, ruleSize).map(i -> i * 2).boxed().toList();
+        ItemApplicableRule rule = ItemApplicableRule.forSpecificItems(ruleItems);
+
+        Random random = new Random(42);
+        long[] cart = LongStream.range(0, cartSize).map(i -> random.nextInt(ruleSize) * 2L + 1).toArray();
+        List<Long> boxedCart = LongStream.of(cart).boxed().toList();
+
+        // warm-up
+        for (int i = 0; i < 200; i++) {
+            rule.hasApplicableItem(cart);
+            legacyHasApplicableItem(ruleItems, boxedCart);
+        }
+
+        // when
+        boolean compiledResult = true;
+        long compiledStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            compiledResult &= !rule.hasApplicableItem(cart);
+        }
+        long compiledElapsed = (System.nanoTime() - compiledStart) / ITERATIONS;
+
+        int legacyIterations = Math.max(1, ITERATIONS * 1000 / Math.max(1000, cartSize * ruleSize / 100));
+        boolean legacyResult = true;
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < legacyIterations; i++) {
+            legacyResult &= !legacyHasApplicableItem(ruleItems, boxedCart);
+        }
+        long legacyElapsed = (System.nanoTime() - legacyStart) / legacyIterations;
+
+        // then
+        System.out.println("=== 장바구니 " + cartSize + "개 x 규칙 상품 " + ruleSize + "개 ===");
+        System.out.println("long[] 이진 탐색 평균: " + compiledElapsed + "ns");
+        System.out.println("List<Long>.contains 평균: " + legacyElapsed + "ns");
+
+        assertThat(compiledResult).isTrue();
+        assertThat(legacyResult).isTrue();
+        assertThat(rule.hasApplicableItem(new long[]{cart[0], 0L})).isTrue();
+        assertThat(compiledElapsed).isLessThan(1_000_000L); // 1ms 이내
+    }
+
+    private boolean legacyHasApplicableItem(List<Long> ruleItems, List<Long> cart) {
+        return cart.stream().anyMatch(ruleItems::contains);
+    }
+}
@@ -0,0 +1,68 @@
+package com.teambind.coupon.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ItemApplicableRule 도메인 모델 테스트
+ */
+@DisplayName("ItemApplicableRule 도메인 모델 테스트")
+class ItemApplicableRuleTest {
+
+    @Test
+    @DisplayName("전체 상품 규칙은 모든 상품에 적용 가능")
+    void allItemsApplicable() {
+        // given
+        ItemApplicableRule rule = ItemApplicableRule.forAllItems();
+
+        // when & then
+        assertThat(rule.isApplicable(999L)).isTrue();
+        assertThat(rule.hasApplicableItem(List.of(1L, 2L))).isTrue();
+        assertThat(rule.hasApplicableItem(new long[]{3L})).isTrue();
+    }
+
+    @Test
+    @DisplayName("정렬되지 않은 중복 상품 목록도 이진 탐색으로 조회")
+    void specificItems_UnsortedWithDuplicates() {
+        // given
+        ItemApplicableRule rule = ItemApplicableRule.forSpecificItems(Arrays.asList(30L, 10L, null, 20L, 10L));
+
+        // when & then
+        assertThat(rule.isApplicable(10L)).isTrue();
+        assertThat(rule.isApplicable(Long.valueOf(20L))).isTrue();
+        assertThat(rule.isApplicable(15L)).isFalse();
+        assertThat(rule.isApplicable((Long) null)).isFalse();
+        assertThat(rule.compiledItemIds()).containsExactly(10L, 20L, 30L);
+    }
+
+    @Test
+    @DisplayName("장바구니 중 하나라도 적용 가능하면 true")
+    void hasApplicableItem() {
+        // given
+        ItemApplicableRule rule = ItemApplicableRule.forSpecificItems(List.of(5L, 7L));
+
+        // when & then
+        assertThat(rule.hasApplicableItem(List.of(1L, 2L, 7L))).isTrue();
+        assertThat(rule.hasApplicableItem(List.of(1L, 2L))).isFalse();
+        assertThat(rule.hasApplicableItem(new long[]{5L})).isTrue();
+        assertThat(rule.hasApplicableItem(new long[]{6L})).isFalse();
+    }
+
+    @Test
+    @DisplayName("상품 목록이 비어 있으면 적용 불가")
+    void emptyItems() {
+        // given
+        ItemApplicableRule rule = ItemApplicableRule.forSpecificItems(List.of());
+        ItemApplicableRule nullRule = ItemApplicableRule.forSpecificItems(null);
+
+        // when & then
+        assertThat(rule.isApplicable(1L)).isFalse();
+        assertThat(rule.hasApplicableItem(List.of(1L))).isFalse();
+        assertThat(nullRule.hasApplicableItem(new long[]{1L})).isFalse();
+    }
+}
@@ -0,0 +1,107 @@
+package com.teambind.coupon.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StackedDiscount 도메인 모델 테스트
+ */
+@DisplayName("StackedDiscount 도메인 모델 테스트")
+class StackedDiscountTest {
+
+    @Test
+    @DisplayName("정률 쿠폰을 먼저 적용한 뒤 남은 금액에 정액 쿠폰 적용")
+    void percentageBeforeAmount() {
+        // given - 정액 쿠폰이 먼저 입력되어도 정률 쿠폰을 먼저 적용
+        List<DiscountPolicy> policies = List.of(
+                amount(5000, null),
+                percentage(10, null));
+
+        // when
+        StackedDiscount discount = StackedDiscount.calculate(policies, BigDecimal.valueOf(50000));
+
+        // then - 50,000 * 10% = 5,000, 남은 45,000에서 5,000
+        assertThat(discount.size()).isEqualTo(2);
+        assertThat(discount.amountAt(0)).isEqualByComparingTo("5000");
+        assertThat(discount.amountAt(1)).isEqualByComparingTo("5000");
+        assertThat(discount.totalAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("할인 합계는 주문 금액을 넘지 않음")
+    void totalNeverExceedsOrderAmount() {
+        // given
+        List<DiscountPolicy> policies = List.of(
+                amount(7000, null),
+                amount(7000, null));
+
+        // when
+        StackedDiscount discount = StackedDiscount.calculate(policies, BigDecimal.valueOf(10000));
+
+        // then
+        assertThat(discount.amountAt(0)).isEqualByComparingTo("7000");
+        assertThat(discount.amountAt(1)).isEqualByComparingTo("3000");
+        assertThat(discount.totalAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("최소 주문 금액은 원래 주문 금액 기준으로 판단")
+    void minimumOrderAmountUsesOriginalOrder() {
+        // given - 정률 할인 후 남은 금액(27,000)은 최소 주문 금액보다 작지만 원래 주문 금액은 충족
+        List<DiscountPolicy> policies = List.of(
+                percentage(10, null),
+                amount(3000, BigDecimal.valueOf(30000)),
+                amount(1000, BigDecimal.valueOf(40000)));
+
+        // when
+        StackedDiscount discount = StackedDiscount.calculate(policies, BigDecimal.valueOf(30000));
+
+        // then
+        assertThat(discount.amountAt(0)).isEqualByComparingTo("3000");
+        assertThat(discount.amountAt(1)).isEqualByComparingTo("3000");
+        assertThat(discount.amountAt(2)).isEqualByComparingTo("0");
+        assertThat(discount.totalAmount()).isEqualByComparingTo("6000");
+    }
+
+    @Test
+    @DisplayName("정률 쿠폰의 최대 할인 금액 적용, 할인 정책이 없으면 0")
+    void maxDiscountAndNullPolicy() {
+        // given
+        DiscountPolicy capped = DiscountPolicy.builder()
+                .discountType(DiscountType.PERCENTAGE)
+                .discountValue(BigDecimal.valueOf(20))
+                .maxDiscountAmount(BigDecimal.valueOf(5000))
+                .build();
+
+        // when
+        StackedDiscount discount = StackedDiscount.calculate(Arrays.asList(capped, null),
+                BigDecimal.valueOf(100000));
+
+        // then
+        assertThat(discount.amountAt(0)).isEqualByComparingTo("5000");
+        assertThat(discount.amountAt(1)).isEqualByComparingTo("0");
+        assertThat(discount.totalAmount()).isEqualByComparingTo("5000");
+    }
+
+    private DiscountPolicy amount(long value, BigDecimal minOrderAmount) {
+        return DiscountPolicy.builder()
+                .discountType(DiscountType.AMOUNT)
+                .discountValue(BigDecimal.valueOf(value))
+                .minOrderAmount(minOrderAmount)
+                .build();
+    }
+
+    private DiscountPolicy percentage(long value, BigDecimal minOrderAmount) {
+        return DiscountPolicy.builder()
+                .discountType(DiscountType.PERCENTAGE)
+                .discountValue(BigDecimal.valueOf(value))
+                .minOrderAmount(minOrderAmount)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.teambind.coupon.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CouponCodeAuthenticator 단위 테스트
+ */
+@DisplayName("CouponCodeAuthenticator 테스트")
+class CouponCodeAuthenticatorTest {
+
+    private final CouponCodeAuthenticator authenticator = new CouponCodeAuthenticator("test-secret", false);
+
+    private String signedCode(String body) {
+        String code = body + authenticator.tag(body);
+        return code.substring(0, 4) + "-" + code.substring(4, 8) + "-"
+                + code.substring(8, 12) + "-" + code.substring(12, 16);
+    }
+
+    @Test
+    @DisplayName("태그가 맞는 서명 코드는 통과")
+    void isForged_ValidSignature() {
+        // given
+        String code = signedCode("ABCDEFGHJKLM");
+
+        // when & then
+        assertThat(authenticator.isForged(code)).isFalse();
+        assertThat(authenticator.isForged("SUMMER:" + code)).isFalse();
+        assertThat(authenticator.isForged(" " + code.toLowerCase() + " ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 글자라도 바뀐 서명 코드는 거절")
+    void isForged_Mistyped() {
+        // given
+        String code = signedCode("ABCDEFGHJKLM");
+        String mistyped = (code.charAt(0) == 'B' ? "C" : "B") + code.substring(1);
+
+        // when & then
+        assertThat(authenticator.isForged(mistyped)).isTrue();
+    }
+
+    @Test
+    @DisplayName("무작위 서명 형식 코드는 대부분 거절")
+    void isForged_RandomGuesses() {
+        // given
+        char[] alphabet = FeistelCodePermutation.ALPHABET;
+        Random random = new Random(42);
+        int accepted = 0;
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder guess = new StringBuilder();
+            for (int j = 0; j < 16; j++) {
+                if (j > 0 && j % 4 == 0) {
+                    guess.append('-');
+                }
+                guess.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            if (!authenticator.isForged(guess.toString())) {
+                accepted++;
+            }
+        }
+
+        // then (태그 20비트 → 통과 확률 약 100만분의 1)
+        assertThat(accepted).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 비밀키로 서명한 코드는 거절")
+    void isForged_DifferentSecret() {
+        // given
+        CouponCodeAuthenticator other = new CouponCodeAuthenticator("other-secret", false);
+        String body = "ABCDEFGHJKLM";
+        String code = body + other.tag(body);
+
+        // when & then
+        assertThat(authenticator.tag(body)).isNotEqualTo(other.tag(body));
+        assertThat(authenticator.isForged(code.substring(0, 4) + "-" + code.substring(4, 8) + "-"
+                + code.substring(8, 12) + "-" + code.substring(12))).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명 형식이 아닌 캠페인 코드는 설정에 따라 처리")
+    void isForged_UnsignedCode() {
+        // given
+        CouponCodeAuthenticator strict = new CouponCodeAuthenticator("test-secret", true);
+
+        // when & then
+        assertThat(authenticator.isForged("SUMMER2024")).isFalse();
+        assertThat(strict.isForged("SUMMER2024")).isTrue();
+        assertThat(authenticator.isForged(null)).isTrue();
+    }
+}
@@ -0,0 +1,78 @@
+package com.teambind.coupon.domain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CustomPatternCodeGenerator 단위 테스트
+ */
+@DisplayName("CustomPatternCodeGenerator 테스트")
+class CustomPatternCodeGeneratorTest {
+
+    private CustomPatternCodeGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new CustomPatternCodeGenerator();
+        ReflectionTestUtils.setField(generator, "defaultPattern", "COUP-{YYYY}{MM}-{RAND:4}-{NUM:4}");
+    }
+
+    @Test
+    @DisplayName("기본 패턴 코드 생성")
+    void generate_Default() {
+        // when
+        String code = generator.generate();
+
+        // then
+        assertThat(code).matches("^COUP-\\d{6}-[A-Z]{4}-\\d{4}$");
+        assertThat(code.substring(5, 9)).isEqualTo(String.valueOf(LocalDate.now().getYear()));
+    }
+
+    @Test
+    @DisplayName("프리픽스 포함 코드 생성 - 프리픽스는 대문자로 변환")
+    void generate_WithPrefix() {
+        // when
+        String code = generator.generate("sale");
+
+        // then
+        assertThat(code).matches("^SALE-\\d{6}-[A-Z]{4}-\\d{4}$");
+    }
+
+    @Test
+    @DisplayName("프리픽스가 없으면 프리픽스 구분자도 생략")
+    void generate_WithoutPrefix() {
+        // when
+        String code = generator.generate(null);
+
+        // then
+        assertThat(code).matches("^\\d{6}-[A-Z]{4}-\\d{4}$");
+    }
+
+    @Test
+    @DisplayName("날짜/시퀀스 토큰 치환 및 잘못된 토큰은 그대로 유지")
+    void generateByPattern_Tokens() {
+        // when
+        String code = generator.generateByPattern("E{YY}{DD}{HH}-{SEQ:6}-{UNKNOWN}-{RAND:x}");
+
+        // then
+        assertThat(code).matches("^E\\d{6}-\\d{6}-\\{UNKNOWN}-\\{RAND:x}$");
+    }
+
+    @Test
+    @DisplayName("같은 패턴을 반복 사용해도 매번 새로운 랜덤 값 생성")
+    void generateByPattern_Repeated() {
+        // when
+        String first = generator.generateByPattern("{RAND:8}{NUM:8}");
+        String second = generator.generateByPattern("{RAND:8}{NUM:8}");
+
+        // then
+        assertThat(first).matches("^[A-Z]{8}\\d{8}$");
+        assertThat(first).isNotEqualTo(second);
+    }
+}
@@ -0,0 +1,97 @@
+package com.teambind.coupon.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FeistelCodePermutation 단위 테스트
+ */
+@DisplayName("FeistelCodePermutation 테스트")
+class FeistelCodePermutationTest {
+
+    private final FeistelCodePermutation permutation = new FeistelCodePermutation("test-secret");
+
+    @Test
+    @DisplayName("인코딩한 코드를 디코딩하면 원래 일련번호")
+    void encodeDecode_RoundTrip() {
+        // given
+        long[] indexes = {0L, 1L, 999_999L, 1L << 40, FeistelCodePermutation.DOMAIN_SIZE - 1};
+
+        for (long index : indexes) {
+            // when
+            String code = permutation.encode(index);
+
+            // then
+            assertThat(code).hasSize(FeistelCodePermutation.CODE_LENGTH);
+            assertThat(code).matches("^[A-HJ-NP-Z2-9]{12}$");
+            assertThat(permutation.decode(code)).isEqualTo(index);
+        }
+    }
+
+    @Test
+    @DisplayName("연속된 일련번호도 중복 없는 코드로 변환")
+    void encode_NoDuplicates() {
+        // given
+        int count = 100_000;
+        Set<String> codes = new HashSet<>(count * 2);
+
+        // when
+        for (long i = 0; i < count; i++) {
+            codes.add(permutation.encode(i));
+        }
+
+        // then
+        assertThat(codes).hasSize(count);
+    }
+
+    @Test
+    @DisplayName("연속된 일련번호의 코드는 서로 닮지 않음")
+    void encode_NotSequential() {
+        // when
+        String first = permutation.encode(1000L);
+        String second = permutation.encode(1001L);
+
+        // then
+        int samePositions = 0;
+        for (int i = 0; i < FeistelCodePermutation.CODE_LENGTH; i++) {
+            if (first.charAt(i) == second.charAt(i)) {
+                samePositions++;
+            }
+        }
+        assertThat(samePositions).isLessThan(FeistelCodePermutation.CODE_LENGTH / 2);
+    }
+
+    @Test
+    @DisplayName("비밀키가 다르면 다른 코드 생성")
+    void encode_DifferentSecret() {
+        // given
+        FeistelCodePermutation other = new FeistelCodePermutation("other-secret");
+
+        // when & then
+        assertThat(other.encode(42L)).isNotEqualTo(permutation.encode(42L));
+        assertThat(other.decode(permutation.encode(42L))).isNotEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 코드는 -1 반환")
+    void decode_Invalid() {
+        // when & then
+        assertThat(permutation.decode(null)).isEqualTo(-1L);
+        assertThat(permutation.decode("ABC")).isEqualTo(-1L);
+        assertThat(permutation.decode("ABCDEFGHJKL0")).isEqualTo(-1L); // 0은 알파벳에 없음
+        assertThat(permutation.decode("abcdefghjklm")).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("permute와 inverse는 서로 역함수")
+    void permute_Inverse() {
+        for (long value = 0; value < 1_000; value++) {
+            assertThat(permutation.inverse(permutation.permute(value))).isEqualTo(value);
+        }
+    }
+}
@@ -22,7 +22,7 @@ class SecureRandomCodeGeneratorTest {
 
     @BeforeEach
     void setUp() {
-        generator = new SecureRandomCodeGenerator();
+        generator = new SecureRandomCodeGenerator(new CouponCodeAuthenticator("test-secret", false));
     }
 
     @Test
@@ -202,4 +202,17 @@ class SecureRandomCodeGeneratorTest {
             assertThat(code.length()).isEqualTo(19);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("생성한 코드는 진위 검증 통과")
+    void generate_Authentic() {
+        // given
+        CouponCodeAuthenticator authenticator = new CouponCodeAuthenticator("test-secret", false);
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            assertThat(authenticator.isForged(generator.generate())).isFalse();
+            assertThat(authenticator.isForged(generator.generate("SECURE"))).isFalse();
+        }
+    }
+}
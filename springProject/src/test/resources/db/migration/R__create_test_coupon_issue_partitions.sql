@@ -0,0 +1,12 @@
+-- 테스트용 coupon_issues 과거 파티션
+-- 운영 마이그레이션은 현재 월부터 파티션을 만들고 DEFAULT 파티션을 두지 않으므로
+-- 과거 issued_at으로 데이터를 넣는 통합 테스트를 위해 2024-01부터 파티션을 미리 만든다. (테스트 클래스패스에만 존재)
+DO $$
+DECLARE
+    cursor_month DATE := DATE '2024-01-01';
+BEGIN
+    WHILE cursor_month <= (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE LOOP
+        PERFORM create_coupon_issues_partition(cursor_month);
+        cursor_month := (cursor_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;